@@ -44,7 +44,8 @@
  * {@link RepositoryService#allMatches(Class, Predicate, long, long)}).
  *
  * <b>Note:</b> that the predicate is applied within the {@link RepositoryService}
- * (ie client-side) rather than being pushed back to the object store.
+ * (ie client-side) rather than being pushed back to the object store,
+ * unless it is a {@link QueryPredicate}.
  *
  * @since 1.x {@index}
  */
@@ -94,4 +95,13 @@ static <T> NamedQuery<T> named(
         return new _NamedQueryDefault<>(resultType, queryName, QueryRange.unconstrained(), null);
     }
 
+    /**
+     * @since 2.0
+     */
+    static <T> PredicateQuery<T> matching(
+            final @NonNull Class<T> resultType,
+            final @NonNull QueryPredicate<T> predicate) {
+        return new _PredicateQueryDefault<>(resultType, predicate, QueryRange.unconstrained());
+    }
+
 }
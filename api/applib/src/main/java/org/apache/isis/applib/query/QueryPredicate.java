@@ -0,0 +1,219 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.query;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.services.repository.RepositoryService;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A {@link Predicate} over the properties of a domain entity, that - unlike an arbitrary
+ * {@link Predicate} - can be translated into a query of the underlying persistence store.
+ *
+ * <p>
+ *     Supports equality, ranges and (String) prefix matching of properties,
+ *     as well as conjunctions and disjunctions thereof, eg.
+ * </p>
+ * <pre>
+ * repositoryService.allMatches(Customer.class,
+ *     QueryPredicate.stringProperty("lastName", Customer::getLastName).startsWith("Sm")
+ *     .and(QueryPredicate.comparableProperty("age", Customer::getAge).between(18, 65)));
+ * </pre>
+ *
+ * <p>
+ *     The property id is what gets translated into the query, it is resolved against the
+ *     entity's metamodel property (its <code>OneToOneAssociation</code>) on push-down;
+ *     the getter is used for client-side evaluation only.
+ * </p>
+ *
+ * <p>
+ *     When passed to {@link RepositoryService#allMatches(Class, Predicate, long, long)},
+ *     {@link RepositoryService#uniqueMatch(Class, Predicate)} or
+ *     {@link RepositoryService#firstMatch(Class, Predicate)}, the predicate (and any range)
+ *     is applied by the persistence store rather than client-side.
+ *     If that is not possible, eg. because a referenced property is not persisted,
+ *     filtering falls back to client-side evaluation.
+ * </p>
+ *
+ * @see Query#matching(Class, QueryPredicate)
+ * @since 2.0 {@index}
+ */
+public interface QueryPredicate<T> extends Predicate<T>, Serializable {
+
+    /**
+     * Double dispatch, in support of translating this predicate into the query language
+     * of the persistence store.
+     */
+    <R> R accept(@NonNull Visitor<R> visitor);
+
+    /**
+     * Conjunction of this and the {@code other} predicate.
+     */
+    default QueryPredicate<T> and(final @NonNull QueryPredicate<T> other) {
+        return _QueryPredicates.and(this, other);
+    }
+
+    /**
+     * Disjunction of this and the {@code other} predicate.
+     */
+    default QueryPredicate<T> or(final @NonNull QueryPredicate<T> other) {
+        return _QueryPredicates.or(this, other);
+    }
+
+    // -- VISITOR
+
+    public static interface Visitor<R> {
+
+        /**
+         * @param value - if {@code null} matches properties, that are not set
+         */
+        R visitEquals(@NonNull String propertyId, @Nullable Object value);
+
+        /**
+         * At least one of the bounds is not {@code null}.
+         */
+        R visitRange(
+                @NonNull String propertyId,
+                @Nullable Comparable<?> lowerBound, boolean lowerInclusive,
+                @Nullable Comparable<?> upperBound, boolean upperInclusive);
+
+        R visitStartsWith(@NonNull String propertyId, @NonNull String prefix);
+
+        /**
+         * @param operands - the visited operands of the conjunction
+         */
+        R visitAnd(@NonNull List<R> operands);
+
+        /**
+         * @param operands - the visited operands of the disjunction
+         */
+        R visitOr(@NonNull List<R> operands);
+    }
+
+    // -- FACTORIES
+
+    /**
+     * Serializable getter of a property's value, usually a method reference, eg. {@code Customer::getLastName}.
+     */
+    @FunctionalInterface
+    public static interface PropertyGetter<T, V> extends Serializable {
+        @Nullable V get(@NonNull T entity);
+    }
+
+    /**
+     * Entry point to build an equality predicate on given property.
+     * @param propertyId - the id of the property (as per the metamodel), usually the field name
+     * @param getter - used for client-side evaluation, also fixes the entity and value types
+     */
+    static <T, V> Property<T, V> property(
+            final @NonNull String propertyId,
+            final @NonNull PropertyGetter<T, V> getter) {
+        return new Property<>(propertyId, getter);
+    }
+
+    /**
+     * Entry point to build an equality or range predicate on given property.
+     * @param propertyId - the id of the property (as per the metamodel), usually the field name
+     * @param getter - used for client-side evaluation, also fixes the entity and value types
+     */
+    static <T, V extends Comparable<? super V>> ComparableProperty<T, V> comparableProperty(
+            final @NonNull String propertyId,
+            final @NonNull PropertyGetter<T, V> getter) {
+        return new ComparableProperty<>(propertyId, getter);
+    }
+
+    /**
+     * Entry point to build an equality, range or prefix predicate on given {@link String} property.
+     * @param propertyId - the id of the property (as per the metamodel), usually the field name
+     * @param getter - used for client-side evaluation, also fixes the entity type
+     */
+    static <T> StringProperty<T> stringProperty(
+            final @NonNull String propertyId,
+            final @NonNull PropertyGetter<T, String> getter) {
+        return new StringProperty<>(propertyId, getter);
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Property<T, V> {
+
+        @Getter
+        private final @NonNull String propertyId;
+
+        protected final @NonNull PropertyGetter<T, V> getter;
+
+        public QueryPredicate<T> eq(final @Nullable V value) {
+            return _QueryPredicates.equalTo(propertyId, getter, value);
+        }
+
+        public QueryPredicate<T> isNull() {
+            return eq(null);
+        }
+    }
+
+    public static class ComparableProperty<T, V extends Comparable<? super V>> extends Property<T, V> {
+
+        private ComparableProperty(final @NonNull String propertyId, final @NonNull PropertyGetter<T, V> getter) {
+            super(propertyId, getter);
+        }
+
+        /**
+         * Both bounds inclusive.
+         */
+        public QueryPredicate<T> between(final @NonNull V lowerBound, final @NonNull V upperBound) {
+            return _QueryPredicates.range(getPropertyId(), getter, lowerBound, true, upperBound, true);
+        }
+
+        public QueryPredicate<T> greaterThan(final @NonNull V lowerBound) {
+            return _QueryPredicates.range(getPropertyId(), getter, lowerBound, false, null, false);
+        }
+
+        public QueryPredicate<T> greaterThanOrEqualTo(final @NonNull V lowerBound) {
+            return _QueryPredicates.range(getPropertyId(), getter, lowerBound, true, null, false);
+        }
+
+        public QueryPredicate<T> lessThan(final @NonNull V upperBound) {
+            return _QueryPredicates.range(getPropertyId(), getter, null, false, upperBound, false);
+        }
+
+        public QueryPredicate<T> lessThanOrEqualTo(final @NonNull V upperBound) {
+            return _QueryPredicates.range(getPropertyId(), getter, null, false, upperBound, true);
+        }
+    }
+
+    public static final class StringProperty<T> extends ComparableProperty<T, String> {
+
+        private StringProperty(final @NonNull String propertyId, final @NonNull PropertyGetter<T, String> getter) {
+            super(propertyId, getter);
+        }
+
+        public QueryPredicate<T> startsWith(final @NonNull String prefix) {
+            return _QueryPredicates.startsWith(getPropertyId(), getter, prefix);
+        }
+    }
+
+}
@@ -0,0 +1,242 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.query.QueryPredicate.PropertyGetter;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * package private implementations of {@link QueryPredicate}
+ */
+final class _QueryPredicates {
+
+    static <T> QueryPredicate<T> equalTo(
+            final @NonNull String propertyId,
+            final @NonNull PropertyGetter<T, ?> getter,
+            final @Nullable Object value) {
+        return new EqualTo<>(propertyId, getter, value);
+    }
+
+    static <T> QueryPredicate<T> range(
+            final @NonNull String propertyId,
+            final @NonNull PropertyGetter<T, ?> getter,
+            final @Nullable Comparable<?> lowerBound, final boolean lowerInclusive,
+            final @Nullable Comparable<?> upperBound, final boolean upperInclusive) {
+        return new Range<>(propertyId, getter, lowerBound, lowerInclusive, upperBound, upperInclusive);
+    }
+
+    static <T> QueryPredicate<T> startsWith(
+            final @NonNull String propertyId,
+            final @NonNull PropertyGetter<T, String> getter,
+            final @NonNull String prefix) {
+        return new StartsWith<>(propertyId, getter, prefix);
+    }
+
+    static <T> QueryPredicate<T> and(
+            final @NonNull QueryPredicate<T> left,
+            final @NonNull QueryPredicate<T> right) {
+        return new Junction<>(true, operandsOf(left, right, true));
+    }
+
+    static <T> QueryPredicate<T> or(
+            final @NonNull QueryPredicate<T> left,
+            final @NonNull QueryPredicate<T> right) {
+        return new Junction<>(false, operandsOf(left, right, false));
+    }
+
+    // -- IMPLEMENTATIONS
+
+    @RequiredArgsConstructor
+    private static final class EqualTo<T> implements QueryPredicate<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final @NonNull String propertyId;
+        private final @NonNull PropertyGetter<T, ?> getter;
+        private final @Nullable Object value;
+
+        @Override
+        public boolean test(final T entity) {
+            return Objects.equals(propertyValueOf(entity, getter), value);
+        }
+
+        @Override
+        public <R> R accept(final @NonNull Visitor<R> visitor) {
+            return visitor.visitEquals(propertyId, value);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s == %s", propertyId, value);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class Range<T> implements QueryPredicate<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final @NonNull String propertyId;
+        private final @NonNull PropertyGetter<T, ?> getter;
+        private final @Nullable Comparable<?> lowerBound;
+        private final boolean lowerInclusive;
+        private final @Nullable Comparable<?> upperBound;
+        private final boolean upperInclusive;
+
+        @Override
+        public boolean test(final T entity) {
+            val propertyValue = propertyValueOf(entity, getter);
+            if(propertyValue==null) {
+                return false;
+            }
+            if(lowerBound!=null) {
+                val cmp = compare(propertyValue, lowerBound);
+                if(cmp<0 || (cmp==0 && !lowerInclusive)) {
+                    return false;
+                }
+            }
+            if(upperBound!=null) {
+                val cmp = compare(propertyValue, upperBound);
+                if(cmp>0 || (cmp==0 && !upperInclusive)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public <R> R accept(final @NonNull Visitor<R> visitor) {
+            return visitor.visitRange(propertyId, lowerBound, lowerInclusive, upperBound, upperInclusive);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s%s%s, %s%s",
+                    propertyId,
+                    lowerInclusive ? " in [" : " in (",
+                    lowerBound!=null ? lowerBound : "-inf",
+                    upperBound!=null ? upperBound : "+inf",
+                    upperInclusive ? "]" : ")");
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private static int compare(final Object propertyValue, final Comparable<?> bound) {
+            return ((Comparable) propertyValue).compareTo(bound);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class StartsWith<T> implements QueryPredicate<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final @NonNull String propertyId;
+        private final @NonNull PropertyGetter<T, String> getter;
+        private final @NonNull String prefix;
+
+        @Override
+        public boolean test(final T entity) {
+            val propertyValue = propertyValueOf(entity, getter);
+            return propertyValue!=null
+                    && propertyValue.startsWith(prefix);
+        }
+
+        @Override
+        public <R> R accept(final @NonNull Visitor<R> visitor) {
+            return visitor.visitStartsWith(propertyId, prefix);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s startsWith '%s'", propertyId, prefix);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class Junction<T> implements QueryPredicate<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final boolean conjunction;
+        private final @NonNull List<QueryPredicate<T>> operands;
+
+        @Override
+        public boolean test(final T entity) {
+            return conjunction
+                    ? operands.stream().allMatch(operand->operand.test(entity))
+                    : operands.stream().anyMatch(operand->operand.test(entity));
+        }
+
+        @Override
+        public <R> R accept(final @NonNull Visitor<R> visitor) {
+            val visitedOperands = operands.stream()
+                    .map(operand->operand.accept(visitor))
+                    .collect(Collectors.toList());
+            return conjunction
+                    ? visitor.visitAnd(visitedOperands)
+                    : visitor.visitOr(visitedOperands);
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream()
+                    .map(Object::toString)
+                    .collect(Collectors.joining(conjunction ? " && " : " || ", "(", ")"));
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * Flattens nested junctions of the same kind.
+     */
+    private static <T> List<QueryPredicate<T>> operandsOf(
+            final QueryPredicate<T> left,
+            final QueryPredicate<T> right,
+            final boolean conjunction) {
+        val operands = new ArrayList<QueryPredicate<T>>();
+        for(val operand : List.of(left, right)) {
+            if(operand instanceof Junction
+                    && ((Junction<T>) operand).conjunction == conjunction) {
+                operands.addAll(((Junction<T>) operand).operands);
+            } else {
+                operands.add(operand);
+            }
+        }
+        return Collections.unmodifiableList(operands);
+    }
+
+    /**
+     * Client-side evaluation, reading the property's value via its (typed) getter.
+     */
+    @Nullable
+    private static <T, V> V propertyValueOf(final @Nullable T entity, final PropertyGetter<T, V> getter) {
+        return entity!=null
+                ? getter.get(entity)
+                : null;
+    }
+
+}
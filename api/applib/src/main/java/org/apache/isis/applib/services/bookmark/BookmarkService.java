@@ -18,6 +18,8 @@
  */
 package org.apache.isis.applib.services.bookmark;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.lang.Nullable;
@@ -73,6 +75,18 @@ public interface BookmarkService {
      */
     Optional<Object> lookup(@Nullable Bookmark bookmark);
 
+    /**
+     * Bulk variant of {@link #lookup(Bookmark)}, that resolves entities of the same type
+     * with as few round-trips to the persistence store as possible
+     * (rather than one query per bookmark).
+     *
+     * @param bookmarks - representing domain objects
+     * @return - the corresponding domain objects in the order of the given {@code bookmarks},
+     *      with {@link Optional#empty()} marking those that could not be resolved
+     *      (or {@code null} bookmarks)
+     */
+    List<Optional<Object>> lookupAll(@Nullable Collection<Bookmark> bookmarks);
+
     // -- SHORTCUTS
 
     /**
@@ -0,0 +1,47 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.iactnlayer;
+
+import java.io.Serializable;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Immutable capture of the {@link InteractionContext} (&quot;who&quot;, &quot;when&quot; and
+ * &quot;where&quot;) of the current thread's {@link InteractionLayer}, to be handed over to
+ * another thread, for instance an {@link java.util.concurrent.ExecutorService} worker.
+ *
+ * <p>
+ * Tasks wrapped with {@link InteractionService#wrapCallable(InteractionContextSnapshot, java.util.concurrent.Callable)}
+ * or {@link InteractionService#wrapRunnable(InteractionContextSnapshot, org.apache.isis.commons.functional.ThrowingRunnable)}
+ * open their own interaction on the executing thread, using the captured context as is,
+ * that is without re-authentication.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Value(staticConstructor = "of")
+public class InteractionContextSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @NonNull InteractionContext interactionContext;
+
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.isis.applib.services.iactnlayer;
 
+import java.util.Optional;
 import java.util.concurrent.Callable;
 
 import org.apache.isis.commons.functional.Result;
@@ -182,5 +183,40 @@ default Result<Void> runAnonymousAndCatch(
         return callAnonymousAndCatch(ThrowingRunnable.toCallable(runnable));
     }
 
+    // -- CONTEXT PROPAGATION
+
+    /**
+     * Captures the {@link InteractionContext} of the current thread's top-most
+     * {@link InteractionLayer}, if any, for propagation to other threads.
+     *
+     * @see #wrapCallable(InteractionContextSnapshot, Callable)
+     * @see #wrapRunnable(InteractionContextSnapshot, ThrowingRunnable)
+     */
+    default Optional<InteractionContextSnapshot> snapshot() {
+        return currentInteractionContext().map(InteractionContextSnapshot::of);
+    }
+
+    /**
+     * Returns a {@link Callable} that, when called (typically on another thread),
+     * executes given {@code callable} within a new interaction,
+     * using the {@link InteractionContext} captured by given {@code snapshot}.
+     */
+    default <R> Callable<R> wrapCallable(
+            final @NonNull InteractionContextSnapshot snapshot,
+            final @NonNull Callable<R> callable) {
+        return ()->call(snapshot.getInteractionContext(), callable);
+    }
+
+    /**
+     * Returns a {@link Runnable} that, when run (typically on another thread),
+     * executes given {@code runnable} within a new interaction,
+     * using the {@link InteractionContext} captured by given {@code snapshot}.
+     */
+    default Runnable wrapRunnable(
+            final @NonNull InteractionContextSnapshot snapshot,
+            final @NonNull ThrowingRunnable runnable) {
+        return ()->run(snapshot.getInteractionContext(), runnable);
+    }
+
 
 }
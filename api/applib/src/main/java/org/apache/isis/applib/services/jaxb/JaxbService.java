@@ -131,6 +131,13 @@ Map<String, String> toXsd(
 
     class Simple implements JaxbService {
 
+        /**
+         * Whether a subclass overrides the {@link #configure(Marshaller)} or {@link #configure(Unmarshaller)}
+         * hooks, eg. to set adapters; such customised (un)marshallers cannot be reset, hence are not pooled.
+         */
+        private final boolean customisesMarshallers = overrides(Marshaller.class);
+        private final boolean customisesUnmarshallers = overrides(Unmarshaller.class);
+
         @Override
         @SneakyThrows
         @Nullable
@@ -170,7 +177,7 @@ public final String toXml(
             val domainClass = domainObject.getClass();
             val jaxbContext = jaxbContextForObject(domainObject);
             try {
-                val marshaller = jaxbContext.createMarshaller();
+                val marshaller = _Xml.borrowMarshaller(jaxbContext);
                 marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
                 for (val entry : _NullSafe.entrySet(marshallerProperties)) {
@@ -183,6 +190,12 @@ public final String toXml(
                 marshaller.marshal(domainObject, writer);
                 val xml = writer.toString();
 
+                // custom properties and adapters would otherwise leak into subsequent uses
+                if(_NullSafe.isEmpty(marshallerProperties)
+                        && !customisesMarshallers) {
+                    _Xml.releaseMarshaller(jaxbContext, marshaller);
+                }
+
                 return xml;
 
             } catch (Exception e) {
@@ -228,7 +241,7 @@ protected Object internalFromXml(
                 return null;
             }
 
-            val unmarshaller = jaxbContext.createUnmarshaller();
+            val unmarshaller = _Xml.borrowUnmarshaller(jaxbContext);
 
             for (val entry : _NullSafe.entrySet(unmarshallerProperties)) {
                 unmarshaller.setProperty(entry.getKey(), entry.getValue());
@@ -237,9 +250,28 @@ protected Object internalFromXml(
             configure(unmarshaller);
 
             val pojo = unmarshaller.unmarshal(new StringReader(xml));
+
+            // custom properties and adapters would otherwise leak into subsequent uses
+            if(_NullSafe.isEmpty(unmarshallerProperties)
+                    && !customisesUnmarshallers) {
+                _Xml.releaseUnmarshaller(jaxbContext, unmarshaller);
+            }
+
             return pojo;
         }
 
+        private boolean overrides(final Class<?> configureParameterType) {
+            for(Class<?> cls = getClass(); cls != Simple.class; cls = cls.getSuperclass()) {
+                try {
+                    cls.getDeclaredMethod("configure", configureParameterType);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // continue with superclass
+                }
+            }
+            return false;
+        }
+
         @Override
         @SneakyThrows
         public final Map<String, String> toXsd(
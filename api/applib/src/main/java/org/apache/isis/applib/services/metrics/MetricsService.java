@@ -20,6 +20,7 @@
 
 import org.apache.isis.applib.annotation.DomainObject;
 import org.apache.isis.applib.services.iactn.InteractionProvider;
+import org.apache.isis.applib.services.queryresultscache.SharedQueryResultsCache;
 import org.apache.isis.schema.ixn.v2.MemberExecutionDto;
 
 /**
@@ -54,6 +55,30 @@ public interface MetricsService {
      */
     int numberEntitiesDirtied();
 
+    /**
+     * The number of cache hits of the (application scoped) {@link SharedQueryResultsCache}
+     * since application start, or {@code -1} if not available.
+     */
+    default long numberSharedQueryResultsCacheHits() {
+        return -1L; // n/a
+    }
+
+    /**
+     * The number of cache misses of the (application scoped) {@link SharedQueryResultsCache}
+     * since application start, or {@code -1} if not available.
+     */
+    default long numberSharedQueryResultsCacheMisses() {
+        return -1L; // n/a
+    }
+
+    /**
+     * The number of entries evicted from the (application scoped) {@link SharedQueryResultsCache}
+     * since application start, or {@code -1} if not available.
+     */
+    default long numberSharedQueryResultsCacheEvictions() {
+        return -1L; // n/a
+    }
+
 }
 
 
@@ -18,6 +18,8 @@
  */
 package org.apache.isis.applib.services.publishing.spi;
 
+import java.util.List;
+
 import org.apache.isis.applib.annotation.DomainObject;
 import org.apache.isis.commons.having.HasEnabling;
 
@@ -48,4 +50,22 @@ public interface EntityPropertyChangeSubscriber extends HasEnabling {
      */
     void onChanging(EntityPropertyChange entityPropertyChange);
 
+    /**
+     * Receives a batch of property change events, as an alternative to
+     * {@link #onChanging(EntityPropertyChange)} being called for each.
+     *
+     * <p>
+     *     Only called if asynchronous publishing is enabled (using
+     *     <code>isis.core.runtime-services.publishing.async.enabled</code>),
+     *     in which case the changes of one or more committed transactions are
+     *     dispatched in the background, within a transaction of their own.
+     *     Subscribers that can write in bulk (eg. to an audit sink) should
+     *     override; the default implementation simply delegates to
+     *     {@link #onChanging(EntityPropertyChange)} for each change.
+     * </p>
+     */
+    default void onChangingBatch(final List<EntityPropertyChange> entityPropertyChanges) {
+        entityPropertyChanges.forEach(this::onChanging);
+    }
+
 }
@@ -60,6 +60,7 @@
  * algorithm of the business logic can remain easy to understand.
  * </p>
  *
+ * @see SharedQueryResultsCache
  * @since 1.x {@index}
  */
 @Component
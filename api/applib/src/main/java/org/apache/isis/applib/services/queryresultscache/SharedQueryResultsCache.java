@@ -0,0 +1,121 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.queryresultscache;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+import org.apache.isis.applib.services.metrics.MetricsService;
+
+/**
+ * Application scoped companion of the (interaction scoped) {@link QueryResultsCache},
+ * such that idempotent query results can be shared across interactions.
+ *
+ * <p>
+ * Entries are keyed the same way (calling class, method name and arguments),
+ * but in addition are tagged with the entity types they depend on.
+ * Whenever a transaction that created, updated or deleted entities of any of these types
+ * is committed, the entry is evicted. Also, entries are evicted once the cache's
+ * capacity is exceeded (least recently used first) or their time-to-live has elapsed.
+ * </p>
+ *
+ * <p>
+ * While such a transaction is about to commit (until it has completed), dependent entries are
+ * neither served nor stored, such that other interactions never see results from before the commit
+ * once it has happened.
+ * </p>
+ *
+ * <p>
+ * As results are shared across interactions (and threads), entities are never handed out as cached;
+ * rather, entities held by a result - either directly, or as the elements of an {@link java.util.Optional}
+ * or a {@link java.util.Collection} - are cached by their bookmarks and re-resolved within the calling
+ * interaction. Results must otherwise be values (or at least immutable and not attached to any
+ * persistence context).
+ * </p>
+ *
+ * <p>
+ * Hits, misses and evictions are counted and made available through {@link MetricsService}.
+ * </p>
+ *
+ * @see QueryResultsCache
+ * @since 2.0 {@index}
+ */
+public interface SharedQueryResultsCache {
+
+    /**
+     * Executes the callable if not already cached for the supplied calling
+     * class, method and keys.
+     *
+     * @param callable
+     * @param dependsOnEntityTypes - the entity types the result depends on, changes to any of which
+     *      (or their sub-types) will evict the cached result
+     * @param callingClass
+     * @param methodName
+     * @param keys
+     * @param <T>
+     */
+    <T> T execute(
+            Callable<T> callable,
+            Collection<Class<?>> dependsOnEntityTypes,
+            Class<?> callingClass,
+            String methodName,
+            Object... keys);
+
+    /**
+     * Evicts all entries, that are tagged with any of the given entity types or any of their super-types.
+     * <p>
+     * Not API: for the framework to call, once a transaction that changed entities of these types
+     * has committed.
+     */
+    void evictTaggedWith(Collection<Class<?>> changedEntityTypes);
+
+    /**
+     * Evicts all entries, that are tagged with any of the given entity types or any of their super-types,
+     * and bypasses the cache for these, until {@link #resumeTaggedWith(Collection) resumed}.
+     * <p>
+     * Not API: for the framework to call, once a transaction that changed entities of these types
+     * is about to complete.
+     */
+    void suspendTaggedWith(Collection<Class<?>> changingEntityTypes);
+
+    /**
+     * Reciprocal of {@link #suspendTaggedWith(Collection)}.
+     * <p>
+     * Not API: for the framework to call, once a transaction that changed entities of these types
+     * has completed (whether committed or not).
+     */
+    void resumeTaggedWith(Collection<Class<?>> changingEntityTypes);
+
+    /**
+     * Evicts all entries.
+     */
+    void evictAll();
+
+    // -- METRICS
+
+    long getHitCount();
+
+    long getMissCount();
+
+    /**
+     * Number of entries evicted, either because of entity changes, exceeded capacity or elapsed time-to-live.
+     */
+    long getEvictionCount();
+
+}
@@ -21,6 +21,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
@@ -292,6 +293,44 @@ <T> List<T> allMatches(
      */
     <T> List<T> allMatches(Query<T> query);
 
+    /**
+     * Streams all persisted instances of specified type (including subtypes).
+     *
+     * <p>
+     *     Unlike {@link #allInstances(Class)}, the instances are fetched lazily from the
+     *     persistence store, so this is suitable also for (read-only) traversals of large
+     *     numbers of instances, eg. exports or batch jobs.
+     * </p>
+     *
+     * @apiNote The returned {@link Stream} must be consumed within the current transaction (otherwise
+     *          its terminal operation throws an {@link IllegalStateException}) and should be closed
+     *          (eg. using try-with-resources), once done with, which releases the underlying database cursor.
+     *          It is closed in any case, when the transaction completes.
+     *
+     * @see #streamMatches(Query)
+     * @since 2.0
+     */
+    <T> Stream<T> streamInstances(Class<T> ofType);
+
+    /**
+     * Streams all the instances that match the given {@link Query}.
+     *
+     * <p>
+     *     Unlike {@link #allMatches(Query)}, the instances are fetched lazily from the
+     *     persistence store, using a bounded fetch size, so this is suitable also for (read-only)
+     *     traversals of large result sets, eg. exports or batch jobs.
+     * </p>
+     *
+     * @apiNote The returned {@link Stream} must be consumed within the current transaction (otherwise
+     *          its terminal operation throws an {@link IllegalStateException}) and should be closed
+     *          (eg. using try-with-resources), once done with, which releases the underlying database cursor.
+     *          It is closed in any case, when the transaction completes.
+     *
+     * @see #allMatches(Query)
+     * @since 2.0
+     */
+    <T> Stream<T> streamMatches(Query<T> query);
+
     /**
      * Finds the only instance of the specified type (including subtypes) that
      * satifies the (client-side) predicate.
@@ -18,6 +18,10 @@
  */
 package org.apache.isis.applib.services.swagger;
 
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
 /**
  * Generates Swagger schema definition files to describe the public and/or
  * private RESTful APIs exposed by the RestfulObjects viewer.
@@ -44,4 +48,32 @@ String generateSwaggerSpec(
             final Visibility visibility,
             final Format format);
 
+    /**
+     * Generates a Swagger spec with the specified visibility and format, together with a (strong) entity tag
+     * of that very spec, changing whenever the spec does; allows the REST API to honour conditional requests
+     * (<code>If-None-Match</code>).
+     *
+     * <p>
+     *     The default implementation derives the tag from the hash code of the generated spec.
+     * </p>
+     *
+     * @param visibility
+     * @param format
+     */
+    default TaggedSpec generateSwaggerSpecWithETag(
+            final Visibility visibility,
+            final Format format) {
+        val spec = generateSwaggerSpec(visibility, format);
+        return TaggedSpec.of(spec, Integer.toHexString(spec.hashCode()));
+    }
+
+    /**
+     * A generated spec and its entity tag.
+     */
+    @Value(staticConstructor = "of")
+    class TaggedSpec {
+        private final @NonNull String spec;
+        private final @NonNull String eTag;
+    }
+
 }
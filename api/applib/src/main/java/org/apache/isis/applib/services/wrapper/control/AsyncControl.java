@@ -21,7 +21,6 @@
 import java.time.ZoneId;
 import java.util.Locale;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 
 import org.apache.isis.applib.clock.VirtualClock;
@@ -107,16 +106,17 @@ public AsyncControl with(final ExceptionHandler exceptionHandler) {
 
 
 
-    @Getter @NonNull
-    private ExecutorService executorService =
-                            ForkJoinPool.commonPool();
+    @Getter
+    private ExecutorService executorService;
 
     /**
      * Specifies the {@link ExecutorService} to use to obtain the thread
      * to invoke the action.
      *
      * <p>
-     * The default executor service is the common pool.
+     * If not specified, the framework's (bounded) executor pool is used, as
+     * selected with {@link #withPool(String)}, else the default one (configured
+     * using <code>isis.core.runtime-services.wrapper.async.default-pool.*</code>).
      * </p>
      *
      *
@@ -128,6 +128,20 @@ public AsyncControl<R> with(final ExecutorService executorService) {
         // ...
     }
 
+    /**
+     * Name of the framework managed executor pool to use, as configured using
+     * <code>isis.core.runtime-services.wrapper.async.pools.&lt;name&gt;.*</code>;
+     * ignored if an {@link #with(ExecutorService) executor service} is specified.
+     * If not set, the default pool is used.
+     */
+    @Getter
+    private String poolName;
+    public AsyncControl<R> withPool(final @NonNull String poolName) {
+        this.poolName = poolName;
+        return this;
+        // ...
+    }
+
     /**
      * Defaults to the system clock, if not overridden
      */
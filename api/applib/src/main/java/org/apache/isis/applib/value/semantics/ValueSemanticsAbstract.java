@@ -28,11 +28,15 @@
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.FormatStyle;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.springframework.lang.Nullable;
 
+import org.apache.isis.applib.Identifier;
 import org.apache.isis.applib.annotation.TimePrecision;
 import org.apache.isis.applib.exceptions.recoverable.TextEntryParseException;
 import org.apache.isis.applib.locale.UserLocale;
@@ -45,6 +49,7 @@
 import org.apache.isis.schema.common.v2.ValueType;
 
 import lombok.NonNull;
+import lombok.Value;
 import lombok.val;
 
 /**
@@ -117,6 +122,33 @@ protected String render(final T value, final Function<T, String> toString) {
 
     // -- NUMBER FORMATTING/PARSING
 
+    /**
+     * Prototypes, never handed out, only ever cloned.
+     */
+    private final Map<NumberFormatKey, DecimalFormat> numberFormatPrototypes = new ConcurrentHashMap<>();
+
+    @Value
+    private static class NumberFormatKey {
+        @NonNull Locale locale;
+        /**
+         * {@code null} for the plain (unconfigured) format
+         * or when there is no feature to configure the format for
+         */
+        @Nullable Identifier featureIdentifier;
+        boolean configuredForParsing;
+        /**
+         * as per {@link ValueSemanticsAbstract#getDecimalFormatConfigurationVersion()}
+         * at the time the format was configured
+         */
+        long configurationVersion;
+    }
+
+    /**
+     * The {@link #getDecimalFormatConfigurationVersion() configuration version}, the cached parsing formats
+     * were last seen with.
+     */
+    private final AtomicLong parsingFormatsConfigurationVersion = new AtomicLong();
+
     /**
      * @param context - nullable in support of JUnit testing
      * @return {@link NumberFormat} the default from from given context's locale
@@ -126,12 +158,15 @@ protected String render(final T value, final Function<T, String> toString) {
      * 64 bit IEEE 754 double has 15 decimal digits of precision;
      * this is typically overruled later by implementations of
      * {@link #configureDecimalFormat(org.apache.isis.applib.adapters.ValueSemanticsProvider.Context, DecimalFormat) configureDecimalFormat}
+     * <p>
+     * Formats are created once per locale and cached; the returned format is a clone,
+     * confined to the caller, hence may be freely modified.
      */
    protected DecimalFormat getNumberFormat(final @Nullable ValueSemanticsProvider.Context context) {
-        val format = (DecimalFormat)NumberFormat.getNumberInstance(getUserLocale(context).getNumberFormatLocale());
-        // prime w/ 16 (64 bit IEEE 754 double has 15 decimal digits of precision)
-        format.setMaximumFractionDigits(16);
-        return format;
+        val locale = getUserLocale(context).getNumberFormatLocale();
+        return cloneOf(numberFormatPrototypes.computeIfAbsent(
+                new NumberFormatKey(locale, null, false, 0L),
+                key->createNumberFormat(key.getLocale())));
     }
 
     protected @Nullable BigInteger parseInteger(
@@ -155,9 +190,7 @@ protected DecimalFormat getNumberFormat(final @Nullable ValueSemanticsProvider.C
         if(input==null) {
             return null;
         }
-        val format = getNumberFormat(context);
-        format.setParseBigDecimal(true);
-        configureDecimalFormat(context, format);
+        val format = getNumberFormatForParsing(context);
 
         val position = new ParsePosition(0);
         try {
@@ -188,8 +221,99 @@ protected DecimalFormat getNumberFormat(final @Nullable ValueSemanticsProvider.C
      */
     protected void configureDecimalFormat(final Context context, final DecimalFormat format) {}
 
+    /**
+     * Whether the format as configured by {@link #configureDecimalFormat(Context, DecimalFormat)}
+     * for given context may be cached; {@code false} eg. if the context's feature cannot be resolved (yet).
+     */
+    protected boolean isDecimalFormatCacheable(final @Nullable Context context) {
+        return true;
+    }
+
+    /**
+     * Version of whatever {@link #configureDecimalFormat(Context, DecimalFormat)} derives the format from,
+     * eg. the metamodel's; cached parsing formats of any other version are discarded.
+     */
+    protected long getDecimalFormatConfigurationVersion() {
+        return 0L;
+    }
+
+    /**
+     * Returns a clone of the format as configured by {@link #configureDecimalFormat(Context, DecimalFormat)},
+     * cached per locale, feature and {@link #getDecimalFormatConfigurationVersion() configuration version}.
+     */
+    private DecimalFormat getNumberFormatForParsing(final @Nullable ValueSemanticsProvider.Context context) {
+        val configurationVersion = getDecimalFormatConfigurationVersion();
+        discardParsingFormatsUnless(configurationVersion);
+
+        val locale = getUserLocale(context).getNumberFormatLocale();
+        val featureIdentifier = context!=null
+                ? context.getFeatureIdentifier()
+                : null;
+        val key = new NumberFormatKey(locale, featureIdentifier, true, configurationVersion);
+        val cached = numberFormatPrototypes.get(key);
+        if(cached!=null) {
+            return cloneOf(cached);
+        }
+        // not using computeIfAbsent, as configuring may call back into the metamodel
+        val format = getNumberFormat(context);
+        format.setParseBigDecimal(true);
+        val cacheable = isDecimalFormatCacheable(context);
+        configureDecimalFormat(context, format);
+        if(!cacheable) {
+            // not caching a format, that is not (yet) configured for the feature
+            return format;
+        }
+        val raced = numberFormatPrototypes.putIfAbsent(key, format);
+        return cloneOf(raced!=null
+                ? raced
+                : format);
+    }
+
+    private void discardParsingFormatsUnless(final long configurationVersion) {
+        val seenVersion = parsingFormatsConfigurationVersion.get();
+        if(seenVersion != configurationVersion
+                && parsingFormatsConfigurationVersion.compareAndSet(seenVersion, configurationVersion)) {
+            numberFormatPrototypes.keySet().removeIf(key->key.isConfiguredForParsing()
+                    && key.getConfigurationVersion() != configurationVersion);
+        }
+    }
+
+    private static DecimalFormat createNumberFormat(final Locale locale) {
+        val format = (DecimalFormat)NumberFormat.getNumberInstance(locale);
+        // prime w/ 16 (64 bit IEEE 754 double has 15 decimal digits of precision)
+        format.setMaximumFractionDigits(16);
+        return format;
+    }
+
+    private static DecimalFormat cloneOf(final DecimalFormat prototype) {
+        // DecimalFormat is not thread-safe, but cloning a prototype is cheap compared to creating it
+        return (DecimalFormat) prototype.clone();
+    }
+
     // -- TEMPORAL FORMATTING/PARSING
 
+    /**
+     * {@link DateTimeFormatter}s are immutable and thread-safe, hence are shared.
+     */
+    private final Map<TemporalFormatKey, DateTimeFormatter> temporalFormats = new ConcurrentHashMap<>();
+
+    @Value
+    private static class TemporalFormatKey {
+        @NonNull Locale locale;
+        /**
+         * either the rendering {@link TemporalValueSemantics.TemporalCharacteristic} and {@link FormatStyle}s,
+         * or else the editing pattern
+         */
+        @NonNull Object format;
+    }
+
+    @Value
+    private static class TemporalRenderingFormat {
+        TemporalValueSemantics.TemporalCharacteristic temporalCharacteristic;
+        FormatStyle dateFormatStyle;
+        FormatStyle timeFormatStyle;
+    }
+
     protected DateTimeFormatter getTemporalRenderingFormat(
             final @Nullable ValueSemanticsProvider.Context context,
             final @NonNull TemporalValueSemantics.TemporalCharacteristic temporalCharacteristic,
@@ -197,19 +321,11 @@ protected DateTimeFormatter getTemporalRenderingFormat(
             final @NonNull FormatStyle dateFormatStyle,
             final @NonNull FormatStyle timeFormatStyle) {
 
-        switch (temporalCharacteristic) {
-        case DATE_TIME:
-            return DateTimeFormatter.ofLocalizedDateTime(dateFormatStyle, timeFormatStyle)
-                    .withLocale(getUserLocale(context).getTimeFormatLocale());
-        case DATE_ONLY:
-            return DateTimeFormatter.ofLocalizedDate(dateFormatStyle)
-                    .withLocale(getUserLocale(context).getTimeFormatLocale());
-        case TIME_ONLY:
-            return DateTimeFormatter.ofLocalizedTime(timeFormatStyle)
-                    .withLocale(getUserLocale(context).getTimeFormatLocale());
-        default:
-            throw _Exceptions.unmatchedCase(temporalCharacteristic);
-        }
+        val renderingFormat = new TemporalRenderingFormat(temporalCharacteristic, dateFormatStyle, timeFormatStyle);
+
+        return temporalFormats.computeIfAbsent(
+                new TemporalFormatKey(getUserLocale(context).getTimeFormatLocale(), renderingFormat),
+                key->createTemporalRenderingFormat(renderingFormat).withLocale(key.getLocale()));
     }
 
     protected DateTimeFormatter getTemporalEditingFormat(
@@ -220,13 +336,18 @@ protected DateTimeFormatter getTemporalEditingFormat(
             final @NonNull EditingFormatDirection direction,
             final @NonNull TemporalEditingPattern editingPattern) {
 
-        return new DateTimeFormatterBuilder()
-                .appendPattern(editingPattern
-                        .getEditingFormatAsPattern(
-                                temporalCharacteristic, offsetCharacteristic, timePrecision, direction))
-                .parseLenient()
-                .parseCaseInsensitive()
-                .toFormatter(getUserLocale(context).getTimeFormatLocale());
+        // the editing pattern is mutable configuration, so we key by the resulting pattern instead
+        val pattern = editingPattern
+                .getEditingFormatAsPattern(
+                        temporalCharacteristic, offsetCharacteristic, timePrecision, direction);
+
+        return temporalFormats.computeIfAbsent(
+                new TemporalFormatKey(getUserLocale(context).getTimeFormatLocale(), pattern),
+                key->new DateTimeFormatterBuilder()
+                    .appendPattern(pattern)
+                    .parseLenient()
+                    .parseCaseInsensitive()
+                    .toFormatter(key.getLocale()));
     }
 
     protected DateTimeFormatter getTemporalIsoFormat(
@@ -251,6 +372,20 @@ protected DateTimeFormatter getTemporalIsoFormat(
         }
     }
 
+    // -- HELPER
 
+    private static DateTimeFormatter createTemporalRenderingFormat(final TemporalRenderingFormat renderingFormat) {
+        switch (renderingFormat.getTemporalCharacteristic()) {
+        case DATE_TIME:
+            return DateTimeFormatter.ofLocalizedDateTime(
+                    renderingFormat.getDateFormatStyle(), renderingFormat.getTimeFormatStyle());
+        case DATE_ONLY:
+            return DateTimeFormatter.ofLocalizedDate(renderingFormat.getDateFormatStyle());
+        case TIME_ONLY:
+            return DateTimeFormatter.ofLocalizedTime(renderingFormat.getTimeFormatStyle());
+        default:
+            throw _Exceptions.unmatchedCase(renderingFormat.getTemporalCharacteristic());
+        }
+    }
 
 }
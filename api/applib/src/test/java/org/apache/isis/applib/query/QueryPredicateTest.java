@@ -0,0 +1,143 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.query;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.val;
+
+class QueryPredicateTest {
+
+    @AllArgsConstructor
+    public static class Customer {
+        @Getter private String lastName;
+        @Getter private Integer age;
+    }
+
+    private final Customer smith = new Customer("Smith", 42);
+    private final Customer jones = new Customer("Jones", 17);
+    private final Customer unknown = new Customer(null, null);
+
+    @Test
+    void equalTo() {
+        val predicate = QueryPredicate.stringProperty("lastName", Customer::getLastName).eq("Smith");
+        assertTrue(predicate.test(smith));
+        assertFalse(predicate.test(jones));
+        assertFalse(predicate.test(unknown));
+        assertTrue(QueryPredicate.stringProperty("lastName", Customer::getLastName).isNull().test(unknown));
+    }
+
+    @Test
+    void ranges() {
+        assertTrue(QueryPredicate.comparableProperty("age", Customer::getAge).between(17, 42).test(jones));
+        assertTrue(QueryPredicate.comparableProperty("age", Customer::getAge).between(17, 42).test(smith));
+        assertFalse(QueryPredicate.comparableProperty("age", Customer::getAge).greaterThan(42).test(smith));
+        assertTrue(QueryPredicate.comparableProperty("age", Customer::getAge).greaterThanOrEqualTo(42).test(smith));
+        assertTrue(QueryPredicate.comparableProperty("age", Customer::getAge).lessThan(18).test(jones));
+        assertFalse(QueryPredicate.comparableProperty("age", Customer::getAge).lessThanOrEqualTo(16).test(jones));
+        assertFalse(QueryPredicate.comparableProperty("age", Customer::getAge).lessThan(18).test(unknown));
+    }
+
+    @Test
+    void startsWith() {
+        val predicate = QueryPredicate.stringProperty("lastName", Customer::getLastName).startsWith("Sm");
+        assertTrue(predicate.test(smith));
+        assertFalse(predicate.test(jones));
+        assertFalse(predicate.test(unknown));
+    }
+
+    @Test
+    void junctions() {
+        val startsWithSm = QueryPredicate.stringProperty("lastName", Customer::getLastName).startsWith("Sm");
+        val adult = QueryPredicate.comparableProperty("age", Customer::getAge).greaterThanOrEqualTo(18);
+        val minor = QueryPredicate.comparableProperty("age", Customer::getAge).lessThan(18);
+
+        assertTrue(startsWithSm.and(adult).test(smith));
+        assertFalse(startsWithSm.and(minor).test(smith));
+        assertTrue(startsWithSm.or(minor).test(jones));
+        assertFalse(startsWithSm.or(adult).test(jones));
+    }
+
+    @Test
+    void visitor_whenNestedJunctionsOfSameKind_thenFlattened() {
+        val predicate = QueryPredicate.stringProperty("lastName", Customer::getLastName).startsWith("Sm")
+                .and(QueryPredicate.comparableProperty("age", Customer::getAge).greaterThan(18))
+                .and(QueryPredicate.comparableProperty("age", Customer::getAge).lessThan(65)
+                        .or(QueryPredicate.comparableProperty("age", Customer::getAge).isNull()));
+
+        val visited = new ArrayList<String>();
+        val rendered = predicate.accept(new QueryPredicate.Visitor<String>() {
+            @Override public String visitEquals(final String propertyId, final Object value) {
+                visited.add(propertyId);
+                return propertyId + "==" + value;
+            }
+            @Override public String visitRange(final String propertyId,
+                    final Comparable<?> lowerBound, final boolean lowerInclusive,
+                    final Comparable<?> upperBound, final boolean upperInclusive) {
+                visited.add(propertyId);
+                return lowerBound!=null ? propertyId + ">" + lowerBound : propertyId + "<" + upperBound;
+            }
+            @Override public String visitStartsWith(final String propertyId, final String prefix) {
+                visited.add(propertyId);
+                return propertyId + "^" + prefix;
+            }
+            @Override public String visitAnd(final List<String> operands) {
+                return "and" + operands;
+            }
+            @Override public String visitOr(final List<String> operands) {
+                return "or" + operands;
+            }
+        });
+
+        assertEquals("and[lastName^Sm, age>18, or[age<65, age==null]]", rendered);
+        assertEquals(List.of("lastName", "age", "age", "age"), visited);
+    }
+
+    @Test
+    void predicates_areSerializable() throws Exception {
+        val predicate = QueryPredicate.stringProperty("lastName", Customer::getLastName).startsWith("Sm")
+                .and(QueryPredicate.comparableProperty("age", Customer::getAge).greaterThan(18));
+
+        val bytes = new ByteArrayOutputStream();
+        try(val out = new ObjectOutputStream(bytes)) {
+            out.writeObject(predicate);
+        }
+        try(val in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            @SuppressWarnings("unchecked")
+            val deserialized = (QueryPredicate<Customer>) in.readObject();
+            assertEquals(predicate.toString(), deserialized.toString());
+            assertTrue(deserialized.test(smith));
+            assertFalse(deserialized.test(jones));
+        }
+    }
+
+}
@@ -18,14 +18,18 @@
  */
 package org.apache.isis.applib.services.jaxb;
 
+import javax.xml.bind.Marshaller;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 import org.apache.isis.commons.internal.resources._Xml;
+import org.apache.isis.schema.chg.v2.ChangesDto;
 import org.apache.isis.schema.ixn.v2.ActionInvocationDto;
 
 import lombok.val;
@@ -58,6 +62,23 @@ void clone_usingUtility() {
         assertDtoEquals(dto, _Xml.clone(dto).presentElseFail());
     }
 
+    @Test
+    void customisedMarshallers_areNotPooled() throws Exception {
+        val listener = new Marshaller.Listener() {};
+        val customised = new JaxbService.Simple() {
+            @Override
+            protected void configure(final Marshaller marshaller) {
+                marshaller.setListener(listener);
+            }
+        };
+        val dto = new ChangesDto();
+        dto.setInteractionId("1");
+        customised.toXml(dto);
+
+        val pooled = _Xml.borrowMarshaller(_Xml.jaxbContextFor(ChangesDto.class, true));
+        assertNotSame(listener, pooled.getListener());
+    }
+
     // -- HELPER
 
     private ActionInvocationDto getSample() {
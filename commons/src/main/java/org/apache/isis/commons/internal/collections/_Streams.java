@@ -18,7 +18,15 @@
  */
 package org.apache.isis.commons.internal.collections;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <h1>- internal use only -</h1>
@@ -36,6 +44,62 @@
 
     private _Streams(){}
 
+    // -- LAZY
+
+    /**
+     * Returns a sequential stream over the elements of the {@link Iterator} provided by given {@code iteratorSupplier},
+     * which is only called once the stream's terminal operation commences.
+     * <p>
+     * Unlike {@link java.util.Collection#stream()}, never asks for the size of the underlying collection,
+     * hence suitable for lazily loaded (eg. persistence layer) result lists, that would otherwise be loaded entirely.
+     */
+    public static <T> Stream<T> lazily(final Supplier<? extends Iterator<? extends T>> iteratorSupplier) {
+        return StreamSupport.stream(
+                ()->Spliterators.<T>spliteratorUnknownSize(iteratorSupplier.get(), Spliterator.ORDERED),
+                Spliterator.ORDERED,
+                false);
+    }
+
+    // -- BATCHING
+
+    /**
+     * Passes on given {@code stream}'s elements unchanged, but hands over already emitted elements
+     * in batches of size {@code batchSize} to {@code onBatchEmitted}, just before the next element
+     * is emitted. Any remaining elements are handed over when the resulting stream is closed.
+     * <p>
+     * Only suitable for sequential streams, whose downstream operations don't retain elements
+     * (eg. sort), as an emitted element is assumed to be fully processed, once the next is requested.
+     *
+     * @param batchSize - if less than 1, given {@code stream} is returned as is
+     */
+    public static <T> Stream<T> peekInBatches(
+            final Stream<T> stream,
+            final int batchSize,
+            final Consumer<List<T>> onBatchEmitted) {
+
+        if(batchSize<1) {
+            return stream;
+        }
+
+        final List<T> batch = new ArrayList<>(batchSize);
+
+        return stream
+        .map(element->{
+            if(batch.size()>=batchSize) {
+                onBatchEmitted.accept(batch);
+                batch.clear();
+            }
+            batch.add(element);
+            return element;
+        })
+        .onClose(()->{
+            if(!batch.isEmpty()) {
+                onBatchEmitted.accept(batch);
+                batch.clear();
+            }
+        });
+    }
+
     // -- CONCATENATION
 
     /**
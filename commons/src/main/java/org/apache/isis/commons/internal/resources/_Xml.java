@@ -22,9 +22,13 @@
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
@@ -32,6 +36,7 @@
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.namespace.QName;
 
@@ -40,6 +45,7 @@
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.codec._DocumentFactories;
 import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.collections._Sets;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.commons.internal.reflection._Annotations;
 
@@ -92,16 +98,20 @@ public static <T> T _readXml(
             final @NonNull Reader reader,
             final @NonNull ReadOptions readOptions) {
 
-        val unmarshaller = jaxbContextFor(dtoClass, readOptions.isUseContextCache()).createUnmarshaller();
+        val jaxbContext = jaxbContextFor(dtoClass, readOptions.isUseContextCache());
+        val unmarshaller = borrowUnmarshaller(jaxbContext);
+        try {
+            if(readOptions.isAllowMissingRootElement()
+                    && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
+                val xsr = _DocumentFactories.xmlInputFactory().createXMLStreamReader(reader);
+                final JAXBElement<T> userElement = unmarshaller.unmarshal(xsr, dtoClass);
+                return userElement.getValue();
+            }
 
-        if(readOptions.isAllowMissingRootElement()
-                && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
-            val xsr = _DocumentFactories.xmlInputFactory().createXMLStreamReader(reader);
-            final JAXBElement<T> userElement = unmarshaller.unmarshal(xsr, dtoClass);
-            return userElement.getValue();
+            return _Casts.uncheckedCast(unmarshaller.unmarshal(reader));
+        } finally {
+            releaseUnmarshaller(jaxbContext, unmarshaller);
         }
-
-        return _Casts.uncheckedCast(unmarshaller.unmarshal(reader));
     }
 
     // -- WRITE
@@ -126,17 +136,20 @@ public static <T> void writeXml(
             final @NonNull WriteOptions writeOptions) throws JAXBException {
 
         val dtoClass = _Casts.<Class<T>>uncheckedCast(dto.getClass());
-        val marshaller = jaxbContextFor(dtoClass, writeOptions.useContextCache).createMarshaller();
-        if(writeOptions.isFormattedOutput()) {
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-        }
-        if(writeOptions.isAllowMissingRootElement()
-            && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
-            val qName = new QName("", dtoClass.getSimpleName());
-            val jaxbElement = new JAXBElement<T>(qName, dtoClass, null, dto);
-            marshaller.marshal(jaxbElement, writer);
-        } else {
-            marshaller.marshal(dto, writer);
+        val jaxbContext = jaxbContextFor(dtoClass, writeOptions.useContextCache);
+        val marshaller = borrowMarshaller(jaxbContext);
+        try {
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, writeOptions.isFormattedOutput());
+            if(writeOptions.isAllowMissingRootElement()
+                && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
+                val qName = new QName("", dtoClass.getSimpleName());
+                val jaxbElement = new JAXBElement<T>(qName, dtoClass, null, dto);
+                marshaller.marshal(jaxbElement, writer);
+            } else {
+                marshaller.marshal(dto, writer);
+            }
+        } finally {
+            releaseMarshaller(jaxbContext, marshaller);
         }
     }
 
@@ -212,18 +225,175 @@ private static boolean isIllegalAnnotationsException(Exception e) {
 
     private static Map<Class<?>, JAXBContext> jaxbContextByClass = _Maps.newConcurrentHashMap();
 
+    private static final int MAX_CACHED_MULTI_TYPE_CONTEXTS = 256;
+
+    /**
+     * Contexts bound to multiple types (eg. a list type and its element type), keyed by the set of types;
+     * access ordered, such that the least recently used are evicted first.
+     * Guarded by itself.
+     */
+    @SuppressWarnings("serial")
+    private static final Map<Set<Class<?>>, JAXBContext> jaxbContextByTypes =
+            new LinkedHashMap<Set<Class<?>>, JAXBContext>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Set<Class<?>>, JAXBContext> eldest) {
+            if(size() <= MAX_CACHED_MULTI_TYPE_CONTEXTS) {
+                return false;
+            }
+            poolsByContext.remove(eldest.getValue());
+            return true;
+        }
+    };
+
     public static <T> JAXBContext jaxbContextFor(final Class<T> dtoClass, final boolean useCache)  {
         return useCache
-                ? jaxbContextByClass.computeIfAbsent(dtoClass, _Xml::contextOf)
+                ? jaxbContextByClass.computeIfAbsent(dtoClass, type->withPools(contextOf(type)))
                 : contextOf(dtoClass);
     }
 
+    /**
+     * Returns a (cached) {@link JAXBContext}, that is bound to given types.
+     * The cache is bounded, and keyed by the set of types (regardless of their order).
+     */
+    public static JAXBContext jaxbContextFor(final @NonNull Class<?>... boundTypes)  {
+        final Set<Class<?>> key = _Sets.of(boundTypes); // unmodifiable
+        if(key.size() == 1) {
+            return jaxbContextFor(boundTypes[0], true);
+        }
+        synchronized(jaxbContextByTypes) {
+            val jaxbContext = jaxbContextByTypes.get(key);
+            if(jaxbContext != null) {
+                return jaxbContext;
+            }
+        }
+        // not holding the lock while creating the context, which is expensive
+        val newJaxbContext = contextOf(boundTypes);
+        synchronized(jaxbContextByTypes) {
+            val jaxbContext = jaxbContextByTypes.get(key);
+            if(jaxbContext != null) {
+                return jaxbContext; // created concurrently
+            }
+            jaxbContextByTypes.put(key, withPools(newJaxbContext));
+            return newJaxbContext;
+        }
+    }
+
     @SneakyThrows
-    private static <T> JAXBContext contextOf(final Class<T> dtoClass) {
+    private static JAXBContext contextOf(final Class<?>... boundTypes) {
+        try {
+            return JAXBContext.newInstance(boundTypes);
+        } catch (Exception e) {
+            throw verboseException("obtaining JAXBContext for class", boundTypes[0], e);
+        }
+    }
+
+    // -- MARSHALLER POOLS
+
+    private static final int MAX_POOLED_PER_CONTEXT = 16;
+
+    private static final class Pools {
+        final Queue<Marshaller> marshallers = new ArrayBlockingQueue<>(MAX_POOLED_PER_CONTEXT);
+        final Queue<Unmarshaller> unmarshallers = new ArrayBlockingQueue<>(MAX_POOLED_PER_CONTEXT);
+    }
+
+    /**
+     * Marshaller and unmarshaller pools, only for cached contexts,
+     * as (un)marshallers are not thread-safe, but expensive to create.
+     */
+    private static final Map<JAXBContext, Pools> poolsByContext = _Maps.newConcurrentHashMap();
+
+    private static JAXBContext withPools(final JAXBContext jaxbContext) {
+        poolsByContext.put(jaxbContext, new Pools());
+        return jaxbContext;
+    }
+
+    /**
+     * Returns a pooled {@link Marshaller}, if available for given (cached) context, otherwise a new one.
+     * <p>
+     * As pooled instances are shared, callers must set {@link Marshaller#JAXB_FORMATTED_OUTPUT} on each use.
+     * Listeners, event handlers, schemas and attachment marshallers are reset on
+     * {@link #releaseMarshaller(JAXBContext, Marshaller) release}; adapters and other properties cannot be,
+     * so callers that set any of these must not release the marshaller.
+     */
+    public static Marshaller borrowMarshaller(final @NonNull JAXBContext jaxbContext) throws JAXBException {
+        val pools = poolsByContext.get(jaxbContext);
+        val marshaller = pools != null
+                ? pools.marshallers.poll()
+                : null;
+        return marshaller != null
+                ? marshaller
+                : jaxbContext.createMarshaller();
+    }
+
+    /**
+     * Resets and returns the marshaller to the pool of given context (if any, and not full).
+     */
+    public static void releaseMarshaller(final @NonNull JAXBContext jaxbContext, final @NonNull Marshaller marshaller) {
+        val pools = poolsByContext.get(jaxbContext);
+        if(pools != null
+                && reset(marshaller)) {
+            pools.marshallers.offer(marshaller);
+        }
+    }
+
+    /**
+     * Returns a pooled {@link Unmarshaller}, if available for given (cached) context, otherwise a new one.
+     * <p>
+     * Listeners, event handlers, schemas and attachment unmarshallers are reset on
+     * {@link #releaseUnmarshaller(JAXBContext, Unmarshaller) release}; adapters and properties cannot be,
+     * so callers that set any of these must not release the unmarshaller.
+     */
+    public static Unmarshaller borrowUnmarshaller(final @NonNull JAXBContext jaxbContext) throws JAXBException {
+        val pools = poolsByContext.get(jaxbContext);
+        val unmarshaller = pools != null
+                ? pools.unmarshallers.poll()
+                : null;
+        return unmarshaller != null
+                ? unmarshaller
+                : jaxbContext.createUnmarshaller();
+    }
+
+    /**
+     * Resets and returns the unmarshaller to the pool of given context (if any, and not full).
+     */
+    public static void releaseUnmarshaller(final @NonNull JAXBContext jaxbContext, final @NonNull Unmarshaller unmarshaller) {
+        val pools = poolsByContext.get(jaxbContext);
+        if(pools != null
+                && reset(unmarshaller)) {
+            pools.unmarshallers.offer(unmarshaller);
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * @return whether reset, otherwise the marshaller must not be pooled
+     */
+    private static boolean reset(final Marshaller marshaller) {
+        try {
+            marshaller.setListener(null);
+            marshaller.setEventHandler(null);
+            marshaller.setSchema(null);
+            marshaller.setAttachmentMarshaller(null);
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return whether reset, otherwise the unmarshaller must not be pooled
+     */
+    private static boolean reset(final Unmarshaller unmarshaller) {
         try {
-            return JAXBContext.newInstance(dtoClass);
+            unmarshaller.setListener(null);
+            unmarshaller.setEventHandler(null);
+            unmarshaller.setSchema(null);
+            unmarshaller.setAttachmentUnmarshaller(null);
+            return true;
         } catch (Exception e) {
-            throw verboseException("obtaining JAXBContext for class", dtoClass, e);
+            return false;
         }
     }
 
@@ -0,0 +1,81 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.commons.internal.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import lombok.val;
+
+class _StreamsTest {
+
+    @Test
+    void lazily_shouldNotObtainIteratorBeforeTerminalOperation() {
+
+        val iteratorRequests = new AtomicInteger();
+
+        val stream = _Streams.<Integer>lazily(()->{
+            iteratorRequests.incrementAndGet();
+            return List.of(1, 2, 3).iterator();
+        })
+        .map(i->i * 2);
+
+        assertEquals(0, iteratorRequests.get());
+        assertEquals(List.of(2, 4, 6), stream.collect(Collectors.toList()));
+        assertEquals(1, iteratorRequests.get());
+    }
+
+    @Test
+    void peekInBatches_shouldHandOverEmittedElements() {
+
+        val batches = new ArrayList<List<Integer>>();
+
+        try(val stream = _Streams.peekInBatches(Stream.of(1, 2, 3, 4, 5), 2,
+                batch->batches.add(new ArrayList<>(batch)))) {
+
+            val elements = stream.collect(Collectors.toList());
+
+            assertEquals(List.of(1, 2, 3, 4, 5), elements);
+            assertEquals(List.of(List.of(1, 2), List.of(3, 4)), batches);
+        }
+
+        // remaining elements are handed over on close
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), batches);
+    }
+
+    @Test
+    void peekInBatches_whenDisabled_shouldNotHandOverAnything() {
+
+        val batches = new ArrayList<List<Integer>>();
+
+        try(val stream = _Streams.peekInBatches(Stream.of(1, 2, 3), 0, batches::add)) {
+            assertEquals(List.of(1, 2, 3), stream.collect(Collectors.toList()));
+        }
+
+        assertEquals(0, batches.size());
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.commons.internal.resources;
+
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import lombok.Data;
+import lombok.val;
+
+class XmlTest {
+
+    @XmlRootElement @Data
+    public static class Customer {
+        private String name;
+    }
+
+    @XmlRootElement @Data
+    public static class Order {
+        private int quantity;
+    }
+
+    @Test
+    void contextCache_isKeyedByTheSetOfBoundTypes() {
+        val jaxbContext = _Xml.jaxbContextFor(Customer.class, Order.class);
+        assertSame(jaxbContext, _Xml.jaxbContextFor(Order.class, Customer.class));
+        assertSame(_Xml.jaxbContextFor(Customer.class, true), _Xml.jaxbContextFor(Customer.class));
+        assertNotSame(jaxbContext, _Xml.jaxbContextFor(Customer.class));
+    }
+
+    @Test
+    void marshallers_arePooled_forCachedContextsOnly() throws Exception {
+        val cached = _Xml.jaxbContextFor(Customer.class, true);
+        val marshaller = _Xml.borrowMarshaller(cached);
+        _Xml.releaseMarshaller(cached, marshaller);
+        assertSame(marshaller, _Xml.borrowMarshaller(cached));
+
+        val uncached = _Xml.jaxbContextFor(Customer.class, false);
+        val other = _Xml.borrowMarshaller(uncached);
+        _Xml.releaseMarshaller(uncached, other);
+        assertNotSame(other, _Xml.borrowMarshaller(uncached));
+    }
+
+    @Test
+    void releasedMarshallers_areReset() throws Exception {
+        val cached = _Xml.jaxbContextFor(Order.class, true);
+        val marshaller = _Xml.borrowMarshaller(cached);
+        marshaller.setListener(new Marshaller.Listener() {});
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        _Xml.releaseMarshaller(cached, marshaller);
+
+        val pooled = _Xml.borrowMarshaller(cached);
+        assertNull(pooled.getListener());
+        assertEquals(Boolean.FALSE, pooled.getProperty(Marshaller.JAXB_FORMATTED_OUTPUT));
+
+        val unmarshaller = _Xml.borrowUnmarshaller(cached);
+        unmarshaller.setListener(new Unmarshaller.Listener() {});
+        _Xml.releaseUnmarshaller(cached, unmarshaller);
+        assertNull(_Xml.borrowUnmarshaller(cached).getListener());
+    }
+
+    @Test
+    void roundtrip_usingPooledMarshallers() {
+        val customer = new Customer();
+        customer.setName("sven");
+        val options = _Xml.WriteOptions.builder().useContextCache(true).build();
+
+        for (int i = 0; i < 3; i++) {
+            val clone = _Xml.clone(customer).presentElseFail();
+            assertEquals(customer, clone);
+            val xml = _Xml.writeXml(customer, options).presentElseFail();
+            assertEquals(xml, _Xml.writeXml(customer, options).presentElseFail());
+        }
+    }
+
+}
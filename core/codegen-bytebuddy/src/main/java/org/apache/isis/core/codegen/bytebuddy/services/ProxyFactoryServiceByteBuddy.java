@@ -20,7 +20,8 @@
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
-import java.util.function.Function;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.lang.Nullable;
 
@@ -37,15 +38,58 @@
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
-import net.bytebuddy.dynamic.DynamicType.Builder.MethodDefinition.ImplementationDefinition;
+import net.bytebuddy.TypeCache;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.InvocationHandlerAdapter;
 import net.bytebuddy.matcher.ElementMatchers;
 
+/**
+ * Generates proxy classes once per (base, interfaces, class-loader) shape and caches them,
+ * such that creating a proxy instance only has to bind the instance's {@link InvocationHandler}.
+ * <p>
+ * Class-loaders are weakly referenced by the cache, so redeploys don't leak generated classes.
+ */
 @Service
 public class ProxyFactoryServiceByteBuddy extends _ProxyFactoryServiceAbstract {
 
+    private static final String HANDLER_FIELD_NAME = "$$isisInvocationHandler";
+
     private final ClassLoadingStrategyAdvisor strategyAdvisor = new ClassLoadingStrategyAdvisor();
 
+    private final TypeCache<TypeCache.SimpleKey> proxyClassCache =
+            new TypeCache.WithInlineExpunction<>(TypeCache.Sort.WEAK);
+
+    private final LongAdder proxyClassRequests = new LongAdder();
+    private final LongAdder proxyClassesDefined = new LongAdder();
+
+    /**
+     * Implemented by all generated proxy classes, to bind the per instance {@link InvocationHandler}.
+     * <p>
+     * Public, because generated classes reside within the package of the proxied class.
+     */
+    public static interface InvocationHandlerHolder {
+        InvocationHandler get$$isisInvocationHandler();
+        void set$$isisInvocationHandler(InvocationHandler handler);
+    }
+
+    // -- METRICS
+
+    /**
+     * Number of times a proxy class was requested and could be served from the cache.
+     */
+    public long getProxyClassCacheHits() {
+        return proxyClassRequests.sum() - proxyClassesDefined.sum();
+    }
+
+    /**
+     * Number of proxy classes that were generated and loaded so far.
+     */
+    public long getProxyClassesDefined() {
+        return proxyClassesDefined.sum();
+    }
+
     @Override
     public <T> _ProxyFactory<T> factory(
             Class<T> base,
@@ -54,13 +98,6 @@ public <T> _ProxyFactory<T> factory(
 
         final Objenesis objenesis = new ObjenesisStd();
 
-        final Function<InvocationHandler, Class<? extends T>> proxyClassFactory = handler->
-        nextProxyDef(base, interfaces)
-        .intercept(InvocationHandlerAdapter.of(handler))
-        .make()
-        .load(_Context.getDefaultClassLoader(), strategyAdvisor.getSuitableStrategy(base))
-        .getLoaded();
-
         return new _ProxyFactory<T>() {
 
             @Override
@@ -99,8 +136,9 @@ public T createInstance(InvocationHandler handler, Object[] constructorArgs) {
             // -- HELPER (create w/o initialize)
 
             private Object createNotUsingConstructor(InvocationHandler invocationHandler) {
-                final Class<? extends T> proxyClass = proxyClassFactory.apply(invocationHandler);
+                final Class<? extends T> proxyClass = proxyClassFor(base, interfaces);
                 final Object object = objenesis.newInstance(proxyClass);
+                ((InvocationHandlerHolder)object).set$$isisInvocationHandler(invocationHandler);
                 return object;
             }
 
@@ -108,10 +146,19 @@ private Object createNotUsingConstructor(InvocationHandler invocationHandler) {
 
             private Object createUsingConstructor(InvocationHandler invocationHandler, @Nullable Object[] constructorArgs)
                     throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
-                final Class<? extends T> proxyClass = proxyClassFactory.apply(invocationHandler);
-                return proxyClass
-                        .getConstructor(constructorArgTypes==null ? _Constants.emptyClasses : constructorArgTypes)
-                        .newInstance(constructorArgs==null ? _Constants.emptyObjects : constructorArgs);
+                final Class<? extends T> proxyClass = proxyClassFor(base, interfaces);
+                final Object object;
+                // the handler is not yet bound, while the constructor executes
+                HandlerDispatcher.pendingHandler.set(invocationHandler);
+                try {
+                    object = proxyClass
+                            .getConstructor(constructorArgTypes==null ? _Constants.emptyClasses : constructorArgTypes)
+                            .newInstance(constructorArgs==null ? _Constants.emptyObjects : constructorArgs);
+                } finally {
+                    HandlerDispatcher.pendingHandler.remove();
+                }
+                ((InvocationHandlerHolder)object).set$$isisInvocationHandler(invocationHandler);
+                return object;
             }
 
         };
@@ -120,14 +167,75 @@ private Object createUsingConstructor(InvocationHandler invocationHandler, @Null
 
     // -- HELPER
 
-    private static <T> ImplementationDefinition<T> nextProxyDef(
+    private <T> Class<? extends T> proxyClassFor(
+            final Class<T> base,
+            final Class<?>[] interfaces) {
+
+        proxyClassRequests.increment();
+
+        // the proxy class is defined within the class-loader of its base (see ClassLoadingStrategyAdvisor),
+        // hence is only valid for that class-loader and must be cached against it
+        final ClassLoader classLoader = base.getClassLoader()!=null
+                ? base.getClassLoader()
+                : _Context.getDefaultClassLoader();
+        final Class<?>[] proxyInterfaces = _NullSafe.isEmpty(interfaces)
+                ? _Constants.emptyClasses
+                : interfaces;
+        final Class<?> proxyClass = proxyClassCache.findOrInsert(
+                classLoader,
+                new TypeCache.SimpleKey(base, proxyInterfaces),
+                ()->{
+                    proxyClassesDefined.increment();
+                    return nextProxyDef(base, proxyInterfaces)
+                            .make()
+                            .load(classLoader, strategyAdvisor.getSuitableStrategy(base))
+                            .getLoaded();
+                },
+                proxyClassCache);
+
+        return _Casts.uncheckedCast(proxyClass);
+    }
+
+    private static <T> DynamicType.Builder<T> nextProxyDef(
             Class<T> base,
             Class<?>[] interfaces) {
         return new ByteBuddy()
                 .with(new NamingStrategy.SuffixingRandom("bb"))
                 .subclass(base)
                 .implement(interfaces)
-                .method(ElementMatchers.any());
+                .defineField(HANDLER_FIELD_NAME, InvocationHandler.class, Visibility.PRIVATE)
+                .method(ElementMatchers.any())
+                .intercept(InvocationHandlerAdapter.of(HandlerDispatcher.INSTANCE))
+                // registered last, hence takes precedence over the catch-all above
+                .implement(InvocationHandlerHolder.class)
+                .intercept(FieldAccessor.ofField(HANDLER_FIELD_NAME));
+    }
+
+    /**
+     * Shared by all generated proxy classes, delegates to the {@link InvocationHandler}
+     * bound to the proxy instance.
+     */
+    private static enum HandlerDispatcher implements InvocationHandler {
+        INSTANCE;
+
+        /**
+         * Handler of the proxy instance currently under construction (if any).
+         */
+        private static final ThreadLocal<InvocationHandler> pendingHandler = new ThreadLocal<>();
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            InvocationHandler handler = ((InvocationHandlerHolder)proxy).get$$isisInvocationHandler();
+            if(handler==null) {
+                handler = pendingHandler.get();
+            }
+            if(handler==null) {
+                throw new IllegalStateException(String.format(
+                        "No InvocationHandler bound to proxy instance of type '%s'",
+                        proxy.getClass().getName()));
+            }
+            return handler.invoke(proxy, method, args);
+        }
     }
 
     private static void ensureSameSize(Class<?>[] a, Object[] b) {
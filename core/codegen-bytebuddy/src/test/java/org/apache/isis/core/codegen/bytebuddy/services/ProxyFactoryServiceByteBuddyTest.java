@@ -0,0 +1,110 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.codegen.bytebuddy.services;
+
+import java.lang.reflect.InvocationHandler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class ProxyFactoryServiceByteBuddyTest {
+
+    public static class Base {
+        public String greet() {
+            return "hello";
+        }
+    }
+
+    public static interface Marker {
+    }
+
+    public static interface OtherMarker {
+    }
+
+    private ProxyFactoryServiceByteBuddy proxyFactoryService;
+
+    @BeforeEach
+    void setUp() {
+        proxyFactoryService = new ProxyFactoryServiceByteBuddy();
+    }
+
+    @Test
+    void proxyClass_isReused_forSameBaseAndInterfaces() {
+        val first = proxyFactoryService.factory(Base.class, new Class<?>[] {Marker.class}, null)
+                .createInstance(handlerReturning("first"), false);
+        val second = proxyFactoryService.factory(Base.class, new Class<?>[] {Marker.class}, null)
+                .createInstance(handlerReturning("second"), false);
+
+        assertSame(first.getClass(), second.getClass());
+        assertEquals(1, proxyFactoryService.getProxyClassesDefined());
+        assertEquals(1, proxyFactoryService.getProxyClassCacheHits());
+
+        // handlers are bound per instance, not per (shared) proxy class
+        assertEquals("first", first.greet());
+        assertEquals("second", second.greet());
+    }
+
+    @Test
+    void proxyClass_differs_forDifferentInterfaces() {
+        val none = proxyFactoryService.factory(Base.class, null, null)
+                .createInstance(handlerReturning("none"), false);
+        val one = proxyFactoryService.factory(Base.class, new Class<?>[] {Marker.class}, null)
+                .createInstance(handlerReturning("one"), false);
+        val two = proxyFactoryService.factory(Base.class, new Class<?>[] {Marker.class, OtherMarker.class}, null)
+                .createInstance(handlerReturning("two"), false);
+
+        assertNotEquals(none.getClass(), one.getClass());
+        assertNotEquals(one.getClass(), two.getClass());
+        assertNotEquals(none.getClass(), two.getClass());
+        assertEquals(3, proxyFactoryService.getProxyClassesDefined());
+        assertEquals(0, proxyFactoryService.getProxyClassCacheHits());
+
+        assertFalse(none instanceof Marker);
+        assertTrue(one instanceof Marker);
+        assertFalse(one instanceof OtherMarker);
+        assertTrue(two instanceof Marker);
+        assertTrue(two instanceof OtherMarker);
+    }
+
+    @Test
+    void proxyClass_isDefinedWithinClassLoaderOfBase() {
+        val proxy = proxyFactoryService.factory(Base.class, null, null)
+                .createInstance(handlerReturning("proxied"), false);
+
+        assertSame(Base.class.getClassLoader(), proxy.getClass().getClassLoader());
+    }
+
+    // -- HELPER
+
+    private static InvocationHandler handlerReturning(final String greeting) {
+        return (proxy, method, args)->
+            method.getName().equals("greet")
+                ? greeting
+                : null;
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.config.indexer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+
+/**
+ * Layout of the {@value #RESOURCE_NAME} resource, as written by the {@link IsisBeanTypeIndexProcessor}
+ * and read by the framework when bootstrapping.
+ * <pre>
+ * # isis-bean-types v3
+ * # depends-on&lt;TAB&gt;org.springframework.stereotype.Component&lt;TAB&gt;1a2b3c4d
+ * com.example.MyService&lt;TAB&gt;MANAGED_BEAN_CONTRIBUTING&lt;TAB&gt;delegated&lt;TAB&gt;example.MyService
+ * </pre>
+ * The {@code depends-on} lines list the class files (outside of the module), that the classifications
+ * were derived from, together with their checksums. Once any of these has changed, the index as a whole
+ * is stale.
+ *
+ * @since 2.0
+ */
+public final class IsisBeanTypeIndexFormat {
+
+    public static final String RESOURCE_NAME = "META-INF/isis/bean-types.idx";
+
+    public static final String HEADER = "# isis-bean-types v3";
+    public static final String DEPENDS_ON = "# depends-on";
+    public static final String DELEGATED = "delegated";
+    public static final String SELF_MANAGED = "self-managed";
+
+    public static final char SEPARATOR = '\t';
+
+    private IsisBeanTypeIndexFormat() {}
+
+    /**
+     * @return the checksum of a class file, as recorded with the {@code depends-on} lines
+     */
+    public static long checksumOf(final InputStream classFile) throws IOException {
+        final CRC32 crc = new CRC32();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while((read = classFile.read(buffer))!=-1) {
+            crc.update(buffer, 0, read);
+        }
+        return crc.getValue();
+    }
+
+}
@@ -0,0 +1,375 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.config.indexer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.enterprise.inject.Vetoed;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileManager;
+import javax.tools.StandardLocation;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import org.apache.isis.applib.ViewModel;
+import org.apache.isis.applib.annotation.Domain;
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.DomainService;
+import org.apache.isis.applib.annotation.Value;
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.collections.Can;
+
+/**
+ * Pre-classifies the bean type candidates of a module at build time and writes these classifications
+ * to {@value IsisBeanTypeIndexFormat#RESOURCE_NAME}, such that the framework need not load and reflect on
+ * these types when bootstrapping.
+ * <p>
+ * Registered as {@link javax.annotation.processing.Processor} service, hence run by {@code javac} for
+ * any module, that has this artifact on its class-path (as it comes with {@code isis-core-config}).
+ * <p>
+ * Follows the rules of the {@code IsisBeanTypeClassifier}, but only for those types, that can be
+ * classified without knowing the runtime context. Left to be classified at runtime are
+ * <ul>
+ * <li>types annotated with {@link Profile @Profile}, as these depend on the active profiles,</li>
+ * <li>types, that {@code IsisBeanTypeClassifier} plugins might claim, that is, types carrying annotations
+ * other than the framework's, Spring's or the JDK's own (eg. {@code @PersistenceCapable}),</li>
+ * <li>domain objects and view models, as these are introspected anyway,</li>
+ * <li>types depending on class files, that cannot be read at build time.</li>
+ * </ul>
+ * The class files (of other modules), that an index was derived from, are recorded with their checksums,
+ * so the index as a whole can be ignored at runtime, once any of these have changed.
+ *
+ * @since 2.0
+ */
+@SupportedAnnotationTypes("*")
+public class IsisBeanTypeIndexProcessor
+extends AbstractProcessor {
+
+    private static final String DOMAIN_EXCLUDE = Domain.Exclude.class.getCanonicalName();
+    private static final String VETOED = Vetoed.class.getName();
+    private static final String PROFILE = Profile.class.getName();
+    private static final String VALUE = Value.class.getName();
+    private static final String DOMAIN_SERVICE = DomainService.class.getName();
+    private static final String DOMAIN_OBJECT = DomainObject.class.getName();
+    private static final String COMPONENT = Component.class.getName();
+
+    /**
+     * Annotations no {@code IsisBeanTypeClassifier} plugin is expected to classify by.
+     */
+    private static final List<String> KNOWN_ANNOTATION_PACKAGES = List.of(
+            "java.",
+            "javax.annotation.",
+            "javax.inject.",
+            "org.springframework.",
+            "org.apache.isis.");
+
+    /** qualified names of the types compiled by this run */
+    private final Set<String> compiledTypeNames = new HashSet<>();
+
+    /** index lines (without the class name) by class name */
+    private final Map<String, String> entriesByClassName = new TreeMap<>();
+
+    /** checksums of the class files, the entries were derived from, by class name */
+    private final Map<String, Long> dependencies = new TreeMap<>();
+
+    private final Map<String, Optional<Long>> checksumsByClassName = new HashMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+
+        if(roundEnv.processingOver()) {
+            if(!compiledTypeNames.isEmpty()) {
+                // also when empty, to replace any index of a previous build
+                writeIndex();
+            }
+            return false;
+        }
+
+        final List<TypeElement> types = new ArrayList<>();
+        roundEnv.getRootElements().forEach(element->collectTypes(element, types));
+        types.forEach(type->compiledTypeNames.add(type.getQualifiedName().toString()));
+        types.forEach(this::index);
+
+        return false; // does not claim any annotations
+    }
+
+    // -- CLASSIFICATION
+
+    private void index(final TypeElement type) {
+
+        if(type.getKind() != ElementKind.CLASS
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || (type.getNestingKind() == NestingKind.MEMBER
+                        && !type.getModifiers().contains(Modifier.STATIC))) {
+            return; // not a bean type candidate
+        }
+
+        final Set<TypeElement> consulted = new HashSet<>();
+        final String entry = classify(type, consulted);
+        if(entry==null) {
+            return; // leave to runtime
+        }
+
+        final Map<String, Long> checksums = new HashMap<>();
+        for(TypeElement dependency : consulted) {
+            if(isCompiled(dependency)
+                    || binaryNameOf(dependency).startsWith("java.")) {
+                continue;
+            }
+            final Optional<Long> checksum = checksumOf(dependency);
+            if(!checksum.isPresent()) {
+                return; // we could not tell, when this entry becomes stale, so leave to runtime
+            }
+            checksums.put(binaryNameOf(dependency), checksum.get());
+        }
+
+        dependencies.putAll(checksums);
+        entriesByClassName.put(binaryNameOf(type), entry);
+    }
+
+    /**
+     * @param consulted - collects the super- and annotation types, the classification is derived from
+     * @return the index line (without the class name), or {@code null} if to be classified at runtime
+     */
+    private String classify(final TypeElement type, final Set<TypeElement> consulted) {
+
+        collectSupertypes(type, consulted);
+        if(isSubtypeOf(type, Collection.class.getName())
+                || isSubtypeOf(type, Can.class.getName())) {
+            return null;
+        }
+
+        final Map<String, AnnotationMirror> directlyPresent = new HashMap<>();
+        final Set<String> present = new HashSet<>();
+        for(AnnotationMirror annotation : processingEnv.getElementUtils().getAllAnnotationMirrors(type)) {
+            final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            directlyPresent.put(annotationType.getQualifiedName().toString(), annotation);
+            collectAnnotationTypes(annotationType, present, consulted);
+        }
+
+        // handle vetoing ...
+
+        if(present.contains(DOMAIN_EXCLUDE)
+                || present.contains(VETOED)) {
+            return entry(BeanSort.VETOED, false, null);
+        }
+        if(present.contains(PROFILE)) {
+            return null; // depends on the active profiles
+        }
+
+        if(present.contains(VALUE)) {
+            return entry(BeanSort.VALUE, true, null);
+        }
+
+        if(present.contains(DOMAIN_SERVICE)) {
+            final AnnotationMirror aDomainService = directlyPresent.get(DOMAIN_SERVICE);
+            return aDomainService!=null
+                    ? entry(BeanSort.MANAGED_BEAN_CONTRIBUTING, true, stringValueOf(aDomainService, "logicalTypeName"))
+                    : null; // as meta-annotation, its attributes might be overridden
+        }
+
+        // from here on, IsisBeanTypeClassifier plugins might claim the type at runtime
+
+        if(!present.contains(COMPONENT)
+                || present.contains(DOMAIN_OBJECT)
+                || isSubtypeOf(type, ViewModel.class.getName())
+                || !present.stream().allMatch(IsisBeanTypeIndexProcessor::isKnownAnnotation)) {
+            return null;
+        }
+
+        return entry(BeanSort.MANAGED_BEAN_NOT_CONTRIBUTING, true, null);
+    }
+
+    // -- HELPER
+
+    private static void collectTypes(final Element element, final List<TypeElement> types) {
+        if(!element.getKind().isClass()
+                && !element.getKind().isInterface()) {
+            return;
+        }
+        types.add((TypeElement) element);
+        element.getEnclosedElements().forEach(enclosed->collectTypes(enclosed, types));
+    }
+
+    private void collectSupertypes(final TypeElement type, final Set<TypeElement> supertypes) {
+        for(TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type.asType())) {
+            final Element element = processingEnv.getTypeUtils().asElement(supertype);
+            if(element instanceof TypeElement
+                    && supertypes.add((TypeElement) element)) {
+                collectSupertypes((TypeElement) element, supertypes);
+            }
+        }
+    }
+
+    /**
+     * Collects given annotation type and (recursively) its meta-annotations, as seen by reflection,
+     * that is, only those retained at runtime.
+     */
+    private static void collectAnnotationTypes(
+            final TypeElement annotationType,
+            final Set<String> present,
+            final Set<TypeElement> consulted) {
+
+        final String name = annotationType.getQualifiedName().toString();
+        final Retention retention = annotationType.getAnnotation(Retention.class);
+        if(name.startsWith("java.lang.annotation.")
+                || retention==null
+                || retention.value()!=RetentionPolicy.RUNTIME
+                || !present.add(name)) {
+            return;
+        }
+        consulted.add(annotationType);
+        for(AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+            collectAnnotationTypes((TypeElement) metaAnnotation.getAnnotationType().asElement(), present, consulted);
+        }
+    }
+
+    private boolean isSubtypeOf(final TypeElement type, final String supertypeName) {
+        final TypeElement supertype = processingEnv.getElementUtils().getTypeElement(supertypeName);
+        final javax.lang.model.util.Types typeUtils = processingEnv.getTypeUtils();
+        return supertype!=null
+                && typeUtils.isAssignable(typeUtils.erasure(type.asType()), typeUtils.erasure(supertype.asType()));
+    }
+
+    private static boolean isKnownAnnotation(final String annotationName) {
+        return KNOWN_ANNOTATION_PACKAGES.stream().anyMatch(annotationName::startsWith);
+    }
+
+    private boolean isCompiled(final TypeElement type) {
+        return compiledTypeNames.contains(type.getQualifiedName().toString());
+    }
+
+    private String binaryNameOf(final TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private static String stringValueOf(final AnnotationMirror annotation, final String attributeName) {
+        for(Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> attribute
+                : annotation.getElementValues().entrySet()) {
+            if(attribute.getKey().getSimpleName().contentEquals(attributeName)) {
+                return String.valueOf(attribute.getValue().getValue());
+            }
+        }
+        return null; // not explicitly specified
+    }
+
+    private static String entry(final BeanSort beanSort, final boolean delegated, final String logicalTypeName) {
+        return beanSort.name()
+                + IsisBeanTypeIndexFormat.SEPARATOR
+                + (delegated ? IsisBeanTypeIndexFormat.DELEGATED : IsisBeanTypeIndexFormat.SELF_MANAGED)
+                + IsisBeanTypeIndexFormat.SEPARATOR
+                + (logicalTypeName!=null ? logicalTypeName : "");
+    }
+
+    /**
+     * @return the checksum of given type's class file, as found on the class-path (or class output),
+     *      or empty if not found
+     */
+    private Optional<Long> checksumOf(final TypeElement type) {
+        return checksumsByClassName.computeIfAbsent(binaryNameOf(type), className->{
+            final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+            final String relativeName = (packageName.isEmpty()
+                    ? className
+                    : className.substring(packageName.length() + 1)) + ".class";
+            for(JavaFileManager.Location location : List.of(StandardLocation.CLASS_PATH, StandardLocation.CLASS_OUTPUT)) {
+                try(InputStream classFile = processingEnv.getFiler()
+                        .getResource(location, packageName, relativeName)
+                        .openInputStream()) {
+                    return Optional.of(IsisBeanTypeIndexFormat.checksumOf(classFile));
+                } catch (IOException | IllegalArgumentException e) {
+                    // not found at this location
+                }
+            }
+            return Optional.empty();
+        });
+    }
+
+    // -- WRITE
+
+    private void writeIndex() {
+
+        // the classification rules themselves
+        try(InputStream processorClassFile = IsisBeanTypeIndexProcessor.class
+                .getResourceAsStream(IsisBeanTypeIndexProcessor.class.getSimpleName() + ".class")) {
+            if(processorClassFile==null) {
+                warn("cannot read the processor's own class file");
+                return;
+            }
+            dependencies.put(IsisBeanTypeIndexProcessor.class.getName(), IsisBeanTypeIndexFormat.checksumOf(processorClassFile));
+        } catch (IOException e) {
+            warn(e.getMessage());
+            return;
+        }
+
+        try(Writer writer = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", IsisBeanTypeIndexFormat.RESOURCE_NAME)
+                .openWriter()) {
+            writer.write(IsisBeanTypeIndexFormat.HEADER + '\n');
+            for(Map.Entry<String, Long> dependency : dependencies.entrySet()) {
+                writer.write(IsisBeanTypeIndexFormat.DEPENDS_ON
+                        + IsisBeanTypeIndexFormat.SEPARATOR + dependency.getKey()
+                        + IsisBeanTypeIndexFormat.SEPARATOR + Long.toHexString(dependency.getValue())
+                        + '\n');
+            }
+            for(Map.Entry<String, String> entry : entriesByClassName.entrySet()) {
+                writer.write(entry.getKey() + IsisBeanTypeIndexFormat.SEPARATOR + entry.getValue() + '\n');
+            }
+        } catch (IOException e) {
+            warn(e.getMessage());
+        }
+    }
+
+    private void warn(final String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                String.format("failed to write %s: %s", IsisBeanTypeIndexFormat.RESOURCE_NAME, reason));
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.config.indexer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.enterprise.inject.Vetoed;
+import javax.inject.Named;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.stereotype.Component;
+
+import org.apache.isis.applib.annotation.DomainService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IsisBeanTypeIndexProcessorTest {
+
+    @Test
+    void classifiesBeanTypes_exceptThoseLeftToRuntime(final @TempDir Path tempDir) throws Exception {
+        source(tempDir, "a.Beans",
+                "package a;",
+                "import org.springframework.stereotype.Component;",
+                "import org.springframework.context.annotation.Profile;",
+                "import org.apache.isis.applib.annotation.*;",
+                "public class Beans {",
+                "    @DomainService(logicalTypeName = \"test.IndexedService\") public static class IndexedService {}",
+                "    public static class InheritedService extends IndexedService {}",
+                "    @Component public static class IndexedComponent {}",
+                "    @Component @Domain.Exclude public static class VetoedComponent {}",
+                "    @Component @Profile(\"demo\") public static class ProfiledComponent {}",
+                "    @Component @b.Persistent public static class PersistentComponent {}",
+                "    @Component @DomainObject public static class DomainObjectComponent {}",
+                "    @Component public abstract static class AbstractComponent {}",
+                "    @Component public class InnerComponent {}",
+                "}");
+        source(tempDir, "b.Persistent",
+                "package b;",
+                "import java.lang.annotation.*;",
+                "@Retention(RetentionPolicy.RUNTIME) public @interface Persistent {}");
+
+        final List<String> lines = compile(tempDir.resolve("src"), tempDir.resolve("classes"));
+
+        assertEquals(IsisBeanTypeIndexFormat.HEADER, lines.get(0));
+        assertEquals(List.of(
+                "a.Beans$IndexedComponent\tMANAGED_BEAN_NOT_CONTRIBUTING\tdelegated\t",
+                "a.Beans$IndexedService\tMANAGED_BEAN_CONTRIBUTING\tdelegated\ttest.IndexedService",
+                "a.Beans$InheritedService\tMANAGED_BEAN_CONTRIBUTING\tdelegated\ttest.IndexedService",
+                "a.Beans$VetoedComponent\tVETOED\tself-managed\t"),
+                entries(lines));
+
+        final List<String> dependencies = dependencies(lines);
+        assertTrue(dependencies.contains(DomainService.class.getName()));
+        assertTrue(dependencies.contains(Component.class.getName()));
+        assertTrue(dependencies.contains(IsisBeanTypeIndexProcessor.class.getName()));
+        // types compiled along with the index cannot be stale
+        assertFalse(dependencies.stream().anyMatch(className->className.startsWith("a.")
+                || className.startsWith("b.")));
+    }
+
+    @Test
+    void recordsChecksums_ofSupertypesFromOtherModules(final @TempDir Path tempDir) throws Exception {
+        source(tempDir, "lib.BaseService",
+                "package lib;",
+                "@org.apache.isis.applib.annotation.DomainService public class BaseService {}");
+        compile(tempDir.resolve("src"), tempDir.resolve("lib"));
+
+        source(tempDir.resolve("app"), "a.AppService",
+                "package a;",
+                "public class AppService extends lib.BaseService {}");
+        final List<String> lines = compile(tempDir.resolve("app").resolve("src"), tempDir.resolve("classes"), tempDir.resolve("lib"));
+
+        assertEquals(
+                List.of("a.AppService\tMANAGED_BEAN_CONTRIBUTING\tdelegated\t"),
+                entries(lines));
+
+        final long checksum;
+        try(InputStream classFile = Files.newInputStream(tempDir.resolve("lib/lib/BaseService.class"))) {
+            checksum = IsisBeanTypeIndexFormat.checksumOf(classFile);
+        }
+        assertTrue(lines.contains(IsisBeanTypeIndexFormat.DEPENDS_ON
+                + "\tlib.BaseService\t" + Long.toHexString(checksum)));
+    }
+
+    // -- HELPER
+
+    private static void source(final Path root, final String className, final String... lines) throws IOException {
+        final Path sourceFile = root.resolve("src").resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, List.of(lines));
+    }
+
+    /**
+     * Compiles all sources found under given {@code sourceRoot} with the {@link IsisBeanTypeIndexProcessor}.
+     * @return the lines of the generated index
+     */
+    private static List<String> compile(
+            final Path sourceRoot,
+            final Path classesDir,
+            final Path... additionalClassPath) throws IOException, URISyntaxException {
+
+        Files.createDirectories(classesDir);
+
+        final List<File> classPath = new ArrayList<>();
+        for(Class<?> cls : List.of(DomainService.class, Component.class, Profile.class, AliasFor.class,
+                Named.class, Vetoed.class)) {
+            classPath.add(new File(cls.getProtectionDomain().getCodeSource().getLocation().toURI()));
+        }
+        Stream.of(additionalClassPath).map(Path::toFile).forEach(classPath::add);
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try(StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            fileManager.setLocation(StandardLocation.CLASS_PATH, classPath);
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(classesDir.toFile()));
+
+            final List<File> sources;
+            try(Stream<Path> files = Files.walk(sourceRoot)) {
+                sources = files.filter(file->file.toString().endsWith(".java"))
+                        .map(Path::toFile)
+                        .collect(Collectors.toList());
+            }
+
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, null, null,
+                    fileManager.getJavaFileObjectsFromFiles(sources));
+            task.setProcessors(List.of(new IsisBeanTypeIndexProcessor()));
+            assertTrue(task.call(), "compilation failed");
+        }
+
+        return Files.readAllLines(classesDir.resolve(IsisBeanTypeIndexFormat.RESOURCE_NAME));
+    }
+
+    private static List<String> entries(final List<String> lines) {
+        return lines.stream()
+                .filter(line->!line.startsWith("#"))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> dependencies(final List<String> lines) {
+        return lines.stream()
+                .filter(line->line.startsWith(IsisBeanTypeIndexFormat.DEPENDS_ON))
+                .map(line->line.split("\t")[1])
+                .collect(Collectors.toList());
+    }
+
+}
@@ -1322,6 +1322,14 @@ public IntrospectionPolicy getPolicy() {
                  */
                 private boolean parallelize = false; //TODO[ISIS-2382] concurrent spec-loading is experimental
 
+                /**
+                 * Number of threads to introspect with, if {@link #isParallelize() parallelized}.
+                 * <p>
+                 * Non-positive values (the default) use as many threads as there are available processors.
+                 * </p>
+                 */
+                private int parallelism = 0;
+
                 /**
                  * Whether all known types should be fully introspected as part of the bootstrapping, or should only be
                  * partially introspected initially.
@@ -1375,6 +1383,9 @@ public static class Validator {
 
                 /**
                  * Whether to perform metamodel validation in parallel.
+                 * <p>
+                 * If enabled, each validator runs as an independent task, with the time spent
+                 * per validator being logged.
                  */
                 private boolean parallelize = true;
 
@@ -1640,6 +1651,182 @@ public static class RepositoryService {
                  */
                 private boolean disableAutoFlush = false;
 
+                /**
+                 * The number of rows to fetch from the database per round-trip, when streaming query results,
+                 * eg. using {@link org.apache.isis.applib.services.repository.RepositoryService#streamMatches(org.apache.isis.applib.query.Query)}.
+                 */
+                @javax.validation.constraints.Min(1)
+                private int streamFetchSize = 500;
+
+                /**
+                 * If set to a positive value, entities already emitted when streaming query results are
+                 * detached (JPA) or evicted (JDO) from the persistence context in batches of this size,
+                 * so that memory use stays flat when traversing large result sets.
+                 *
+                 * <p>
+                 *     Only appropriate for read-only traversals (eg. exports), as any pending changes of
+                 *     detached entities are not flushed. Disabled (0) by default.
+                 * </p>
+                 */
+                @javax.validation.constraints.Min(0)
+                private int streamDetachBatchSize = 0;
+
+                /**
+                 * The maximum number of identifiers per (SQL) {@code IN} clause, when looking up entities
+                 * by their bookmarks in bulk, eg. using
+                 * {@link org.apache.isis.applib.services.bookmark.BookmarkService#lookupAll(java.util.Collection)}.
+                 * Larger requests are split into chunks of this size.
+                 */
+                @javax.validation.constraints.Min(1)
+                private int bulkLookupChunkSize = 500;
+
+            }
+
+            private final QueryResultsCache queryResultsCache = new QueryResultsCache();
+            @Data
+            public static class QueryResultsCache {
+
+                private final Shared shared = new Shared();
+                @Data
+                public static class Shared {
+
+                    /**
+                     * The maximum number of entries held by the (application scoped)
+                     * {@link org.apache.isis.applib.services.queryresultscache.SharedQueryResultsCache};
+                     * once exceeded, the least recently used entries are evicted.
+                     *
+                     * <p>
+                     *     Setting to 0 disables caching, such that every call is a cache miss.
+                     * </p>
+                     */
+                    @javax.validation.constraints.Min(0)
+                    private int maxEntries = 1000;
+
+                    /**
+                     * How long an entry of the
+                     * {@link org.apache.isis.applib.services.queryresultscache.SharedQueryResultsCache}
+                     * stays valid after it was put into the cache, regardless of any entity changes.
+                     */
+                    private Duration timeToLive = Duration.ofMinutes(5);
+                }
+            }
+
+            private final Publishing publishing = new Publishing();
+            @Data
+            public static class Publishing {
+
+                private final Async async = new Async();
+                @Data
+                public static class Async {
+
+                    /**
+                     * Whether entity changes and entity property changes should be published asynchronously.
+                     *
+                     * <p>
+                     *     If enabled, the changes captured when a transaction is about to complete are written to
+                     *     a transactional outbox, within that same transaction, so are committed (or rolled back)
+                     *     together with the business changes. A background relay then polls the outbox and calls
+                     *     the {@link org.apache.isis.applib.services.publishing.spi.EntityChangesSubscriber}s
+                     *     and {@link org.apache.isis.applib.services.publishing.spi.EntityPropertyChangeSubscriber}s
+                     *     (the latter using
+                     *     {@link org.apache.isis.applib.services.publishing.spi.EntityPropertyChangeSubscriber#onChangingBatch(List)}),
+                     *     within a transaction of its own, in which the relayed outbox entries are also removed.
+                     *     Slow subscribers then no longer extend the duration of the originating transaction.
+                     * </p>
+                     *
+                     * <p>
+                     *     Delivery is at-least-once: if publishing fails (or the JVM terminates before the relay's
+                     *     transaction commits), the entries are retained and relayed again on the next poll, so
+                     *     subscribers should be idempotent (eg. keyed by interaction id and sequence).
+                     * </p>
+                     *
+                     * <p>
+                     *     Requires an {@code EntityChangesOutbox}
+                     *     implementation, as provided by the <i>entity-changes-outbox</i> extension (JPA or JDO).
+                     * </p>
+                     *
+                     * <p>
+                     *     Disabled by default, in which case subscribers are called synchronously, one change
+                     *     at a time, during the pre-commit phase.
+                     * </p>
+                     */
+                    private boolean enabled = false;
+
+                    /**
+                     * The maximum number of outbox entries (each holding the changes of a single transaction)
+                     * relayed within a single transaction, as well as the maximum number of entity property
+                     * changes passed to
+                     * {@link org.apache.isis.applib.services.publishing.spi.EntityPropertyChangeSubscriber#onChangingBatch(List)}
+                     * in a single call.
+                     */
+                    @javax.validation.constraints.Min(1)
+                    private int batchSize = 100;
+
+                    /**
+                     * The number of background threads relaying batches of outbox entries concurrently.
+                     *
+                     * <p>
+                     *     Only with a single thread (the default) are changes guaranteed to be relayed in the
+                     *     order their transactions committed.
+                     * </p>
+                     */
+                    @javax.validation.constraints.Min(1)
+                    private int maxConcurrentDispatches = 1;
+
+                    /**
+                     * How long the relay waits before polling the outbox again, once it found no (more) entries,
+                     * or relaying failed.
+                     */
+                    private Duration pollInterval = Duration.ofSeconds(1);
+                }
+            }
+
+            private final Wrapper wrapper = new Wrapper();
+            @Data
+            public static class Wrapper {
+
+                private final Async async = new Async();
+                @Data
+                public static class Async {
+
+                    /**
+                     * The executor pool used by
+                     * {@link org.apache.isis.applib.services.wrapper.WrapperFactory#asyncWrap(Object, org.apache.isis.applib.services.wrapper.control.AsyncControl)}
+                     * (and <code>asyncWrapMixin</code>), unless the
+                     * {@link org.apache.isis.applib.services.wrapper.control.AsyncControl} specifies either an
+                     * executor service or a named {@link #getPools() pool}.
+                     */
+                    private final Pool defaultPool = new Pool();
+
+                    /**
+                     * Additional named executor pools, as selected using
+                     * {@link org.apache.isis.applib.services.wrapper.control.AsyncControl#withPool(String)}.
+                     */
+                    private Map<String, Pool> pools = new LinkedHashMap<>();
+
+                    /**
+                     * How long to wait on shutdown for submitted jobs to complete, before these are interrupted.
+                     */
+                    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+                    @Data
+                    public static class Pool {
+
+                        /**
+                         * The number of threads of the pool; async jobs open their own interaction and
+                         * transaction, so the database connection pool should be sized accordingly.
+                         */
+                        @javax.validation.constraints.Min(1)
+                        private int maxThreads = 4;
+
+                        /**
+                         * The maximum number of jobs waiting for a thread; once exceeded, submissions are
+                         * rejected with a {@link java.util.concurrent.RejectedExecutionException}.
+                         */
+                        @javax.validation.constraints.Min(0)
+                        private int queueCapacity = 1000;
+                    }
+                }
             }
 
             private final ExceptionRecognizer exceptionRecognizer = new ExceptionRecognizer();
@@ -1707,6 +1894,16 @@ public static class Po {
                      * </p>
                      */
                     Mode mode = Mode.WRITE;
+
+                    /**
+                     * Locales for which the translations are read and compiled
+                     * into lookup tables eagerly at startup, when in {@link Mode#READ read} mode.
+                     *
+                     * <p>
+                     *     Translations for any other locale are read and compiled on first use.
+                     * </p>
+                     */
+                    private List<Locale> precompiledLocales = new ArrayList<>();
                 }
             }
         }
@@ -1870,6 +2067,26 @@ public static class Authentication {
              */
             private boolean suppressUpdateLink = false;
 
+            /**
+             * If set, then representations are serialized directly onto the response's output stream, rather than
+             * first being written to an (in-memory) string.
+             *
+             * <p>
+             *     The output is identical either way. Streaming avoids the intermediate string (and its encoded
+             *     copy); moreover the elements of lists (action results) and of collections are then rendered
+             *     one at a time while being written, rather than building the tree of the whole array upfront.
+             *     This matters for large responses (eg long collections, or <code>x-ro-follow-links</code>).
+             * </p>
+             *
+             * <p>
+             *     The trade-offs are that the <code>Content-Length</code> header is no longer known upfront,
+             *     and that serialization happens after the status and headers have been committed: a failure
+             *     at that point can no longer be reported as an error response, the client instead receives
+             *     a truncated body.
+             * </p>
+             */
+            private boolean streamingRendering = false;
+
             /**
              * If left unset (the default), then the RO viewer will use the {@link javax.ws.rs.core.UriInfo}
              * (injected using {@link javax.ws.rs.core.Context}) to figure out the base Uri (used to render
@@ -1885,6 +2102,21 @@ public static class Authentication {
              */
             @javax.validation.constraints.Pattern(regexp="^http[s]?://[^:]+?(:\\d+)?/([^/]+/)*+$")
             private Optional<String> baseUri = Optional.empty();
+
+            private final Swagger swagger = new Swagger();
+            @Data
+            public static class Swagger {
+
+                /**
+                 * Whether the Swagger specs (for every visibility and format) should be generated eagerly,
+                 * on a background thread once the metamodel has been loaded, rather than on first request.
+                 *
+                 * <p>
+                 *     Either way, generated specs are cached, until any specification gets reloaded.
+                 * </p>
+                 */
+                private boolean eagerlyGenerate = false;
+            }
         }
 
         private final Wicket wicket = new Wicket();
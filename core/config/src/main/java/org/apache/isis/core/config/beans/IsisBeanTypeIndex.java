@@ -0,0 +1,207 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.config.beans;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.core.config.beans.IsisBeanTypeClassifier.BeanClassification;
+import org.apache.isis.core.config.indexer.IsisBeanTypeIndexFormat;
+import org.apache.isis.core.config.indexer.IsisBeanTypeIndexProcessor;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Build-time generated {@link BeanClassification}s, as found in {@value IsisBeanTypeIndexFormat#RESOURCE_NAME}
+ * resources on the class-path, one per module (jar).
+ * <p>
+ * These are written by the {@link IsisBeanTypeIndexProcessor}, which {@code javac} runs for any module
+ * depending on {@code isis-core-config}. Allows the {@link IsisComponentScanInterceptor} to skip loading and
+ * reflecting on types, that were already classified when their module was built. Types not covered by
+ * any index are classified at runtime, as before.
+ * <p>
+ * An index lists the class files it was derived from (of other modules, eg. the framework's annotations or
+ * a super class), together with their checksums. An index is only used, if all of these are unchanged
+ * as seen at runtime, otherwise (eg. the framework was upgraded, but the module not rebuilt) it is ignored
+ * as a whole.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Log4j2
+final class IsisBeanTypeIndex {
+
+    private static final IsisBeanTypeIndex EMPTY = new IsisBeanTypeIndex(Collections.emptyMap());
+
+    /**
+     * The content of a single {@value IsisBeanTypeIndexFormat#RESOURCE_NAME} resource.
+     */
+    @Value(staticConstructor = "of")
+    static class Content {
+        /** class file checksums by class name */
+        private final @NonNull Map<String, Long> dependencies;
+        private final @NonNull Map<String, BeanClassification> classificationsByClassName;
+    }
+
+    private final Map<String, BeanClassification> classificationsByClassName;
+
+    // -- FACTORIES
+
+    static IsisBeanTypeIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Merges all {@value IsisBeanTypeIndexFormat#RESOURCE_NAME} resources as seen by given {@code classLoader},
+     * that are not stale.
+     */
+    static IsisBeanTypeIndex load(final @NonNull ClassLoader classLoader) {
+        // dependencies are shared among indexes, eg. the framework's annotations
+        val checksumsByClassName = _Maps.<String, Optional<Long>>newHashMap();
+        val classificationsByClassName = _Maps.<String, BeanClassification>newHashMap();
+        try {
+            val resources = classLoader.getResources(IsisBeanTypeIndexFormat.RESOURCE_NAME);
+            while(resources.hasMoreElements()) {
+                val resource = resources.nextElement();
+                readIndex(resource)
+                .filter(content->isUpToDate(resource, content, className->
+                        checksumsByClassName.computeIfAbsent(className, key->classFileChecksum(classLoader, key))))
+                .ifPresent(content->classificationsByClassName.putAll(content.getClassificationsByClassName()));
+            }
+        } catch (IOException e) {
+            log.warn("failed to enumerate bean type indexes, falling back to classify at runtime", e);
+            return empty();
+        }
+        if(classificationsByClassName.isEmpty()) {
+            return empty();
+        }
+        log.info("loaded {} pre-classified bean types from {}",
+                classificationsByClassName.size(), IsisBeanTypeIndexFormat.RESOURCE_NAME);
+        return new IsisBeanTypeIndex(classificationsByClassName);
+    }
+
+    // -- LOOKUP
+
+    Optional<BeanClassification> lookup(final @Nullable String className) {
+        return className!=null
+                ? Optional.ofNullable(classificationsByClassName.get(className))
+                : Optional.empty();
+    }
+
+    int size() {
+        return classificationsByClassName.size();
+    }
+
+    // -- READ
+
+    static Content read(final @NonNull Reader reader) throws IOException {
+
+        val lineReader = new BufferedReader(reader);
+        if(!IsisBeanTypeIndexFormat.HEADER.equals(lineReader.readLine())) {
+            throw new IOException("not a bean type index (or of an outdated version)");
+        }
+
+        val separator = String.valueOf(IsisBeanTypeIndexFormat.SEPARATOR);
+        val dependencies = new TreeMap<String, Long>();
+        val classificationsByClassName = new TreeMap<String, BeanClassification>();
+        String line;
+        while((line = lineReader.readLine())!=null) {
+            if(line.isEmpty()) {
+                continue;
+            }
+            val fields = line.split(separator, -1);
+            if(line.startsWith(IsisBeanTypeIndexFormat.DEPENDS_ON)
+                    && fields.length==3) {
+                dependencies.put(fields[1], Long.parseLong(fields[2], 16));
+                continue;
+            }
+            if(line.startsWith("#")) {
+                continue;
+            }
+            if(fields.length!=4) {
+                throw new IOException(String.format("malformed line '%s'", line));
+            }
+            val beanSort = BeanSort.valueOf(fields[1]);
+            val logicalTypeName = _Strings.emptyToNull(fields[3]);
+            val classification = IsisBeanTypeIndexFormat.DELEGATED.equals(fields[2])
+                    ? BeanClassification.delegated(beanSort, logicalTypeName)
+                    : BeanClassification.selfManaged(beanSort, logicalTypeName);
+            classificationsByClassName.put(fields[0], classification);
+        }
+        return Content.of(dependencies, classificationsByClassName);
+    }
+
+    // -- HELPER
+
+    private static Optional<Content> readIndex(final URL resource) {
+        try(val reader = new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8)) {
+            return Optional.of(read(reader));
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("ignoring bean type index {}: {}", resource, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isUpToDate(
+            final URL resource,
+            final Content content,
+            final Function<String, Optional<Long>> checksumLookup) {
+        for(val dependency : content.getDependencies().entrySet()) {
+            if(!checksumLookup.apply(dependency.getKey()).equals(Optional.of(dependency.getValue()))) {
+                log.info("ignoring bean type index {}, as {} changed since it was generated",
+                        resource, dependency.getKey());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the checksum of given class's class file, or empty if not found or not readable
+     */
+    private static Optional<Long> classFileChecksum(final ClassLoader classLoader, final String className) {
+        try(val classFile = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            return classFile!=null
+                    ? Optional.of(IsisBeanTypeIndexFormat.checksumOf(classFile))
+                    : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+}
@@ -21,6 +21,7 @@
 import org.springframework.stereotype.Component;
 
 import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.context._Context;
 
 import lombok.NonNull;
 
@@ -52,7 +53,9 @@ public interface IsisComponentScanInterceptor {
 
     static IsisComponentScanInterceptor createInstance(
             final @NonNull IsisBeanTypeClassifier isisBeanTypeClassifier) {
-        return new IsisComponentScanInterceptorImpl(isisBeanTypeClassifier);
+        return new IsisComponentScanInterceptorImpl(
+                isisBeanTypeClassifier,
+                IsisBeanTypeIndex.load(_Context.getDefaultClassLoader()));
     }
 
 }
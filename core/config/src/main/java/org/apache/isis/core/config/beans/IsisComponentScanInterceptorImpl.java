@@ -24,6 +24,7 @@
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.config.beans.IsisBeanTypeClassifier.BeanClassification;
 
 import lombok.AccessLevel;
 import lombok.NonNull;
@@ -41,6 +42,7 @@
 implements IsisComponentScanInterceptor {
 
     private final @NonNull IsisBeanTypeClassifier isisBeanTypeClassifier;
+    private final @NonNull IsisBeanTypeIndex isisBeanTypeIndex;
 
     /**
      * Inbox for introspection, as used by the SpecificationLoader
@@ -72,6 +74,15 @@ public Can<IsisBeanMetaData> getAndDrainIntrospectableTypes() {
     @Override
     public void intercept(final ScannedTypeMetaData typeMeta) {
 
+        val indexedClassification = isisBeanTypeIndex.lookup(typeMeta.getClassName()).orElse(null);
+        if(indexedClassification!=null
+                && !indexedClassification.getBeanSort().isToBeIntrospected()) {
+            // pre-classified at build time and not needed for introspection,
+            // so no need to load the class
+            applyClassification(typeMeta, indexedClassification);
+            return;
+        }
+
         val classOrFailure = typeMeta.getUnderlyingClassOrFailure();
         if(classOrFailure.isFailure()) {
             log.warn(classOrFailure.getFailure());
@@ -79,13 +90,11 @@ public void intercept(final ScannedTypeMetaData typeMeta) {
         }
 
         val type = classOrFailure.getUnderlyingClass();
-        val classification = isisBeanTypeClassifier.classify(type);
+        val classification = indexedClassification!=null
+                ? indexedClassification
+                : isisBeanTypeClassifier.classify(type);
 
-        val delegated = classification.isDelegateLifecycleManagement();
-        typeMeta.setInjectable(delegated);
-        if(delegated) {
-            typeMeta.setBeanNameOverride(classification.getExplicitLogicalTypeName());
-        }
+        applyClassification(typeMeta, classification);
 
         val beanSort = classification.getBeanSort();
 
@@ -103,6 +112,14 @@ public void intercept(final ScannedTypeMetaData typeMeta) {
 
     // -- HELPER
 
+    private static void applyClassification(final ScannedTypeMetaData typeMeta, final BeanClassification classification) {
+        val delegated = classification.isDelegateLifecycleManagement();
+        typeMeta.setInjectable(delegated);
+        if(delegated) {
+            typeMeta.setBeanNameOverride(classification.getExplicitLogicalTypeName());
+        }
+    }
+
     private void addIntrospectableType(final BeanSort sort, final ScannedTypeMetaData typeMeta) {
         val correspondingClass = typeMeta.getUnderlyingClassOrFailure().getUnderlyingClass();
         val type = IsisBeanMetaData.of(correspondingClass, sort, typeMeta.getEffectiveBeanName());
@@ -0,0 +1,172 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.config.beans;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.stereotype.Component;
+
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.core.config.beans.IsisBeanTypeClassifier.BeanClassification;
+import org.apache.isis.core.config.indexer.IsisBeanTypeIndexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class IsisBeanTypeIndexTest {
+
+    @Component
+    static class IndexedComponent {}
+
+    @Test
+    void read() throws IOException {
+        val content = IsisBeanTypeIndex.read(new StringReader(String.join("\n",
+                "# isis-bean-types v3",
+                "# depends-on\ta.Annotation\tff",
+                "a.Service\tMANAGED_BEAN_CONTRIBUTING\tdelegated\ta.service",
+                "a.Component\tMANAGED_BEAN_NOT_CONTRIBUTING\tdelegated\t",
+                "a.Vetoed\tVETOED\tself-managed\t")));
+
+        assertEquals(Map.of("a.Annotation", 0xffL), content.getDependencies());
+        assertEquals(Map.of(
+                "a.Service", BeanClassification.delegated(BeanSort.MANAGED_BEAN_CONTRIBUTING, "a.service"),
+                "a.Component", BeanClassification.delegated(BeanSort.MANAGED_BEAN_NOT_CONTRIBUTING),
+                "a.Vetoed", BeanClassification.selfManaged(BeanSort.VETOED)),
+                content.getClassificationsByClassName());
+    }
+
+    @Test
+    void malformedIndex_isRejected() {
+        assertThrows(IOException.class, ()->
+            IsisBeanTypeIndex.read(new StringReader("# isis-bean-types v3\na.Mixin\tMIXIN\n")));
+    }
+
+    @Test
+    void outdatedIndexVersion_isRejected() {
+        assertThrows(IOException.class, ()->
+            IsisBeanTypeIndex.read(new StringReader("# isis-bean-types v2\n# classifiers:\n")));
+    }
+
+    @Test
+    void interceptor_usesIndex_withoutLoadingTheClass(final @TempDir Path tempDir) throws IOException {
+        // types that cannot be loaded
+        val index = indexOf(tempDir,
+                "not.on.ClassPath\tMANAGED_BEAN_NOT_CONTRIBUTING\tdelegated\trenamed",
+                "not.on.ClassPathVetoed\tVETOED\tself-managed\t");
+        val interceptor = new IsisComponentScanInterceptorImpl(IsisBeanTypeClassifier.createInstance(), index);
+
+        val indexed = ScannedTypeMetaData.of("not.on.ClassPath", "proposed");
+        interceptor.intercept(indexed);
+        assertTrue(indexed.isInjectable());
+        assertEquals("renamed", indexed.getEffectiveBeanName());
+
+        val vetoed = ScannedTypeMetaData.of("not.on.ClassPathVetoed", "proposed");
+        interceptor.intercept(vetoed);
+        assertFalse(vetoed.isInjectable());
+
+        assertEquals(2, index.size());
+        assertTrue(interceptor.getAndDrainIntrospectableTypes().isEmpty());
+    }
+
+    @Test
+    void index_isUsed_whileItsDependenciesAreUnchanged(final @TempDir Path tempDir) throws IOException {
+        val dependency = classFile(tempDir, "lib.BaseService", "compiled");
+        val index = indexOf(tempDir,
+                dependsOn(dependency, "lib.BaseService"),
+                "a.Vetoed\tVETOED\tself-managed\t");
+
+        assertEquals(BeanClassification.selfManaged(BeanSort.VETOED), index.lookup("a.Vetoed").orElse(null));
+    }
+
+    @Test
+    void index_isIgnored_onceADependencyChanged(final @TempDir Path tempDir) throws IOException {
+        val dependency = classFile(tempDir, "lib.BaseService", "compiled");
+        val dependsOn = dependsOn(dependency, "lib.BaseService");
+        Files.writeString(dependency, "recompiled");
+
+        val index = indexOf(tempDir,
+                dependsOn,
+                "a.Vetoed\tVETOED\tself-managed\t");
+
+        assertEquals(0, index.size());
+        assertFalse(index.lookup("a.Vetoed").isPresent());
+    }
+
+    @Test
+    void index_isIgnored_whenADependencyIsMissing(final @TempDir Path tempDir) throws IOException {
+        val index = indexOf(tempDir,
+                "# depends-on\tlib.Removed\t0",
+                "a.Vetoed\tVETOED\tself-managed\t");
+
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void interceptor_classifiesAtRuntime_whenIndexIsStale(final @TempDir Path tempDir) throws IOException {
+        // a component, that was (supposedly) vetoed when indexed, but its super type has been changed since
+        val index = indexOf(tempDir,
+                "# depends-on\tlib.Removed\t0",
+                IndexedComponent.class.getName() + "\tVETOED\tself-managed\t");
+        val interceptor = new IsisComponentScanInterceptorImpl(IsisBeanTypeClassifier.createInstance(), index);
+
+        val component = ScannedTypeMetaData.of(IndexedComponent.class.getName(), "proposed");
+        interceptor.intercept(component);
+        assertTrue(component.isInjectable());
+    }
+
+    // -- HELPER
+
+    private static IsisBeanTypeIndex indexOf(
+            final Path classPathRoot,
+            final String... lines) throws IOException {
+        val indexFile = classPathRoot.resolve(IsisBeanTypeIndexFormat.RESOURCE_NAME);
+        Files.createDirectories(indexFile.getParent());
+        Files.writeString(indexFile, IsisBeanTypeIndexFormat.HEADER + "\n" + String.join("\n", lines));
+        try(val classLoader = new URLClassLoader(new URL[] {classPathRoot.toUri().toURL()}, null)) {
+            return IsisBeanTypeIndex.load(classLoader);
+        }
+    }
+
+    private static Path classFile(final Path classPathRoot, final String className, final String content) throws IOException {
+        val classFile = classPathRoot.resolve(className.replace('.', '/') + ".class");
+        Files.createDirectories(classFile.getParent());
+        Files.writeString(classFile, content);
+        return classFile;
+    }
+
+    private static String dependsOn(final Path classFile, final String className) throws IOException {
+        try(val in = Files.newInputStream(classFile)) {
+            return IsisBeanTypeIndexFormat.DEPENDS_ON + "\t" + className + "\t"
+                    + Long.toHexString(IsisBeanTypeIndexFormat.checksumOf(in));
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.internaltestsupport.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Harness for the opt-in micro benchmarks, that live alongside the unit tests of the code they measure.
+ * <p>
+ * Benchmarks are skipped unless run with <code>-Disis.benchmark=true</code>, eg.
+ * <pre>
+ * assumeTrue(MicroBenchmark.isEnabled());
+ *
+ * MicroBenchmark.builder()
+ *     .label("render")
+ *     .opsPerIteration(rowCount)
+ *     .build()
+ *     .run(()-&gt;renderRows(rowCount));
+ * </pre>
+ * Each run warms up, then reports time and heap allocated per op (of the current thread),
+ * which is good enough to compare alternatives within the same JVM, but is no substitute for JMH.
+ */
+@Builder
+public class MicroBenchmark {
+
+    public static final String ENABLED_PROPERTY = "isis.benchmark";
+
+    @FunctionalInterface
+    public static interface Task {
+        void run() throws Exception;
+    }
+
+    @Value
+    public static class Result {
+        private final String label;
+        private final long ops;
+        private final long nanos;
+        private final long allocatedBytes;
+
+        public double getNanosPerOp() {
+            return (double)nanos / ops;
+        }
+
+        public double getOpsPerSecond() {
+            return ops * 1e9 / nanos;
+        }
+
+        public long getAllocatedBytesPerOp() {
+            return allocatedBytes / ops;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-40s: %12.1f ns/op, %12.0f ops/s, %10d bytes allocated/op",
+                    label, getNanosPerOp(), getOpsPerSecond(), getAllocatedBytesPerOp());
+        }
+    }
+
+    private final @NonNull String label;
+    @Builder.Default private final int warmupIterations = 1_000;
+    @Builder.Default private final int iterations = 1_000;
+    /**
+     * Number of ops each invocation of the {@link Task} performs, eg. the number of rows rendered.
+     */
+    @Builder.Default private final long opsPerIteration = 1;
+
+    /**
+     * Whether benchmarks are enabled via system property {@value #ENABLED_PROPERTY}.
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Warms up, then measures given {@code task}, printing the result to {@link System#out}.
+     */
+    public Result run(final @NonNull Task task) throws Exception {
+        for (int i = 0; i < warmupIterations; i++) {
+            task.run();
+        }
+
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+
+        final long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        final long nanosBefore = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        final long nanos = System.nanoTime() - nanosBefore;
+        final long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        final Result result = new Result(label, (long)iterations * opsPerIteration, nanos, allocated);
+        System.out.println(result);
+        return result;
+    }
+
+    /**
+     * Approximates the peak heap usage while running given {@code task} once, over the heap usage before;
+     * as opposed to allocation, this is what grows with data held on to at the same time.
+     * <p>
+     * Relies on the heap pools' peak usage, hence the result includes garbage not yet collected;
+     * run with a small young generation (eg. <code>-Xmn16m</code>) for meaningful figures.
+     */
+    public static long peakHeapUsage(final @NonNull Task task) throws Exception {
+        System.gc();
+        long usedBefore = 0;
+        for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if(pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                usedBefore += pool.getUsage().getUsed();
+            }
+        }
+        task.run();
+        long peak = 0;
+        for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if(pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return Math.max(0, peak - usedBefore);
+    }
+
+}
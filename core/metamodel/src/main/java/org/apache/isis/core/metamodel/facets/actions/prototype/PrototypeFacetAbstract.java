@@ -49,6 +49,11 @@ public String hides(
                         : null;
     }
 
+    @Override
+    public boolean isInstanceIndependent() {
+        return true;
+    }
+
     @Override
     public void visitAttributes(final BiConsumer<String, Object> visitor) {
         super.visitAttributes(visitor);
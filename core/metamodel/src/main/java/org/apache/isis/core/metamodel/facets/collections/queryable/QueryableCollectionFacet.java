@@ -0,0 +1,61 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.facets.collections.queryable;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.facetapi.Facet;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+
+/**
+ * Indicates that the elements of a (parented) collection can be queried directly from the persistence store,
+ * one page at a time and ordered by any of the element type's persistent properties,
+ * as opposed to materializing the entire collection via its getter.
+ *
+ * @since 2.0
+ */
+public interface QueryableCollectionFacet extends Facet {
+
+    /**
+     * Number of elements of the collection owned by given {@code owner}, as counted by the persistence store.
+     */
+    long countElements(ManagedObject owner);
+
+    /**
+     * Whether the persistence store can order the elements by given property.
+     */
+    boolean canSortBy(OneToOneAssociation property);
+
+    /**
+     * Fetches a single page of elements of the collection owned by given {@code owner}.
+     * @param skip - number of elements to skip
+     * @param limit - maximum number of elements to return
+     * @param sortBy - if {@code null}, the elements are ordered by their primary key only
+     * @param ascending - sort direction, ignored if {@code sortBy} is {@code null}
+     */
+    Can<ManagedObject> fetchElements(
+            ManagedObject owner,
+            long skip,
+            long limit,
+            @Nullable OneToOneAssociation sortBy,
+            boolean ascending);
+
+}
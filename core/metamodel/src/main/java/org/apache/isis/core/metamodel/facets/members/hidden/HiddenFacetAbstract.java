@@ -60,6 +60,14 @@ public String hides(final VisibilityContext ic) {
         return hiddenReason(ic.getTarget(), ic.getWhere());
     }
 
+    /**
+     * Declarative hiding only depends on the {@link Where} context.
+     */
+    @Override
+    public boolean isInstanceIndependent() {
+        return true;
+    }
+
     /**
      * The reason why the (feature of the) target object is currently hidden, or
      * <tt>null</tt> if visible.
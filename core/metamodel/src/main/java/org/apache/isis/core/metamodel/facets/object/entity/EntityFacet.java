@@ -19,16 +19,23 @@
 package org.apache.isis.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.apache.isis.applib.exceptions.unrecoverable.ObjectNotFoundException;
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.repository.EntityState;
 import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.core.metamodel.facetapi.Facet;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 
+import lombok.val;
+
 /**
  * Indicates that this class is managed by a persistence context.
  * @since 2.0
@@ -38,8 +45,41 @@ public interface EntityFacet extends Facet {
     String identifierFor(ObjectSpecification spec, Object pojo);
 
     ManagedObject fetchByIdentifier(ObjectSpecification spec, Bookmark bookmark);
+
+    /**
+     * Fetches all entities of given {@code spec}, that are identified by given {@code bookmarks},
+     * ideally using a single round-trip to the persistence store.
+     * <p>
+     * Bookmarks that cannot be resolved are not contained in the resulting map.
+     * @implNote default implementation resolves one bookmark at a time
+     * via {@link #fetchByIdentifier(ObjectSpecification, Bookmark)}
+     */
+    default Map<Bookmark, ManagedObject> fetchByIdentifiers(
+            final ObjectSpecification spec,
+            final Can<Bookmark> bookmarks) {
+        val entitiesByBookmark = _Maps.<Bookmark, ManagedObject>newLinkedHashMap();
+        bookmarks.forEach(bookmark->{
+            try {
+                entitiesByBookmark.put(bookmark, fetchByIdentifier(spec, bookmark));
+            } catch (ObjectNotFoundException e) {
+                // miss
+            }
+        });
+        return entitiesByBookmark;
+    }
     Can<ManagedObject> fetchByQuery(ObjectSpecification spec, Query<?> query);
 
+    /**
+     * Lazily fetches the query results, as opposed to {@link #fetchByQuery(ObjectSpecification, Query)},
+     * which loads the entire result set into memory.
+     * <p>
+     * Must be consumed within the current transaction and should be closed once done with.
+     * @implNote default implementation is not lazy, but falls back to {@link #fetchByQuery(ObjectSpecification, Query)}
+     */
+    default Stream<ManagedObject> streamByQuery(final ObjectSpecification spec, final Query<?> query) {
+        return fetchByQuery(spec, query).stream();
+    }
+
     void persist(ObjectSpecification spec, Object pojo);
 
     void refresh(Object pojo);
@@ -48,6 +88,15 @@ public interface EntityFacet extends Facet {
 
     EntityState getEntityState(Object pojo);
 
+    /**
+     * Returns the current value of given entity's version (optimistic locking) attribute,
+     * if its type declares one.
+     * @implNote default implementation does not know about versions
+     */
+    default Optional<Object> versionOf(final Object pojo) {
+        return Optional.empty();
+    }
+
     /**
      * Whether given method originates from byte code mangling.
      * @param method
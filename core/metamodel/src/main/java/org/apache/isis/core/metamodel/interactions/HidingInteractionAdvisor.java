@@ -42,4 +42,17 @@
      * to be populated.
      */
     String hides(VisibilityContext ic);
+
+    /**
+     * Whether the advice of {@link #hides(VisibilityContext)} depends only on
+     * the feature, the {@link VisibilityContext#getWhere() where} context and the
+     * current user, but not on the (target) instance.
+     * <p>
+     * If so, the advice may be memoized when evaluating visibility for many
+     * instances at once.
+     * @see VisibilityBatch
+     */
+    default boolean isInstanceIndependent() {
+        return false;
+    }
 }
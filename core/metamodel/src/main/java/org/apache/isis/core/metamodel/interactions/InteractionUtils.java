@@ -81,7 +81,7 @@ public static InteractionResultSet isValidResultSet(
         return resultSet.add(isValidResult(facetHolder, context));
     }
 
-    private static boolean compatible(InteractionAdvisor advisor, InteractionContext ic) {
+    static boolean compatible(InteractionAdvisor advisor, InteractionContext ic) {
 
         if(advisor instanceof ActionDomainEventFacet) {
             return ic instanceof ActionInteractionContext;
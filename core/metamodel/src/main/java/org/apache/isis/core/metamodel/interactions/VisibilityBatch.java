@@ -0,0 +1,149 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.interactions;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.services.iactnlayer.InteractionContext;
+import org.apache.isis.core.metamodel.consent.InteractionResult;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Evaluates visibility for many instances of the same type or member, as for
+ * instance the rows and cells of a table.
+ *
+ * <p>
+ * Advice of {@link HidingInteractionAdvisor}s that are
+ * {@link HidingInteractionAdvisor#isInstanceIndependent() instance independent}
+ * is memoized per advisor, {@link Where}, owner type and {@link InteractionContext}
+ * (which identifies the user), such that only the remaining (imperative) advisors
+ * are consulted per instance.
+ *
+ * <p>
+ * Memoized advice is valid for the duration of the current interaction only.
+ * Within an interaction, the user may still be switched, eg. via
+ * {@link org.apache.isis.applib.services.sudo.SudoService}, which opens another
+ * interaction layer with another {@link InteractionContext}.
+ * Not thread-safe.
+ *
+ * @since 2.0
+ */
+public final class VisibilityBatch {
+
+    public static VisibilityBatch create() {
+        return new VisibilityBatch();
+    }
+
+    private final Map<AdviceKey, Optional<String>> adviceByKey = new HashMap<>();
+    private @Nullable UUID interactionId;
+
+    private VisibilityBatch() {
+    }
+
+    public InteractionResult isVisibleResult(
+            final @NonNull FacetHolder facetHolder,
+            final @NonNull VisibilityContext context) {
+
+        val iaResult = new InteractionResult(context.createInteractionEvent());
+        val interactionContext = syncWithCurrentInteraction(context).orElse(null);
+        val ownerSpec = context.getHead().getOwner().getSpecification();
+
+        facetHolder.streamFacets(HidingInteractionAdvisor.class)
+        .filter(advisor->InteractionUtils.compatible(advisor, context))
+        .forEach(advisor->{
+            val hidingReason = interactionContext != null
+                    && advisor.isInstanceIndependent()
+                    ? adviceByKey.computeIfAbsent(
+                            new AdviceKey(advisor, context.getWhere(), ownerSpec, interactionContext),
+                            __->Optional.ofNullable(advisor.hides(context)))
+                        .orElse(null)
+                    : advisor.hides(context);
+            iaResult.advise(hidingReason, advisor);
+        });
+
+        return iaResult;
+    }
+
+    // -- HELPER
+
+    /**
+     * Clears memoized advice once we see a different interaction.
+     * @return the current interaction layer's {@link InteractionContext}, if advice may be memoized
+     */
+    private Optional<InteractionContext> syncWithCurrentInteraction(final VisibilityContext context) {
+        val interactionProvider = context.getHead().getOwner().getMetaModelContext()
+                .getInteractionProvider();
+        val currentInteractionId = interactionProvider.getInteractionId().orElse(null);
+        if(currentInteractionId == null) {
+            adviceByKey.clear();
+            interactionId = null;
+            return Optional.empty();
+        }
+        if(!currentInteractionId.equals(interactionId)) {
+            adviceByKey.clear();
+            interactionId = currentInteractionId;
+        }
+        return interactionProvider.currentInteractionContext();
+    }
+
+    /**
+     * Advisors and specifications are compared by identity, interaction contexts by value.
+     */
+    @RequiredArgsConstructor
+    private static final class AdviceKey {
+        private final HidingInteractionAdvisor advisor;
+        private final Where where;
+        private final ObjectSpecification ownerSpec;
+        private final InteractionContext interactionContext;
+
+        @Override
+        public boolean equals(final Object obj) {
+            if(!(obj instanceof AdviceKey)) {
+                return false;
+            }
+            val other = (AdviceKey) obj;
+            return advisor == other.advisor
+                    && where == other.where
+                    && ownerSpec == other.ownerSpec
+                    && interactionContext.equals(other.interactionContext);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                    System.identityHashCode(advisor),
+                    where,
+                    System.identityHashCode(ownerSpec),
+                    interactionContext);
+        }
+    }
+
+}
@@ -24,16 +24,19 @@
 import org.apache.isis.commons.internal.binding._Bindables.BooleanBindable;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects.EntityUtil;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
 
 import lombok.Getter;
 
 public class DataRow {
 
     @Getter private final UUID uuid = UUID.randomUUID(); // in support of client side sorting
+    private final DataTableModel parentTable;
     private final ManagedObject rowElement;
     @Getter private final BooleanBindable selectToggle;
 
     public DataRow(final DataTableModel parentTable, final ManagedObject rowElement) {
+        this.parentTable = parentTable;
         this.rowElement = rowElement;
 
         selectToggle = _Bindables.forBoolean(false);
@@ -59,4 +62,12 @@ public ManagedObject getCellElement(final DataColumn column) {
         return column.getPropertyMetaModel().get(getRowElement());
     }
 
+    /**
+     * Whether the cell of given property (column) is visible for this row,
+     * evaluating instance independent rules only once per table.
+     */
+    public boolean isCellVisible(final OneToOneAssociation property) {
+        return parentTable.isCellVisible(getRowElement(), property);
+    }
+
 }
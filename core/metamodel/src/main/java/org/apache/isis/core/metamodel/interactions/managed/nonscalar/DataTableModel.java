@@ -24,6 +24,7 @@
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
@@ -38,9 +39,12 @@
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.consent.InteractionResult;
+import org.apache.isis.core.metamodel.facets.collections.queryable.QueryableCollectionFacet;
+import org.apache.isis.core.metamodel.facets.collections.sortedby.SortedByFacet;
+import org.apache.isis.core.metamodel.facets.object.hidden.HiddenObjectFacet;
 import org.apache.isis.core.metamodel.interactions.InteractionHead;
-import org.apache.isis.core.metamodel.interactions.InteractionUtils;
 import org.apache.isis.core.metamodel.interactions.ObjectVisibilityContext;
+import org.apache.isis.core.metamodel.interactions.VisibilityBatch;
 import org.apache.isis.core.metamodel.interactions.VisibilityContext;
 import org.apache.isis.core.metamodel.interactions.managed.ActionInteraction;
 import org.apache.isis.core.metamodel.interactions.managed.CollectionInteraction;
@@ -49,15 +53,19 @@
 import org.apache.isis.core.metamodel.interactions.managed.ManagedCollection;
 import org.apache.isis.core.metamodel.interactions.managed.ManagedMember;
 import org.apache.isis.core.metamodel.interactions.managed.MultiselectChoices;
+import org.apache.isis.core.metamodel.spec.Hierarchical.Depth;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.PackedManagedObject;
 import org.apache.isis.core.metamodel.spec.feature.ObjectMember;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
 
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.val;
 
 public class DataTableModel
@@ -103,6 +111,15 @@ public static DataTableModel forAction(
     @Getter private final @NonNull LazyObservable<Can<DataColumn>> dataColumns;
     @Getter private final @NonNull LazyObservable<String> title;
 
+    // if present, elements are fetched page by page from the persistence store
+    private final @Nullable QueryableCollectionFacet queryableCollectionFacet;
+    private final @NonNull LazyObservable<Integer> elementCountQueried;
+    // whether the element type and its sub-types are all visible (true), all hidden (false) or neither (empty)
+    private final @NonNull LazyObservable<Optional<Boolean>> elementTypesVisible;
+
+    // memoizes instance independent visibility advice across rows and cells
+    private final @NonNull VisibilityBatch visibilityBatch = VisibilityBatch.create();
+
     private DataTableModel(
             // we need access to the owner in support of imperative title and referenced column detection
             final ManagedMember managedMember,
@@ -111,6 +128,7 @@ private DataTableModel(
 
         this.managedMember = managedMember;
         this.where = where;
+        this.queryableCollectionFacet = queryableCollectionFacet(managedMember);
 
         //dataElements = _Observables.lazy(elementSupplier);
         dataElements = _Observables.lazy(()->elementSupplier.get().map(e->
@@ -127,10 +145,18 @@ private DataTableModel(
                 .collect(Can.toCan()));
 
         dataRowsSelected = _Observables.lazy(()->
-            dataRowsFiltered.getValue().stream()
+            streamDataRowsKnown()
             .filter(dataRow->dataRow.getSelectToggle().getValue().booleanValue())
             .collect(Can.toCan()));
 
+        elementTypesVisible = _Observables.lazy(this::elementTypesVisible);
+
+        // hidden rows are not counted, which is consistent only because row visibility is determined by type
+        elementCountQueried = _Observables.lazy(()->
+            elementTypesVisible.getValue().orElse(false)
+                ? Math.toIntExact(queryableCollectionFacet.countElements(managedMember.getOwner()))
+                : 0);
+
         selectAllToggle = _Bindables.forValue(Boolean.FALSE);
         selectAllToggle.addListener((e,o,isAllOn)->{
             //_Debug.onClearToggleAll(o, isAllOn, isClearToggleAllEvent.get());
@@ -138,14 +164,32 @@ private DataTableModel(
                 return;
             }
             dataRowsSelected.invalidate();
+            if(isPageable()
+                    && isAllOn) {
+                // select all rows, not just the ones paged in so far
+                fetchAllDataRowsPaged();
+            }
             try {
                 isToggleAllEvent.set(true);
-                dataRowsFiltered.getValue().forEach(dataRow->dataRow.getSelectToggle().setValue(isAllOn));
+                streamDataRowsKnown().forEach(dataRow->dataRow.getSelectToggle().setValue(isAllOn));
             } finally {
                 isToggleAllEvent.set(false);
             }
         });
 
+        // any derived state must not outlive the data it was derived from
+        dataElements.addListener((e,o,n)->{
+            dataRowsFiltered.invalidate();
+            elementTypesVisible.invalidate();
+            elementCountQueried.invalidate();
+            dataRowsPagedByBookmark.clear();
+            dataRowsSelected.invalidate();
+        });
+        dataRowsFiltered.addListener((e,o,n)->{
+            sortedDataRows = null;
+            dataRowByUuidLookupCache.clear();
+        });
+
         searchArgument.addListener((e,o,n)->{
             dataRowsFiltered.invalidate();
             dataRowsSelected.invalidate();
@@ -164,8 +208,54 @@ private DataTableModel(
             .getFriendlyName());
     }
 
+    /**
+     * Whether elements are fetched one page at a time from the persistence store,
+     * with sorting pushed down to the store as well,
+     * as opposed to being materialized (and sorted) in memory as a whole.
+     * <p>
+     * Requires the visibility of rows to be determined by their type, such that the count as
+     * queried from the store agrees with the rows actually shown to the current user: either the element type
+     * and all its sub-types are visible, or none is.
+     * @see QueryableCollectionFacet
+     */
+    public boolean isPageable() {
+        return queryableCollectionFacet != null
+                && elementTypesVisible.getValue().isPresent();
+    }
+
+    /**
+     * The number of (visible) elements; if {@link #isPageable()}, as counted by the persistence store.
+     */
     public int getElementCount() {
-        return dataRowsFiltered.getValue().size();
+        return isPageable()
+                ? elementCountQueried.getValue()
+                : dataRowsFiltered.getValue().size();
+    }
+
+    /**
+     * Returns a single page of (visible) data rows, sorted by given property (if any).
+     * <p>
+     * If {@link #isPageable()} and the persistence store can sort by given property,
+     * only the requested page is fetched. Otherwise all elements are materialized and sorted in memory,
+     * where the sorted rows are memoized for the most recently requested sort order, until the data changes.
+     */
+    public Can<DataRow> getDataRowsPage(
+            final int skip,
+            final int limit,
+            final @Nullable OneToOneAssociation sortBy,
+            final boolean ascending) {
+
+        if(isPageable()
+                && (sortBy == null
+                    || queryableCollectionFacet.canSortBy(sortBy))) {
+            return queryableCollectionFacet
+                    .fetchElements(managedMember.getOwner(), skip, limit, sortBy, ascending)
+                    .map(this::injectServices)
+                    .filter(this::ignoreHidden)
+                    .map(this::dataRowPaged);
+        }
+
+        return Can.ofIterable(()->dataRowsSorted(sortBy, ascending).iterator(skip, limit));
     }
 
     public ObjectMember getMetaModel() {
@@ -178,12 +268,109 @@ public ObjectSpecification getElementType() {
 
     private final Map<UUID, Optional<DataRow>> dataRowByUuidLookupCache = _Maps.newConcurrentHashMap();
     public Optional<DataRow> lookupDataRow(final @NonNull UUID uuid) {
+        if(isPageable()) {
+            // rows are only known, once their page has been fetched
+            return streamDataRowsKnown()
+                    .filter(dr->dr.getUuid().equals(uuid))
+                    .findFirst();
+        }
         // lookup can be safely cached
         return dataRowByUuidLookupCache.computeIfAbsent(uuid, __->getDataRowsFiltered().getValue().stream()
                 .filter(dr->dr.getUuid().equals(uuid))
                 .findFirst());
     }
 
+    // -- PAGING AND SORTING
+
+    // in-memory: the rows sorted by the most recently requested sort order
+    private volatile @Nullable SortedDataRows sortedDataRows;
+    // pageable: rows fetched so far, keyed by bookmark, such that row identity (and selection) survives paging
+    private final Map<String, DataRow> dataRowsPagedByBookmark = _Maps.newConcurrentHashMap();
+
+    private Can<DataRow> dataRowsSorted(
+            final @Nullable OneToOneAssociation sortBy,
+            final boolean ascending) {
+        val filtered = dataRowsFiltered.getValue();
+        if(sortBy == null) {
+            return filtered;
+        }
+        val sortOrder = sortBy.getId() + (ascending ? ":asc" : ":desc");
+        val memoized = sortedDataRows;
+        if(memoized != null
+                && memoized.getSortOrder().equals(sortOrder)
+                // identity, as the filtered rows are recreated when invalidated
+                && memoized.getDataRowsFiltered() == filtered) {
+            return memoized.getDataRowsSorted();
+        }
+        val objComparator = ManagedObjects.orderingBy(sortBy, ascending);
+        val sorted = filtered
+                .sorted((a, b)->objComparator.compare(a.getRowElement(), b.getRowElement()));
+        sortedDataRows = new SortedDataRows(sortOrder, filtered, sorted);
+        return sorted;
+    }
+
+    @Value
+    private static class SortedDataRows {
+        @NonNull String sortOrder;
+        @NonNull Can<DataRow> dataRowsFiltered;
+        @NonNull Can<DataRow> dataRowsSorted;
+    }
+
+    private DataRow dataRowPaged(final ManagedObject element) {
+        return element.getBookmark()
+                .map(bookmark->dataRowsPagedByBookmark
+                        .computeIfAbsent(bookmark.stringify(), __->new DataRow(this, element)))
+                .orElseGet(()->new DataRow(this, element));
+    }
+
+    /**
+     * Data rows materialized so far; if not {@link #isPageable()}, that is all of them.
+     */
+    private Stream<DataRow> streamDataRowsKnown() {
+        return isPageable()
+                ? dataRowsPagedByBookmark.values().stream()
+                : dataRowsFiltered.getValue().stream();
+    }
+
+    /**
+     * Materializes all rows not paged in so far, in support of selecting all rows.
+     */
+    private void fetchAllDataRowsPaged() {
+        queryableCollectionFacet
+            .fetchElements(managedMember.getOwner(), 0, getElementCount(), null, true)
+            .map(this::injectServices)
+            .filter(this::ignoreHidden)
+            .forEach(this::dataRowPaged);
+    }
+
+    private ManagedObject injectServices(final ManagedObject element) {
+        return element.getMetaModelContext().getServiceInjector().injectServicesInto(element);
+    }
+
+    private static @Nullable QueryableCollectionFacet queryableCollectionFacet(final ManagedMember managedMember) {
+        if(!(managedMember instanceof ManagedCollection)) {
+            return null;
+        }
+        val metaModel = managedMember.getMetaModel();
+        // a comparator (Java code) cannot be pushed down to the persistence store
+        if(metaModel.containsFacet(SortedByFacet.class)
+                || metaModel.getElementType().containsFacet(SortedByFacet.class)) {
+            return null;
+        }
+        // imperative visibility rules (hidden() methods) cannot be pushed down to the persistence store either
+        if(streamElementTypes(metaModel.getElementType())
+                .anyMatch(elementType->elementType.containsFacet(HiddenObjectFacet.class))) {
+            return null;
+        }
+        return metaModel.getFacet(QueryableCollectionFacet.class);
+    }
+
+    private static Stream<ObjectSpecification> streamElementTypes(final ObjectSpecification elementType) {
+        return Stream.concat(
+                Stream.of(elementType),
+                elementType.subclasses(Depth.TRANSITIVE).stream());
+    }
+
     // -- TOGGLE ALL
 
     final AtomicBoolean isToggleAllEvent = new AtomicBoolean();
@@ -201,12 +388,50 @@ public void clearToggleAll() {
 
     private boolean ignoreHidden(final ManagedObject adapter) {
         final InteractionResult visibleResult =
-                InteractionUtils.isVisibleResult(
+                visibilityBatch.isVisibleResult(
                         adapter.getSpecification(),
                         createVisibleInteractionContext(adapter));
         return visibleResult.isNotVetoing();
     }
 
+    /**
+     * With imperative rules ruled out (see {@link #queryableCollectionFacet(ManagedMember)}),
+     * whether a row is visible depends on its type only.
+     */
+    private Optional<Boolean> elementTypesVisible() {
+        if(queryableCollectionFacet == null) {
+            return Optional.empty();
+        }
+        val visibilities = streamElementTypes(getElementType())
+                .filter(elementType->!elementType.isAbstract())
+                .map(this::isTypeVisible)
+                .distinct()
+                .collect(Can.toCan());
+        if(visibilities.isEmpty()) {
+            // no concrete element type, so no rows to hide
+            return Optional.of(true);
+        }
+        // empty, if some are visible and some are not
+        return visibilities.getSingleton();
+    }
+
+    private boolean isTypeVisible(final ObjectSpecification elementType) {
+        return ignoreHidden(ManagedObject.empty(elementType));
+    }
+
+    /**
+     * Cells are rendered within tables, which are either parented (collections)
+     * or standalone (action results).
+     */
+    boolean isCellVisible(final ManagedObject rowElement, final OneToOneAssociation property) {
+        val tableWhere = managedMember instanceof ManagedCollection
+                ? Where.PARENTED_TABLES
+                : Where.STANDALONE_TABLES;
+        return property
+                .isVisible(rowElement, InteractionInitiatedBy.USER, tableWhere, visibilityBatch)
+                .isAllowed();
+    }
+
     private VisibilityContext createVisibleInteractionContext(final ManagedObject objectAdapter) {
         return new ObjectVisibilityContext(
                 InteractionHead.regular(objectAdapter),
@@ -20,6 +20,7 @@
 
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
@@ -87,6 +88,19 @@ public default Can<ManagedObject> queryObjects(final ObjectBulkLoader.Request ob
         return getObjectBulkLoader().loadObject(objectQuery);
     }
 
+    /**
+     * Loads the instances identified by given request's bookmarks in bulk,
+     * in request order, with {@link Optional#empty()} marking misses.
+     * @param bookmarksRequest
+     */
+    public default Can<Optional<ManagedObject>> loadObjects(final ObjectBulkLoader.BookmarksRequest bookmarksRequest) {
+        return getObjectBulkLoader().loadObjects(bookmarksRequest);
+    }
+
+    public default Stream<ManagedObject> streamObjects(final ObjectBulkLoader.Request objectQuery) {
+        return getObjectBulkLoader().streamObjects(objectQuery);
+    }
+
     /**
      * Returns an object identifier for the instance.
      * @param managedObject
@@ -18,16 +18,24 @@
  */
 package org.apache.isis.core.metamodel.objectmanager.query;
 
+import java.util.Optional;
+import java.util.stream.Stream;
+
 import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.handler.ChainOfResponsibility;
 import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.metamodel.context.HasMetaModelContext;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 
+import lombok.NonNull;
 import lombok.Value;
+import lombok.val;
 
 /**
  * @since 2.0
@@ -36,7 +44,42 @@ public interface ObjectBulkLoader {
 
     Can<ManagedObject> loadObject(Request objectQuery);
 
-    // -- REQUEST (VALUE) TYPE
+    /**
+     * Lazily loads the objects matching given request, backed by the persistence layer's
+     * result stream in case of entities.
+     * <p>
+     * Must be consumed within the current transaction and should be closed once done with.
+     */
+    default Stream<ManagedObject> streamObjects(final Request objectQuery) {
+        val spec = objectQuery!=null
+                ? objectQuery.getObjectSpecification()
+                : null;
+        if(spec==null) {
+            return Stream.empty();
+        }
+        if(!spec.isEntity()) {
+            return loadObject(objectQuery).stream();
+        }
+        val entityFacet = spec.getFacet(EntityFacet.class);
+        if(entityFacet==null) {
+            throw _Exceptions.illegalArgument(
+                    "ObjectSpecification is missing an EntityFacet: %s", spec.getCorrespondingClass());
+        }
+        val serviceInjector = spec.getServiceInjector();
+        return entityFacet.streamByQuery(spec, objectQuery.getQuery())
+                .peek(entity->serviceInjector.injectServicesInto(entity.getPojo()));
+    }
+
+    /**
+     * Loads the objects identified by given request's bookmarks, grouped by logical type,
+     * such that entities of the same type are fetched with as few round-trips as possible.
+     * <p>
+     * The result corresponds to the requested bookmarks by index (request order), with
+     * {@link Optional#empty()} marking bookmarks that could not be resolved.
+     */
+    Can<Optional<ManagedObject>> loadObjects(BookmarksRequest bookmarksRequest);
+
+    // -- REQUEST (VALUE) TYPES
 
     @Value(staticConstructor = "of")
     public static class Request {
@@ -44,6 +87,11 @@ public static class Request {
         Query<?> query;
     }
 
+    @Value(staticConstructor = "of")
+    public static class BookmarksRequest {
+        @NonNull Can<Bookmark> bookmarks;
+    }
+
     // -- HANDLER
 
     static interface Handler
@@ -55,14 +103,26 @@ public static class Request {
     // -- FACTORY
 
     public static ObjectBulkLoader createDefault(final MetaModelContext mmc) {
-        return request ->
-            ChainOfResponsibility.named(
-                    "ObjectBulkLoader",
-                    _Lists.of(
-                            new ObjectBulkLoader_builtinHandlers.GuardAgainstNull(mmc),
-                            new ObjectBulkLoader_builtinHandlers.BulkLoadEntity(mmc),
-                            new ObjectBulkLoader_builtinHandlers.LoadOther(mmc)))
-                .handle(request);
+        return new ObjectBulkLoader() {
+
+            @Override
+            public Can<ManagedObject> loadObject(final Request request) {
+                return ChainOfResponsibility.named(
+                        "ObjectBulkLoader",
+                        _Lists.of(
+                                new ObjectBulkLoader_builtinHandlers.GuardAgainstNull(mmc),
+                                new ObjectBulkLoader_builtinHandlers.BulkLoadEntity(mmc),
+                                new ObjectBulkLoader_builtinHandlers.LoadOther(mmc)))
+                    .handle(request);
+            }
+
+            @Override
+            public Can<Optional<ManagedObject>> loadObjects(final BookmarksRequest bookmarksRequest) {
+                return new ObjectBulkLoader_builtinHandlers.BulkLoadByBookmarks(mmc)
+                        .handle(bookmarksRequest);
+            }
+
+        };
     }
 
 }
@@ -18,11 +18,24 @@
  */
 package org.apache.isis.core.metamodel.objectmanager.query;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.isis.applib.exceptions.unrecoverable.ObjectNotFoundException;
+import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.functional.IndexedConsumer;
+import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.metamodel.context.HasMetaModelContext;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.isis.core.metamodel.objectmanager.load.ObjectLoader;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 
 import lombok.NonNull;
 import lombok.Value;
@@ -102,6 +115,94 @@ public Can<ManagedObject> handle(final ObjectBulkLoader.Request objectQuery) {
 
     }
 
+    // -- LOAD BY BOOKMARKS
+
+    @Value
+    public static class BulkLoadByBookmarks implements HasMetaModelContext {
+
+        private final @NonNull MetaModelContext metaModelContext;
+
+        public Can<Optional<ManagedObject>> handle(final ObjectBulkLoader.BookmarksRequest bookmarksRequest) {
+
+            val bookmarks = bookmarksRequest.getBookmarks();
+            val resolved = new ArrayList<Optional<ManagedObject>>(
+                    Collections.nCopies(bookmarks.size(), Optional.<ManagedObject>empty()));
+
+            // request indices by logical type, preserving request order
+            val indicesByLogicalTypeName = _Maps.<String, List<Integer>>newLinkedHashMap();
+            bookmarks.forEach(IndexedConsumer.zeroBased((index, bookmark)->
+                indicesByLogicalTypeName
+                    .computeIfAbsent(bookmark.getLogicalTypeName(), __->new ArrayList<>())
+                    .add(index)));
+
+            indicesByLogicalTypeName.forEach((logicalTypeName, indices)->{
+                val spec = getSpecificationLoader().specForLogicalTypeName(logicalTypeName).orElse(null);
+                if(spec==null) {
+                    return; // eg "NONEXISTENT:123", all misses
+                }
+                if(spec.isEntity()) {
+                    loadEntities(spec, bookmarks, indices, resolved);
+                } else {
+                    indices.forEach(index->
+                        resolved.set(index, loadOne(spec, bookmarks.getElseFail(index))));
+                }
+            });
+
+            return Can.ofCollection(resolved);
+        }
+
+        private void loadEntities(
+                final ObjectSpecification spec,
+                final Can<Bookmark> bookmarks,
+                final List<Integer> indices,
+                final List<Optional<ManagedObject>> resolved) {
+
+            val entityFacet = spec.getFacet(EntityFacet.class);
+            if(entityFacet==null) {
+                throw _Exceptions.illegalArgument(
+                        "ObjectSpecification is missing an EntityFacet: %s", spec.getCorrespondingClass());
+            }
+
+            val chunkSize = getConfiguration().getCore().getRuntimeServices().getRepositoryService()
+                    .getBulkLookupChunkSize();
+            val serviceInjector = getServiceInjector();
+
+            val distinctBookmarks = indices.stream()
+                    .map(bookmarks::getElseFail)
+                    .distinct()
+                    .collect(Can.toCan());
+
+            val entitiesByBookmark = _Maps.<Bookmark, ManagedObject>newHashMap();
+            for(int offset = 0; offset < distinctBookmarks.size(); offset += chunkSize) {
+                val chunk = Can.ofCollection(distinctBookmarks.toList()
+                        .subList(offset, Math.min(offset + chunkSize, distinctBookmarks.size())));
+                entitiesByBookmark.putAll(entityFacet.fetchByIdentifiers(spec, chunk));
+            }
+
+            // not every persistence layer injects on load (eg. JPA only with the IsisEntityListener registered),
+            // and injecting again is harmless
+            entitiesByBookmark.values().stream()
+                .map(ManagedObject::getPojo)
+                .forEach(serviceInjector::injectServicesInto);
+
+            indices.forEach(index->
+                resolved.set(index,
+                        Optional.ofNullable(entitiesByBookmark.get(bookmarks.getElseFail(index)))));
+        }
+
+        private Optional<ManagedObject> loadOne(final ObjectSpecification spec, final Bookmark bookmark) {
+            try {
+                val adapter = getObjectManager().loadObject(ObjectLoader.Request.of(spec, bookmark));
+                return ManagedObjects.isNullOrUnspecifiedOrEmpty(adapter)
+                        ? Optional.empty()
+                        : Optional.of(adapter);
+            } catch (ObjectNotFoundException e) {
+                return Optional.empty();
+            }
+        }
+
+    }
+
     // -- UNKNOWN LOAD REQUEST
 
     @Value
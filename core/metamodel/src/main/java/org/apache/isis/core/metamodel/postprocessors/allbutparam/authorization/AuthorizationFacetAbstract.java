@@ -69,6 +69,11 @@ public String hides(final VisibilityContext ic) {
         return hides;
     }
 
+    @Override
+    public boolean isInstanceIndependent() {
+        return true;
+    }
+
     @Override
     public String disables(final UsabilityContext ic) {
 
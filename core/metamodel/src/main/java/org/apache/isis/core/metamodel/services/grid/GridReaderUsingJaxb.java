@@ -23,7 +23,6 @@
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -35,6 +34,7 @@
 import org.apache.isis.applib.services.jaxb.JaxbService;
 import org.apache.isis.applib.services.registry.ServiceRegistry;
 import org.apache.isis.commons.internal.collections._Arrays;
+import org.apache.isis.commons.internal.resources._Xml;
 
 import lombok.RequiredArgsConstructor;
 
@@ -65,8 +65,9 @@ public void init(){
             .collect(_Arrays.toArray(Class.class));
 
         try {
-            jaxbContext = JAXBContext.newInstance(pageImplementations);
-        } catch (JAXBException e) {
+            // cached (and shared), so that pooled unmarshallers are used
+            jaxbContext = _Xml.jaxbContextFor(pageImplementations);
+        } catch (Exception e) {
             // leave as null
         }
     }
@@ -82,8 +83,8 @@ public Grid loadGrid(final String xml) {
     private void initForTesting() {
         if(jaxbContext==null) {
             try {
-                jaxbContext = JAXBContext.newInstance(BS3Grid.class);
-            } catch (JAXBException e) {
+                jaxbContext = _Xml.jaxbContextFor(BS3Grid.class, true);
+            } catch (Exception e) {
                 // leave as null
             }
         }
@@ -27,6 +27,7 @@
 import org.apache.isis.schema.cmd.v2.ParamDto;
 import org.apache.isis.schema.cmd.v2.PropertyDto;
 import org.apache.isis.schema.common.v2.OidDto;
+import org.apache.isis.schema.common.v2.OidsDto;
 import org.apache.isis.schema.ixn.v2.ActionInvocationDto;
 
 import lombok.NonNull;
@@ -61,6 +62,13 @@ public interface SchemaValueMarshaller {
 
     ManagedObject recoverReferenceFrom(@NonNull OidDto oidDto);
 
+    /**
+     * Recovers the referenced objects of given DTO in bulk, in the order of its {@link OidDto}s.
+     * <p>
+     * Any reference that cannot be resolved is represented by an empty {@link ManagedObject}.
+     */
+    Can<ManagedObject> recoverReferencesFrom(@NonNull OidsDto oidsDto);
+
     /**
      * Recovers a property value, using {@link ValueSemanticsProvider}
      * for corresponding <i>Property</i>.
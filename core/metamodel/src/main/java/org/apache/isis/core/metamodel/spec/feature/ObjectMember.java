@@ -40,6 +40,7 @@
 import org.apache.isis.core.metamodel.facets.members.layout.group.LayoutGroupFacet;
 import org.apache.isis.core.metamodel.facets.members.layout.order.LayoutOrderFacet;
 import org.apache.isis.core.metamodel.facets.object.paged.PagedFacet;
+import org.apache.isis.core.metamodel.interactions.VisibilityBatch;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 
@@ -94,6 +95,19 @@ Consent isVisible(
             final InteractionInitiatedBy interactionInitiatedBy,
             final Where where);
 
+    /**
+     * Variant of {@link #isVisible(ManagedObject, InteractionInitiatedBy, Where)},
+     * that reuses advice memoized by given {@link VisibilityBatch}, when
+     * evaluating visibility of this member for many targets.
+     */
+    default Consent isVisible(
+            final ManagedObject target,
+            final InteractionInitiatedBy interactionInitiatedBy,
+            final Where where,
+            final VisibilityBatch visibilityBatch) {
+        return isVisible(target, interactionInitiatedBy, where);
+    }
+
     // /////////////////////////////////////////////////////////////
     // Disabled (or enabled)
     // /////////////////////////////////////////////////////////////
@@ -0,0 +1,399 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.specimpl.IntrospectionState;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Introspects a batch of {@link ObjectSpecification}s concurrently, honoring the dependencies between them.
+ * <p>
+ * A spec depends on (is introspected only after)
+ * <ul>
+ * <li>the spec of its superclass,</li>
+ * <li>the specs of any mixins contributing to it,</li>
+ * <li>the specs of the types its methods return or take as parameters
+ * (including type arguments, eg. the element type of a collection),</li>
+ * </ul>
+ * as far as these are part of the batch. Specs that depend on each other (cycles) are introspected
+ * as a group on a single thread, mixins first, otherwise superclasses first.
+ * Independent specs are introspected on a dedicated pool, without waiting for unrelated ones.
+ * <p>
+ * The time spent per spec is recorded; the slowest are logged.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor
+@Log4j2
+final class IntrospectionScheduler {
+
+    private static final int SLOWEST_TO_LOG = 10;
+
+    /**
+     * Number of threads to introspect with.
+     */
+    private final int parallelism;
+
+    @Value
+    static class Timing {
+        ObjectSpecification spec;
+        long nanos;
+    }
+
+    /**
+     * Introspects given {@code specs}, each up to the {@link IntrospectionState} as provided by {@code upTo}.
+     * @return per spec time spent, slowest first
+     */
+    Can<Timing> introspect(
+            final @NonNull Can<ObjectSpecification> specs,
+            final @NonNull Function<ObjectSpecification, IntrospectionState> upTo) {
+
+        if(specs.isEmpty()) {
+            return Can.empty();
+        }
+
+        val groups = DependencyGraph.of(specs).groupsInDependencyOrder();
+        val timings = new Execution(groups, upTo).run();
+
+        val sortedTimings = Can.ofCollection(timings.stream()
+                .sorted(Comparator.comparingLong(Timing::getNanos).reversed())
+                .collect(Collectors.toList()));
+
+        if(log.isInfoEnabled()) {
+            log.info("   introspected {} specs in {} groups on {} threads, slowest: {}",
+                    sortedTimings.size(),
+                    groups.size(),
+                    parallelism,
+                    sortedTimings.stream()
+                        .limit(SLOWEST_TO_LOG)
+                        .map(timing->String.format("%s (%d ms)",
+                                timing.getSpec().getCorrespondingClass().getSimpleName(),
+                                timing.getNanos() / 1_000_000L))
+                        .collect(Collectors.joining(", ")));
+        }
+        if(log.isDebugEnabled()) {
+            sortedTimings.forEach(timing->log.debug("   {} ms {}",
+                    timing.getNanos() / 1_000_000L,
+                    timing.getSpec().getCorrespondingClass().getName()));
+        }
+
+        return sortedTimings;
+    }
+
+    // -- HELPER
+
+    /**
+     * Submits each {@link Group} as soon as all the groups it depends on are done.
+     */
+    private final class Execution {
+
+        private final List<Group> groups;
+        private final Function<ObjectSpecification, IntrospectionState> upTo;
+        private final Map<Group, AtomicInteger> pendingDependencies = new IdentityHashMap<>();
+        private final Queue<Timing> timings = new ConcurrentLinkedQueue<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final CountDownLatch done;
+        private final ExecutorService executor = newExecutor();
+
+        Execution(final List<Group> groups, final Function<ObjectSpecification, IntrospectionState> upTo) {
+            this.groups = groups;
+            this.upTo = upTo;
+            this.done = new CountDownLatch(groups.size());
+            groups.forEach(group->pendingDependencies.put(group, new AtomicInteger(group.dependencies.size())));
+        }
+
+        Queue<Timing> run() {
+            try {
+                groups.stream()
+                .filter(group->group.dependencies.isEmpty())
+                .forEach(this::submit);
+
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw _Exceptions.unrecoverable(e);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            if(failure.get()!=null) {
+                throw _Exceptions.unrecoverable(failure.get());
+            }
+            return timings;
+        }
+
+        private void submit(final Group group) {
+            executor.execute(()->{
+                try {
+                    if(failure.get()==null) { // after a failure, just drain
+                        introspect(group);
+                    }
+                } catch (Throwable ex) {
+                    log.error("failed to introspect {}", group.specs, ex);
+                    failure.compareAndSet(null, ex);
+                } finally {
+                    for(val dependent : group.dependents) {
+                        if(pendingDependencies.get(dependent).decrementAndGet()==0) {
+                            submit(dependent);
+                        }
+                    }
+                    done.countDown();
+                }
+            });
+        }
+
+        private void introspect(final Group group) {
+            for(val spec : group.specs) {
+                val nanosBefore = System.nanoTime();
+                spec.introspectUpTo(upTo.apply(spec));
+                timings.add(new Timing(spec, System.nanoTime() - nanosBefore));
+            }
+        }
+
+    }
+
+    private ExecutorService newExecutor() {
+        val threadCount = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable->{
+            val thread = new Thread(runnable, "isis-introspector-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+
+    /**
+     * Specs that are introspected together on a single thread, in given order.
+     */
+    @RequiredArgsConstructor
+    static final class Group {
+        final List<ObjectSpecification> specs;
+        final Set<Group> dependencies = new LinkedHashSet<>();
+        final Set<Group> dependents = new LinkedHashSet<>();
+    }
+
+    @RequiredArgsConstructor
+    static final class DependencyGraph {
+
+        private final Can<ObjectSpecification> specs;
+        private final Map<Class<?>, ObjectSpecification> specByClass;
+        private final Map<ObjectSpecification, Set<ObjectSpecification>> dependenciesBySpec = new IdentityHashMap<>();
+
+        static DependencyGraph of(final Can<ObjectSpecification> specs) {
+            val specByClass = _Maps.<Class<?>, ObjectSpecification>newHashMap();
+            specs.forEach(spec->specByClass.put(spec.getCorrespondingClass(), spec));
+            val graph = new DependencyGraph(specs, specByClass);
+            graph.collectDependencies();
+            return graph;
+        }
+
+        Set<ObjectSpecification> dependenciesOf(final ObjectSpecification spec) {
+            return dependenciesBySpec.get(spec);
+        }
+
+        /**
+         * Collapses cycles into {@link Group}s (strongly connected components),
+         * which themselves form a directed acyclic graph.
+         */
+        List<Group> groupsInDependencyOrder() {
+            val components = new Tarjan().stronglyConnectedComponents();
+            val groupBySpec = new IdentityHashMap<ObjectSpecification, Group>();
+            val groups = new ArrayList<Group>(components.size());
+            for(val component : components) {
+                component.sort(Comparator
+                        .<ObjectSpecification, Boolean>comparing(spec->!spec.getBeanSort().isMixin())
+                        .thenComparingInt(spec->hierarchyDepth(spec.getCorrespondingClass())));
+                val group = new Group(component);
+                component.forEach(spec->groupBySpec.put(spec, group));
+                groups.add(group);
+            }
+            for(val group : groups) {
+                for(val spec : group.specs) {
+                    for(val dependency : dependenciesOf(spec)) {
+                        val dependencyGroup = groupBySpec.get(dependency);
+                        if(dependencyGroup!=group) {
+                            group.dependencies.add(dependencyGroup);
+                            dependencyGroup.dependents.add(group);
+                        }
+                    }
+                }
+            }
+            return groups;
+        }
+
+        // -- HELPER
+
+        private void collectDependencies() {
+            val mixinsByMixee = _Maps.<Class<?>, List<ObjectSpecification>>newHashMap();
+            specs.forEach(spec->{
+                if(spec.getBeanSort().isMixin()) {
+                    mixeeTypeOf(spec.getCorrespondingClass())
+                    .forEach(mixee->mixinsByMixee.computeIfAbsent(mixee, __->new ArrayList<>()).add(spec));
+                }
+            });
+
+            specs.forEach(spec->{
+                val cls = spec.getCorrespondingClass();
+                val dependencies = new LinkedHashSet<ObjectSpecification>();
+                addIfInBatch(dependencies, cls.getSuperclass());
+                mixinsByMixee.forEach((mixee, mixins)->{
+                    if(mixee.isAssignableFrom(cls)) {
+                        mixins.forEach(dependencies::add);
+                    }
+                });
+                try {
+                    for(Method method : cls.getDeclaredMethods()) {
+                        addIfInBatch(dependencies, method.getGenericReturnType());
+                        for(Type paramType : method.getGenericParameterTypes()) {
+                            addIfInBatch(dependencies, paramType);
+                        }
+                    }
+                } catch (LinkageError e) {
+                    // types not resolvable, so these will fail introspection anyway
+                }
+                dependencies.remove(spec);
+                dependenciesBySpec.put(spec, dependencies);
+            });
+        }
+
+        private void addIfInBatch(final Set<ObjectSpecification> dependencies, final Type type) {
+            if(type instanceof Class) {
+                val dependency = specByClass.get(type);
+                if(dependency!=null) {
+                    dependencies.add(dependency);
+                }
+            } else if(type instanceof ParameterizedType) {
+                val parameterizedType = (ParameterizedType) type;
+                addIfInBatch(dependencies, parameterizedType.getRawType());
+                for(Type typeArgument : parameterizedType.getActualTypeArguments()) {
+                    addIfInBatch(dependencies, typeArgument);
+                }
+            }
+        }
+
+        /**
+         * Mixins have a single public 1-arg constructor, taking the mixee.
+         */
+        private static Can<Class<?>> mixeeTypeOf(final Class<?> mixinType) {
+            Class<?> mixee = null;
+            for(Constructor<?> constructor : mixinType.getConstructors()) {
+                if(constructor.getParameterCount()==1) {
+                    if(mixee!=null) {
+                        return Can.empty(); // not a valid mixin
+                    }
+                    mixee = constructor.getParameterTypes()[0];
+                }
+            }
+            return Can.ofNullable(mixee);
+        }
+
+        private static int hierarchyDepth(final Class<?> cls) {
+            int depth = 0;
+            for(Class<?> c = cls.getSuperclass(); c!=null; c = c.getSuperclass()) {
+                depth++;
+            }
+            return depth;
+        }
+
+        /**
+         * Tarjan's algorithm, yielding components such that dependencies precede their dependents.
+         */
+        private final class Tarjan {
+            private final Map<ObjectSpecification, Integer> indexBySpec = new IdentityHashMap<>();
+            private final Map<ObjectSpecification, Integer> lowLinkBySpec = new IdentityHashMap<>();
+            private final Set<ObjectSpecification> onStack = Collections.newSetFromMap(new IdentityHashMap<>());
+            private final Deque<ObjectSpecification> stack = new ArrayDeque<>();
+            private final List<List<ObjectSpecification>> components = new ArrayList<>();
+            private int index = 0;
+
+            List<List<ObjectSpecification>> stronglyConnectedComponents() {
+                specs.forEach(spec->{
+                    if(!indexBySpec.containsKey(spec)) {
+                        visit(spec);
+                    }
+                });
+                return components;
+            }
+
+            private void visit(final ObjectSpecification spec) {
+                indexBySpec.put(spec, index);
+                lowLinkBySpec.put(spec, index);
+                index++;
+                stack.push(spec);
+                onStack.add(spec);
+
+                for(val dependency : dependenciesOf(spec)) {
+                    if(!indexBySpec.containsKey(dependency)) {
+                        visit(dependency);
+                        lowLinkBySpec.put(spec, Math.min(lowLinkBySpec.get(spec), lowLinkBySpec.get(dependency)));
+                    } else if(onStack.contains(dependency)) {
+                        lowLinkBySpec.put(spec, Math.min(lowLinkBySpec.get(spec), indexBySpec.get(dependency)));
+                    }
+                }
+
+                if(lowLinkBySpec.get(spec).equals(indexBySpec.get(spec))) {
+                    val component = new ArrayList<ObjectSpecification>();
+                    ObjectSpecification member;
+                    do {
+                        member = stack.pop();
+                        onStack.remove(member);
+                        component.add(member);
+                    } while(member!=spec);
+                    components.add(component);
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.concurrent._ConcurrentContext;
+import org.apache.isis.commons.internal.concurrent._ConcurrentTask;
+import org.apache.isis.commons.internal.concurrent._ConcurrentTaskList;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.validator.MetaModelValidator;
+import org.apache.isis.core.metamodel.specloader.validator.MetaModelVisitingValidator;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Runs {@link MetaModelValidator}s as independent tasks, concurrently if so configured,
+ * recording the time spent per validator.
+ * <p>
+ * {@link MetaModelVisitingValidator}s are driven by this engine rather than by themselves: each visits
+ * every spec (including those discovered while validating) on a single thread, and then is
+ * {@link MetaModelVisitingValidator#summarize() summarized}. Failures are reported by the validators
+ * through {@link SpecificationLoader#addValidationFailure}, which is lock-free.
+ * <p>
+ * For {@link #revalidate(Can, Can) re-validation}, only visiting validators that don't
+ * {@link MetaModelVisitingValidator#summarize() summarize} (hence hold no state across specs)
+ * are run, visiting the affected specs only. All other validators validate across specs, so
+ * their failures are only correct as a whole: these are attributed to the cross-spec validation
+ * (see {@link #isValidatingAcrossSpecs()}), such that callers can discard and recompute them as a unit.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor
+@Log4j2
+final class MetaModelValidationEngine {
+
+    private static final int SLOWEST_TO_LOG = 5;
+
+    private static final ThreadLocal<Boolean> validatingAcrossSpecs = ThreadLocal.withInitial(()->false);
+
+    private final @NonNull Supplier<Can<ObjectSpecification>> specsSupplier;
+    private final boolean parallelize;
+
+    @Value
+    static class Timing {
+        MetaModelValidator validator;
+        long nanos;
+    }
+
+    /**
+     * Runs all {@code validators} against all specs.
+     * @return per validator time spent, slowest first
+     */
+    Can<Timing> validate(final @NonNull Can<MetaModelValidator> validators) {
+        return run(validators, null);
+    }
+
+    /**
+     * Runs the incremental ones of given {@code validators} against given {@code affectedSpecs} only,
+     * skipping all others.
+     * @return per validator time spent, slowest first
+     */
+    Can<Timing> revalidate(
+            final @NonNull Can<MetaModelValidator> validators,
+            final @NonNull Can<ObjectSpecification> affectedSpecs) {
+        return run(validators.filter(MetaModelValidationEngine::isIncremental), affectedSpecs);
+    }
+
+    /**
+     * Whether the calling thread currently runs a validator's validation across specs, that is either
+     * {@link MetaModelVisitingValidator#summarize()} or a non-visiting {@link MetaModelValidator#validate()}.
+     * Validation failures raised meanwhile can only be discarded along with all others raised this way.
+     */
+    static boolean isValidatingAcrossSpecs() {
+        return validatingAcrossSpecs.get();
+    }
+
+    /**
+     * Whether given {@code validator} only ever validates one spec at a time,
+     * hence can re-validate individual specs.
+     */
+    static boolean isIncremental(final @NonNull MetaModelValidator validator) {
+        if(!(validator instanceof MetaModelVisitingValidator)) {
+            return false;
+        }
+        try {
+            return validator.getClass().getMethod("summarize").getDeclaringClass()
+                    == MetaModelVisitingValidator.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    // -- HELPER
+
+    private Can<Timing> run(
+            final Can<MetaModelValidator> validators,
+            final Can<ObjectSpecification> affectedSpecsIfRevalidating) {
+
+        val tasks = validators.map(validator->
+            _ConcurrentTask.of(()->runValidator(validator, affectedSpecsIfRevalidating))
+                .withName(validator.toString()));
+
+        val taskList = _ConcurrentTaskList.named("MetaModelValidation")
+                .addTasks(tasks.toList());
+        taskList.submit((parallelize
+                    ? _ConcurrentContext.forkJoin()
+                    : _ConcurrentContext.sequential())
+                .enableExecutionLogging(false)); // we log timings per validator instead
+        taskList.await();
+
+        val failedTask = tasks.stream()
+                .filter(task->task.getFailedWith()!=null)
+                .findFirst()
+                .orElse(null);
+        if(failedTask!=null) {
+            val cause = failedTask.getFailedWith(); // already logged by the task list
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw _Exceptions.unrecoverable(cause);
+        }
+
+        val timings = Can.ofCollection(validators.zipMap(tasks, (validator, task)->
+                    new Timing(validator, task.getCompletedAtNanos() - task.getStartedAtNanos()))
+                .stream()
+                .sorted(Comparator.comparingLong(Timing::getNanos).reversed())
+                .collect(Collectors.toList()));
+
+        if(log.isInfoEnabled()) {
+            log.info(" - {} {} validators in {} ms, slowest: {}",
+                    affectedSpecsIfRevalidating==null ? "ran" : "re-ran",
+                    timings.size(),
+                    taskList.getExecutionTime().toMillis(),
+                    timings.stream()
+                        .limit(SLOWEST_TO_LOG)
+                        .map(timing->String.format("%s (%d ms)", timing.getValidator(), timing.getNanos() / 1_000_000L))
+                        .collect(Collectors.joining(", ")));
+        }
+        if(log.isDebugEnabled()) {
+            timings.forEach(timing->log.debug("   {} ms {}", timing.getNanos() / 1_000_000L, timing.getValidator()));
+        }
+
+        return timings;
+    }
+
+    private void runValidator(
+            final MetaModelValidator validator,
+            final Can<ObjectSpecification> affectedSpecsIfRevalidating) {
+
+        if(!(validator instanceof MetaModelVisitingValidator)) {
+            validateAcrossSpecs(validator::validate);
+            return;
+        }
+
+        val visitingValidator = (MetaModelVisitingValidator) validator;
+        if(!visitingValidator.isEnabled()) {
+            return;
+        }
+
+        if(affectedSpecsIfRevalidating!=null) {
+            // incremental validators only
+            affectedSpecsIfRevalidating.forEach(visitingValidator::validate);
+            return;
+        }
+
+        // validators might discover new specs, so keep visiting until there are no more
+        final Set<ObjectSpecification> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        boolean visitedAny = true;
+        while(visitedAny) {
+            visitedAny = false;
+            for(val spec : specsSupplier.get()) {
+                if(visited.add(spec)) {
+                    visitingValidator.validate(spec);
+                    visitedAny = true;
+                }
+            }
+        }
+        validateAcrossSpecs(visitingValidator::summarize);
+    }
+
+    private static void validateAcrossSpecs(final Runnable validation) {
+        validatingAcrossSpecs.set(true);
+        try {
+            validation.run();
+        } finally {
+            validatingAcrossSpecs.remove();
+        }
+    }
+
+}
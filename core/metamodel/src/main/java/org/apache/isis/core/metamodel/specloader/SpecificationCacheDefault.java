@@ -20,13 +20,13 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.isis.commons.collections.Can;
-import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.collections.snapshot._VersionedList;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 
@@ -34,35 +34,47 @@
 import lombok.val;
 
 
+/**
+ * Reads are lock-free, writes are serialized.
+ * <p>
+ * After bootstrapping the metamodel, (almost) all traffic is lookups,
+ * which hence must not contend on a shared monitor.
+ * However, specification creation must happen at most once per class,
+ * also when introspecting in parallel, so any mutations are still
+ * guarded by {@code synchronized(this)}.
+ */
 class SpecificationCacheDefault<T extends ObjectSpecification> implements SpecificationCache<T> {
 
-    private final Map<Class<?>, T> specByClass = _Maps.newHashMap();
+    private final Map<Class<?>, T> specByClass = new ConcurrentHashMap<>();
 
     // optimization: specialized list to keep track of any additions to the cache fast
     private final _VersionedList<T> vList = new _VersionedList<>();
 
     @Override
-    public Optional<T> lookup(Class<?> cls) {
-        synchronized(this) {
-            return Optional.ofNullable(specByClass.get(cls));
-        }
+    public Optional<T> lookup(final @Nullable Class<?> cls) {
+        return cls!=null
+                ? Optional.ofNullable(specByClass.get(cls))
+                : Optional.empty();
     }
 
     @Override
     public T computeIfAbsent(
-            Class<?> cls,
-            Function<Class<?>, T> mappingFunction) {
+            final Class<?> cls,
+            final Function<Class<?>, T> mappingFunction) {
+
+        // fast path, lock-free
+        val existing = specByClass.get(cls);
+        if(existing!=null) {
+            return existing;
+        }
+
+        // not using ConcurrentHashMap.computeIfAbsent(...), because the mappingFunction
+        // might recursively call back into this cache
         synchronized(this) {
             T spec = specByClass.get(cls);
             if(spec==null) {
                 spec = mappingFunction.apply(cls);
                 internalPut(spec);
-
-//debug
-//                if(cls.getSimpleName().equals("MarkupStream")) {
-//                    System.out.println("!!! MarkupStream");
-//                }
-
             }
             return spec;
         }
@@ -78,13 +90,11 @@ public void clear() {
 
     @Override
     public Can<T> snapshotSpecs() {
-        synchronized(this) {
-            return Can.ofCollection(specByClass.values());
-        }
+        return Can.ofCollection(specByClass.values());
     }
 
     @Override
-    public T remove(@NonNull Class<?> cls) {
+    public T remove(final @NonNull Class<?> cls) {
         synchronized(this) {
             final T removed = specByClass.remove(cls);
             if(removed!=null) {
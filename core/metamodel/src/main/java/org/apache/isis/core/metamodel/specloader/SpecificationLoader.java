@@ -109,6 +109,13 @@ public interface SpecificationLoader {
 
     void reloadSpecification(Class<?> domainType);
 
+    /**
+     * Incremented whenever specifications are {@link #reloadSpecification(Class) reloaded}
+     * or the metamodel is {@link #disposeMetaModel() disposed}, such that anything derived
+     * from (and cached alongside) the metamodel can detect when it has become stale.
+     */
+    long getMetaModelVersion();
+
     /**
      * Return the specification for the specified class of object.
      *
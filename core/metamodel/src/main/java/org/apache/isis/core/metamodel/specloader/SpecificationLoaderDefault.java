@@ -19,11 +19,15 @@
 package org.apache.isis.core.metamodel.specloader;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -53,6 +57,7 @@
 import org.apache.isis.commons.internal.base._Timing;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.collections._Sets;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.config.beans.IsisBeanMetaData;
@@ -76,7 +81,6 @@
 import org.apache.isis.core.metamodel.specloader.postprocessor.PostProcessor;
 import org.apache.isis.core.metamodel.specloader.specimpl.IntrospectionState;
 import org.apache.isis.core.metamodel.specloader.specimpl.dflt.ObjectSpecificationDefault;
-import org.apache.isis.core.metamodel.specloader.validator.MetaModelValidatorAbstract;
 import org.apache.isis.core.metamodel.specloader.validator.ValidationFailure;
 import org.apache.isis.core.metamodel.specloader.validator.ValidationFailures;
 import org.apache.isis.core.metamodel.valuetypes.ValueSemanticsResolverDefault;
@@ -125,6 +129,7 @@ public class SpecificationLoaderDefault implements SpecificationLoader {
     private FacetProcessor facetProcessor;
 
     private final SpecificationCache<ObjectSpecification> cache = new SpecificationCacheDefault<>();
+    private final AtomicLong metaModelVersion = new AtomicLong();
     private final LogicalTypeResolver logicalTypeResolver = new LogicalTypeResolverDefault();
 
     /**
@@ -276,18 +281,28 @@ public void createMetaModel() {
 
         });
 
-        //XXX[ISIS-2382] when parallel introspecting, make sure we have the mixins before their holders
-
         SpecificationLoaderDefault_debug.logBefore(log, cache, knownSpecs);
 
-        log.info(" - introspecting {} type hierarchies", knownSpecs.size());
-        introspect(Can.ofCollection(knownSpecs), IntrospectionState.TYPE_INTROSPECTED);
+        if(isParallelIntrospect()) {
+            // a single batch, where the scheduler makes sure we have the mixins before their holders
+            log.info(" - introspecting {} type hierarchies, {} value types and {} mixins",
+                    knownSpecs.size(), valueTypeSpecs.size(), isisBeanTypeRegistry.getMixinTypes().size());
+            val fullyIntrospected = Collections.<ObjectSpecification>newSetFromMap(new IdentityHashMap<>());
+            fullyIntrospected.addAll(valueTypeSpecs.values());
+            fullyIntrospected.addAll(mixinSpecs);
+            introspectParallel(Can.ofCollection(knownSpecs), spec->fullyIntrospected.contains(spec)
+                    ? IntrospectionState.FULLY_INTROSPECTED
+                    : IntrospectionState.TYPE_INTROSPECTED);
+        } else {
+            log.info(" - introspecting {} type hierarchies", knownSpecs.size());
+            introspect(Can.ofCollection(knownSpecs), IntrospectionState.TYPE_INTROSPECTED);
 
-        log.info(" - introspecting {} value types", valueTypeSpecs.size());
-        introspect(Can.ofCollection(valueTypeSpecs.values()), IntrospectionState.FULLY_INTROSPECTED);
+            log.info(" - introspecting {} value types", valueTypeSpecs.size());
+            introspect(Can.ofCollection(valueTypeSpecs.values()), IntrospectionState.FULLY_INTROSPECTED);
 
-        log.info(" - introspecting {} mixins", isisBeanTypeRegistry.getMixinTypes().size());
-        introspect(Can.ofCollection(mixinSpecs), IntrospectionState.FULLY_INTROSPECTED);
+            log.info(" - introspecting {} mixins", isisBeanTypeRegistry.getMixinTypes().size());
+            introspect(Can.ofCollection(mixinSpecs), IntrospectionState.FULLY_INTROSPECTED);
+        }
 
         log.info(" - introspecting {} managed beans contributing (domain services)", isisBeanTypeRegistry.getManagedBeansContributing().size());
 //        log.info(" - introspecting {}/{} entities (JDO/JPA)",
@@ -307,8 +322,12 @@ public void createMetaModel() {
         if(isFullIntrospect()) {
             val snapshot = cache.snapshotSpecs();
             log.info(" - introspecting all {} types eagerly (FullIntrospect=true)", snapshot.size());
-            introspect(snapshot.filter(x->x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
-            introspect(snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
+            if(isParallelIntrospect()) {
+                introspect(snapshot, IntrospectionState.FULLY_INTROSPECTED);
+            } else {
+                introspect(snapshot.filter(x->x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
+                introspect(snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
+            }
         }
 
         log.info(" - running remaining validators");
@@ -338,6 +357,7 @@ public void disposeMetaModel() {
         cache.clear();
         validationResult.clear();
         serviceRegistry.clearRegisteredBeans();
+        metaModelVersion.incrementAndGet();
         log.info("Metamodel disposed.");
     }
 
@@ -362,8 +382,33 @@ private boolean isFullIntrospect() {
 
     @Override
     public void reloadSpecification(final Class<?> domainType) {
-        invalidateCache(domainType);
-        loadSpecification(domainType, IntrospectionState.FULLY_INTROSPECTED);
+        final ObjectSpecification reloadedSpec;
+        // re-validation requested while reloading is deferred until the reload is complete
+        reloadInProgress.set(true);
+        try {
+            discardValidationFailuresOf(domainType);
+            invalidateCache(domainType);
+            reloadedSpec = loadSpecification(domainType, IntrospectionState.FULLY_INTROSPECTED);
+        } finally {
+            reloadInProgress.set(false);
+        }
+        metaModelVersion.incrementAndGet();
+
+        if(!isRevalidationEnabled()) {
+            return;
+        }
+        if(reloadedSpec!=null) {
+            log.info("re-validation triggered by reload of {}", reloadedSpec);
+            _Assert.assertTrue(validationQueue.offer(reloadedSpec),
+                    "The Validation Queue is expected to never deadlock or grow beyond its capacity.");
+        }
+        // the reloaded spec might have changed the outcome of any validation across specs
+        revalidateQueued(true);
+    }
+
+    @Override
+    public long getMetaModelVersion() {
+        return metaModelVersion.get();
     }
 
     @Override
@@ -399,13 +444,7 @@ public ObjectSpecification loadSpecification(
 
     @Override
     public void validateLater(final ObjectSpecification objectSpec) {
-        if(!isMetamodelFullyIntrospected()) {
-            // don't trigger validation during bootstrapping
-            // getValidationResult() is lazily populated later on first request anyway
-            return;
-        }
-        if(!isisConfiguration.getCore().getMetaModel().getIntrospector().isValidateIncrementally()) {
-            // re-validation after the initial one can be turned off by means of above config option
+        if(!isRevalidationEnabled()) {
             return;
         }
 
@@ -413,28 +452,16 @@ public void validateLater(final ObjectSpecification objectSpec) {
 
         // validators might discover new specs
         // to prevent deadlocks, we queue up validation requests to be processed later
-        if(validationInProgress.get()) {
-            _Assert.assertTrue(validationQueue.offer(objectSpec),
-                    "The Validation Queue is expected to never deadlock or grow beyond its capacity.");
+        _Assert.assertTrue(validationQueue.offer(objectSpec),
+                "The Validation Queue is expected to never deadlock or grow beyond its capacity.");
+        if(validationInProgress.get()
+                || reloadInProgress.get()) {
             return;
         }
 
-        while(validationQueue.poll()!=null) {
-            // keep re-validating until the queue is empty
-            validationQueue.clear(); // shortcut
-            validationResult.clear(); // invalidate
-            // potentially triggers a call to the method we are currently in,
-            // which adds more entries to the validationQueue
-            getOrAssessValidationResult();
-        }
-
-        // only after things have settled we offer feedback to the user (interface)
-
-        final ValidationFailures validationFailures = getOrAssessValidationResult();
-        if(validationFailures.hasFailures()) {
-            throw _Exceptions.illegalState(String.join("\n", validationFailures.getMessages("[%d] %s")));
-        }
-
+        // a spec being loaded lazily does not change any other spec,
+        // so validation across specs is not affected
+        revalidateQueued(false);
     }
 
     // -- LOOKUP
@@ -488,38 +515,127 @@ public void addValidationFailure(final ValidationFailure validationFailure) {
 ////            throw _Exceptions.illegalState(
 ////                    "Validation result was already created and can no longer be modified.");
 //        }
-        synchronized(validationFailures) {
-            validationFailures.add(validationFailure);
+        validationFailures.add(validationFailure); // backed by a concurrent set
+        if(MetaModelValidationEngine.isValidatingAcrossSpecs()) {
+            crossSpecValidationFailures.add(validationFailure);
         }
     }
 
+    /**
+     * Subset of the {@link #validationFailures}, that were raised by validators across specs,
+     * hence can only be discarded as a unit.
+     * @see MetaModelValidationEngine#isValidatingAcrossSpecs()
+     */
+    private final Set<ValidationFailure> crossSpecValidationFailures = _Sets.newConcurrentHashSet();
+
     private _Lazy<ValidationFailures> validationResult =
             _Lazy.threadSafe(this::collectFailuresFromMetaModel);
 
     private final AtomicBoolean validationInProgress = new AtomicBoolean(false);
+    private final AtomicBoolean reloadInProgress = new AtomicBoolean(false);
     private final BlockingQueue<ObjectSpecification> validationQueue = new LinkedBlockingQueue<>();
 
     private ValidationFailures collectFailuresFromMetaModel() {
         validationInProgress.set(true);
+        try {
+            newValidationEngine().validate(Can.ofStream(programmingModel.streamValidators()));
+        } finally {
+            validationInProgress.set(false);
+        }
+        return validationFailures;
+    }
 
-        programmingModel.streamValidators()
-        .map(MetaModelValidatorAbstract.class::cast)
-        .forEach(validator -> {
-            log.debug("Running validator: {}", validator);
-            try {
-                validator.validate();
-            } catch (Throwable t) {
-                log.error(t);
-                throw t;
-            } finally {
-                log.debug("Done validator: {}", validator);
-            }
-        });
+    private boolean isRevalidationEnabled() {
+        if(!isMetamodelFullyIntrospected()) {
+            // don't trigger validation during bootstrapping
+            // getValidationResult() is lazily populated later on first request anyway
+            return false;
+        }
+        // re-validation after the initial one can be turned off by means of this config option
+        return isisConfiguration.getCore().getMetaModel().getIntrospector().isValidateIncrementally();
+    }
 
-        log.debug("Done");
-        validationInProgress.set(false);
+    /**
+     * Re-validates all queued specs and, if {@code acrossSpecs}, also recomputes the validation across specs.
+     * @throws IllegalStateException if there are any validation failures (after re-validation)
+     */
+    private void revalidateQueued(final boolean acrossSpecs) {
+        revalidateQueuedSpecs();
+        if(acrossSpecs) {
+            revalidateAcrossSpecs();
+            // validators might have discovered new specs
+            revalidateQueuedSpecs();
+        }
 
-        return validationFailures;
+        // only after things have settled we offer feedback to the user (interface)
+
+        final ValidationFailures validationFailures = getOrAssessValidationResult();
+        if(validationFailures.hasFailures()) {
+            throw _Exceptions.illegalState(String.join("\n", validationFailures.getMessages("[%d] %s")));
+        }
+    }
+
+    private void revalidateQueuedSpecs() {
+        while(!validationQueue.isEmpty()) {
+            // keep re-validating until the queue is empty
+            val affectedSpecs = _Lists.<ObjectSpecification>newArrayList();
+            validationQueue.drainTo(affectedSpecs);
+            // potentially triggers a call to validateLater(),
+            // which adds more entries to the validationQueue
+            revalidate(Can.ofCollection(affectedSpecs));
+        }
+    }
+
+    /**
+     * Re-runs the incremental validators for given {@code affectedSpecs}, without re-visiting any other specs.
+     * @see MetaModelValidationEngine#revalidate(Can, Can)
+     */
+    private void revalidate(final Can<ObjectSpecification> affectedSpecs) {
+        if(!validationResult.isMemoized()) {
+            getOrAssessValidationResult(); // nothing to revalidate, yet
+            return;
+        }
+        validationInProgress.set(true);
+        try {
+            newValidationEngine().revalidate(Can.ofStream(programmingModel.streamValidators()), affectedSpecs);
+        } finally {
+            validationInProgress.set(false);
+        }
+    }
+
+    /**
+     * Discards all failures raised across specs and recomputes these, by re-running
+     * all non-incremental validators in full.
+     */
+    private void revalidateAcrossSpecs() {
+        if(!validationResult.isMemoized()) {
+            getOrAssessValidationResult(); // nothing to revalidate, yet
+            return;
+        }
+        validationFailures.removeIf(crossSpecValidationFailures::contains);
+        crossSpecValidationFailures.clear();
+        validationInProgress.set(true);
+        try {
+            newValidationEngine().validate(Can.ofStream(programmingModel.streamValidators())
+                    .filter(validator->!MetaModelValidationEngine.isIncremental(validator)));
+        } finally {
+            validationInProgress.set(false);
+        }
+    }
+
+    /**
+     * Failures originating from given type are stale, once the type gets reloaded.
+     * (Those raised across specs are recomputed as a unit, see {@link #revalidateAcrossSpecs()}.)
+     */
+    private void discardValidationFailuresOf(final Class<?> domainType) {
+        val className = domainType.getName();
+        validationFailures.removeIf(failure->className.equals(failure.getOrigin().getClassName()));
+    }
+
+    private MetaModelValidationEngine newValidationEngine() {
+        return new MetaModelValidationEngine(
+                cache::snapshotSpecs,
+                isisConfiguration.getCore().getMetaModel().getValidator().isParallelize());
     }
 
 
@@ -624,29 +740,28 @@ private void introspectSequential(
 
     private void introspectParallel(
             final Can<ObjectSpecification> specs,
-            final IntrospectionState upTo) {
-        specs.parallelStream()
-        .forEach(spec -> {
-            try {
-                spec.introspectUpTo(upTo);
-            } catch (Throwable ex) {
-                log.error(ex);
-                throw ex;
-            }
-        });
+            final Function<ObjectSpecification, IntrospectionState> upTo) {
+        val parallelism = isisConfiguration.getCore().getMetaModel().getIntrospector().getParallelism();
+        new IntrospectionScheduler(parallelism>0
+                    ? parallelism
+                    : Runtime.getRuntime().availableProcessors())
+            .introspect(specs, upTo);
     }
 
     private void introspect(
             final Can<ObjectSpecification> specs,
             final IntrospectionState upTo) {
-        val isConcurrentFromConfig = isisConfiguration.getCore().getMetaModel().getIntrospector().isParallelize();
-        if(isConcurrentFromConfig) {
-            introspectParallel(specs, upTo);
+        if(isParallelIntrospect()) {
+            introspectParallel(specs, __->upTo);
         } else {
             introspectSequential(specs, upTo);
         }
     }
 
+    private boolean isParallelIntrospect() {
+        return isisConfiguration.getCore().getMetaModel().getIntrospector().isParallelize();
+    }
+
     private void invalidateCache(final Class<?> cls) {
 
         val substitute = classSubstitutorRegistry.getSubstitution(cls);
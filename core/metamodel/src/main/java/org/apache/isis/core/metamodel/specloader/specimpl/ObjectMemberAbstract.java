@@ -51,6 +51,7 @@
 import org.apache.isis.core.metamodel.interactions.InteractionHead;
 import org.apache.isis.core.metamodel.interactions.InteractionUtils;
 import org.apache.isis.core.metamodel.interactions.UsabilityContext;
+import org.apache.isis.core.metamodel.interactions.VisibilityBatch;
 import org.apache.isis.core.metamodel.interactions.VisibilityContext;
 import org.apache.isis.core.metamodel.services.command.CommandDtoFactory;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
@@ -220,6 +221,17 @@ public Consent isVisible(
         return InteractionUtils.isVisibleResult(this, visibilityContext).createConsent();
     }
 
+    @Override
+    public Consent isVisible(
+            final ManagedObject target,
+            final InteractionInitiatedBy interactionInitiatedBy,
+            final Where where,
+            final VisibilityBatch visibilityBatch) {
+
+        val visibilityContext = createVisibleInteractionContext(target, interactionInitiatedBy, where);
+        return visibilityBatch.isVisibleResult(this, visibilityContext).createConsent();
+    }
+
     // -- Disabled (or enabled)
     /**
      * Create an {@link InteractionContext} to represent an attempt to
@@ -29,6 +29,8 @@
 
 import javax.enterprise.inject.Vetoed;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.isis.applib.Identifier;
 import org.apache.isis.applib.annotation.Introspection.IntrospectionPolicy;
 import org.apache.isis.applib.id.LogicalType;
@@ -190,6 +192,9 @@ public Can<ObjectSpecification> snapshot() {
 
     private IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
 
+    // built lazily, once fully introspected and mixed-in members were added
+    private volatile _MemberIndex memberIndex;
+
 
     // -- Constructor
     public ObjectSpecificationAbstract(
@@ -368,6 +373,7 @@ protected void sortAndUpdateAssociations(final List<ObjectAssociation> associati
             this.associations.clear();
             this.associations.addAll(orderedAssociations);
             unmodifiableAssociations.clear(); // invalidate
+            memberIndex = null; // invalidate
         }
     }
 
@@ -377,6 +383,7 @@ protected void sortCacheAndUpdateActions(final List<ObjectAction> objectActions)
             this.objectActions.clear();
             this.objectActions.addAll(orderedActions);
             unmodifiableActions.clear(); // invalidate
+            memberIndex = null; // invalidate
 
             for (val actionType : ActionScope.values()) {
                 val objectActionForType = objectActionsByType.getOrElseNew(actionType);
@@ -677,11 +684,42 @@ public Optional<? extends ObjectMember> getMember(final String memberId) {
     @Override
     public Optional<ObjectAssociation> getDeclaredAssociation(final String id, final MixedIn mixedIn) {
         introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
+
+        val memberIndex = memberIndex();
+        if(memberIndex!=null) {
+            return memberIndex.lookupAssociation(id, mixedIn);
+        }
+
         return streamDeclaredAssociations(mixedIn)
                 .filter(objectAssociation->objectAssociation.getId().equals(id))
                 .findFirst();
     }
 
+    @Override
+    public Optional<ObjectAction> getDeclaredAction(
+            final @Nullable String id,
+            final ImmutableEnumSet<ActionScope> actionScopes,
+            final MixedIn mixedIn) {
+
+        introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
+
+        if(id == null) {
+            return Optional.empty();
+        }
+
+        val memberIndex = memberIndex();
+        if(memberIndex!=null) {
+            return memberIndex.lookupAction(id, actionScopes, mixedIn);
+        }
+
+        return streamDeclaredActions(actionScopes, mixedIn)
+                .filter(action->
+                    id.equals(action.getFeatureIdentifier().getMemberNameAndParameterClassNamesIdentityString())
+                            || id.equals(action.getFeatureIdentifier().getMemberLogicalName())
+                )
+                .findFirst();
+    }
+
     @Override
     public Stream<ObjectAction> streamRuntimeActions(final MixedIn mixedIn) {
         val actionScopes = ActionScope.forEnvironment(getMetaModelContext().getSystemEnvironment());
@@ -861,10 +899,37 @@ public boolean isParented() {
         return containsFacet(ParentedCollectionFacet.class);
     }
 
+    // -- MEMBER INDEX
+
+    /**
+     * Returns the (lock-free) id to member lookup tables,
+     * or {@code null} if this spec is not yet fully introspected
+     * or its mixed-in members have not yet been added.
+     */
+    @Nullable
+    private _MemberIndex memberIndex() {
+        val memberIndex = this.memberIndex;
+        if(memberIndex!=null) {
+            return memberIndex;
+        }
+        if(isLessThan(IntrospectionState.FULLY_INTROSPECTED)
+                || !mixedInAssociationsAdded
+                || !mixedInActionsAdded) {
+            return null;
+        }
+        // concurrent threads might build the index more than once, which is harmless
+        val newMemberIndex = _MemberIndex.create(
+                unmodifiableAssociations.get(),
+                objectActionsByType);
+        this.memberIndex = newMemberIndex;
+        return newMemberIndex;
+    }
+
     // -- GUARDS
 
-    private boolean mixedInAssociationsAdded;
-    private boolean mixedInActionsAdded;
+    // volatile: the member index relies on these, when read outside of the guarding monitors
+    private volatile boolean mixedInAssociationsAdded;
+    private volatile boolean mixedInActionsAdded;
 
     private void createMixedInActions() {
         // update our list of actions if requesting for contributed actions
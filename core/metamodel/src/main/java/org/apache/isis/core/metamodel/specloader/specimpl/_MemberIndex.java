@@ -0,0 +1,138 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader.specimpl;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.collections.ImmutableEnumSet;
+import org.apache.isis.core.metamodel.spec.ActionScope;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * package private utility
+ * <p>
+ * Immutable id to member lookup tables of a fully introspected {@link ObjectSpecificationAbstract},
+ * that is, after its mixed-in members have been added.
+ * <p>
+ * Preserves the semantics of the linear scans, it replaces:
+ * if multiple members qualify for an id, the first in member order wins.
+ */
+final class _MemberIndex {
+
+    private final Map<String, ObjectAssociation> associationsIncludingMixedIn;
+    private final Map<String, ObjectAssociation> associationsExcludingMixedIn;
+    private final Map<ActionScope, Map<String, ObjectAction>> actionsIncludingMixedIn;
+    private final Map<ActionScope, Map<String, ObjectAction>> actionsExcludingMixedIn;
+
+    static _MemberIndex create(
+            final @NonNull Can<ObjectAssociation> associations,
+            final @NonNull Map<ActionScope, List<ObjectAction>> actionsByScope) {
+        return new _MemberIndex(associations, actionsByScope);
+    }
+
+    private _MemberIndex(
+            final Can<ObjectAssociation> associations,
+            final Map<ActionScope, List<ObjectAction>> actionsByScope) {
+
+        val associationsIncl = new HashMap<String, ObjectAssociation>();
+        val associationsExcl = new HashMap<String, ObjectAssociation>();
+        for(val association : associations) {
+            associationsIncl.putIfAbsent(association.getId(), association);
+            if(MixedIn.isNotMixedIn(association)) {
+                associationsExcl.putIfAbsent(association.getId(), association);
+            }
+        }
+        this.associationsIncludingMixedIn = Collections.unmodifiableMap(associationsIncl);
+        this.associationsExcludingMixedIn = Collections.unmodifiableMap(associationsExcl);
+
+        val actionsIncl = new EnumMap<ActionScope, Map<String, ObjectAction>>(ActionScope.class);
+        val actionsExcl = new EnumMap<ActionScope, Map<String, ObjectAction>>(ActionScope.class);
+        for(val actionScope : ActionScope.values()) {
+            val actionsIncl4Scope = new HashMap<String, ObjectAction>();
+            val actionsExcl4Scope = new HashMap<String, ObjectAction>();
+            for(val action : actionsByScope.getOrDefault(actionScope, Collections.emptyList())) {
+                putAction(actionsIncl4Scope, action);
+                if(MixedIn.isNotMixedIn(action)) {
+                    putAction(actionsExcl4Scope, action);
+                }
+            }
+            actionsIncl.put(actionScope, Collections.unmodifiableMap(actionsIncl4Scope));
+            actionsExcl.put(actionScope, Collections.unmodifiableMap(actionsExcl4Scope));
+        }
+        this.actionsIncludingMixedIn = Collections.unmodifiableMap(actionsIncl);
+        this.actionsExcludingMixedIn = Collections.unmodifiableMap(actionsExcl);
+    }
+
+    Optional<ObjectAssociation> lookupAssociation(
+            final @Nullable String id,
+            final @NonNull MixedIn mixedIn) {
+        if(id==null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((mixedIn.isIncluded()
+                ? associationsIncludingMixedIn
+                : associationsExcludingMixedIn)
+                .get(id));
+    }
+
+    Optional<ObjectAction> lookupAction(
+            final @Nullable String id,
+            final @NonNull ImmutableEnumSet<ActionScope> actionScopes,
+            final @NonNull MixedIn mixedIn) {
+        if(id==null) {
+            return Optional.empty();
+        }
+        val actionsByScope = mixedIn.isIncluded()
+                ? actionsIncludingMixedIn
+                : actionsExcludingMixedIn;
+        for(val actionScope : actionScopes) {
+            val action = actionsByScope.get(actionScope).get(id);
+            if(action!=null) {
+                return Optional.of(action);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // -- HELPER
+
+    /**
+     * Actions are looked up either by their identity string (member name and parameter class names)
+     * or by their logical member name.
+     */
+    private static void putAction(final Map<String, ObjectAction> actionsById, final ObjectAction action) {
+        val featureIdentifier = action.getFeatureIdentifier();
+        actionsById.putIfAbsent(featureIdentifier.getMemberNameAndParameterClassNamesIdentityString(), action);
+        actionsById.putIfAbsent(featureIdentifier.getMemberLogicalName(), action);
+    }
+
+}
@@ -26,13 +26,10 @@
 import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
-import org.springframework.lang.Nullable;
-
 import org.apache.isis.applib.Identifier;
 import org.apache.isis.applib.annotation.Introspection.IntrospectionPolicy;
 import org.apache.isis.applib.services.metamodel.BeanSort;
 import org.apache.isis.commons.collections.Can;
-import org.apache.isis.commons.collections.ImmutableEnumSet;
 import org.apache.isis.commons.internal.base._Lazy;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.collections._Maps;
@@ -49,7 +46,6 @@
 import org.apache.isis.core.metamodel.facets.object.introspection.IntrospectionPolicyFacet;
 import org.apache.isis.core.metamodel.facets.object.value.ValueFacet;
 import org.apache.isis.core.metamodel.services.classsubstitutor.ClassSubstitutorRegistry;
-import org.apache.isis.core.metamodel.spec.ActionScope;
 import org.apache.isis.core.metamodel.spec.ElementSpecificationProvider;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
@@ -259,25 +255,7 @@ public String getManagedBeanName() {
         return nameIfIsManagedBean;
     }
 
-    // -- getObjectAction
-
-    @Override
-    public Optional<ObjectAction> getDeclaredAction(
-            final @Nullable String id,
-            final ImmutableEnumSet<ActionScope> actionScopes,
-            final MixedIn mixedIn) {
-
-        introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
-
-        return id == null
-            ? Optional.empty()
-            : streamDeclaredActions(actionScopes, mixedIn)
-                .filter(action->
-                    id.equals(action.getFeatureIdentifier().getMemberNameAndParameterClassNamesIdentityString())
-                            || id.equals(action.getFeatureIdentifier().getMemberLogicalName())
-                )
-                .findFirst();
-    }
+    // -- getMember
 
     @Override
     public Optional<? extends ObjectMember> getMember(final Method method) {
@@ -24,6 +24,7 @@
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.apache.isis.applib.Identifier;
@@ -55,6 +56,13 @@ public void add(ValidationFailures validationFailures) {
         addAll(validationFailures.getFailures());
     }
 
+    /**
+     * Removes all failures that satisfy given {@code filter}, eg. before re-validation.
+     */
+    public void removeIf(Predicate<ValidationFailure> filter) {
+        failures.removeIf(filter);
+    }
+
     public Set<ValidationFailure> getFailures() {
         return Collections.unmodifiableSet(failures);
     }
@@ -117,7 +117,6 @@ protected void configureDecimalFormat(final Context context, final DecimalFormat
         if(context==null) {
             return;
         }
-        context.getFeatureIdentifier();
         val feature = specificationLoader.loadFeature(context.getFeatureIdentifier())
                 .orElse(null);
         if(feature==null) {
@@ -132,6 +131,25 @@ protected void configureDecimalFormat(final Context context, final DecimalFormat
             format.setMaximumFractionDigits(digits));
     }
 
+    /**
+     * Only once the feature is resolved, its facets have been applied to the format.
+     */
+    @Override
+    protected boolean isDecimalFormatCacheable(final Context context) {
+        return context==null
+                || specificationLoader.loadFeature(context.getFeatureIdentifier()).isPresent();
+    }
+
+    /**
+     * Parsing formats depend on the feature's facets, hence are discarded whenever the metamodel is reloaded.
+     */
+    @Override
+    protected long getDecimalFormatConfigurationVersion() {
+        return specificationLoader!=null
+                ? specificationLoader.getMetaModelVersion()
+                : 0L;
+    }
+
     @Override
     public Can<BigDecimal> getExamples() {
         return Can.of(new BigDecimal("-63.1"), BigDecimal.ZERO);
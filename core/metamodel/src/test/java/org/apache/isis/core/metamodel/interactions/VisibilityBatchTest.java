@@ -0,0 +1,207 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.interactions;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.services.iactn.InteractionProvider;
+import org.apache.isis.applib.services.iactnlayer.InteractionContext;
+import org.apache.isis.applib.services.user.UserMemento;
+import org.apache.isis.core.metamodel.MetaModelTestAbstract;
+import org.apache.isis.core.metamodel._testing.MetaModelContext_forTesting.MetaModelContext_forTestingBuilder;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.facetapi.FacetAbstract;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.facetapi.FacetHolderAbstract;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import lombok.val;
+
+class VisibilityBatchTest
+extends MetaModelTestAbstract {
+
+    public static class Customer {
+    }
+
+    static class CountingHidingFacet
+    extends FacetAbstract
+    implements HidingInteractionAdvisor {
+
+        final AtomicInteger invocationCount = new AtomicInteger();
+        private final boolean instanceIndependent;
+        private final String reason;
+
+        CountingHidingFacet(
+                final Class<? extends CountingHidingFacet> facetType,
+                final FacetHolder holder,
+                final boolean instanceIndependent,
+                final String reason) {
+            super(facetType, holder);
+            this.instanceIndependent = instanceIndependent;
+            this.reason = reason;
+        }
+
+        @Override
+        public String hides(final VisibilityContext ic) {
+            invocationCount.incrementAndGet();
+            return reason;
+        }
+
+        @Override
+        public boolean isInstanceIndependent() {
+            return instanceIndependent;
+        }
+    }
+
+    static class DeclarativeFacet extends CountingHidingFacet {
+        DeclarativeFacet(final FacetHolder holder, final String reason) {
+            super(DeclarativeFacet.class, holder, true, reason);
+        }
+    }
+
+    static class ImperativeFacet extends CountingHidingFacet {
+        ImperativeFacet(final FacetHolder holder, final String reason) {
+            super(ImperativeFacet.class, holder, false, reason);
+        }
+    }
+
+    private InteractionProvider interactionProvider;
+
+    @Override
+    protected void onSetUp(final MetaModelContext_forTestingBuilder mmcBuilder) {
+        interactionProvider = mock(InteractionProvider.class);
+        mmcBuilder.interactionProvider(interactionProvider);
+    }
+
+    @Test
+    void instanceIndependentAdvice_isEvaluatedOncePerInteraction() {
+
+        when(interactionProvider.getInteractionId()).thenReturn(Optional.of(UUID.randomUUID()));
+        runAs("alice");
+
+        val facetHolder = FacetHolderAbstract.forTesting(getMetaModelContext());
+        val declarative = new DeclarativeFacet(facetHolder, null);
+        val imperative = new ImperativeFacet(facetHolder, null);
+        facetHolder.addFacet(declarative);
+        facetHolder.addFacet(imperative);
+
+        val visibilityBatch = VisibilityBatch.create();
+        for(int i=0; i<10; ++i) {
+            assertTrue(visibilityBatch.isVisibleResult(facetHolder, contextFor(new Customer())).isNotVetoing());
+        }
+
+        assertEquals(1, declarative.invocationCount.get());
+        assertEquals(10, imperative.invocationCount.get());
+
+        // a new interaction (possibly of another user) invalidates memoized advice
+        when(interactionProvider.getInteractionId()).thenReturn(Optional.of(UUID.randomUUID()));
+        visibilityBatch.isVisibleResult(facetHolder, contextFor(new Customer()));
+
+        assertEquals(2, declarative.invocationCount.get());
+    }
+
+    @Test
+    void instanceIndependentAdvice_isNotShared_acrossUsersOfTheSameInteraction() {
+
+        // eg. SudoService, which switches the user within the current interaction
+        when(interactionProvider.getInteractionId()).thenReturn(Optional.of(UUID.randomUUID()));
+
+        val facetHolder = FacetHolderAbstract.forTesting(getMetaModelContext());
+        val declarative = new DeclarativeFacet(facetHolder, null);
+        facetHolder.addFacet(declarative);
+
+        val visibilityBatch = VisibilityBatch.create();
+
+        runAs("alice");
+        visibilityBatch.isVisibleResult(facetHolder, contextFor(new Customer()));
+        runAs("bob");
+        visibilityBatch.isVisibleResult(facetHolder, contextFor(new Customer()));
+
+        assertEquals(2, declarative.invocationCount.get());
+
+        // back to the original user, for whom the advice is still memoized
+        runAs("alice");
+        visibilityBatch.isVisibleResult(facetHolder, contextFor(new Customer()));
+
+        assertEquals(2, declarative.invocationCount.get());
+    }
+
+    @Test
+    void memoizedVeto_isStillReported() {
+
+        when(interactionProvider.getInteractionId()).thenReturn(Optional.of(UUID.randomUUID()));
+        runAs("alice");
+
+        val facetHolder = FacetHolderAbstract.forTesting(getMetaModelContext());
+        val declarative = new DeclarativeFacet(facetHolder, "Not authorized to view");
+        facetHolder.addFacet(declarative);
+
+        val visibilityBatch = VisibilityBatch.create();
+        visibilityBatch.isVisibleResult(facetHolder, contextFor(new Customer()));
+        val result = visibilityBatch.isVisibleResult(facetHolder, contextFor(new Customer()));
+
+        assertFalse(result.isNotVetoing());
+        assertEquals("Not authorized to view", result.getReason());
+        assertEquals(1, declarative.invocationCount.get());
+    }
+
+    @Test
+    void withoutInteraction_nothingIsMemoized() {
+
+        when(interactionProvider.getInteractionId()).thenReturn(Optional.empty());
+
+        val facetHolder = FacetHolderAbstract.forTesting(getMetaModelContext());
+        val declarative = new DeclarativeFacet(facetHolder, null);
+        facetHolder.addFacet(declarative);
+
+        val visibilityBatch = VisibilityBatch.create();
+        visibilityBatch.isVisibleResult(facetHolder, contextFor(new Customer()));
+        visibilityBatch.isVisibleResult(facetHolder, contextFor(new Customer()));
+
+        assertEquals(2, declarative.invocationCount.get());
+    }
+
+    // -- HELPER
+
+    private void runAs(final String userName) {
+        when(interactionProvider.currentInteractionContext())
+            .thenReturn(Optional.of(InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName(userName))));
+    }
+
+    private VisibilityContext contextFor(final Customer customer) {
+        val spec = getSpecificationLoader().specForTypeElseFail(Customer.class);
+        return new ObjectVisibilityContext(
+                InteractionHead.regular(ManagedObject.of(spec, customer)),
+                spec.getFeatureIdentifier(),
+                InteractionInitiatedBy.USER,
+                Where.ALL_TABLES);
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.specimpl.IntrospectionState;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import lombok.val;
+
+class IntrospectionSchedulerTest {
+
+    static class Base {}
+    static class Other {}
+    static class Customer extends Base {
+        public Other getOther() { return null; }
+        public List<Order> getOrders() { return null; }
+    }
+    static class Order {}
+    static class Customer_mixin {
+        public Customer_mixin(final Customer customer) {}
+    }
+    static class Unrelated {}
+
+    static class CycleA {
+        public CycleB getB() { return null; }
+    }
+    static class CycleB {
+        public CycleA getA() { return null; }
+    }
+
+    private final List<Class<?>> introspectionOrder = new CopyOnWriteArrayList<>();
+
+    @Test
+    void introspectsDependenciesFirst() {
+        val specs = Can.of(
+                spec(Customer.class, BeanSort.VIEW_MODEL),
+                spec(Customer_mixin.class, BeanSort.MIXIN),
+                spec(Order.class, BeanSort.VIEW_MODEL),
+                spec(Other.class, BeanSort.VALUE),
+                spec(Base.class, BeanSort.ABSTRACT),
+                spec(Unrelated.class, BeanSort.VIEW_MODEL));
+
+        val timings = new IntrospectionScheduler(4).introspect(specs, __->IntrospectionState.FULLY_INTROSPECTED);
+
+        assertEquals(specs.size(), timings.size());
+        assertEquals(specs.size(), introspectionOrder.size());
+        assertIntrospectedBefore(Base.class, Customer.class);
+        assertIntrospectedBefore(Other.class, Customer.class);
+        assertIntrospectedBefore(Order.class, Customer.class); // element type
+        assertIntrospectedBefore(Customer_mixin.class, Customer.class);
+    }
+
+    @Test
+    void cyclesAreGrouped_andIntrospectedOnce() {
+        val specs = Can.of(
+                spec(CycleA.class, BeanSort.VIEW_MODEL),
+                spec(CycleB.class, BeanSort.VIEW_MODEL),
+                spec(Unrelated.class, BeanSort.VIEW_MODEL));
+
+        val groups = IntrospectionScheduler.DependencyGraph.of(specs).groupsInDependencyOrder();
+        assertEquals(2, groups.size());
+
+        new IntrospectionScheduler(2).introspect(specs, __->IntrospectionState.FULLY_INTROSPECTED);
+        assertEquals(3, introspectionOrder.size());
+    }
+
+    @Test
+    void appliesTargetStatePerSpec() {
+        val mixin = spec(Customer_mixin.class, BeanSort.MIXIN);
+        val customer = spec(Customer.class, BeanSort.VIEW_MODEL);
+
+        new IntrospectionScheduler(2).introspect(Can.of(mixin, customer), spec->spec.getBeanSort().isMixin()
+                ? IntrospectionState.FULLY_INTROSPECTED
+                : IntrospectionState.TYPE_INTROSPECTED);
+
+        verify(mixin).introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
+        verify(customer).introspectUpTo(IntrospectionState.TYPE_INTROSPECTED);
+    }
+
+    @Test
+    void failurePropagates() {
+        val failing = spec(Base.class, BeanSort.ABSTRACT);
+        doThrow(new IllegalStateException("boom")).when(failing).introspectUpTo(any());
+
+        val specs = Can.of(failing, spec(Customer.class, BeanSort.VIEW_MODEL));
+
+        assertThrows(RuntimeException.class, ()->
+            new IntrospectionScheduler(2).introspect(specs, __->IntrospectionState.FULLY_INTROSPECTED));
+    }
+
+    // -- HELPER
+
+    private ObjectSpecification spec(final Class<?> cls, final BeanSort beanSort) {
+        val spec = mock(ObjectSpecification.class);
+        doReturn(cls).when(spec).getCorrespondingClass();
+        doReturn(beanSort).when(spec).getBeanSort();
+        doAnswer(invocation->introspectionOrder.add(cls)).when(spec).introspectUpTo(any());
+        return spec;
+    }
+
+    private void assertIntrospectedBefore(final Class<?> first, final Class<?> second) {
+        assertTrue(introspectionOrder.indexOf(first) < introspectionOrder.indexOf(second),
+                ()->String.format("expected %s before %s, but was %s",
+                        first.getSimpleName(), second.getSimpleName(), introspectionOrder));
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.validator.MetaModelValidator;
+import org.apache.isis.core.metamodel.specloader.validator.MetaModelVisitingValidator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import lombok.NonNull;
+import lombok.val;
+
+class MetaModelValidationEngineTest {
+
+    /**
+     * Holds state across specs, hence is not incremental.
+     */
+    static class SummarizingValidator implements MetaModelVisitingValidator, MetaModelValidator {
+        final List<ObjectSpecification> visited = new CopyOnWriteArrayList<>();
+        final AtomicInteger summarized = new AtomicInteger();
+        @Override public void validate(final @NonNull ObjectSpecification spec) { visited.add(spec); }
+        @Override public void summarize() { summarized.incrementAndGet(); }
+        @Override public void validate() { throw new AssertionError("to be driven by the engine"); }
+    }
+
+    static class PerSpecValidator implements MetaModelVisitingValidator, MetaModelValidator {
+        final List<ObjectSpecification> visited = new CopyOnWriteArrayList<>();
+        @Override public void validate(final @NonNull ObjectSpecification spec) { visited.add(spec); }
+        @Override public void validate() { throw new AssertionError("to be driven by the engine"); }
+    }
+
+    private final ObjectSpecification spec1 = mock(ObjectSpecification.class);
+    private final ObjectSpecification spec2 = mock(ObjectSpecification.class);
+    private final ObjectSpecification spec3 = mock(ObjectSpecification.class);
+    private final Can<ObjectSpecification> specs = Can.of(spec1, spec2, spec3);
+
+    @Test
+    void incrementalDetection() {
+        assertTrue(MetaModelValidationEngine.isIncremental(new PerSpecValidator()));
+        assertFalse(MetaModelValidationEngine.isIncremental(new SummarizingValidator()));
+        assertFalse(MetaModelValidationEngine.isIncremental(()->{}));
+    }
+
+    @Test
+    void validate_visitsAllSpecs_andRecordsTimingPerValidator() {
+        val summarizing = new SummarizingValidator();
+        val perSpec = new PerSpecValidator();
+        val ranPlain = new AtomicInteger();
+        final MetaModelValidator plain = ranPlain::incrementAndGet;
+
+        val timings = new MetaModelValidationEngine(()->specs, true)
+                .validate(Can.of(summarizing, perSpec, plain));
+
+        assertEquals(3, timings.size());
+        assertEquals(specs.toList(), summarizing.visited);
+        assertEquals(1, summarizing.summarized.get());
+        assertEquals(specs.toList(), perSpec.visited);
+        assertEquals(1, ranPlain.get());
+    }
+
+    @Test
+    void validate_alsoVisitsSpecsDiscoveredWhileValidating() {
+        val discovered = mock(ObjectSpecification.class);
+        val specsSeen = new AtomicInteger();
+        final MetaModelVisitingValidator discovering = spec->specsSeen.incrementAndGet();
+
+        val knownSpecs = new CopyOnWriteArrayList<ObjectSpecification>(specs.toList());
+        final MetaModelValidator validator = new PerSpecValidator() {
+            @Override public void validate(final @NonNull ObjectSpecification spec) {
+                discovering.validate(spec);
+                if(!knownSpecs.contains(discovered)) {
+                    knownSpecs.add(discovered);
+                }
+            }
+        };
+
+        new MetaModelValidationEngine(()->Can.ofCollection(knownSpecs), false)
+            .validate(Can.of(validator));
+
+        assertEquals(4, specsSeen.get());
+    }
+
+    @Test
+    void revalidate_runsIncrementalValidatorsOnly_visitingAffectedSpecsOnly() {
+        val summarizing = new SummarizingValidator();
+        val perSpec = new PerSpecValidator();
+        val ranPlain = new AtomicInteger();
+        final MetaModelValidator plain = ranPlain::incrementAndGet;
+
+        val timings = new MetaModelValidationEngine(()->specs, false)
+            .revalidate(Can.of(summarizing, perSpec, plain), Can.of(spec2));
+
+        assertEquals(1, timings.size());
+        assertEquals(List.of(spec2), perSpec.visited);
+        assertTrue(summarizing.visited.isEmpty());
+        assertEquals(0, summarizing.summarized.get());
+        assertEquals(0, ranPlain.get());
+    }
+
+    @Test
+    void validationAcrossSpecs_isDistinguishable() {
+        val acrossSpecsWhenVisited = new CopyOnWriteArrayList<Boolean>();
+        val acrossSpecsWhenSummarized = new CopyOnWriteArrayList<Boolean>();
+        val acrossSpecsWhenPlain = new CopyOnWriteArrayList<Boolean>();
+        final MetaModelValidator summarizing = new SummarizingValidator() {
+            @Override public void validate(final @NonNull ObjectSpecification spec) {
+                acrossSpecsWhenVisited.add(MetaModelValidationEngine.isValidatingAcrossSpecs());
+            }
+            @Override public void summarize() {
+                acrossSpecsWhenSummarized.add(MetaModelValidationEngine.isValidatingAcrossSpecs());
+            }
+        };
+        final MetaModelValidator plain = ()->
+            acrossSpecsWhenPlain.add(MetaModelValidationEngine.isValidatingAcrossSpecs());
+
+        new MetaModelValidationEngine(()->specs, true)
+            .validate(Can.of(summarizing, plain));
+
+        assertEquals(List.of(false, false, false), acrossSpecsWhenVisited);
+        assertEquals(List.of(true), acrossSpecsWhenSummarized);
+        assertEquals(List.of(true), acrossSpecsWhenPlain);
+        assertFalse(MetaModelValidationEngine.isValidatingAcrossSpecs());
+    }
+
+    @Test
+    void validatorFailure_propagates() {
+        final MetaModelValidator failing = ()->{ throw new IllegalStateException("boom"); };
+
+        assertThrows(IllegalStateException.class, ()->
+            new MetaModelValidationEngine(()->specs, true).validate(Can.of(failing, new PerSpecValidator())));
+    }
+
+}
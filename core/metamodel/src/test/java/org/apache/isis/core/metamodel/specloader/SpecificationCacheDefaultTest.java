@@ -18,6 +18,16 @@
  */
 package org.apache.isis.core.metamodel.specloader;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.jmock.Expectations;
 import org.jmock.auto.Mock;
 import org.junit.After;
@@ -26,6 +36,10 @@
 import org.junit.Test;
 
 import org.apache.isis.applib.id.LogicalType;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._Blackhole;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.core.internaltestsupport.benchmark.MicroBenchmark;
 import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
 import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2.Mode;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
@@ -33,6 +47,7 @@
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assume.assumeTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import lombok.val;
@@ -85,6 +100,11 @@ public void get_whenNotCached() {
         assertFalse(specificationCache.lookup(Customer.class).isPresent());
     }
 
+    @Test
+    public void get_whenNull() {
+        assertFalse(specificationCache.lookup(null).isPresent());
+    }
+
     @Test
     public void get_whenCached() {
         
@@ -123,4 +143,101 @@ public void getByObjectType_whenSet() {
         assertSame(objectSpec, customerSpec);
     }
 
+    /**
+     * Compares lookup throughput under contention against the previous fully synchronized cache,
+     * with {@value #BENCHMARK_THREADS} threads each doing {@value #BENCHMARK_LOOKUPS_PER_THREAD} lookups per op;
+     * run with <code>-Disis.benchmark=true</code>.
+     */
+    @Test
+    public void benchmark_concurrentLookups() throws Exception {
+        assumeTrue(MicroBenchmark.isEnabled());
+
+        val executor = Executors.newFixedThreadPool(BENCHMARK_THREADS);
+        try {
+            runLookups("synchronized (previous)", new SynchronizedSpecificationCache_forComparison<>(), executor);
+            runLookups("lock-free", new SpecificationCacheDefault<>(), executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // -- BENCHMARK HELPER
+
+    private static final int BENCHMARK_THREADS = 8;
+    private static final int BENCHMARK_LOOKUPS_PER_THREAD = 100_000;
+
+    private void runLookups(
+            final String label,
+            final SpecificationCache<ObjectSpecification> cache,
+            final ExecutorService executor) throws Exception {
+
+        cache.computeIfAbsent(Customer.class, __->customerSpec);
+        cache.computeIfAbsent(Order.class, __->orderSpec);
+
+        // counting hits locally, as a shared blackhole would itself be contended
+        final Callable<Integer> lookups = ()->{
+            int hits = 0;
+            for (int i = 0; i < BENCHMARK_LOOKUPS_PER_THREAD; i++) {
+                if(cache.lookup((i & 1) == 0 ? Customer.class : Order.class).isPresent()) {
+                    hits++;
+                }
+            }
+            return hits;
+        };
+        val tasks = IntStream.range(0, BENCHMARK_THREADS)
+                .mapToObj(__->lookups)
+                .collect(Collectors.toList());
+
+        MicroBenchmark.builder()
+            .label(label)
+            .warmupIterations(20)
+            .iterations(100)
+            .opsPerIteration((long)BENCHMARK_THREADS * BENCHMARK_LOOKUPS_PER_THREAD)
+            .build()
+            .run(()->{
+                for (val future : executor.invokeAll(tasks)) {
+                    _Blackhole.consume(future.get());
+                }
+            });
+    }
+
+    /**
+     * The cache as it was before lookups were made lock-free, that is, guarded by its monitor throughout.
+     */
+    private static class SynchronizedSpecificationCache_forComparison<T extends ObjectSpecification>
+    implements SpecificationCache<T> {
+
+        private final Map<Class<?>, T> specByClass = _Maps.newHashMap();
+
+        @Override
+        public synchronized Optional<T> lookup(final Class<?> cls) {
+            return Optional.ofNullable(specByClass.get(cls));
+        }
+
+        @Override
+        public synchronized T computeIfAbsent(final Class<?> cls, final Function<Class<?>, T> mappingFunction) {
+            return specByClass.computeIfAbsent(cls, mappingFunction);
+        }
+
+        @Override
+        public synchronized void clear() {
+            specByClass.clear();
+        }
+
+        @Override
+        public synchronized Can<T> snapshotSpecs() {
+            return Can.ofCollection(specByClass.values());
+        }
+
+        @Override
+        public synchronized T remove(final Class<?> cls) {
+            return specByClass.remove(cls);
+        }
+
+        @Override
+        public synchronized void forEach(final Consumer<T> onSpec, final boolean shouldRunConcurrent) {
+            specByClass.values().forEach(onSpec);
+        }
+    }
+
 }
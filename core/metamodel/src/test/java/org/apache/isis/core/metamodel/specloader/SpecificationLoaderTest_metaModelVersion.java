@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.core.metamodel._testing.MetaModelContext_forTesting;
+
+import lombok.val;
+
+class SpecificationLoaderTest_metaModelVersion {
+
+    private SpecificationLoader specificationLoader;
+
+    @BeforeEach
+    void setUp() {
+        specificationLoader = MetaModelContext_forTesting.buildDefault().getSpecificationLoader();
+    }
+
+    @AfterEach
+    void tearDown() {
+        specificationLoader.disposeMetaModel();
+    }
+
+    @Test
+    void loading_doesNotChangeVersion() {
+        val version = specificationLoader.getMetaModelVersion();
+
+        specificationLoader.loadSpecification(ReflectorTestPojo.class);
+        specificationLoader.loadSpecification(String.class);
+
+        assertEquals(version, specificationLoader.getMetaModelVersion());
+    }
+
+    @Test
+    void reloading_incrementsVersion() {
+        specificationLoader.loadSpecification(ReflectorTestPojo.class);
+        val version = specificationLoader.getMetaModelVersion();
+
+        specificationLoader.reloadSpecification(ReflectorTestPojo.class);
+
+        assertTrue(specificationLoader.getMetaModelVersion() > version);
+    }
+
+    @Test
+    void disposing_incrementsVersion() {
+        specificationLoader.loadSpecification(ReflectorTestPojo.class);
+        val version = specificationLoader.getMetaModelVersion();
+
+        specificationLoader.disposeMetaModel();
+
+        assertTrue(specificationLoader.getMetaModelVersion() > version);
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader.specimpl;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.id.LogicalType;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.spec.ActionScope;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+
+import lombok.val;
+
+class _MemberIndexTest {
+
+    static class Customer {}
+
+    @Test
+    void association_lookupById() {
+        val name = association("name");
+        val email = association("email");
+
+        val memberIndex = _MemberIndex.create(Can.of(name, email), Collections.emptyMap());
+
+        assertSame(name, memberIndex.lookupAssociation("name", MixedIn.EXCLUDED).get());
+        assertSame(email, memberIndex.lookupAssociation("email", MixedIn.INCLUDED).get());
+        assertFalse(memberIndex.lookupAssociation("unknown", MixedIn.INCLUDED).isPresent());
+        assertFalse(memberIndex.lookupAssociation(null, MixedIn.INCLUDED).isPresent());
+    }
+
+    @Test
+    void association_firstInMemberOrderWins_whenInherited() {
+        // an overriding member and the one it overrides share the same id
+        val overriding = association("name");
+        val overridden = association("name");
+
+        val memberIndex = _MemberIndex.create(Can.of(overriding, overridden), Collections.emptyMap());
+
+        assertSame(overriding, memberIndex.lookupAssociation("name", MixedIn.INCLUDED).get());
+        assertSame(overriding, memberIndex.lookupAssociation("name", MixedIn.EXCLUDED).get());
+    }
+
+    @Test
+    void association_mixedIn() {
+        val mixedInAssociation = mixedInAssociation("orders");
+
+        val memberIndex = _MemberIndex.create(Can.of(mixedInAssociation), Collections.emptyMap());
+
+        assertSame(mixedInAssociation, memberIndex.lookupAssociation("orders", MixedIn.INCLUDED).get());
+        assertFalse(memberIndex.lookupAssociation("orders", MixedIn.EXCLUDED).isPresent());
+    }
+
+    @Test
+    void action_lookupByIdentityString_andByName() {
+        val placeOrder = action("placeOrder", String.class);
+
+        val memberIndex = _MemberIndex.create(Can.empty(),
+                actionsByScope(ActionScope.PRODUCTION, placeOrder));
+
+        assertSame(placeOrder, memberIndex
+                .lookupAction("placeOrder(java.lang.String)", ActionScope.ANY, MixedIn.EXCLUDED).get());
+        assertSame(placeOrder, memberIndex
+                .lookupAction("placeOrder", ActionScope.ANY, MixedIn.EXCLUDED).get());
+        assertFalse(memberIndex
+                .lookupAction("placeOrder(int)", ActionScope.ANY, MixedIn.EXCLUDED).isPresent());
+        assertFalse(memberIndex
+                .lookupAction(null, ActionScope.ANY, MixedIn.EXCLUDED).isPresent());
+    }
+
+    @Test
+    void action_overloads() {
+        val placeOrder1 = action("placeOrder", String.class);
+        val placeOrder2 = action("placeOrder", String.class, int.class);
+
+        val memberIndex = _MemberIndex.create(Can.empty(),
+                actionsByScope(ActionScope.PRODUCTION, placeOrder1, placeOrder2));
+
+        assertSame(placeOrder1, memberIndex
+                .lookupAction("placeOrder(java.lang.String)", ActionScope.ANY, MixedIn.EXCLUDED).get());
+        assertSame(placeOrder2, memberIndex
+                .lookupAction("placeOrder(java.lang.String,int)", ActionScope.ANY, MixedIn.EXCLUDED).get());
+        // by name, the first in member order wins
+        assertSame(placeOrder1, memberIndex
+                .lookupAction("placeOrder", ActionScope.ANY, MixedIn.EXCLUDED).get());
+    }
+
+    @Test
+    void action_mixedIn() {
+        val mixedInAction = mixedInAction("cancel");
+
+        val memberIndex = _MemberIndex.create(Can.empty(),
+                actionsByScope(ActionScope.PRODUCTION, mixedInAction));
+
+        assertSame(mixedInAction, memberIndex
+                .lookupAction("cancel", ActionScope.ANY, MixedIn.INCLUDED).get());
+        assertFalse(memberIndex
+                .lookupAction("cancel", ActionScope.ANY, MixedIn.EXCLUDED).isPresent());
+    }
+
+    @Test
+    void action_honorsActionScopes() {
+        val productionAction = action("ship");
+        val prototypeAction = action("resetAll");
+
+        val actionsByScope = new EnumMap<ActionScope, List<ObjectAction>>(ActionScope.class);
+        actionsByScope.put(ActionScope.PRODUCTION, List.of(productionAction));
+        actionsByScope.put(ActionScope.PROTOTYPE, List.of(prototypeAction));
+
+        val memberIndex = _MemberIndex.create(Can.empty(), actionsByScope);
+
+        assertSame(productionAction, memberIndex
+                .lookupAction("ship", ActionScope.PRODUCTION_ONLY, MixedIn.EXCLUDED).get());
+        assertFalse(memberIndex
+                .lookupAction("resetAll", ActionScope.PRODUCTION_ONLY, MixedIn.EXCLUDED).isPresent());
+        assertSame(prototypeAction, memberIndex
+                .lookupAction("resetAll", ActionScope.ANY, MixedIn.EXCLUDED).get());
+    }
+
+    // -- HELPER
+
+    private static ObjectAssociation association(final String id) {
+        val association = mock(ObjectAssociation.class);
+        when(association.getId()).thenReturn(id);
+        return association;
+    }
+
+    private static ObjectAssociation mixedInAssociation(final String id) {
+        val association = mock(ObjectAssociation.class,
+                withSettings().extraInterfaces(MixedInMember.class));
+        when(association.getId()).thenReturn(id);
+        return association;
+    }
+
+    private static ObjectAction action(final String name, final Class<?>... parameterClasses) {
+        val action = mock(ObjectAction.class);
+        when(action.getFeatureIdentifier()).thenReturn(actionIdentifier(name, parameterClasses));
+        return action;
+    }
+
+    private static ObjectAction mixedInAction(final String name, final Class<?>... parameterClasses) {
+        val action = mock(ObjectAction.class,
+                withSettings().extraInterfaces(MixedInMember.class));
+        when(action.getFeatureIdentifier()).thenReturn(actionIdentifier(name, parameterClasses));
+        return action;
+    }
+
+    private static Identifier actionIdentifier(final String name, final Class<?>... parameterClasses) {
+        return Identifier.actionIdentifier(LogicalType.fqcn(Customer.class), name, parameterClasses);
+    }
+
+    private static Map<ActionScope, List<ObjectAction>> actionsByScope(
+            final ActionScope actionScope,
+            final ObjectAction... actions) {
+        val actionsByScope = new EnumMap<ActionScope, List<ObjectAction>>(ActionScope.class);
+        actionsByScope.put(actionScope, List.of(actions));
+        return actionsByScope;
+    }
+
+}
@@ -0,0 +1,268 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.valuesemantics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.exceptions.recoverable.TextEntryParseException;
+import org.apache.isis.applib.id.LogicalType;
+import org.apache.isis.applib.locale.UserLocale;
+import org.apache.isis.applib.value.semantics.ValueSemanticsProvider.Context;
+import org.apache.isis.commons.internal.base._Blackhole;
+import org.apache.isis.core.internaltestsupport.benchmark.MicroBenchmark;
+import org.apache.isis.core.metamodel.facets.objectvalue.digits.MaxFractionalDigitsFacet;
+import org.apache.isis.core.metamodel.spec.feature.ObjectFeature;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.metamodel.valuesemantics.temporal.LocalDateTimeValueSemantics;
+import org.apache.isis.core.metamodel.valuesemantics.temporal.LocalDateValueSemantics;
+
+import lombok.val;
+
+class ValueSemanticsFormatCachingTest {
+
+    private Locale defaultLocale;
+
+    @BeforeEach
+    void setUp() {
+        defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.UK);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    /**
+     * Allows to switch the locale, without having to set up an interaction context.
+     */
+    static class IntValueSemantics_forTesting extends IntValueSemantics {
+        Locale locale = Locale.UK;
+        @Override protected UserLocale getUserLocale(final Context context) {
+            return UserLocale.valueOf(locale);
+        }
+    }
+
+    @Test
+    void numberFormats_areCachedPerLocale() {
+        val semantics = new IntValueSemantics_forTesting();
+
+        assertEquals("1,234,567", semantics.simpleTextPresentation(null, 1234567));
+        assertEquals(Integer.valueOf(1234567), semantics.parseTextRepresentation(null, "1,234,567"));
+
+        semantics.locale = Locale.GERMANY;
+        assertEquals("1.234.567", semantics.simpleTextPresentation(null, 1234567));
+        assertEquals(Integer.valueOf(1234567), semantics.parseTextRepresentation(null, "1.234.567"));
+
+        semantics.locale = Locale.UK;
+        assertEquals("1,234,567", semantics.simpleTextPresentation(null, 1234567));
+    }
+
+    @Test
+    void parsing_doesNotAffectRendering() {
+        val semantics = new BigDecimalValueSemantics();
+
+        // parsing uses a format configured to parse BigDecimal, rendering must not pick that up
+        assertEquals(new BigDecimal("0.1234567890123456"),
+                semantics.parseTextRepresentation(null, "0.1234567890123456"));
+        assertEquals("34,132.199", semantics.simpleTextPresentation(null, new BigDecimal("34132.199")));
+    }
+
+    @Test
+    void formats_areSafeForConcurrentUse() throws Exception {
+        val bigDecimalSemantics = new BigDecimalValueSemantics();
+        val localDateSemantics = new LocalDateValueSemantics();
+        val date = LocalDate.of(2021, 12, 24);
+        val expectedDate = localDateSemantics.simpleTextPresentation(null, date);
+
+        final Callable<Boolean> task = ()->{
+            for (int i = 0; i < 1_000; i++) {
+                val value = new BigDecimal(i + ".25");
+                val rendered = bigDecimalSemantics.parseableTextRepresentation(null, value);
+                if(!value.equals(bigDecimalSemantics.parseTextRepresentation(null, rendered))
+                        || !expectedDate.equals(localDateSemantics.simpleTextPresentation(null, date))) {
+                    return false;
+                }
+            }
+            return true;
+        };
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            val futures = executor.invokeAll(IntStream.range(0, 16)
+                    .mapToObj(i->task)
+                    .collect(Collectors.toList()));
+            for (final Future<Boolean> future : futures) {
+                assertEquals(Boolean.TRUE, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Parsing formats are configured from the feature's facets, hence depend on the metamodel.
+     */
+    @Nested
+    class ParsingFormats {
+
+        private final SpecificationLoader mockSpecificationLoader = mock(SpecificationLoader.class);
+        private final ObjectFeature mockFeature = mock(ObjectFeature.class);
+        private final MaxFractionalDigitsFacet mockMaxFractionalDigitsFacet = mock(MaxFractionalDigitsFacet.class);
+
+        private final Context context = Context.of(
+                Identifier.propertyOrCollectionIdentifier(
+                        LogicalType.fqcn(ValueSemanticsFormatCachingTest.class), "amount"),
+                null);
+
+        private BigDecimalValueSemantics semantics;
+
+        @BeforeEach
+        void setUp() {
+            semantics = new BigDecimalValueSemantics();
+            semantics.setSpecificationLoader(mockSpecificationLoader);
+            when(mockFeature.lookupFacet(MaxFractionalDigitsFacet.class))
+                .thenReturn(Optional.of(mockMaxFractionalDigitsFacet));
+            when(mockMaxFractionalDigitsFacet.getMaxFractionalDigits()).thenReturn(2);
+        }
+
+        @Test
+        void notCached_whenFeatureUnresolved() {
+            when(mockSpecificationLoader.loadFeature(context.getFeatureIdentifier()))
+                .thenReturn(Optional.empty());
+            assertEquals(new BigDecimal("1.234"), semantics.parseTextRepresentation(context, "1.234"));
+
+            // once resolved, the feature's facets must apply
+            when(mockSpecificationLoader.loadFeature(context.getFeatureIdentifier()))
+                .thenReturn(Optional.of(mockFeature));
+            assertThrows(TextEntryParseException.class, ()->semantics.parseTextRepresentation(context, "1.234"));
+        }
+
+        @Test
+        void discarded_whenMetamodelReloaded() {
+            when(mockSpecificationLoader.loadFeature(context.getFeatureIdentifier()))
+                .thenReturn(Optional.of(mockFeature));
+            when(mockSpecificationLoader.getMetaModelVersion()).thenReturn(0L);
+            assertThrows(TextEntryParseException.class, ()->semantics.parseTextRepresentation(context, "1.234"));
+
+            // facets changed, but the metamodel was not reloaded, so the cached format still applies
+            when(mockMaxFractionalDigitsFacet.getMaxFractionalDigits()).thenReturn(3);
+            assertThrows(TextEntryParseException.class, ()->semantics.parseTextRepresentation(context, "1.234"));
+
+            when(mockSpecificationLoader.getMetaModelVersion()).thenReturn(1L);
+            assertEquals(new BigDecimal("1.234"), semantics.parseTextRepresentation(context, "1.234"));
+        }
+    }
+
+    @Nested
+    class Benchmark {
+
+        /**
+         * Measures time and heap allocation per rendered and parsed value, simulating
+         * a 500 row table with numeric and temporal columns; run with <code>-Disis.benchmark=true</code>.
+         */
+        @Test
+        void renderAndParse() throws Exception {
+            assumeTrue(MicroBenchmark.isEnabled());
+
+            final int rowCount = 500;
+            val bigDecimalSemantics = new BigDecimalValueSemantics();
+            val intSemantics = new IntValueSemantics();
+            val localDateSemantics = new LocalDateValueSemantics();
+            val localDateTimeSemantics = new LocalDateTimeValueSemantics();
+
+            final BigDecimal[] bigDecimals = new BigDecimal[rowCount];
+            final String[] bigDecimalTexts = new String[rowCount];
+            final int[] ints = new int[rowCount];
+            final String[] intTexts = new String[rowCount];
+            final LocalDate[] localDates = new LocalDate[rowCount];
+            final LocalDateTime[] localDateTimes = new LocalDateTime[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                bigDecimals[i] = new BigDecimal(i * 1_000 + ".25");
+                bigDecimalTexts[i] = bigDecimalSemantics.parseableTextRepresentation(null, bigDecimals[i]);
+                ints[i] = i * 1_000;
+                intTexts[i] = intSemantics.parseableTextRepresentation(null, ints[i]);
+                localDates[i] = LocalDate.of(2021, 1, 1).plusDays(i);
+                localDateTimes[i] = LocalDateTime.of(2021, 1, 1, 12, 0).plusMinutes(i);
+            }
+
+            run("BigDecimalValueSemantics render", rowCount, ()->{
+                for (int i = 0; i < rowCount; i++) {
+                    _Blackhole.consume(bigDecimalSemantics.simpleTextPresentation(null, bigDecimals[i]));
+                }
+            });
+            run("BigDecimalValueSemantics parse ", rowCount, ()->{
+                for (int i = 0; i < rowCount; i++) {
+                    _Blackhole.consume(bigDecimalSemantics.parseTextRepresentation(null, bigDecimalTexts[i]));
+                }
+            });
+            run("IntValueSemantics render       ", rowCount, ()->{
+                for (int i = 0; i < rowCount; i++) {
+                    _Blackhole.consume(intSemantics.simpleTextPresentation(null, ints[i]));
+                }
+            });
+            run("IntValueSemantics parse        ", rowCount, ()->{
+                for (int i = 0; i < rowCount; i++) {
+                    _Blackhole.consume(intSemantics.parseTextRepresentation(null, intTexts[i]));
+                }
+            });
+            run("LocalDateValueSemantics render ", rowCount, ()->{
+                for (int i = 0; i < rowCount; i++) {
+                    _Blackhole.consume(localDateSemantics.simpleTextPresentation(null, localDates[i]));
+                }
+            });
+            run("LocalDateTimeValueSem. render  ", rowCount, ()->{
+                for (int i = 0; i < rowCount; i++) {
+                    _Blackhole.consume(localDateTimeSemantics.simpleTextPresentation(null, localDateTimes[i]));
+                }
+            });
+        }
+
+        private void run(final String name, final int opsPerTask, final MicroBenchmark.Task task) throws Exception {
+            MicroBenchmark.builder()
+                .label(name)
+                .opsPerIteration(opsPerTask)
+                .build()
+                .run(task);
+        }
+    }
+
+}
@@ -28,6 +28,7 @@
 import org.junit.jupiter.params.provider.EnumSource;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.apache.isis.applib.annotation.TimePrecision;
 import org.apache.isis.applib.locale.UserLocale;
@@ -76,6 +77,28 @@ void testTimeFormats(final TimePrecision timePrecision) {
         System.out.println(formattedTemporal);
     }
 
+    @ParameterizedTest
+    @EnumSource(TimePrecision.class)
+    void testEditingFormatsAreShared(final TimePrecision timePrecision) {
+
+        target = new TemporalValueSemanticsProvider_forTesting(
+                TemporalCharacteristic.DATE_TIME, OffsetCharacteristic.LOCAL);
+
+        val formatter = target.getTemporalEditingFormat(null,
+                target.getTemporalCharacteristic(),
+                target.getOffsetCharacteristic(),
+                timePrecision,
+                EditingFormatDirection.INPUT,
+                editingPattern);
+
+        assertSame(formatter, target.getTemporalEditingFormat(null,
+                target.getTemporalCharacteristic(),
+                target.getOffsetCharacteristic(),
+                timePrecision,
+                EditingFormatDirection.INPUT,
+                (new IsisConfiguration.ValueTypes.Temporal()).getEditing()));
+    }
+
     // -- HELPER
 
     private static class TemporalValueSemanticsProvider_forTesting
@@ -29,6 +29,7 @@
 import org.apache.isis.core.interaction.scope.TransactionBoundaryAware;
 import org.apache.isis.applib.services.iactnlayer.InteractionLayerTracker;
 import org.apache.isis.core.transaction.events.TransactionAfterCompletionEvent;
+import org.apache.isis.core.transaction.events.TransactionBeforeCommitEvent;
 import org.apache.isis.core.transaction.events.TransactionBeforeCompletionEvent;
 
 import lombok.RequiredArgsConstructor;
@@ -42,6 +43,11 @@
     private final EventBusService eventBusService;
     private final InteractionLayerTracker interactionLayerTracker;
 
+    @Override
+    public void beforeCommit(final boolean readOnly) {
+        eventBusService.post(TransactionBeforeCommitEvent.instance());
+    }
+
     @Override
     public void beforeCompletion() {
         _Xray.txBeforeCompletion(interactionLayerTracker, "tx: beforeCompletion");
@@ -49,10 +49,12 @@
 import org.apache.isis.core.runtimeservices.menubars.bootstrap3.MenuBarsServiceBS3;
 import org.apache.isis.core.runtimeservices.message.MessageServiceDefault;
 import org.apache.isis.core.runtimeservices.publish.CommandPublisherDefault;
+import org.apache.isis.core.runtimeservices.publish.EntityChangesAsyncDispatcher;
 import org.apache.isis.core.runtimeservices.publish.EntityChangesPublisherDefault;
 import org.apache.isis.core.runtimeservices.publish.EntityPropertyChangePublisherDefault;
 import org.apache.isis.core.runtimeservices.publish.ExecutionPublisherDefault;
 import org.apache.isis.core.runtimeservices.publish.ObjectLifecyclePublisherDefault;
+import org.apache.isis.core.runtimeservices.queryresultscache.SharedQueryResultsCacheDefault;
 import org.apache.isis.core.runtimeservices.recognizer.ExceptionRecognizerServiceDefault;
 import org.apache.isis.core.runtimeservices.recognizer.dae.ExceptionRecognizerForDataAccessException;
 import org.apache.isis.core.runtimeservices.repository.RepositoryServiceDefault;
@@ -65,6 +67,7 @@
 import org.apache.isis.core.runtimeservices.user.ImpersonateMenuAdvisorDefault;
 import org.apache.isis.core.runtimeservices.user.ImpersonatedUserHolderDefault;
 import org.apache.isis.core.runtimeservices.userreg.EmailNotificationServiceDefault;
+import org.apache.isis.core.runtimeservices.wrapper.AsyncExecutorPools;
 import org.apache.isis.core.runtimeservices.wrapper.WrapperFactoryDefault;
 import org.apache.isis.core.runtimeservices.xml.XmlServiceDefault;
 import org.apache.isis.core.runtimeservices.xmlsnapshot.XmlSnapshotServiceDefault;
@@ -77,6 +80,7 @@
 
         // @Service's
         BookmarkServiceDefault.class,
+        EntityChangesAsyncDispatcher.class,
         EntityChangesPublisherDefault.class,
         EntityPropertyChangePublisherDefault.class,
         CommandDtoFactoryDefault.class,
@@ -104,9 +108,11 @@
         MessageServiceDefault.class,
         ObjectIconServiceDefault.class,
         ScratchpadDefault.class,
+        SharedQueryResultsCacheDefault.class,
         SitemapServiceDefault.class,
         TransactionServiceSpring.class,
         UrlEncodingServiceWithCompression.class,
+        AsyncExecutorPools.class,
         WrapperFactoryDefault.class,
         XmlServiceDefault.class,
         XmlSnapshotServiceDefault.class,
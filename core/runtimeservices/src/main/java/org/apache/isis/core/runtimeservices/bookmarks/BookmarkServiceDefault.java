@@ -19,9 +19,12 @@
 package org.apache.isis.core.runtimeservices.bookmarks;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -38,7 +41,9 @@
 import org.apache.isis.applib.services.bookmark.BookmarkHolder;
 import org.apache.isis.applib.services.bookmark.BookmarkService;
 import org.apache.isis.applib.services.wrapper.WrapperFactory;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.base._Casts;
+import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.collections._Sets;
@@ -46,6 +51,7 @@
 import org.apache.isis.commons.internal.memento._Mementos.SerializingAdapter;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.objectmanager.query.ObjectBulkLoader;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
@@ -90,6 +96,22 @@ public Optional<Object> lookup(final @Nullable Bookmark bookmark) {
         }
     }
 
+    @Override
+    public List<Optional<Object>> lookupAll(final @Nullable Collection<Bookmark> bookmarks) {
+        if(_NullSafe.isEmpty(bookmarks)) {
+            return Collections.emptyList();
+        }
+        val nonNullBookmarks = Can.ofCollection(bookmarks); // skips nulls
+        val resolved = objectManager
+                .loadObjects(ObjectBulkLoader.BookmarksRequest.of(nonNullBookmarks))
+                .iterator();
+        return bookmarks.stream()
+                .map(bookmark->bookmark!=null
+                        ? resolved.next().map(ManagedObject::getPojo)
+                        : Optional.empty())
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Bookmark> bookmarkFor(final @Nullable Object domainObject) {
         if(domainObject == null) {
@@ -183,15 +183,16 @@ private Bookmark doExecuteCommand(final CommandDto dto) {
 
         final OidsDto oidsDto = CommandDtoUtils.targetsFor(dto);
         final List<OidDto> targetOidDtos = oidsDto.getOid();
+        // bulk load all targets up front, rather than one at a time
+        val targetAdapters = valueMarshaller.recoverReferencesFrom(oidsDto);
 
         final InteractionType interactionType = memberDto.getInteractionType();
         if(interactionType == InteractionType.ACTION_INVOCATION) {
 
             final ActionDto actionDto = (ActionDto) memberDto;
 
-            for (OidDto targetOidDto : targetOidDtos) {
+            for (val targetAdapter : targetAdapters) {
 
-                val targetAdapter = valueMarshaller.recoverReferenceFrom(targetOidDto);
                 final ObjectAction objectAction = findObjectAction(targetAdapter, memberId);
 
                 // we pass 'null' for the mixedInAdapter; if this action _is_ a mixin then
@@ -229,13 +230,13 @@ private Bookmark doExecuteCommand(final CommandDto dto) {
 
             final PropertyDto propertyDto = (PropertyDto) memberDto;
 
-            for (OidDto targetOidDto : targetOidDtos) {
+            for (int i = 0; i < targetOidDtos.size(); i++) {
 
-                val targetAdapter = valueMarshaller.recoverReferenceFrom(targetOidDto);
+                val targetAdapter = targetAdapters.getElseFail(i);
 
                 if(ManagedObjects.isNullOrUnspecifiedOrEmpty(targetAdapter)) {
                     throw _Exceptions.unrecoverableFormatted("cannot recreate ManagedObject from bookmark %s",
-                            Bookmark.forOidDto(targetOidDto));
+                            Bookmark.forOidDto(targetOidDtos.get(i)));
                 }
 
                 final OneToOneAssociation property = findOneToOneAssociation(targetAdapter, memberId);
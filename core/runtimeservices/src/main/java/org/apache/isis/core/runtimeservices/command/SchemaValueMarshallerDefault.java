@@ -38,7 +38,9 @@
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.metamodel.facetapi.FeatureType;
 import org.apache.isis.core.metamodel.facets.actions.action.invocation.IdentifierUtil;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
 import org.apache.isis.core.metamodel.objectmanager.load.ObjectLoader;
+import org.apache.isis.core.metamodel.objectmanager.query.ObjectBulkLoader;
 import org.apache.isis.core.metamodel.services.schema.SchemaValueMarshaller;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
@@ -54,6 +56,7 @@
 import org.apache.isis.schema.common.v2.CollectionDto;
 import org.apache.isis.schema.common.v2.EnumDto;
 import org.apache.isis.schema.common.v2.OidDto;
+import org.apache.isis.schema.common.v2.OidsDto;
 import org.apache.isis.schema.common.v2.TypedTupleDto;
 import org.apache.isis.schema.common.v2.ValueDto;
 import org.apache.isis.schema.common.v2.ValueType;
@@ -76,6 +79,7 @@
 
     @Inject private ValueSemanticsResolver valueSemanticsResolver;
     @Inject private SpecificationLoader specLoader;
+    @Inject private ObjectManager objectManager;
 
     // -- RECOVER IDENTIFIERS
 
@@ -110,6 +114,21 @@ public ManagedObject recoverReferenceFrom(final @NonNull OidDto oidDto) {
         return spec.getMetaModelContext().getObjectManager().loadObject(loadRequest);
     }
 
+    @Override
+    public Can<ManagedObject> recoverReferencesFrom(final @NonNull OidsDto oidsDto) {
+        val bookmarks = _NullSafe.stream(oidsDto.getOid())
+                .map(Bookmark::forOidDto)
+                .collect(Can.toCan());
+        if(bookmarks.isEmpty()) {
+            return Can.empty();
+        }
+        val loadRequest = ObjectBulkLoader.BookmarksRequest.of(bookmarks);
+        return bookmarks.zipMap(objectManager.loadObjects(loadRequest), (bookmark, loaded)->
+            loaded.orElseGet(()->specLoader.specForLogicalTypeName(bookmark.getLogicalTypeName())
+                    .map(ManagedObject::empty)
+                    .orElseGet(ManagedObject::unspecified)));
+    }
+
     @Override
     public ManagedObject recoverValueFrom(final @NonNull PropertyDto propertyDto) {
         val identifier = propertyIdentifier(propertyDto);
@@ -71,7 +71,8 @@ public String getContext() {
     }
 
     /**
-     * Not part of equals/hashCode impl.
+     * Part of equals/hashCode impl, as the same text may appear both as a <tt>msgid</tt> and
+     * as the <tt>msgid_plural</tt> of another entry, each with its own translation.
      */
     public Type getType() {
         return type;
@@ -86,6 +87,7 @@ public boolean equals(final Object o) {
 
         if (context != null ? !context.equals(that.context) : that.context != null) return false;
         if (msgId != null ? !msgId.equals(that.msgId) : that.msgId != null) return false;
+        if (type != that.type) return false;
 
         return true;
     }
@@ -94,6 +96,7 @@ public boolean equals(final Object o) {
     public int hashCode() {
         int result = context != null ? context.hashCode() : 0;
         result = 31 * result + (msgId != null ? msgId.hashCode() : 0);
+        result = 31 * result + (type != null ? type.hashCode() : 0);
         return result;
     }
 
@@ -103,7 +106,11 @@ public int compareTo(final ContextAndMsgId o) {
         if(i != 0) {
             return i;
         }
-        return context.compareTo(o.context);
+        final int j = context.compareTo(o.context);
+        if(j != 0) {
+            return j;
+        }
+        return type.compareTo(o.type);
     }
 
     @Override
@@ -111,6 +118,7 @@ public String toString() {
         return "ContextAndMsgId{" +
                 "context='" + context + '\'' +
                 ", msgId='" + msgId + '\'' +
+                ", type=" + type +
                 '}';
     }
 }
@@ -35,6 +35,7 @@
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.collections._Sets;
 
+import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -43,8 +44,8 @@ class PoReader extends PoAbstract {
     public static final String DASH = "-";
     public static final String UNDERSCORE = "_";
 
-    private final Map<Locale, Map<ContextAndMsgId, String>> translationByKeyByLocale = _Maps.newHashMap();
-    private final Map<Locale, Boolean> usesFallbackByLocale = _Maps.newHashMap();
+    private final Map<Locale, TranslationTable> translationTableByLocale = _Maps.newConcurrentHashMap();
+    private final Set<Locale> localesUsingFallback = _Sets.newConcurrentHashSet();
 
     /**
      * The basename of the translations file, hard-coded to <tt>translations</tt>.
@@ -64,7 +65,7 @@ class PoReader extends PoAbstract {
     private final Can<TranslationsResolver> translationsResolver;
     private final LanguageProvider languageProvider;
 
-    private List<String> fallback;
+    private volatile List<String> fallback;
 
     public PoReader(final TranslationServicePo translationServicePo) {
         super(translationServicePo, Mode.READ);
@@ -81,11 +82,18 @@ public PoReader(final TranslationServicePo translationServicePo) {
      * Not API
      */
     void init() {
-        fallback = readUrl(basename + ".po");
+        val fallback = readUrl(basename + ".po");
         if(fallback == null) {
             log.info("No fallback translations found; i18n is in effect disabled for this application");
-            fallback = Collections.emptyList();
+            this.fallback = Collections.emptyList();
+        } else {
+            this.fallback = fallback;
         }
+        translationServicePo.getPrecompiledLocales()
+        .forEach(locale->{
+            val translationTable = translationTableFor(locale);
+            log.info("Precompiled {} translations for locale: {}", translationTable.size(), locale);
+        });
     }
 
     @Override
@@ -114,8 +122,8 @@ String translate(final TranslationContext context, final String msgId, final Str
     }
 
     void clearCache() {
-        translationByKeyByLocale.clear();
-        usesFallbackByLocale.clear();
+        translationTableByLocale.clear();
+        localesUsingFallback.clear();
         init();
     }
 
@@ -135,53 +143,44 @@ private String translate(final TranslationContext context, final String msgId, f
         }
 
 
-        final Map<ContextAndMsgId, String> translationsByKey = readAndCacheTranslationsIfRequired(targetLocale);
+        final TranslationTable translationTable = translationTableFor(targetLocale);
 
-        // search for translation with a context
-        final ContextAndMsgId key = new ContextAndMsgId(context.getName(), msgId, type);
-        final String translation = lookupTranslation(translationsByKey, key);
-        if (!_Strings.isNullOrEmpty(translation)) {
+        // search for translation with a context, else without a context
+        final String translation = translationTable.lookup(type, context.getName(), msgId);
+        if (translation != null) {
             return translation;
         }
 
-        // else search for translation without a context
-        final ContextAndMsgId keyNoContext = new ContextAndMsgId("", msgId, type);
-        final String translationNoContext = lookupTranslation(translationsByKey, keyNoContext);
-        if (!_Strings.isNullOrEmpty(translationNoContext)) {
-            return translationNoContext;
-        }
-
         // to avoid chattiness in the log, we only log if there are ANY translations at all for the target locale.
         // the algorithm for searching for translations looks for:
         // 1. language_country
         // 2. language
         // 3. fallback
         // so this message is only ever displayed if the locale isn't using fallback (ie a translation is genuinely missing)
-        final Boolean usesFallback = usesFallbackByLocale.get(targetLocale);
-        if(usesFallback == null || !usesFallback) {
-            logInfoIfNotPreviously("No translation found for: " + key);
+        if(!localesUsingFallback.contains(targetLocale)) {
+            logInfoIfNotPreviously("No translation found for: " + new ContextAndMsgId(context.getName(), msgId, type));
         }
 
         return msgId;
     }
 
 
-    private String lookupTranslation(final Map<ContextAndMsgId, String> translationsByKey, final ContextAndMsgId key) {
-        final String s = translationsByKey.get(key);
-        return s != null? s.trim(): null;
+    /**
+     * Reads and compiles the translations of given locale at most once,
+     * even if concurrently requested for the first time.
+     */
+    private TranslationTable translationTableFor(final Locale locale) {
+        // fast path, not allocating a capturing lambda
+        final TranslationTable translationTable = translationTableByLocale.get(locale);
+        return translationTable != null
+                ? translationTable
+                : translationTableByLocale.computeIfAbsent(locale, this::compile);
     }
 
-    private Map<ContextAndMsgId, String> readAndCacheTranslationsIfRequired(final Locale locale) {
-        Map<ContextAndMsgId, String> translationsByKey = translationByKeyByLocale.get(locale);
-        if(translationsByKey != null) {
-            return translationsByKey;
-        }
-
-        translationsByKey = _Maps.newHashMap();
+    private TranslationTable compile(final Locale locale) {
+        final Map<ContextAndMsgId, String> translationsByKey = _Maps.newHashMap();
         read(locale, translationsByKey);
-        translationByKeyByLocale.put(locale, translationsByKey);
-
-        return translationsByKey;
+        return TranslationTable.compile(translationsByKey);
     }
 
 
@@ -201,14 +200,14 @@ private void read(final Locale locale, final Map<ContextAndMsgId, String> transl
     protected List<String> readPo(final Locale locale) {
         final List<String> lines = readPoElseNull(locale);
         if(lines != null) {
-            usesFallbackByLocale.put(locale, false);
+            localesUsingFallback.remove(locale);
             return lines;
         }
 
         // this is only ever logged the first time that a user using this particular locale is encountered
         logInfoIfNotPreviously("Could not locate translations for locale: " + locale + ", using fallback");
 
-        usesFallbackByLocale.put(locale, true);
+        localesUsingFallback.add(locale);
         return fallback;
     }
 
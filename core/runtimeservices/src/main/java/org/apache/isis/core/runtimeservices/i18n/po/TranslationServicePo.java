@@ -18,6 +18,7 @@
  */
 package org.apache.isis.core.runtimeservices.i18n.po;
 
+import java.util.Locale;
 import java.util.Optional;
 
 import javax.annotation.PostConstruct;
@@ -184,4 +185,9 @@ Can<TranslationsResolver> getTranslationsResolver() {
         return translationsResolvers.get();
     }
 
+    Can<Locale> getPrecompiledLocales() {
+        return Can.ofCollection(
+                configuration.getCore().getRuntimeServices().getTranslation().getPo().getPrecompiledLocales());
+    }
+
 }
@@ -0,0 +1,133 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.i18n.po;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.commons.internal.base._Strings;
+
+import lombok.val;
+
+/**
+ * Immutable lookup table of the translations of a single locale,
+ * compiled from the parsed <i>.po</i> file.
+ *
+ * <p>
+ *     Translations are indexed by {@link ContextAndMsgId.Type}, then by <tt>msgId</tt>, then by context,
+ *     such that a lookup does not need to allocate a {@link ContextAndMsgId} key. The type is required,
+ *     as the same text may appear both as a <tt>msgid</tt> and as the <tt>msgid_plural</tt> of another entry.
+ *     Blank translations are dropped and all strings are interned,
+ *     as the same <tt>msgId</tt>s appear in the tables of all locales.
+ * </p>
+ */
+final class TranslationTable {
+
+    private final Map<ContextAndMsgId.Type, Map<String, Map<String, String>>> translationByContextByMsgIdByType;
+
+    private TranslationTable(
+            final Map<ContextAndMsgId.Type, Map<String, Map<String, String>>> translationByContextByMsgIdByType) {
+        this.translationByContextByMsgIdByType = translationByContextByMsgIdByType;
+    }
+
+    static TranslationTable compile(final Map<ContextAndMsgId, String> translationsByKey) {
+        val translationByContextByMsgIdByType =
+                new EnumMap<ContextAndMsgId.Type, Map<String, Map<String, String>>>(ContextAndMsgId.Type.class);
+        for (val type : ContextAndMsgId.Type.values()) {
+            translationByContextByMsgIdByType.put(type, new HashMap<>());
+        }
+        translationsByKey.forEach((key, translation)->{
+            if(translation == null) {
+                return;
+            }
+            val trimmed = translation.trim();
+            if(_Strings.isNullOrEmpty(trimmed)) {
+                return;
+            }
+            translationByContextByMsgIdByType.get(key.getType())
+                .computeIfAbsent(key.getMsgId().intern(), __->new HashMap<>())
+                .put(key.getContext().intern(), trimmed.intern());
+        });
+        // HashMap rather than Map.copyOf, as the former compares hashes before invoking equals
+        translationByContextByMsgIdByType.replaceAll((type, translationByContextByMsgId)->{
+            translationByContextByMsgId.replaceAll((msgId, translationByContext)->
+                Collections.unmodifiableMap(translationByContext));
+            return Collections.unmodifiableMap(translationByContextByMsgId);
+        });
+        return new TranslationTable(Collections.unmodifiableMap(translationByContextByMsgIdByType));
+    }
+
+    /**
+     * The translation of given type for given context, else the translation of given type without a context,
+     * else (as before types were distinguished) the translation of any other type, else <tt>null</tt>.
+     */
+    @Nullable
+    String lookup(
+            final ContextAndMsgId.Type type,
+            final @Nullable String context,
+            final @Nullable String msgId) {
+        if(msgId == null) {
+            return null;
+        }
+        val translation = lookup(translationByContextByMsgIdByType.get(type), context, msgId);
+        if(translation != null) {
+            return translation;
+        }
+        for (val otherType : ContextAndMsgId.Type.values()) {
+            if(otherType != type) {
+                val otherTranslation = lookup(translationByContextByMsgIdByType.get(otherType), context, msgId);
+                if(otherTranslation != null) {
+                    return otherTranslation;
+                }
+            }
+        }
+        return null;
+    }
+
+    int size() {
+        return translationByContextByMsgIdByType.values().stream()
+                .mapToInt(Map::size)
+                .sum();
+    }
+
+    // -- HELPER
+
+    @Nullable
+    private static String lookup(
+            final Map<String, Map<String, String>> translationByContextByMsgId,
+            final @Nullable String context,
+            final String msgId) {
+        val translationByContext = translationByContextByMsgId.get(msgId);
+        if(translationByContext == null) {
+            return null;
+        }
+        if(context != null) {
+            val translation = translationByContext.get(context);
+            if(translation != null) {
+                return translation;
+            }
+        }
+        return translationByContext.get("");
+    }
+
+}
@@ -19,6 +19,7 @@
 package org.apache.isis.core.runtimeservices.memento;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.annotation.Priority;
@@ -143,9 +144,7 @@ public ManagedObject reconstructObject(@Nullable final ObjectMemento memento) {
 
             val elementSpec = specificationLoader.specForLogicalTypeNameElseFail(memento.getLogicalTypeName());
 
-            val objects = objectMementoCollection.unwrapList().stream()
-                    .map(this::reconstructObject)
-                    .collect(Can.toCan());
+            val objects = reconstructObjects(objectMementoCollection.unwrapList());
 
             return PackedManagedObject.pack(elementSpec, objects);
         }
@@ -158,12 +157,31 @@ public ManagedObject reconstructObject(@Nullable final ObjectMemento memento) {
         throw _Exceptions.unrecoverableFormatted("unsupported ObjectMemento type %s", memento.getClass());
     }
 
+    // -- HELPER
+
+    /**
+     * Reconstructs given mementos in order, bulk loading those that are recreated by lookup.
+     */
+    private Can<ManagedObject> reconstructObjects(final List<ObjectMemento> mementos) {
+        val delegates = mementos.stream()
+                .filter(ObjectMementoAdapter.class::isInstance)
+                .map(ObjectMementoAdapter.class::cast)
+                .map(ObjectMementoAdapter::getDelegate)
+                .collect(Collectors.toList());
+        val reconstructedDelegates = _ObjectMemento.reconstructObjects(delegates, mmc).iterator();
+        return mementos.stream()
+                .map(memento->memento instanceof ObjectMementoAdapter
+                        ? reconstructedDelegates.next()
+                        : reconstructObject(memento))
+                .collect(Can.toCan());
+    }
+
     @RequiredArgsConstructor(staticName = "of")
     private static class ObjectMementoAdapter implements ObjectMemento {
 
         private static final long serialVersionUID = 1L;
 
-        private final _ObjectMemento delegate;
+        @Getter private final _ObjectMemento delegate;
 
         @Override
         public String asString() {
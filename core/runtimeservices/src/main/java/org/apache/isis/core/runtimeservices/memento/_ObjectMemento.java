@@ -18,12 +18,21 @@
  */
 package org.apache.isis.core.runtimeservices.memento;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Function;
+import java.util.Optional;
 
 import org.springframework.lang.Nullable;
 
@@ -32,19 +41,19 @@
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.bookmark.Oid;
 import org.apache.isis.applib.services.hint.HintIdProvider;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.facets.object.encodeable.EncodableFacet;
+import org.apache.isis.core.metamodel.objectmanager.query.ObjectBulkLoader;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
 
-import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
@@ -121,7 +130,8 @@ public ManagedObject asAdapter(
                     final MetaModelContext mmc) {
 
                 final List<Object> listOfPojos =
-                        _Lists.map(memento.list, Functions.toPojo(mmc));
+                        _Lists.map(reconstructObjects(memento.list, mmc),
+                                object->object!=null ? object.getPojo() : null);
                 return ManagedObject.lazy(mmc.getSpecificationLoader(), listOfPojos);
             }
 
@@ -437,6 +447,12 @@ private _ObjectMemento(final LogicalType logicalType, final String encodableValu
         this.recreateStrategy = RecreateStrategy.ENCODEABLE;
     }
 
+    private _ObjectMemento(final LogicalType logicalType, final RecreateStrategy recreateStrategy) {
+        this.cardinality = Cardinality.SCALAR;
+        this.logicalType = logicalType;
+        this.recreateStrategy = recreateStrategy;
+    }
+
 
     private void init(final ManagedObject adapter) {
 
@@ -519,6 +535,56 @@ ManagedObject reconstructObject(final MetaModelContext mmc) {
         return cardinality.asAdapter(this, mmc);
     }
 
+    /**
+     * Reconstructs given mementos in order, such that all those recreated by
+     * {@link RecreateStrategy#LOOKUP lookup} are bulk loaded, rather than one at a time.
+     * <p>
+     * Elements that cannot be reconstructed (including lookup misses) are {@code null}.
+     */
+    static List<ManagedObject> reconstructObjects(
+            final @NonNull List<_ObjectMemento> mementos,
+            final @NonNull MetaModelContext mmc) {
+
+        val bookmarksToLookup = _Lists.map(mementos, memento->memento!=null
+                ? memento.bookmarkToLookup(mmc.getSpecificationLoader()).orElse(null)
+                : null);
+        val nonNullBookmarksToLookup = Can.ofCollection(bookmarksToLookup); // skips nulls
+        val loaded = nonNullBookmarksToLookup.isEmpty()
+                ? Can.<Optional<ManagedObject>>empty().iterator()
+                : mmc.getObjectManager()
+                    .loadObjects(ObjectBulkLoader.BookmarksRequest.of(nonNullBookmarksToLookup))
+                    .iterator();
+
+        val objects = new ArrayList<ManagedObject>(mementos.size());
+        for(int i = 0; i < mementos.size(); i++) {
+            val memento = mementos.get(i);
+            objects.add(memento == null
+                    ? null
+                    : bookmarksToLookup.get(i) != null
+                        ? loaded.next().orElse(null)
+                        : memento.reconstructObject(mmc));
+        }
+        return objects;
+    }
+
+    /**
+     * Returns the {@link Bookmark} to lookup the object with, if this memento is recreated by
+     * {@link RecreateStrategy#LOOKUP lookup}, and not intercepted by {@link #reconstructObject(MetaModelContext)}.
+     */
+    private Optional<Bookmark> bookmarkToLookup(final SpecificationLoader specificationLoader) {
+        if(cardinality != Cardinality.SCALAR
+                || recreateStrategy != RecreateStrategy.LOOKUP
+                || _NullSafe.isEmpty(persistentOidStr)) {
+            return Optional.empty();
+        }
+        val spec = specificationLoader.specForLogicalType(logicalType).orElse(null);
+        if(spec==null
+                || spec.getBeanSort().isManagedBean()) {
+            return Optional.empty();
+        }
+        return Optional.of(Bookmark.parseElseFail(persistentOidStr));
+    }
+
     @Override
     public int hashCode() {
         return cardinality.hashCode(this);
@@ -539,31 +605,206 @@ public String asString() {
         return cardinality.asString(this);
     }
 
-    // -- FUNCTIONS
+    private void ensureScalar() {
+        getCardinality().ensure(Cardinality.SCALAR);
+    }
+
+    // -- SERIALIZATION PROXY
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(final ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("Proxy required");
+    }
+
+    /**
+     * Compact binary form of a memento (graph), as stored with serialized (Wicket) pages.
+     *
+     * <p>
+     * Skips default field serialization and instead writes a tag per memento,
+     * followed by only the fields its {@link RecreateStrategy} requires,
+     * using varint lengths and sizes.
+     * The {@link LogicalType} is written as object, such that the stream itself acts as
+     * dictionary: any repeated occurrence within the same stream is written as back-reference.
+     * For the same reason the logical type name is not repeated as part of the bookmark,
+     * which is recreated from the logical type and identifier instead.
+     */
+    private static final class SerializationProxy implements Externalizable {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final int TAG_NULL = 0;
+        private static final int TAG_ENCODEABLE = 1;
+        private static final int TAG_LOOKUP = 2;
+        private static final int TAG_SERIALIZABLE = 3;
+        private static final int TAG_VECTOR = 4;
+
+        private _ObjectMemento memento;
+
+        /**
+         * Required by {@link Externalizable}.
+         */
+        public SerializationProxy() {
+        }
+
+        private SerializationProxy(final _ObjectMemento memento) {
+            this.memento = memento;
+        }
+
+        private Object readResolve() {
+            return memento;
+        }
 
-    @NoArgsConstructor(access = AccessLevel.PRIVATE)
-    private static final class Functions {
+        @Override
+        public void writeExternal(final ObjectOutput out) throws IOException {
+            write(out, memento);
+        }
 
-        private static Function<_ObjectMemento, Object> toPojo(
-                final MetaModelContext mmc) {
+        @Override
+        public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+            memento = read(in);
+        }
 
-            return memento->{
-                if(memento == null) {
-                    return null;
+        private static void write(final ObjectOutput out, final @Nullable _ObjectMemento memento) throws IOException {
+            if(memento == null) {
+                out.writeByte(TAG_NULL);
+                return;
+            }
+            if(memento.cardinality == Cardinality.VECTOR) {
+                out.writeByte(TAG_VECTOR);
+                out.writeObject(memento.logicalType);
+                writeVarint(out, memento.list.size());
+                for (val element : memento.list) {
+                    write(out, element);
                 }
-                val objectAdapter = memento
-                        .reconstructObject(mmc);
-                if(objectAdapter == null) {
-                    return null;
+                return;
+            }
+            switch (memento.recreateStrategy) {
+            case ENCODEABLE:
+                out.writeByte(TAG_ENCODEABLE);
+                out.writeObject(memento.logicalType);
+                writeString(out, memento.encodableValue);
+                return;
+            case LOOKUP: {
+                val bookmark = memento.bookmark != null
+                        ? memento.bookmark
+                        : Bookmark.parseElseFail(memento.persistentOidStr);
+                val logicalTypeName = bookmark.getLogicalTypeName();
+                out.writeByte(TAG_LOOKUP);
+                out.writeObject(memento.logicalType);
+                writeString(out, logicalTypeName.equals(memento.logicalType.getLogicalTypeName())
+                        ? null
+                        : logicalTypeName);
+                writeString(out, bookmark.getIdentifier());
+                writeString(out, bookmark.getHintId());
+                writeString(out, memento.hintId);
+                // the oid string is written only if it does not match the bookmark (not expected)
+                writeString(out, memento.persistentOidStr.equals(bookmark.stringify())
+                        ? null
+                        : memento.persistentOidStr);
+                return;
+            }
+            case SERIALIZABLE:
+                out.writeByte(TAG_SERIALIZABLE);
+                out.writeObject(memento.logicalType);
+                writeVarint(out, memento.serializedObject.length);
+                out.write(memento.serializedObject);
+                return;
+            default:
+                throw _Exceptions.unmatchedCase(memento.recreateStrategy);
+            }
+        }
+
+        private static @Nullable _ObjectMemento read(final ObjectInput in) throws IOException, ClassNotFoundException {
+            val tag = in.readByte();
+            if(tag == TAG_NULL) {
+                return null;
+            }
+            val logicalType = (LogicalType) in.readObject();
+            switch (tag) {
+            case TAG_VECTOR: {
+                val size = readVarint(in);
+                val list = new ArrayList<_ObjectMemento>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(read(in));
                 }
-                return objectAdapter.getPojo();
-            };
+                return new _ObjectMemento(list, logicalType);
+            }
+            case TAG_ENCODEABLE:
+                return new _ObjectMemento(logicalType, readString(in));
+            case TAG_LOOKUP: {
+                val logicalTypeName = Optional.ofNullable(readString(in))
+                        .orElseGet(logicalType::getLogicalTypeName);
+                val identifier = readString(in);
+                val bookmarkHintId = readString(in);
+                val memento = new _ObjectMemento(logicalType, RecreateStrategy.LOOKUP);
+                memento.bookmark = Bookmark.forLogicalTypeNameAndIdentifier(logicalTypeName, identifier)
+                        .withHintId(bookmarkHintId);
+                memento.hintId = readString(in);
+                memento.persistentOidStr = Optional.ofNullable(readString(in))
+                        .orElseGet(memento.bookmark::stringify);
+                return memento;
+            }
+            case TAG_SERIALIZABLE: {
+                val memento = new _ObjectMemento(logicalType, RecreateStrategy.SERIALIZABLE);
+                memento.serializedObject = new byte[readVarint(in)];
+                in.readFully(memento.serializedObject);
+                return memento;
+            }
+            default:
+                throw new InvalidObjectException("unknown memento tag " + tag);
+            }
         }
 
-    }
+        // -- VARINT ENCODING
+
+        private static void writeVarint(final DataOutput out, final int value) throws IOException {
+            int remaining = value;
+            while((remaining & ~0x7F) != 0) {
+                out.writeByte((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            out.writeByte(remaining);
+        }
+
+        private static int readVarint(final DataInput in) throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                val b = in.readByte();
+                value |= (b & 0x7F) << shift;
+                if((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new InvalidObjectException("malformed varint");
+        }
+
+        /**
+         * Writes the UTF-8 length plus one (zero representing {@code null}), followed by the UTF-8 bytes;
+         * unlike {@link DataOutput#writeUTF(String)} not limited to 64k.
+         */
+        private static void writeString(final DataOutput out, final @Nullable String string) throws IOException {
+            if(string == null) {
+                writeVarint(out, 0);
+                return;
+            }
+            val bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, bytes.length + 1);
+            out.write(bytes);
+        }
+
+        private static @Nullable String readString(final DataInput in) throws IOException {
+            val lengthPlusOne = readVarint(in);
+            if(lengthPlusOne == 0) {
+                return null;
+            }
+            val bytes = new byte[lengthPlusOne - 1];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
 
-    private void ensureScalar() {
-        getCardinality().ensure(Cardinality.SCALAR);
     }
 
 
@@ -0,0 +1,423 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.publish;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.iactnlayer.InteractionService;
+import org.apache.isis.applib.services.publishing.spi.EntityChanges;
+import org.apache.isis.applib.services.publishing.spi.EntityChangesSubscriber;
+import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.isis.applib.services.publishing.spi.EntityPropertyChangeSubscriber;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.having.HasEnabling;
+import org.apache.isis.commons.internal.base._Casts;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.config.IsisConfiguration;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Relays entity changes and entity property changes from the transactional {@link EntityChangesOutbox}
+ * to the subscribers, in case asynchronous publishing is enabled.
+ *
+ * <p>
+ * The publishers {@link #append(StagedChanges) append} the changes of a transaction to the outbox
+ * during its pre-commit phase, hence within that same transaction: the changes are persisted if and
+ * only if the business changes are.
+ *
+ * <p>
+ * A background thread polls the outbox for its oldest entries, and relays these in batches (using a
+ * fixed number of threads), each within an (anonymous) interaction and a transaction of its own,
+ * passing the entity property changes of multiple transactions to
+ * {@link EntityPropertyChangeSubscriber#onChangingBatch(List)}. The relayed entries are removed within
+ * that same transaction, so if publishing fails they are retained and relayed again on a subsequent
+ * poll: delivery is at-least-once. Nothing is held in memory, so on shutdown the relay just stops;
+ * any entries not yet relayed are picked up after restart.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.runtimeservices.EntityChangesAsyncDispatcher")
+@Priority(PriorityPrecedence.EARLY)
+@Qualifier("Default")
+@Log4j2
+public class EntityChangesAsyncDispatcher {
+
+    /**
+     * The changes of a single transaction.
+     */
+    @Value(staticConstructor = "of")
+    public static class StagedChanges {
+        private final @NonNull Can<EntityPropertyChange> propertyChanges;
+        private final @NonNull Can<EntityChanges> entityChanges;
+        public boolean isEmpty() {
+            return propertyChanges.isEmpty()
+                    && entityChanges.isEmpty();
+        }
+    }
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    @Getter private final boolean enabled;
+    private final int batchSize;
+    private final int maxConcurrentDispatches;
+    private final long pollIntervalMillis;
+    private final Optional<EntityChangesOutbox> outboxIfAny;
+    private final Consumer<List<StagedChanges>> publisher;
+    private final Consumer<Runnable> transactionalRunner;
+    private final LongSupplier clock;
+
+    private final LongAdder dispatchedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final AtomicLong lastDispatchLagMillis = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread poller;
+    private ExecutorService executor;
+
+    @Inject
+    public EntityChangesAsyncDispatcher(
+            final IsisConfiguration isisConfiguration,
+            final Optional<EntityChangesOutbox> outboxIfAny,
+            final List<EntityPropertyChangeSubscriber> propertyChangeSubscribers,
+            final List<EntityChangesSubscriber> entityChangesSubscribers,
+            final InteractionService interactionService,
+            final TransactionService transactionService) {
+        this(isisConfiguration.getCore().getRuntimeServices().getPublishing().getAsync(),
+                outboxIfAny,
+                new PublishToSubscribers(
+                        Can.ofCollection(propertyChangeSubscribers).filter(HasEnabling::isEnabled),
+                        Can.ofCollection(entityChangesSubscribers).filter(HasEnabling::isEnabled),
+                        isisConfiguration.getCore().getRuntimeServices().getPublishing().getAsync().getBatchSize()),
+                runnable->interactionService.runAnonymous(()->
+                    transactionService.runTransactional(Propagation.REQUIRES_NEW, runnable::run)
+                    .optionalElseFail()),
+                System::currentTimeMillis);
+    }
+
+    // JUnit support
+    EntityChangesAsyncDispatcher(
+            final @NonNull IsisConfiguration.Core.RuntimeServices.Publishing.Async config,
+            final @NonNull Optional<EntityChangesOutbox> outboxIfAny,
+            final @NonNull Consumer<List<StagedChanges>> publisher,
+            final @NonNull Consumer<Runnable> transactionalRunner,
+            final @NonNull LongSupplier clock) {
+        this.enabled = config.isEnabled();
+        this.batchSize = config.getBatchSize();
+        this.maxConcurrentDispatches = config.getMaxConcurrentDispatches();
+        this.pollIntervalMillis = config.getPollInterval().toMillis();
+        this.outboxIfAny = outboxIfAny;
+        this.publisher = publisher;
+        this.transactionalRunner = transactionalRunner;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void init() {
+        if(!enabled) {
+            return;
+        }
+        if(!outboxIfAny.isPresent()) {
+            throw _Exceptions.illegalState(
+                    "asynchronous publishing of entity changes is enabled, but no %s is available; "
+                    + "import the entity-changes-outbox extension (JPA or JDO)",
+                    EntityChangesOutbox.class.getName());
+        }
+        val threadCount = new AtomicInteger();
+        running = true;
+        executor = Executors.newFixedThreadPool(maxConcurrentDispatches, runnable->{
+            val thread = new Thread(runnable, "isis-entity-changes-dispatcher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller = new Thread(this::pollLoop, "isis-entity-changes-outbox-poller");
+        poller.setDaemon(true);
+        poller.start();
+    }
+
+    /**
+     * Stops relaying, waiting for the batches currently being relayed to complete.
+     * <p>
+     * Entries not yet relayed remain in the outbox.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if(poller == null) {
+            return;
+        }
+        running = false;
+        poller.interrupt();
+        try {
+            poller.join(SHUTDOWN_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Appends the changes of the current transaction to the outbox, to be relayed in the background,
+     * once (and only if) that transaction has committed.
+     * @apiNote to be called within the originating transaction, during its pre-commit phase
+     */
+    public void append(final @NonNull StagedChanges changes) {
+        if(changes.isEmpty()) {
+            return;
+        }
+        outbox().append(EntityChangesOutbox.Entry.of(
+                UUID.randomUUID().toString(),
+                new Timestamp(clock.getAsLong()),
+                _EntityChangesOutboxPayload.encode(changes)));
+    }
+
+    /**
+     * Polls the outbox once, relaying up to {@code batchSize * maxConcurrentDispatches} entries.
+     * @return whether all polled entries were relayed successfully (and there might be more)
+     */
+    boolean relayOnce() {
+        val entries = callTransactional(()->
+            outbox().findOldest(batchSize * maxConcurrentDispatches));
+        if(entries.isEmpty()) {
+            return false;
+        }
+        val batches = new ArrayList<List<EntityChangesOutbox.Entry>>();
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            batches.add(entries.subList(from, Math.min(from + batchSize, entries.size())));
+        }
+        boolean allRelayed = true;
+        if(batches.size() == 1
+                || executor == null) {
+            for (val batch : batches) {
+                allRelayed &= relay(batch);
+            }
+            return allRelayed;
+        }
+        val futures = new ArrayList<Future<Boolean>>(batches.size());
+        batches.forEach(batch->futures.add(executor.submit(()->relay(batch))));
+        for (val future : futures) {
+            try {
+                allRelayed &= future.get();
+            } catch (ExecutionException e) {
+                allRelayed = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return allRelayed;
+    }
+
+    // -- METRICS
+
+    /**
+     * The number of committed transactions whose changes are pending to be relayed.
+     */
+    public long getQueueDepth() {
+        return callTransactional(()->outbox().count());
+    }
+
+    /**
+     * How long the oldest pending changes have been waiting to be relayed
+     * ({@link Duration#ZERO} if none are pending).
+     */
+    public Duration getLag() {
+        val oldest = callTransactional(()->outbox().findOldest(1));
+        return oldest.isEmpty()
+                ? Duration.ZERO
+                : Duration.ofMillis(clock.getAsLong() - oldest.get(0).getCreatedAt().getTime());
+    }
+
+    /**
+     * How long the changes most recently relayed had been waiting in the outbox.
+     */
+    public Duration getLastDispatchLag() {
+        return Duration.ofMillis(lastDispatchLagMillis.get());
+    }
+
+    /**
+     * The number of committed transactions whose changes were relayed successfully.
+     */
+    public long getDispatchedCount() {
+        return dispatchedCount.sum();
+    }
+
+    /**
+     * The number of (attempts to relay) committed transactions whose changes failed to be relayed;
+     * these are retried.
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    // -- HELPER
+
+    private EntityChangesOutbox outbox() {
+        return outboxIfAny.orElseThrow(()->_Exceptions.illegalState(
+                "no %s is available", EntityChangesOutbox.class.getName()));
+    }
+
+    private void pollLoop() {
+        while(running) {
+            boolean more;
+            try {
+                more = relayOnce();
+            } catch (Exception e) {
+                log.error("failed to poll the entity changes outbox", e);
+                more = false;
+            }
+            if(more) {
+                continue;
+            }
+            try {
+                Thread.sleep(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Publishes the changes of given entries and removes these from the outbox, within a single
+     * transaction; if that fails the entries are retained, to be retried.
+     */
+    private boolean relay(final List<EntityChangesOutbox.Entry> entries) {
+        try {
+            transactionalRunner.accept(()->{
+                publisher.accept(entries.stream()
+                        .map(entry->_EntityChangesOutboxPayload.decode(entry.getPayload()))
+                        .collect(Collectors.toList()));
+                outbox().remove(entries.stream()
+                        .map(EntityChangesOutbox.Entry::getId)
+                        .collect(Collectors.toList()));
+            });
+            lastDispatchLagMillis.set(clock.getAsLong() - entries.get(0).getCreatedAt().getTime());
+            dispatchedCount.add(entries.size());
+            return true;
+        } catch (Exception e) {
+            failedCount.add(entries.size());
+            log.error("failed to relay entity changes of {} transaction(s), will retry", entries.size(), e);
+            return false;
+        }
+    }
+
+    private <T> T callTransactional(final Callable<T> callable) {
+        val result = new Object[1];
+        transactionalRunner.accept(()->{
+            try {
+                result[0] = callable.call();
+            } catch (Exception e) {
+                throw _Exceptions.unrecoverable(e);
+            }
+        });
+        return _Casts.uncheckedCast(result[0]);
+    }
+
+    /**
+     * Calls the subscribers, with the entity property changes in chunks of up to {@code batchSize}.
+     */
+    private static class PublishToSubscribers implements Consumer<List<StagedChanges>> {
+
+        private final Can<EntityPropertyChangeSubscriber> propertyChangeSubscribers;
+        private final Can<EntityChangesSubscriber> entityChangesSubscribers;
+        private final int batchSize;
+
+        PublishToSubscribers(
+                final Can<EntityPropertyChangeSubscriber> propertyChangeSubscribers,
+                final Can<EntityChangesSubscriber> entityChangesSubscribers,
+                final int batchSize) {
+            this.propertyChangeSubscribers = propertyChangeSubscribers;
+            this.entityChangesSubscribers = entityChangesSubscribers;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void accept(final List<StagedChanges> changes) {
+            if(propertyChangeSubscribers.isNotEmpty()) {
+                val propertyChanges = new ArrayList<EntityPropertyChange>(batchSize);
+                for (val staged : changes) {
+                    for (val propertyChange : staged.getPropertyChanges()) {
+                        propertyChanges.add(propertyChange);
+                        if(propertyChanges.size() == batchSize) {
+                            publishPropertyChanges(propertyChanges);
+                        }
+                    }
+                }
+                publishPropertyChanges(propertyChanges);
+            }
+            if(entityChangesSubscribers.isNotEmpty()) {
+                for (val staged : changes) {
+                    for (val entityChanges : staged.getEntityChanges()) {
+                        for (val subscriber : entityChangesSubscribers) {
+                            subscriber.onChanging(entityChanges);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void publishPropertyChanges(final List<EntityPropertyChange> propertyChanges) {
+            if(propertyChanges.isEmpty()) {
+                return;
+            }
+            val batch = List.copyOf(propertyChanges);
+            for (val subscriber : propertyChangeSubscribers) {
+                subscriber.onChangingBatch(batch);
+            }
+            propertyChanges.clear();
+        }
+
+    }
+
+}
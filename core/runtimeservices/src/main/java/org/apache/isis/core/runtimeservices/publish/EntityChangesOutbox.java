@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.publish;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * SPI to persist the entity changes and entity property changes of a transaction as rows of a
+ * transactional outbox, in case asynchronous publishing is enabled.
+ *
+ * <p>
+ * Entries are {@link #append(Entry) appended} within the originating transaction, hence are committed
+ * or rolled back together with the business changes. The {@link EntityChangesAsyncDispatcher} relays
+ * them to the subscribers in the background, and {@link #remove(Collection) removes} them only once
+ * published, such that delivery is at-least-once.
+ *
+ * <p>
+ * Implementations are provided by the <i>entity-changes-outbox</i> extension (JPA and JDO).
+ *
+ * @since 2.0 {@index}
+ */
+public interface EntityChangesOutbox {
+
+    /**
+     * A single outbox row, holding the (encoded) changes of a single transaction.
+     */
+    @Value(staticConstructor = "of")
+    class Entry {
+        private final @NonNull String id;
+        private final @NonNull Timestamp createdAt;
+        private final @NonNull String payload;
+    }
+
+    /**
+     * Persists given entry within the current transaction.
+     */
+    void append(@NonNull Entry entry);
+
+    /**
+     * Up to {@code maxEntries} entries not yet removed, ordered by {@link Entry#getCreatedAt()}
+     * (then by {@link Entry#getId()}).
+     */
+    List<Entry> findOldest(int maxEntries);
+
+    /**
+     * Removes the entries with given ids (if any) within the current transaction.
+     */
+    void remove(@NonNull Collection<String> ids);
+
+    /**
+     * The number of entries not yet removed.
+     */
+    long count();
+
+}
@@ -30,6 +30,7 @@
 import org.apache.isis.applib.services.user.UserService;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.having.HasEnabling;
+import org.apache.isis.core.runtimeservices.publish.EntityChangesAsyncDispatcher.StagedChanges;
 import org.apache.isis.core.transaction.changetracking.EntityChangesPublisher;
 import org.apache.isis.core.transaction.changetracking.HasEnlistedEntityChanges;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -54,6 +55,7 @@ public class EntityChangesPublisherDefault implements EntityChangesPublisher {
     private final ClockService clockService;
     private final UserService userService;
     private final InteractionLayerTracker iaTracker;
+    private final EntityChangesAsyncDispatcher asyncDispatcher;
 
     private Can<EntityChangesSubscriber> enabledSubscribers = Can.empty();
 
@@ -74,6 +76,11 @@ public void publishChangingEntities(HasEnlistedEntityChanges hasEnlistedEntityCh
                 ()->getCannotPublishReason(payload));
 
         payload.ifPresent(entityChanges->{
+            if(asyncDispatcher.isEnabled()) {
+                // written to the outbox within this transaction, relayed in the background
+                asyncDispatcher.append(StagedChanges.of(Can.empty(), Can.ofSingleton(entityChanges)));
+                return;
+            }
             for (val subscriber : enabledSubscribers) {
                 subscriber.onChanging(entityChanges);
             }
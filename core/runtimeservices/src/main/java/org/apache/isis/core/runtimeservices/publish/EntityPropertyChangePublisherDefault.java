@@ -33,6 +33,7 @@
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.having.HasEnabling;
 import org.apache.isis.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
+import org.apache.isis.core.runtimeservices.publish.EntityChangesAsyncDispatcher.StagedChanges;
 import org.apache.isis.core.transaction.changetracking.EntityPropertyChangePublisher;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -58,6 +59,7 @@ public class EntityPropertyChangePublisherDefault implements EntityPropertyChang
     private final ClockService clockService;
     private final TransactionService transactionService;
     private final InteractionLayerTracker iaTracker;
+    private final EntityChangesAsyncDispatcher asyncDispatcher;
 
     private Can<EntityPropertyChangeSubscriber> enabledSubscribers = Can.empty();
 
@@ -79,11 +81,16 @@ public void publishChangedProperties(
                 ()->getCannotPublishReason(payload)
                 );
 
-        payload.forEach(propertyChange->{
-            for (val subscriber : enabledSubscribers) {
-                subscriber.onChanging(propertyChange);
-            }
-        });
+        if(asyncDispatcher.isEnabled()) {
+            // written to the outbox within this transaction, relayed in the background
+            asyncDispatcher.append(StagedChanges.of(payload, Can.empty()));
+        } else {
+            payload.forEach(propertyChange->{
+                for (val subscriber : enabledSubscribers) {
+                    subscriber.onChanging(propertyChange);
+                }
+            });
+        }
 
         _Xray.exitPublishing(xrayHandle);
     }
@@ -21,6 +21,7 @@
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
+import javax.inject.Provider;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -46,7 +47,7 @@
 import org.apache.isis.core.metamodel.services.objectlifecycle.ObjectLifecyclePublisher;
 import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
-import org.apache.isis.core.transaction.changetracking.EntityPropertyChangePublisher;
+import org.apache.isis.core.transaction.changetracking.EntityChangeTracker;
 import org.apache.isis.core.transaction.changetracking.PersistenceCallbackHandlerAbstract;
 
 /**
@@ -63,14 +64,14 @@
 implements
     ObjectLifecyclePublisher {
 
-    private final EntityPropertyChangePublisher entityPropertyChangePublisher;
+    private final Provider<EntityChangeTracker> entityChangeTrackerProvider;
 
     @Inject
     public ObjectLifecyclePublisherDefault(
             final EventBusService eventBusService,
-            final EntityPropertyChangePublisher entityPropertyChangePublisher) {
+            final Provider<EntityChangeTracker> entityChangeTrackerProvider) {
         super(eventBusService);
-        this.entityPropertyChangePublisher = entityPropertyChangePublisher;
+        this.entityChangeTrackerProvider = entityChangeTrackerProvider;
     }
 
     @Override
@@ -97,9 +98,8 @@ public void onPreUpdate(
         CallbackFacet.callCallback(entity, UpdatingCallbackFacet.class);
         postLifecycleEventIfRequired(entity, UpdatingLifecycleEventFacet.class);
 
-        entityPropertyChangePublisher.publishChangedProperties(
-                ObjectLifecyclePublisher
-                .publishingPayloadForUpdate(entity, changeRecords));
+        // published when the transaction completes
+        entityChangeTrackerProvider.get().enlistUpdating(entity, changeRecords);
 
     }
 
@@ -108,9 +108,7 @@ public void onPreRemove(final ManagedObject entity) {
         CallbackFacet.callCallback(entity, RemovingCallbackFacet.class);
         postLifecycleEventIfRequired(entity, RemovingLifecycleEventFacet.class);
 
-        entityPropertyChangePublisher.publishChangedProperties(
-                ObjectLifecyclePublisher
-                .publishingPayloadForDeletion(entity));
+        entityChangeTrackerProvider.get().enlistDeleting(entity);
     }
 
     @Override
@@ -118,9 +116,7 @@ public void onPostPersist(final ManagedObject entity) {
         CallbackFacet.callCallback(entity, PersistedCallbackFacet.class);
         postLifecycleEventIfRequired(entity, PersistedLifecycleEventFacet.class);
 
-        entityPropertyChangePublisher.publishChangedProperties(
-                ObjectLifecyclePublisher
-                .publishingPayloadForCreation(entity));
+        entityChangeTrackerProvider.get().enlistCreated(entity);
     }
 
     @Override
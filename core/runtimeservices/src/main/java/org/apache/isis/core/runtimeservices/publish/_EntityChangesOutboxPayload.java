@@ -0,0 +1,193 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.publish;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.isis.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.publishing.spi.EntityChanges;
+import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.isis.applib.util.schema.ChangesDtoUtils;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.resources._Json;
+import org.apache.isis.core.runtimeservices.publish.EntityChangesAsyncDispatcher.StagedChanges;
+import org.apache.isis.schema.chg.v2.ChangesDto;
+
+import lombok.Data;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Encodes the {@link StagedChanges} of a transaction as the (JSON) payload of an
+ * {@link EntityChangesOutbox.Entry}, and decodes them back.
+ * <p>
+ * Entity changes are carried as their {@link ChangesDto} XML, from which these are fully recovered.
+ */
+final class _EntityChangesOutboxPayload {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    static String encode(final @NonNull StagedChanges changes) {
+        val dto = new PayloadDto();
+        changes.getPropertyChanges().forEach(propertyChange->
+            dto.getPropertyChanges().add(PropertyChangeDto.of(propertyChange)));
+        changes.getEntityChanges().forEach(entityChanges->
+            dto.getEntityChanges().add(ChangesDtoUtils.toXml(entityChanges.getDto())));
+        return _Json.toString(OBJECT_MAPPER, dto)
+                .presentElseFail();
+    }
+
+    static StagedChanges decode(final @NonNull String payload) {
+        val dto = _Json.readJson(PayloadDto.class, payload)
+                .presentElseFail();
+        return StagedChanges.of(
+                Can.ofCollection(dto.getPropertyChanges())
+                    .map(PropertyChangeDto::toPropertyChange),
+                Can.ofCollection(dto.getEntityChanges())
+                    .map(ChangesDtoUtils::fromXml)
+                    .map(ChangesDtoBackedEntityChanges::new));
+    }
+
+    // -- HELPER
+
+    @Data
+    static class PayloadDto {
+        private List<PropertyChangeDto> propertyChanges = new ArrayList<>();
+        private List<String> entityChanges = new ArrayList<>();
+    }
+
+    @Data
+    static class PropertyChangeDto {
+        private String interactionId;
+        private int sequence;
+        private String targetClassName;
+        private String target;
+        private String memberIdentifier;
+        private String propertyName;
+        private String preValue;
+        private String postValue;
+        private String user;
+        private @Nullable Long timestamp;
+
+        static PropertyChangeDto of(final EntityPropertyChange propertyChange) {
+            val dto = new PropertyChangeDto();
+            dto.setInteractionId(propertyChange.getInteractionId().toString());
+            dto.setSequence(propertyChange.getSequence());
+            dto.setTargetClassName(propertyChange.getTargetClassName());
+            dto.setTarget(propertyChange.getTarget().stringify());
+            dto.setMemberIdentifier(propertyChange.getMemberIdentifier());
+            dto.setPropertyName(propertyChange.getPropertyName());
+            dto.setPreValue(propertyChange.getPreValue());
+            dto.setPostValue(propertyChange.getPostValue());
+            dto.setUser(propertyChange.getUser());
+            dto.setTimestamp(propertyChange.getTimestamp() != null
+                    ? propertyChange.getTimestamp().getTime()
+                    : null);
+            return dto;
+        }
+
+        EntityPropertyChange toPropertyChange() {
+            return EntityPropertyChange.of(
+                    UUID.fromString(interactionId),
+                    sequence,
+                    targetClassName,
+                    Bookmark.parseElseFail(target),
+                    memberIdentifier,
+                    propertyName,
+                    preValue,
+                    postValue,
+                    user,
+                    timestamp != null
+                        ? new Timestamp(timestamp)
+                        : null);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class ChangesDtoBackedEntityChanges implements EntityChanges {
+
+        private final @NonNull ChangesDto dto;
+
+        @Override
+        public UUID getInteractionId() {
+            return UUID.fromString(dto.getInteractionId());
+        }
+
+        @Override
+        public int getSequence() {
+            return dto.getSequence();
+        }
+
+        @Override
+        public String getUsername() {
+            return dto.getUser();
+        }
+
+        @Override
+        public Timestamp getCompletedAt() {
+            return JavaSqlXMLGregorianCalendarMarshalling.toTimestamp(dto.getCompletedAt());
+        }
+
+        @Override
+        public int getNumberLoaded() {
+            return dto.getObjects().getLoaded();
+        }
+
+        @Override
+        public int getNumberCreated() {
+            return dto.getObjects().getCreated().getOid().size();
+        }
+
+        @Override
+        public int getNumberUpdated() {
+            return dto.getObjects().getUpdated().getOid().size();
+        }
+
+        @Override
+        public int getNumberDeleted() {
+            return dto.getObjects().getDeleted().getOid().size();
+        }
+
+        @Override
+        public int getNumberPropertiesModified() {
+            return dto.getObjects().getPropertiesModified();
+        }
+
+        @Override
+        public ChangesDto getDto() {
+            return dto;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s,%d: changes by %s", dto.getInteractionId(), dto.getSequence(), dto.getUser());
+        }
+
+    }
+
+}
@@ -0,0 +1,440 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.queryresultscache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.bookmark.BookmarkService;
+import org.apache.isis.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.isis.applib.services.queryresultscache.QueryResultsCacheControl;
+import org.apache.isis.applib.services.queryresultscache.SharedQueryResultsCache;
+import org.apache.isis.commons.internal.base._Casts;
+import org.apache.isis.commons.internal.base._NullSafe;
+import org.apache.isis.commons.internal.collections._Sets;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.config.beans.IsisBeanTypeRegistry;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Default implementation of {@link SharedQueryResultsCache}, a bounded (LRU) map with time-to-live,
+ * guarded by a single lock, which is never held while computing a result.
+ * <p>
+ * Entities (also when held by an {@link Optional} or a {@link Collection}) are cached by their
+ * {@link Bookmark}s only, and re-resolved within the calling interaction on every hit;
+ * if any of them can no longer be resolved, the entry is treated as a miss.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.runtimeservices.SharedQueryResultsCacheDefault")
+@Priority(PriorityPrecedence.EARLY)
+@Qualifier("Default")
+@Log4j2
+public class SharedQueryResultsCacheDefault implements SharedQueryResultsCache {
+
+    private final int maxEntries;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * access ordered, such that the eldest entry is the least recently used one;
+     * guarded by {@code this}
+     */
+    private final Map<QueryResultsCache.Key, Entry> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Incremented on every eviction due to entity changes, such that results computed concurrently
+     * (and hence possibly stale) are not put into the cache.
+     * Guarded by {@code this}.
+     */
+    private long invalidationGeneration = 0L;
+
+    /**
+     * Entity types changed by transactions, that are about to complete, each with the number of such
+     * transactions; dependent entries are neither served nor stored until these have completed.
+     * Guarded by {@code this}.
+     */
+    private final Map<Class<?>, Integer> suspendedEntityTypes = new HashMap<>();
+
+    private final Function<Object, Optional<Bookmark>> entityBookmarker;
+    private final Function<Bookmark, Optional<Object>> entityResolver;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    @Autowired(required = false)
+    protected List<QueryResultsCacheControl> cacheControl;
+
+    @Inject
+    public SharedQueryResultsCacheDefault(
+            final IsisConfiguration isisConfiguration,
+            final IsisBeanTypeRegistry isisBeanTypeRegistry,
+            final Provider<BookmarkService> bookmarkServiceProvider) {
+        this(isisConfiguration.getCore().getRuntimeServices().getQueryResultsCache().getShared(),
+                System::nanoTime,
+                pojo->isEntityType(isisBeanTypeRegistry.getEntityTypes(), pojo.getClass())
+                    ? Optional.of(bookmarkServiceProvider.get().bookmarkForElseFail(pojo))
+                    : Optional.empty(),
+                bookmark->bookmarkServiceProvider.get().lookup(bookmark));
+    }
+
+    // JUnit support
+    SharedQueryResultsCacheDefault(
+            final @NonNull IsisConfiguration.Core.RuntimeServices.QueryResultsCache.Shared config,
+            final @NonNull LongSupplier nanoClock,
+            final @NonNull Function<Object, Optional<Bookmark>> entityBookmarker,
+            final @NonNull Function<Bookmark, Optional<Object>> entityResolver) {
+        this.maxEntries = config.getMaxEntries();
+        this.timeToLiveNanos = config.getTimeToLive().toNanos();
+        this.nanoClock = nanoClock;
+        this.entityBookmarker = entityBookmarker;
+        this.entityResolver = entityResolver;
+    }
+
+    @Override
+    public <T> T execute(
+            final @NonNull Callable<T> callable,
+            final @NonNull Collection<Class<?>> dependsOnEntityTypes,
+            final @NonNull Class<?> callingClass,
+            final @NonNull String methodName,
+            final Object... keys) {
+
+        if(maxEntries==0
+                || isIgnoreCache()) {
+            return call(callable);
+        }
+
+        val cacheKey = new QueryResultsCache.Key(callingClass, methodName, keys);
+
+        final boolean suspended;
+        final long generationAtMiss;
+        final Object cachedResult;
+        synchronized(this) {
+            suspended = isSuspended(dependsOnEntityTypes);
+            generationAtMiss = invalidationGeneration;
+            val entry = suspended
+                    ? null
+                    : cache.get(cacheKey);
+            if(entry==null) {
+                cachedResult = STALE;
+            } else if(entry.isExpired(nanoClock.getAsLong())) {
+                cache.remove(cacheKey);
+                evictionCount.increment();
+                cachedResult = STALE;
+            } else {
+                cachedResult = entry.result;
+            }
+        }
+
+        if(suspended) {
+            // bypass the cache, until the transactions changing the entities depended on have completed
+            missCount.increment();
+            log.debug("SUSPENDED: {}", cacheKey);
+            return call(callable);
+        }
+
+        if(cachedResult != STALE) {
+            // re-resolved outside of the lock, as this might hit the database
+            val result = reattach(cachedResult);
+            if(result != STALE) {
+                hitCount.increment();
+                log.debug("HIT: {}", cacheKey);
+                return _Casts.uncheckedCast(result);
+            }
+            log.debug("STALE: {}", cacheKey);
+        }
+
+        missCount.increment();
+        log.debug("MISS: {}", cacheKey);
+
+        // computed without holding the lock, as the callable might take long or even recurse
+        val result = call(callable);
+        val detachedResult = detach(result);
+
+        synchronized(this) {
+            if(generationAtMiss == invalidationGeneration) {
+                cache.put(cacheKey, new Entry(
+                        detachedResult,
+                        _Sets.newHashSet(dependsOnEntityTypes),
+                        nanoClock.getAsLong() + timeToLiveNanos));
+                trimToCapacity();
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public void evictTaggedWith(final Collection<Class<?>> changedEntityTypes) {
+        if(_NullSafe.isEmpty(changedEntityTypes)) {
+            return;
+        }
+        synchronized(this) {
+            invalidationGeneration++;
+            val iterator = cache.entrySet().iterator();
+            while(iterator.hasNext()) {
+                val entry = iterator.next();
+                if(entry.getValue().isTaggedWithAnyOf(changedEntityTypes)) {
+                    iterator.remove();
+                    evictionCount.increment();
+                    log.debug("EVICT: {}", entry.getKey());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void suspendTaggedWith(final Collection<Class<?>> changingEntityTypes) {
+        if(_NullSafe.isEmpty(changingEntityTypes)) {
+            return;
+        }
+        synchronized(this) {
+            changingEntityTypes.forEach(type->suspendedEntityTypes.merge(type, 1, Integer::sum));
+        }
+        evictTaggedWith(changingEntityTypes);
+    }
+
+    @Override
+    public void resumeTaggedWith(final Collection<Class<?>> changingEntityTypes) {
+        if(_NullSafe.isEmpty(changingEntityTypes)) {
+            return;
+        }
+        synchronized(this) {
+            invalidationGeneration++;
+            changingEntityTypes.forEach(type->
+                suspendedEntityTypes.computeIfPresent(type, (key, count)->count>1 ? count-1 : null));
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        synchronized(this) {
+            invalidationGeneration++;
+            evictionCount.add(cache.size());
+            cache.clear();
+        }
+    }
+
+    // -- METRICS
+
+    @Override
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    // -- HELPER
+
+    @RequiredArgsConstructor
+    private static final class Entry {
+
+        private final Object result;
+        private final Set<Class<?>> tags;
+        private final long expiresAtNanos;
+
+        boolean isExpired(final long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0L;
+        }
+
+        boolean isTaggedWithAnyOf(final Collection<Class<?>> changedEntityTypes) {
+            for(val tag : tags) {
+                for(val changedEntityType : changedEntityTypes) {
+                    if(tag.isAssignableFrom(changedEntityType)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Entities held by their bookmarks.
+     */
+    @RequiredArgsConstructor
+    private static final class DetachedEntity {
+        private final Bookmark bookmark;
+    }
+
+    @RequiredArgsConstructor
+    private static final class DetachedOptional {
+        private final Object element;
+    }
+
+    @RequiredArgsConstructor
+    private static final class DetachedCollection {
+        private final List<Object> elements;
+        private final boolean isSet;
+    }
+
+    /**
+     * Marks a result that is not (or no longer) available from the cache.
+     */
+    private static final Object STALE = new Object();
+
+    /**
+     * Whether given type or any of its super-classes (eg. when enhanced or proxied) is one of the
+     * entity types discovered at bootstrap. Unlike a {@link ObjectSpecification} lookup, this never
+     * introspects arbitrary (result) types as a side-effect of caching.
+     */
+    static boolean isEntityType(final @NonNull Set<Class<?>> entityTypes, final @NonNull Class<?> type) {
+        for(Class<?> cls = type; cls!=null && cls!=Object.class; cls = cls.getSuperclass()) {
+            if(entityTypes.contains(cls)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Object detach(final Object result) {
+        if(result==null) {
+            return null;
+        }
+        if(result instanceof Optional) {
+            val optional = (Optional<?>) result;
+            return optional.isPresent()
+                    ? new DetachedOptional(detach(optional.get()))
+                    : optional;
+        }
+        if(result instanceof Collection) {
+            val collection = (Collection<?>) result;
+            val elements = new ArrayList<Object>(collection.size());
+            boolean anyDetached = false;
+            for(val element : collection) {
+                val detached = detach(element);
+                anyDetached |= detached != element;
+                elements.add(detached);
+            }
+            return anyDetached
+                    ? new DetachedCollection(elements, result instanceof Set)
+                    : result;
+        }
+        return entityBookmarker.apply(result)
+                .<Object>map(DetachedEntity::new)
+                .orElse(result);
+    }
+
+    private Object reattach(final Object detached) {
+        if(detached instanceof DetachedEntity) {
+            return entityResolver.apply(((DetachedEntity) detached).bookmark)
+                    .orElse(STALE);
+        }
+        if(detached instanceof DetachedOptional) {
+            val element = reattach(((DetachedOptional) detached).element);
+            return element != STALE
+                    ? Optional.ofNullable(element)
+                    : STALE;
+        }
+        if(detached instanceof DetachedCollection) {
+            val detachedCollection = (DetachedCollection) detached;
+            final Collection<Object> elements = detachedCollection.isSet
+                    ? new LinkedHashSet<>()
+                    : new ArrayList<>(detachedCollection.elements.size());
+            for(val detachedElement : detachedCollection.elements) {
+                val element = reattach(detachedElement);
+                if(element == STALE) {
+                    return STALE;
+                }
+                elements.add(element);
+            }
+            return elements;
+        }
+        return detached;
+    }
+
+    // guarded by this
+    private boolean isSuspended(final Collection<Class<?>> dependsOnEntityTypes) {
+        if(suspendedEntityTypes.isEmpty()) {
+            return false;
+        }
+        for(val tag : dependsOnEntityTypes) {
+            for(val suspendedType : suspendedEntityTypes.keySet()) {
+                if(tag.isAssignableFrom(suspendedType)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // guarded by this
+    private void trimToCapacity() {
+        val iterator = cache.keySet().iterator();
+        while(cache.size() > maxEntries
+                && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.increment();
+        }
+    }
+
+    private static <T> T call(final Callable<T> callable) {
+        try {
+            return callable.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private boolean isIgnoreCache() {
+        return _NullSafe.stream(cacheControl)
+                .anyMatch(QueryResultsCacheControl::isIgnoreCache);
+    }
+
+}
@@ -24,6 +24,7 @@
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
@@ -32,11 +33,15 @@
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.apache.isis.applib.annotation.PriorityPrecedence;
 import org.apache.isis.applib.exceptions.unrecoverable.PersistFailedException;
 import org.apache.isis.applib.exceptions.unrecoverable.RepositoryException;
 import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.query.QueryPredicate;
 import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.applib.services.repository.EntityState;
@@ -48,12 +53,17 @@
 import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
 import org.apache.isis.core.metamodel.objectmanager.query.ObjectBulkLoader;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.core.metamodel.spec.ManagedObjects.EntityUtil;
 import org.apache.isis.core.metamodel.spec.ManagedObjects.UnwrapUtil;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 import lombok.val;
 
 @Service
@@ -61,7 +71,7 @@
 @Priority(PriorityPrecedence.EARLY)
 @Qualifier("Default")
 @RequiredArgsConstructor
-//@Log4j2
+@Log4j2
 public class RepositoryServiceDefault implements RepositoryService {
 
     final FactoryService factoryService;
@@ -153,6 +163,15 @@ public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T>
 
     @Override
     public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T> predicate, final long start, final long count) {
+        val pushedDown = pushDown(ofType, predicate, QueryRange.of(start, count));
+        if(pushedDown.isPresent()) {
+            return pushedDown.get();
+        }
+        return filterClientSide(ofType, predicate, start, count);
+    }
+
+    private <T> List<T> filterClientSide(
+            final Class<T> ofType, final Predicate<? super T> predicate, final long start, final long count) {
         return _NullSafe.stream(allInstances(ofType, start, count))
                 .filter(predicate)
                 .collect(Collectors.toCollection(ArrayList::new));
@@ -166,6 +185,70 @@ public <T> List<T> allMatches(final Query<T> query) {
         return submitQuery(query);
     }
 
+    @Override
+    public <T> Stream<T> streamInstances(final Class<T> type) {
+        return streamMatches(Query.<T>allInstances(type));
+    }
+
+    @Override
+    public <T> Stream<T> streamMatches(final Query<T> query) {
+        if(autoFlush) {
+            transactionService.flushTransaction();
+        }
+        return closedOnTransactionCompletion(submitStreamingQuery(query));
+    }
+
+    <T> Stream<T> submitStreamingQuery(final Query<T> query) {
+        val resultTypeSpec = objectManager.getMetaModelContext()
+                .getSpecificationLoader()
+                .specForType(query.getResultType())
+                .orElse(null);
+
+        if(resultTypeSpec==null) {
+            return Stream.empty();
+        }
+
+        val queryRequest = ObjectBulkLoader.Request.of(resultTypeSpec, query);
+        final Stream<T> resultStream = _Casts.uncheckedCast(
+                objectManager.streamObjects(queryRequest)
+                .map(ManagedObject::getPojo));
+        return resultStream;
+    }
+
+    /**
+     * If given {@code predicate} is a {@link QueryPredicate}, that can be translated into a
+     * query of the persistence store, then returns the (server-side) query result,
+     * otherwise returns {@link Optional#empty()}, such that callers fall back to client-side filtering
+     * (without pushing down a second time).
+     */
+    <T> Optional<List<T>> pushDown(
+            final @NonNull Class<T> type,
+            final @NonNull Predicate<? super T> predicate,
+            final @NonNull QueryRange range) {
+
+        if(!(predicate instanceof QueryPredicate)) {
+            return Optional.empty();
+        }
+
+        final QueryPredicate<T> queryPredicate = _Casts.uncheckedCast(predicate);
+
+        val spec = objectManager.getMetaModelContext()
+                .getSpecificationLoader()
+                .specForType(type)
+                .orElse(null);
+
+        if(spec==null
+                || !spec.isEntity()
+                || !queryPredicate.accept(new PersistedPropertiesOnly(spec))) {
+            log.warn("cannot push down {} for type {} into the persistence store, "
+                    + "falling back to client-side filtering",
+                    queryPredicate, type.getName());
+            return Optional.empty();
+        }
+
+        return Optional.of(allMatches(Query.matching(type, queryPredicate).withRange(range)));
+    }
+
     <T> List<T> submitQuery(final Query<T> query) {
         val resultTypeSpec = objectManager.getMetaModelContext()
                 .getSpecificationLoader()
@@ -184,7 +267,8 @@ <T> List<T> submitQuery(final Query<T> query) {
 
     @Override
     public <T> Optional<T> uniqueMatch(final Class<T> type, final Predicate<T> predicate) {
-        final List<T> instances = allMatches(type, predicate, 0, 2); // No need to fetch more than 2.
+        final List<T> instances = pushDown(type, predicate, QueryRange.limit(2)) // No need to fetch more than 2.
+                .orElseGet(()->filterClientSide(type, predicate, 0, 2));
         if (instances.size() > 1) {
             throw new RepositoryException("Found more than one instance of " + type + " matching filter " + predicate);
         }
@@ -203,7 +287,8 @@ public <T> Optional<T> uniqueMatch(final Query<T> query) {
 
     @Override
     public <T> Optional<T> firstMatch(final Class<T> type, final Predicate<T> predicate) {
-        final List<T> instances = allMatches(type, predicate);
+        final List<T> instances = pushDown(type, predicate, QueryRange.limit(1))
+                .orElseGet(()->filterClientSide(type, predicate, 0, Long.MAX_VALUE));
         return firstInstanceElseEmpty(instances);
     }
 
@@ -242,9 +327,79 @@ private static <T> Optional<T> firstInstanceElseEmpty(final List<T> instances) {
                 : Optional.of(instances.get(0));
     }
 
+    private static <T> Stream<T> closedOnTransactionCompletion(final Stream<T> stream) {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    stream.close();
+                }
+            });
+        }
+        return stream;
+    }
+
     private Object unwrapped(final Object domainObject) {
         return wrapperFactory != null ? wrapperFactory.unwrap(domainObject) : domainObject;
     }
 
 
+    /**
+     * Whether all properties referenced by a {@link QueryPredicate} resolve to persisted
+     * {@link OneToOneAssociation}s of given entity type, with an element type that is compatible
+     * with the values compared against.
+     */
+    @RequiredArgsConstructor
+    private static class PersistedPropertiesOnly implements QueryPredicate.Visitor<Boolean> {
+
+        private final ObjectSpecification spec;
+
+        @Override
+        public Boolean visitEquals(final String propertyId, final Object value) {
+            return persistedProperty(propertyId)
+                    .map(property->value==null
+                            || ClassUtils.isAssignableValue(elementTypeOf(property), value))
+                    .orElse(false);
+        }
+
+        @Override
+        public Boolean visitRange(
+                final String propertyId,
+                final Comparable<?> lowerBound, final boolean lowerInclusive,
+                final Comparable<?> upperBound, final boolean upperInclusive) {
+            return persistedProperty(propertyId)
+                    .map(property->(lowerBound==null
+                                || ClassUtils.isAssignableValue(elementTypeOf(property), lowerBound))
+                            && (upperBound==null
+                                || ClassUtils.isAssignableValue(elementTypeOf(property), upperBound)))
+                    .orElse(false);
+        }
+
+        @Override
+        public Boolean visitStartsWith(final String propertyId, final String prefix) {
+            return persistedProperty(propertyId)
+                    .map(property->String.class.equals(elementTypeOf(property)))
+                    .orElse(false);
+        }
+
+        @Override
+        public Boolean visitAnd(final List<Boolean> operands) {
+            return operands.stream().allMatch(Boolean::booleanValue);
+        }
+
+        @Override
+        public Boolean visitOr(final List<Boolean> operands) {
+            return operands.stream().allMatch(Boolean::booleanValue);
+        }
+
+        private Optional<OneToOneAssociation> persistedProperty(final String propertyId) {
+            return spec.getProperty(propertyId, MixedIn.EXCLUDED)
+                    .filter(property->!property.isNotPersisted());
+        }
+
+        private static Class<?> elementTypeOf(final OneToOneAssociation property) {
+            return property.getElementType().getCorrespondingClass();
+        }
+    }
+
 }
@@ -20,10 +20,11 @@
 
 import java.io.File;
 import java.sql.Timestamp;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Stack;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 
@@ -44,6 +45,7 @@
 import org.apache.isis.applib.services.clock.ClockService;
 import org.apache.isis.applib.services.iactn.Interaction;
 import org.apache.isis.applib.services.iactnlayer.InteractionContext;
+import org.apache.isis.applib.services.iactnlayer.InteractionContextSnapshot;
 import org.apache.isis.applib.services.iactnlayer.InteractionLayer;
 import org.apache.isis.applib.services.iactnlayer.InteractionLayerTracker;
 import org.apache.isis.applib.services.iactnlayer.InteractionService;
@@ -76,7 +78,10 @@
 /**
  * Is the factory of {@link Interaction}s.
  *
- * @implNote holds a reference to the current session using a thread-local
+ * @implNote holds a reference to the current session using a thread-local;
+ * the per thread stack of {@link InteractionLayer}s is never shared between threads,
+ * hence is not synchronized. To continue an interaction's context on another thread,
+ * capture an {@link InteractionContextSnapshot} and use it to wrap the task.
  */
 @Service
 @Named("isis.runtimeservices.InteractionServiceDefault")
@@ -88,7 +93,7 @@
     InteractionService,
     InteractionLayerTracker {
 
-    final ThreadLocal<Stack<InteractionLayer>> interactionLayerStack = ThreadLocal.withInitial(Stack::new);
+    final ThreadLocal<Deque<InteractionLayer>> interactionLayerStack = ThreadLocal.withInitial(ArrayDeque::new);
 
     final MetamodelEventService runtimeEventService;
     final SpecificationLoader specificationLoader;
@@ -187,12 +192,12 @@ public InteractionLayer openInteraction(
 
         if(reuseCurrentLayer) {
             // we are done, just return the stack's top
-            return interactionLayerStack.get().peek();
+            return interactionLayerStack.get().peekLast();
         }
 
         val interactionLayer = new InteractionLayer(isisInteraction, interactionContextToUse);
 
-        interactionLayerStack.get().push(interactionLayer);
+        interactionLayerStack.get().addLast(interactionLayer);
 
         if(isAtTopLevel()) {
         	postInteractionOpened(isisInteraction);
@@ -200,7 +205,7 @@ public InteractionLayer openInteraction(
 
         if(log.isDebugEnabled()) {
             log.debug("new interaction layer created (conversation-id={}, total-layers-on-stack={}, {})",
-                    interactionId.get(),
+                    getInteractionId().orElse(null),
                     interactionLayerStack.get().size(),
                     _Probe.currentThreadId());
         }
@@ -214,18 +219,20 @@ public InteractionLayer openInteraction(
 
     private IsisInteraction getOrCreateIsisInteraction() {
 
-        final Stack<InteractionLayer> interactionLayers = interactionLayerStack.get();
+        final Deque<InteractionLayer> interactionLayers = interactionLayerStack.get();
         return interactionLayers.isEmpty()
     			? new IsisInteraction(UUID.randomUUID())
-				: _Casts.uncheckedCast(interactionLayers.firstElement().getInteraction());
+				: _Casts.uncheckedCast(interactionLayers.peekFirst().getInteraction());
     }
 
     @Override
     public void closeInteractionLayers() {
-        log.debug("about to close the interaction stack (conversation-id={}, total-layers-on-stack={}, {})",
-                interactionId.get(),
-                interactionLayerStack.get().size(),
-                _Probe.currentThreadId());
+        if(log.isDebugEnabled()) {
+            log.debug("about to close the interaction stack (conversation-id={}, total-layers-on-stack={}, {})",
+                    getInteractionId().orElse(null),
+                    interactionLayerStack.get().size(),
+                    _Probe.currentThreadId());
+        }
 
         closeInteractionLayerStackDownToStackSize(0);
     }
@@ -235,7 +242,7 @@ public Optional<InteractionLayer> currentInteractionLayer() {
     	val stack = interactionLayerStack.get();
     	return stack.isEmpty()
     	        ? Optional.empty()
-                : Optional.of(stack.lastElement());
+                : Optional.of(stack.peekLast());
     }
 
     @Override
@@ -302,11 +309,16 @@ public void runAnonymous(final @NonNull ThrowingRunnable runnable) {
 
     // -- CONVERSATION ID
 
-    private final ThreadLocal<UUID> interactionId = ThreadLocal.withInitial(()->null);
-
+    /**
+     * The id of the {@link Interaction} at the bottom of the stack,
+     * which all layers on top of it share.
+     */
     @Override
     public Optional<UUID> getInteractionId() {
-        return Optional.ofNullable(interactionId.get());
+        val stack = interactionLayerStack.get();
+        return stack.isEmpty()
+                ? Optional.empty()
+                : Optional.of(stack.peekFirst().getInteraction().getInteractionId());
     }
 
     // -- HELPER
@@ -335,7 +347,7 @@ private void runInternal(final @NonNull ThrowingRunnable runnable) {
 
     private void requestRollback() {
         val stack = interactionLayerStack.get();
-        val interaction = _Casts.<IsisInteraction>uncheckedCast(stack.get(0).getInteraction());
+        val interaction = _Casts.<IsisInteraction>uncheckedCast(stack.peekFirst().getInteraction());
         txBoundaryHandler.requestRollback(interaction);
     }
 
@@ -344,7 +356,6 @@ private boolean isAtTopLevel() {
     }
 
     private void postInteractionOpened(final IsisInteraction interaction) {
-        interactionId.set(interaction.getInteractionId());
         transactionBoundaryAwareBeans.forEach(bean->bean.beforeEnteringTransactionalBoundary(interaction));
         txBoundaryHandler.onOpen(interaction);
         val isSynchronizationActive = TransactionSynchronizationManager.isSynchronizationActive();
@@ -365,25 +376,27 @@ private void preInteractionClosed(final IsisInteraction interaction) {
 
     private void closeInteractionLayerStackDownToStackSize(final int downToStackSize) {
 
-        log.debug("about to close authenication stack down to size {} (conversation-id={}, total-sessions-on-stack={}, {})",
-                downToStackSize,
-                interactionId.get(),
-                interactionLayerStack.get().size(),
-                _Probe.currentThreadId());
-
         val stack = interactionLayerStack.get();
+
+        if(log.isDebugEnabled()) {
+            log.debug("about to close authenication stack down to size {} (conversation-id={}, total-sessions-on-stack={}, {})",
+                    downToStackSize,
+                    getInteractionId().orElse(null),
+                    stack.size(),
+                    _Probe.currentThreadId());
+        }
+
         while(stack.size()>downToStackSize) {
         	if(isAtTopLevel()) {
         		// keep the stack unmodified yet, to allow for callbacks to properly operate
-        		preInteractionClosed(_Casts.uncheckedCast(stack.peek().getInteraction()));
+        		preInteractionClosed(_Casts.uncheckedCast(stack.peekLast().getInteraction()));
         	}
         	_Xray.closeInteractionLayer(stack);
-            stack.pop();
+            stack.removeLast();
         }
         if(downToStackSize == 0) {
             // cleanup thread-local
             interactionLayerStack.remove();
-            interactionId.remove();
         }
     }
 
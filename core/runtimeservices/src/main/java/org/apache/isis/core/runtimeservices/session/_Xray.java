@@ -18,7 +18,7 @@
  */
 package org.apache.isis.core.runtimeservices.session;
 
-import java.util.Stack;
+import java.util.Deque;
 
 import org.apache.isis.applib.services.iactnlayer.InteractionLayer;
 import org.apache.isis.commons.internal.debug._XrayEvent;
@@ -32,7 +32,7 @@
 //@Log4j2
 final class _Xray {
 
-    static void newInteractionLayer(final Stack<InteractionLayer> afterEnter) {
+    static void newInteractionLayer(final Deque<InteractionLayer> afterEnter) {
 
         if(!XrayUi.isXrayEnabled()) {
             return;
@@ -40,8 +40,8 @@ static void newInteractionLayer(final Stack<InteractionLayer> afterEnter) {
 
         // make defensive copies, so can use in another thread
         final int authStackSize = afterEnter.size();
-        val interactionId = afterEnter.peek().getInteraction().getInteractionId();
-        val executionContext = afterEnter.peek().getInteractionContext();
+        val interactionId = afterEnter.peekLast().getInteraction().getInteractionId();
+        val executionContext = afterEnter.peekLast().getInteractionContext();
 
         _XrayEvent.interactionOpen("open interaction %s", interactionId);
 
@@ -89,14 +89,14 @@ static void newInteractionLayer(final Stack<InteractionLayer> afterEnter) {
 
     }
 
-    public static void closeInteractionLayer(final Stack<InteractionLayer> beforeClose) {
+    public static void closeInteractionLayer(final Deque<InteractionLayer> beforeClose) {
 
         if(!XrayUi.isXrayEnabled()) {
             return;
         }
 
         final int authStackSize = beforeClose.size();
-        val interactionId = beforeClose.peek().getInteraction().getInteractionId();
+        val interactionId = beforeClose.peekLast().getInteraction().getInteractionId();
         val sequenceId = XrayUtil.sequenceId(interactionId);
 
 
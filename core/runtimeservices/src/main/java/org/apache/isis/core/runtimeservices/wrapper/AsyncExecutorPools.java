@@ -0,0 +1,245 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.wrapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.config.IsisConfiguration;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Framework managed, bounded executor pools for
+ * {@link org.apache.isis.applib.services.wrapper.WrapperFactory#asyncWrap(Object, org.apache.isis.applib.services.wrapper.control.AsyncControl)},
+ * such that async jobs (which open interactions and do blocking JDBC work) don't run on
+ * (and starve) the common fork-join pool.
+ *
+ * <p>
+ * Each pool has a fixed number of threads and a bounded queue; once the queue is full, submissions
+ * are rejected with a {@link RejectedExecutionException} (backpressure). On shutdown, pools stop
+ * accepting new jobs and drain the submitted ones, up to the configured timeout.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.runtimeservices.AsyncExecutorPools")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class AsyncExecutorPools {
+
+    public static final String DEFAULT_POOL_NAME = "default";
+
+    /**
+     * Snapshot of the metrics of a pool.
+     */
+    @Value
+    public static class PoolMetrics {
+        private final String name;
+        private final int queued;
+        private final int active;
+        private final long completed;
+        private final long rejected;
+        /** average time jobs waited in the queue for a thread */
+        private final Duration averageQueueLatency;
+        /** average time jobs took to execute */
+        private final Duration averageExecutionTime;
+    }
+
+    private final Map<String, MonitoredPool> poolsByName = _Maps.newLinkedHashMap();
+    private final Duration shutdownTimeout;
+
+    @Inject
+    public AsyncExecutorPools(final IsisConfiguration isisConfiguration) {
+        this(isisConfiguration.getCore().getRuntimeServices().getWrapper().getAsync());
+    }
+
+    // JUnit support
+    AsyncExecutorPools(final @NonNull IsisConfiguration.Core.RuntimeServices.Wrapper.Async config) {
+        this.shutdownTimeout = config.getShutdownTimeout();
+        poolsByName.put(DEFAULT_POOL_NAME, new MonitoredPool(DEFAULT_POOL_NAME, config.getDefaultPool()));
+        config.getPools().forEach((name, poolConfig)->
+            poolsByName.putIfAbsent(name, new MonitoredPool(name, poolConfig)));
+    }
+
+    /**
+     * The pool of given name, or the default pool if the name is {@code null}.
+     * @throws IllegalArgumentException if no such pool is configured
+     */
+    public ExecutorService getPool(final String poolName) {
+        return lookupPool(Optional.ofNullable(poolName).orElse(DEFAULT_POOL_NAME))
+                .orElseThrow(()->_Exceptions.illegalArgument(
+                        "no async executor pool named '%s' is configured, available are %s",
+                        poolName, poolsByName.keySet()));
+    }
+
+    public ExecutorService getDefaultPool() {
+        return getPool(DEFAULT_POOL_NAME);
+    }
+
+    public Can<PoolMetrics> getMetrics() {
+        return Can.ofCollection(poolsByName.values())
+                .map(MonitoredPool::metrics);
+    }
+
+    /**
+     * Stops accepting new jobs, then waits for the submitted ones to complete
+     * (up to the configured {@code shutdownTimeout}, shared by all pools).
+     */
+    @PreDestroy
+    public void shutdown() {
+        poolsByName.values().forEach(ThreadPoolExecutor::shutdown);
+        val deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        for (val pool : poolsByName.values()) {
+            try {
+                val remainingNanos = Math.max(0L, deadline - System.nanoTime());
+                if(!pool.awaitTermination(remainingNanos, TimeUnit.NANOSECONDS)) {
+                    log.warn("async executor pool '{}' did not drain in time, interrupting {} job(s)",
+                            pool.name, pool.getActiveCount() + pool.getQueue().size());
+                    pool.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                pool.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // -- HELPER
+
+    private Optional<MonitoredPool> lookupPool(final String poolName) {
+        return Optional.ofNullable(poolsByName.get(poolName));
+    }
+
+    private static BlockingQueue<Runnable> newQueue(final int capacity) {
+        return capacity > 0
+                ? new ArrayBlockingQueue<>(capacity)
+                : new SynchronousQueue<>();
+    }
+
+    private static final class MonitoredPool extends ThreadPoolExecutor {
+
+        @Getter private final String name;
+        private final LongAdder rejectedCount = new LongAdder();
+        private final LongAdder queueLatencyNanos = new LongAdder();
+        private final LongAdder executionNanos = new LongAdder();
+        private final ThreadLocal<Long> executionStart = new ThreadLocal<>();
+
+        MonitoredPool(final String name, final IsisConfiguration.Core.RuntimeServices.Wrapper.Async.Pool config) {
+            super(config.getMaxThreads(), config.getMaxThreads(),
+                    0L, TimeUnit.MILLISECONDS,
+                    newQueue(config.getQueueCapacity()));
+            this.name = name;
+            val threadCount = new AtomicInteger();
+            setThreadFactory(runnable->{
+                val thread = new Thread(runnable, "isis-async-" + name + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            setRejectedExecutionHandler((runnable, executor)->{
+                rejectedCount.increment();
+                throw new RejectedExecutionException(String.format(
+                        "async executor pool '%s' is %s (%d jobs queued)",
+                        name, executor.isShutdown() ? "shut down" : "saturated", executor.getQueue().size()));
+            });
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            super.execute(new TimedRunnable(command, System.nanoTime()));
+        }
+
+        @Override
+        protected void beforeExecute(final Thread thread, final Runnable runnable) {
+            val now = System.nanoTime();
+            if(runnable instanceof TimedRunnable) {
+                queueLatencyNanos.add(now - ((TimedRunnable) runnable).submittedAtNanos);
+            }
+            executionStart.set(now);
+            super.beforeExecute(thread, runnable);
+        }
+
+        @Override
+        protected void afterExecute(final Runnable runnable, final Throwable failure) {
+            super.afterExecute(runnable, failure);
+            val start = executionStart.get();
+            if(start != null) {
+                executionNanos.add(System.nanoTime() - start);
+                executionStart.remove();
+            }
+        }
+
+        PoolMetrics metrics() {
+            val completed = getCompletedTaskCount();
+            return new PoolMetrics(
+                    name,
+                    getQueue().size(),
+                    getActiveCount(),
+                    completed,
+                    rejectedCount.sum(),
+                    average(queueLatencyNanos.sum(), completed),
+                    average(executionNanos.sum(), completed));
+        }
+
+        private static Duration average(final long totalNanos, final long count) {
+            return count > 0
+                    ? Duration.ofNanos(totalNanos / count)
+                    : Duration.ZERO;
+        }
+
+    }
+
+    @Value
+    private static class TimedRunnable implements Runnable {
+        private final Runnable delegate;
+        private final long submittedAtNanos;
+        @Override
+        public void run() {
+            delegate.run();
+        }
+    }
+
+}
@@ -125,6 +125,7 @@ public class WrapperFactoryDefault implements WrapperFactory {
     @Inject ServiceInjector serviceInjector;
     @Inject _ProxyFactoryService proxyFactoryService; // protected to allow JUnit test
     @Inject @Lazy CommandDtoFactory commandDtoFactory;
+    @Inject AsyncExecutorPools asyncExecutorPools;
 
     private final List<InteractionListener> listeners = new ArrayList<>();
     private final Map<Class<? extends InteractionEvent>, InteractionEventDispatcher>
@@ -382,7 +383,8 @@ private <R> Object submitAsync(
         asyncControl.setMethod(method);
         asyncControl.setBookmark(Bookmark.forOidDto(oidDto));
 
-        val executorService = asyncControl.getExecutorService();
+        val executorService = Optional.ofNullable(asyncControl.getExecutorService())
+                .orElseGet(()->asyncExecutorPools.getPool(asyncControl.getPoolName()));
         val future = executorService.submit(
                 new ExecCommand<R>(
                         asyncInteractionContext,
@@ -18,9 +18,11 @@
  */
 package org.apache.isis.core.runtimeservices.i18n.po;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jmock.Expectations;
 import org.jmock.auto.Mock;
@@ -34,11 +36,13 @@
 import org.apache.isis.applib.services.i18n.TranslationsResolver;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.core.internaltestsupport.benchmark.MicroBenchmark;
 import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assume.assumeTrue;
 
 public class PoReaderTest {
 
@@ -224,6 +228,53 @@ protected List<String> readPo(final Locale locale) {
             assertThat(translated2, is(equalTo(msgstr$1)));
         }
 
+        @Test
+        public void msgIdSameAsOtherEntrysPluralMsgId() throws Exception {
+
+            // given
+            final TranslationContext context = TranslationContext.ofName(
+                    "org.apache.isis.applib.services.bookmark.BookmarkHolderAssociationContributions#object()");
+            final String msgid = "Work of art";
+            final String msgid_plural = "Works of art";
+            final String msgstr$0 = "Œuvre d'art";
+            final String msgstr$1 = "Les œuvres d'art";
+            final String msgstrOfOtherEntry = "Collection d'œuvres d'art";
+
+            poReader = new PoReader(mockTranslationServicePo) {
+                @Override
+                protected List<String> readPo(final Locale locale) {
+                    final List<String> lines = _Lists.newArrayList();
+                    lines.add(String.format("#: %s", context.getName()));
+                    lines.add(String.format("msgid \"%s\"", msgid));
+                    lines.add(String.format("msgid_plural \"%s\"", msgid_plural));
+                    lines.add(String.format("msgstr[0] \"%s\"", msgstr$0));
+                    lines.add(String.format("msgstr[1] \"%s\"", msgstr$1));
+                    lines.add(String.format("#: %s", context.getName()));
+                    lines.add(String.format("msgid \"%s\"", msgid_plural));
+                    lines.add(String.format("msgstr \"%s\"", msgstrOfOtherEntry));
+                    return lines;
+                }
+            };
+
+            // when
+            final String translatedPlural = poReader.translate(context, msgid, msgid_plural, 2);
+
+            // then
+            assertThat(translatedPlural, is(equalTo(msgstr$1)));
+
+            // when
+            final String translatedRegular = poReader.translate(context, msgid_plural);
+
+            // then
+            assertThat(translatedRegular, is(equalTo(msgstrOfOtherEntry)));
+
+            // when
+            final String translatedSingular = poReader.translate(context, msgid, msgid_plural, 1);
+
+            // then
+            assertThat(translatedSingular, is(equalTo(msgstr$0)));
+        }
+
 
 
         @Test
@@ -246,6 +297,89 @@ protected List<String> readPo(final Locale locale) {
             // then
             assertThat(translated, is(equalTo("Something to translate")));
         }
+
+        @Test
+        public void readsPoOnlyOncePerLocale() throws Exception {
+
+            // given
+            final TranslationContext context = TranslationContext.ofName("someContext");
+            final AtomicInteger readCount = new AtomicInteger();
+
+            poReader = new PoReader(mockTranslationServicePo) {
+                @Override
+                protected List<String> readPo(final Locale locale) {
+                    readCount.incrementAndGet();
+                    final List<String> lines = _Lists.newArrayList();
+                    lines.add(String.format("#: %s", context.getName()));
+                    lines.add("msgid \"Work of art\"");
+                    lines.add("msgstr \"  Objet d'art  \"");
+                    return lines;
+                }
+            };
+
+            // when
+            poReader.translate(context, "Work of art");
+            final String translated = poReader.translate(context, "Work of art");
+
+            // then
+            assertThat(translated, is(equalTo("Objet d'art")));
+            assertThat(readCount.get(), is(1));
+        }
+    }
+
+    public static class Benchmark {
+
+        /**
+         * Measures time and heap allocation per {@link PoReader#translate(TranslationContext, String)};
+         * run with <code>-Disis.benchmark=true</code>.
+         */
+        @Test
+        public void translate() throws Exception {
+            assumeTrue(MicroBenchmark.isEnabled());
+
+            // given
+            final int translationCount = 1_000;
+            final TranslationContext[] contexts = new TranslationContext[translationCount];
+            final String[] msgIds = new String[translationCount];
+            for (int i = 0; i < translationCount; i++) {
+                contexts[i] = TranslationContext.ofName("some.Context#member" + i + "()");
+                msgIds[i] = "Message " + i;
+            }
+
+            // plain stubs rather than mocks, so as not to measure the mocking framework
+            final Optional<Locale> preferredLanguage = Optional.of(Locale.UK);
+            final LanguageProvider languageProvider = ()->preferredLanguage;
+            final TranslationsResolver translationsResolver = file->Collections.emptyList();
+            final TranslationServicePo translationServicePo = new TranslationServicePo() {
+                @Override public LanguageProvider getLanguageProvider() { return languageProvider; }
+                @Override Can<TranslationsResolver> getTranslationsResolver() { return Can.ofSingleton(translationsResolver); }
+            };
+
+            final PoReader poReader = new PoReader(translationServicePo) {
+                @Override
+                protected List<String> readPo(final Locale locale) {
+                    final List<String> lines = _Lists.newArrayList();
+                    for (int i = 0; i < translationCount; i++) {
+                        lines.add(String.format("#: %s", contexts[i].getName()));
+                        lines.add(String.format("msgid \"%s\"", msgIds[i]));
+                        lines.add(String.format("msgstr \"Translated %d\"", i));
+                        lines.add("");
+                    }
+                    return lines;
+                }
+            };
+
+            MicroBenchmark.builder()
+                .label("translate")
+                .iterations(10_000)
+                .opsPerIteration(translationCount)
+                .build()
+                .run(()->{
+                    for (int i = 0; i < translationCount; i++) {
+                        poReader.translate(contexts[i], msgIds[i]);
+                    }
+                });
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,142 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.memento;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.core.internaltestsupport.benchmark.MicroBenchmark;
+import org.apache.isis.core.runtimeservices.RuntimeServicesTestAbstract;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class ObjectMementoSerializationTest
+extends RuntimeServicesTestAbstract {
+
+    public static class Customer {
+    }
+
+    @Test
+    void lookup_roundtrip() {
+        val memento = lookupMemento("123");
+
+        val recreated = roundtrip(memento);
+
+        assertNotSame(memento, recreated);
+        assertEquals(memento, recreated);
+        assertEquals(memento.getLogicalType(), recreated.getLogicalType());
+        assertEquals(memento.asBookmark(), recreated.asBookmark());
+        assertEquals(memento.asString(), recreated.asString());
+    }
+
+    @Test
+    void lookup_roundtrip_withHintIdAndSeparatorInIdentifier() {
+        val bookmark = Bookmark.forLogicalTypeNameAndIdentifier(customerLogicalTypeName(), "a:b:c")
+                .withHintId("hint");
+        val memento = _ObjectMemento.createPersistent(bookmark, getSpecificationLoader());
+
+        val recreated = roundtrip(memento);
+
+        assertEquals(memento, recreated);
+        assertEquals("hint", recreated.asBookmark().getHintId());
+        assertEquals(memento.asHintingBookmark().stringifyHonoringHintIfAny(),
+                recreated.asHintingBookmark().stringifyHonoringHintIfAny());
+    }
+
+    @Test
+    void list_roundtrip() {
+        val mementos = mementos(100);
+
+        val recreated = roundtrip(mementos);
+
+        assertEquals(mementos, recreated);
+    }
+
+    /**
+     * Measures serialized size and time of a page holding many mementos;
+     * run with <code>-Disis.benchmark=true</code>.
+     */
+    @Test
+    void benchmark() throws Exception {
+        assumeTrue(MicroBenchmark.isEnabled());
+
+        val mementos = mementos(1_000);
+
+        System.out.printf("1000 mementos: %d bytes serialized%n", serialize(mementos).length);
+
+        MicroBenchmark.builder()
+            .label("1000 mementos roundtrip")
+            .warmupIterations(200)
+            .build()
+            .run(()->roundtrip(mementos));
+    }
+
+    // -- HELPER
+
+    private String customerLogicalTypeName() {
+        return getSpecificationLoader().loadSpecification(Customer.class).getLogicalTypeName();
+    }
+
+    private _ObjectMemento lookupMemento(final String identifier) {
+        val bookmark = Bookmark.forLogicalTypeNameAndIdentifier(customerLogicalTypeName(), identifier);
+        return _ObjectMemento.createPersistent(bookmark, getSpecificationLoader());
+    }
+
+    private ArrayList<_ObjectMemento> mementos(final int count) {
+        val mementos = new ArrayList<_ObjectMemento>(count);
+        for (int i = 0; i < count; i++) {
+            mementos.add(lookupMemento("" + i));
+        }
+        return mementos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Serializable> T roundtrip(final T object) {
+        return (T) deserialize(serialize(object));
+    }
+
+    @SneakyThrows
+    private static byte[] serialize(final Serializable object) {
+        val bos = new ByteArrayOutputStream();
+        try(val oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(object);
+        }
+        return bos.toByteArray();
+    }
+
+    @SneakyThrows
+    private static Object deserialize(final byte[] bytes) {
+        try(val ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return ois.readObject();
+        }
+    }
+
+}
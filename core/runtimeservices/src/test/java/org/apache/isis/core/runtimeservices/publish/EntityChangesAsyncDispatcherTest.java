@@ -0,0 +1,225 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.publish;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.publishing.spi.EntityChanges;
+import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.runtimeservices.publish.EntityChangesAsyncDispatcher.StagedChanges;
+import org.apache.isis.schema.chg.v2.ChangesDto;
+import org.apache.isis.schema.chg.v2.ObjectsDto;
+import org.apache.isis.schema.common.v2.OidDto;
+import org.apache.isis.schema.common.v2.OidsDto;
+
+import lombok.val;
+
+class EntityChangesAsyncDispatcherTest {
+
+    private final List<List<StagedChanges>> published = new CopyOnWriteArrayList<>();
+    private final AtomicLong clock = new AtomicLong(1_000L);
+    private IsisConfiguration.Core.RuntimeServices.Publishing.Async config;
+    private InMemoryOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        config = new IsisConfiguration.Core.RuntimeServices.Publishing.Async();
+        config.setEnabled(true);
+        config.setBatchSize(2);
+        config.setMaxConcurrentDispatches(3);
+        outbox = new InMemoryOutbox();
+    }
+
+    @Test
+    void appendedChanges_areRelayed_andRemoved() {
+        val dispatcher = dispatcher(published::add);
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher.append(someChanges());
+            clock.incrementAndGet();
+        }
+        dispatcher.append(StagedChanges.of(Can.empty(), Can.empty())); // not appended
+        assertEquals(5L, dispatcher.getQueueDepth());
+        assertEquals(5L, dispatcher.getLag().toMillis());
+
+        assertTrue(dispatcher.relayOnce());
+
+        assertEquals(List.of(2, 2, 1), published.stream().map(List::size).collect(Collectors.toList()));
+        assertEquals(0L, dispatcher.getQueueDepth());
+        assertEquals(5L, dispatcher.getDispatchedCount());
+        assertFalse(dispatcher.relayOnce());
+    }
+
+    @Test
+    void failedRelay_retainsEntries_forRetry() {
+        val failing = new boolean[] {true};
+        val dispatcher = dispatcher(changes->{
+            if(failing[0]) {
+                throw new IllegalStateException("subscriber unavailable");
+            }
+            published.add(changes);
+        });
+        dispatcher.append(someChanges());
+
+        assertFalse(dispatcher.relayOnce());
+        assertEquals(1L, dispatcher.getFailedCount());
+        assertEquals(1L, dispatcher.getQueueDepth());
+
+        failing[0] = false;
+        assertTrue(dispatcher.relayOnce());
+        assertEquals(1, published.size());
+        assertEquals(0L, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    void payload_roundTrips() {
+        val interactionId = UUID.randomUUID();
+        val propertyChange = EntityPropertyChange.of(
+                interactionId, 1, "Customer", Bookmark.forLogicalTypeNameAndIdentifier("Customer", "1"),
+                "Customer#name", "name", "before", "after", "sven", new Timestamp(123L));
+
+        val changesDto = new ChangesDto();
+        changesDto.setInteractionId(interactionId.toString());
+        changesDto.setSequence(1);
+        changesDto.setUser("sven");
+        changesDto.setCompletedAt(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(new Timestamp(456L)));
+        val objects = new ObjectsDto();
+        objects.setLoaded(3);
+        objects.setCreated(new OidsDto());
+        objects.setUpdated(oidsOf("Customer", "1"));
+        objects.setDeleted(new OidsDto());
+        objects.setPropertiesModified(1);
+        changesDto.setObjects(objects);
+
+        val decoded = _EntityChangesOutboxPayload.decode(_EntityChangesOutboxPayload.encode(
+                StagedChanges.of(Can.ofSingleton(propertyChange), Can.ofSingleton(entityChangesOf(changesDto)))));
+        val decodedPropertyChange = decoded.getPropertyChanges().getFirstOrFail();
+        val entityChanges = decoded.getEntityChanges().getFirstOrFail();
+
+        assertEquals(propertyChange, decodedPropertyChange);
+        assertEquals(interactionId, entityChanges.getInteractionId());
+        assertEquals(1, entityChanges.getSequence());
+        assertEquals("sven", entityChanges.getUsername());
+        assertEquals(new Timestamp(456L), entityChanges.getCompletedAt());
+        assertEquals(3, entityChanges.getNumberLoaded());
+        assertEquals(0, entityChanges.getNumberCreated());
+        assertEquals(1, entityChanges.getNumberUpdated());
+        assertEquals(1, entityChanges.getNumberPropertiesModified());
+    }
+
+    @Test
+    void init_fails_whenEnabledWithoutOutbox() {
+        val dispatcher = new EntityChangesAsyncDispatcher(
+                config, Optional.empty(), published::add, Runnable::run, clock::get);
+        assertThrows(IllegalStateException.class, dispatcher::init);
+    }
+
+    // -- HELPER
+
+    private EntityChangesAsyncDispatcher dispatcher(final Consumer<List<StagedChanges>> publisher) {
+        return new EntityChangesAsyncDispatcher(
+                config, Optional.of(outbox), publisher, Runnable::run, clock::get);
+    }
+
+    private static StagedChanges someChanges() {
+        val propertyChange = EntityPropertyChange.of(
+                UUID.randomUUID(), 0, "Customer", Bookmark.forLogicalTypeNameAndIdentifier("Customer", "1"),
+                "Customer#name", "name", "before", "after", "sven", null);
+        return StagedChanges.of(Can.ofSingleton(propertyChange), Can.empty());
+    }
+
+    private static OidsDto oidsOf(final String type, final String id) {
+        val oidDto = new OidDto();
+        oidDto.setType(type);
+        oidDto.setId(id);
+        val oidsDto = new OidsDto();
+        oidsDto.getOid().add(oidDto);
+        return oidsDto;
+    }
+
+    // only the dto is encoded, from which the codec re-creates all else
+    private static EntityChanges entityChangesOf(final ChangesDto changesDto) {
+        return new EntityChanges() {
+            @Override public UUID getInteractionId() { return UUID.fromString(changesDto.getInteractionId()); }
+            @Override public int getSequence() { return changesDto.getSequence(); }
+            @Override public String getUsername() { return changesDto.getUser(); }
+            @Override public Timestamp getCompletedAt() { return null; }
+            @Override public int getNumberLoaded() { return 0; }
+            @Override public int getNumberCreated() { return 0; }
+            @Override public int getNumberUpdated() { return 0; }
+            @Override public int getNumberDeleted() { return 0; }
+            @Override public int getNumberPropertiesModified() { return 0; }
+            @Override public ChangesDto getDto() { return changesDto; }
+        };
+    }
+
+    private static class InMemoryOutbox implements EntityChangesOutbox {
+
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+        @Override
+        public void append(final Entry entry) {
+            entries.put(entry.getId(), entry);
+        }
+
+        @Override
+        public List<Entry> findOldest(final int maxEntries) {
+            return entries.values().stream()
+                    .sorted(Comparator.comparing(Entry::getCreatedAt).thenComparing(Entry::getId))
+                    .limit(maxEntries)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        @Override
+        public void remove(final Collection<String> ids) {
+            ids.forEach(entries::remove);
+        }
+
+        @Override
+        public long count() {
+            return entries.size();
+        }
+
+    }
+
+}
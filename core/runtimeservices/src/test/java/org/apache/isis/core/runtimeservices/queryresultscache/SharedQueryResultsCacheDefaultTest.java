@@ -0,0 +1,234 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.queryresultscache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.core.config.IsisConfiguration;
+
+import lombok.val;
+
+class SharedQueryResultsCacheDefaultTest {
+
+    static class Customer {}
+    static class VipCustomer extends Customer {}
+    static class Order {}
+
+    /**
+     * Stands in for an entity, that is attached to the persistence context of the interaction it was loaded by.
+     */
+    static class CustomerEntity {
+        final String id;
+        CustomerEntity(final String id) { this.id = id; }
+    }
+
+    private final AtomicLong nanoClock = new AtomicLong();
+    private final AtomicInteger callCount = new AtomicInteger();
+    private final Map<String, CustomerEntity> entitiesInDatabase = new ConcurrentHashMap<>();
+    private SharedQueryResultsCacheDefault cache;
+
+    @BeforeEach
+    void setUp() {
+        val config = new IsisConfiguration.Core.RuntimeServices.QueryResultsCache.Shared();
+        config.setMaxEntries(2);
+        config.setTimeToLive(Duration.ofSeconds(10));
+        cache = new SharedQueryResultsCacheDefault(config, nanoClock::get,
+                pojo->pojo instanceof CustomerEntity
+                    ? Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("Customer", ((CustomerEntity)pojo).id))
+                    : Optional.empty(),
+                // re-resolving yields a new instance, as if loaded within the calling interaction
+                bookmark->Optional.ofNullable(entitiesInDatabase.get(bookmark.getIdentifier()))
+                    .map(entity->new CustomerEntity(entity.id)));
+    }
+
+    @Test
+    void entityTypes_areDetected_includingSubclasses_withoutIntrospection() {
+        val entityTypes = Set.<Class<?>>of(Customer.class);
+
+        assertTrue(SharedQueryResultsCacheDefault.isEntityType(entityTypes, Customer.class));
+        assertTrue(SharedQueryResultsCacheDefault.isEntityType(entityTypes, VipCustomer.class)); // eg. proxied
+        assertFalse(SharedQueryResultsCacheDefault.isEntityType(entityTypes, Order.class));
+        assertFalse(SharedQueryResultsCacheDefault.isEntityType(entityTypes, String.class));
+        assertFalse(SharedQueryResultsCacheDefault.isEntityType(entityTypes, Object.class));
+    }
+
+    @Test
+    void hit_whenSameKey() {
+        assertEquals("a", findCustomer("a"));
+        assertEquals("a", findCustomer("a"));
+
+        assertEquals(1, callCount.get());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+    }
+
+    @Test
+    void evicted_whenTaggedTypeOrSubtypeChanged() {
+        findCustomer("a");
+        cache.evictTaggedWith(List.of(Order.class));
+        findCustomer("a");
+        assertEquals(1, callCount.get());
+
+        cache.evictTaggedWith(List.of(VipCustomer.class));
+        findCustomer("a");
+        assertEquals(2, callCount.get());
+        assertEquals(1L, cache.getEvictionCount());
+    }
+
+    @Test
+    void evicted_whenTimeToLiveElapsed() {
+        findCustomer("a");
+        nanoClock.addAndGet(Duration.ofSeconds(10).toNanos());
+        findCustomer("a");
+
+        assertEquals(2, callCount.get());
+        assertEquals(1L, cache.getEvictionCount());
+    }
+
+    @Test
+    void leastRecentlyUsedEvicted_whenCapacityExceeded() {
+        findCustomer("a");
+        findCustomer("b");
+        findCustomer("a"); // hit, so "b" becomes the eldest
+        findCustomer("c"); // evicts "b"
+        assertEquals(3, callCount.get());
+
+        findCustomer("a");
+        assertEquals(3, callCount.get());
+        findCustomer("b");
+        assertEquals(4, callCount.get());
+        assertEquals(2L, cache.getEvictionCount());
+    }
+
+    @Test
+    void notCached_whenEvictedWhileComputing() {
+        cache.execute(()->{
+                    callCount.incrementAndGet();
+                    cache.evictTaggedWith(List.of(Customer.class));
+                    return "a";
+                },
+                List.of(Customer.class), getClass(), "findCustomer", "a");
+        findCustomer("a");
+
+        assertEquals(2, callCount.get());
+    }
+
+    @Test
+    void entities_areReResolvedOnHit() {
+        entitiesInDatabase.put("a", new CustomerEntity("a"));
+
+        val first = findCustomerEntities("a");
+        val second = findCustomerEntities("a");
+
+        assertEquals(1, callCount.get());
+        assertEquals(1, second.size());
+        assertEquals("a", second.get(0).id);
+        assertNotSame(first.get(0), second.get(0));
+
+        val single = findCustomerEntity("a");
+        assertEquals("a", findCustomerEntity("a").get().id);
+        assertNotSame(single.get(), findCustomerEntity("a").get());
+    }
+
+    @Test
+    void miss_whenEntityCanNoLongerBeResolved() {
+        entitiesInDatabase.put("a", new CustomerEntity("a"));
+        findCustomerEntities("a");
+
+        entitiesInDatabase.remove("a");
+        assertEquals(0, findCustomerEntities("a").size());
+        assertEquals(2, callCount.get());
+    }
+
+    @Test
+    void bypassed_whileSuspended() {
+        findCustomer("a");
+        cache.suspendTaggedWith(List.of(VipCustomer.class));
+
+        findCustomer("a");
+        findCustomer("a");
+        assertEquals(3, callCount.get());
+
+        cache.resumeTaggedWith(List.of(VipCustomer.class));
+        findCustomer("a");
+        findCustomer("a");
+        assertEquals(4, callCount.get());
+    }
+
+    @Test
+    void bypassed_untilAllSuspendingTransactionsHaveCompleted() {
+        cache.suspendTaggedWith(List.of(Customer.class));
+        cache.suspendTaggedWith(List.of(Customer.class));
+        cache.resumeTaggedWith(List.of(Customer.class));
+
+        findCustomer("a");
+        findCustomer("a");
+        assertEquals(2, callCount.get());
+
+        cache.resumeTaggedWith(List.of(Customer.class));
+        findCustomer("a");
+        findCustomer("a");
+        assertEquals(3, callCount.get());
+    }
+
+    // -- HELPER
+
+    private List<CustomerEntity> findCustomerEntities(final String id) {
+        return cache.execute(()->{
+                    callCount.incrementAndGet();
+                    return Optional.ofNullable(entitiesInDatabase.get(id))
+                            .map(List::of)
+                            .orElseGet(List::of);
+                },
+                List.of(CustomerEntity.class), getClass(), "findCustomerEntities", id);
+    }
+
+    private Optional<CustomerEntity> findCustomerEntity(final String id) {
+        return cache.execute(()->{
+                    callCount.incrementAndGet();
+                    return Optional.ofNullable(entitiesInDatabase.get(id));
+                },
+                List.of(CustomerEntity.class), getClass(), "findCustomerEntity", id);
+    }
+
+    private String findCustomer(final String name) {
+        return cache.execute(()->{
+                    callCount.incrementAndGet();
+                    return name;
+                },
+                List.of(Customer.class), getClass(), "findCustomer", name);
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.session;
+
+import java.util.Collections;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.beans.factory.config.Scope;
+
+import org.apache.isis.applib.services.clock.ClockService;
+import org.apache.isis.applib.services.iactnlayer.InteractionContext;
+import org.apache.isis.applib.services.inject.ServiceInjector;
+import org.apache.isis.core.interaction.integration.InteractionAwareTransactionalBoundaryHandler;
+import org.apache.isis.core.interaction.scope.InteractionScopeBeanFactoryPostProcessor;
+import org.apache.isis.core.interaction.scope.InteractionScopeLifecycleHandler;
+import org.apache.isis.core.internaltestsupport.benchmark.MicroBenchmark;
+import org.apache.isis.core.metamodel.services.publishing.CommandPublisher;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.runtime.events.MetamodelEventService;
+import org.apache.isis.core.security.authentication.InteractionContextFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import lombok.val;
+
+class InteractionServiceDefaultTest {
+
+    /**
+     * Stubs rather than mocks, as the latter record every invocation, which would dominate the benchmark.
+     */
+    static class NoopInteractionScope implements Scope, InteractionScopeLifecycleHandler {
+        @Override public Object get(final String name, final ObjectFactory<?> objectFactory) { return objectFactory.getObject(); }
+        @Override public Object remove(final String name) { return null; }
+        @Override public void registerDestructionCallback(final String name, final Runnable callback) {}
+        @Override public Object resolveContextualObject(final String key) { return null; }
+        @Override public String getConversationId() { return null; }
+        @Override public void onTopLevelInteractionOpened() {}
+        @Override public void onTopLevelInteractionPreDestroy() {}
+        @Override public void onTopLevelInteractionClosed() {}
+    }
+
+    static class NoopServiceInjector implements ServiceInjector {
+        @Override public <T> T injectServicesInto(final T domainObject) { return domainObject; }
+    }
+
+    private InteractionServiceDefault interactionService;
+    private InteractionContext anonymous;
+    private InteractionContext testing;
+
+    @BeforeEach
+    void setUp() {
+        val beanFactory = mock(ConfigurableBeanFactory.class);
+        when(beanFactory.getRegisteredScope(InteractionScopeBeanFactoryPostProcessor.SCOPE_NAME))
+            .thenReturn(new NoopInteractionScope());
+        final CommandPublisher commandPublisher = command->{};
+
+        interactionService = new InteractionServiceDefault(
+                mock(MetamodelEventService.class),
+                mock(SpecificationLoader.class),
+                new NoopServiceInjector(),
+                new InteractionAwareTransactionalBoundaryHandler(Collections.emptyList()),
+                mock(ClockService.class),
+                ()->commandPublisher,
+                beanFactory);
+        interactionService.transactionBoundaryAwareBeans = Collections.emptyList();
+
+        anonymous = InteractionContextFactory.anonymous();
+        testing = InteractionContextFactory.testing();
+    }
+
+    @Test
+    void nestedLayers_shareInteractionId_andStackIsClearedOnClose() {
+        assertFalse(interactionService.isInInteraction());
+        assertFalse(interactionService.getInteractionId().isPresent());
+
+        interactionService.openInteraction(anonymous);
+        val interactionId = interactionService.getInteractionId().get();
+        assertEquals(1, interactionService.getInteractionLayerCount());
+
+        interactionService.run(testing, ()->{
+            assertEquals(2, interactionService.getInteractionLayerCount());
+            assertEquals(interactionId, interactionService.getInteractionId().get());
+            assertEquals(testing, interactionService.currentInteractionContext().get());
+        });
+
+        assertEquals(1, interactionService.getInteractionLayerCount());
+        assertEquals(anonymous, interactionService.currentInteractionContext().get());
+
+        interactionService.closeInteractionLayers();
+        assertFalse(interactionService.isInInteraction());
+        assertFalse(interactionService.getInteractionId().isPresent());
+    }
+
+    @Test
+    void snapshot_isEmpty_whenNotInInteraction() {
+        assertFalse(interactionService.snapshot().isPresent());
+    }
+
+    @Test
+    void snapshot_propagatesInteractionContext_toOtherThread() throws Exception {
+        val executor = Executors.newSingleThreadExecutor();
+        try {
+            val snapshot = interactionService.call(testing, ()->interactionService.snapshot().get());
+            assertEquals(testing, snapshot.getInteractionContext());
+
+            val contextOnWorker = executor.submit(interactionService.wrapCallable(snapshot, ()->{
+                assertEquals(1, interactionService.getInteractionLayerCount());
+                return interactionService.currentInteractionContext().get();
+            })).get();
+            assertEquals(testing, contextOnWorker);
+
+            // worker's layer stack is cleaned up after the task
+            assertEquals(0, executor.submit(interactionService::getInteractionLayerCount).get());
+
+            val ranOnWorker = new AtomicBoolean();
+            executor.submit(interactionService.wrapRunnable(snapshot, ()->
+                ranOnWorker.set(testing.equals(interactionService.currentInteractionContext().get()))))
+            .get();
+            assertTrue(ranOnWorker.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Measures throughput of opening and closing interactions;
+     * run with <code>-Disis.benchmark=true</code>.
+     */
+    @Test
+    void benchmark() throws Exception {
+        assumeTrue(MicroBenchmark.isEnabled());
+
+        measure("open/close top-level interaction", ()->
+            interactionService.run(anonymous, ()->{
+                interactionService.currentInteractionLayerElseFail();
+                interactionService.getInteractionId();
+            }));
+
+        interactionService.call(anonymous, ()->
+            measure("open/close nested layer", ()->
+                interactionService.run(testing, ()->{
+                    interactionService.currentInteractionLayerElseFail();
+                    interactionService.getInteractionId();
+                })));
+    }
+
+    // -- HELPER
+
+    private static MicroBenchmark.Result measure(final String label, final MicroBenchmark.Task task) throws Exception {
+        return MicroBenchmark.builder()
+                .label(label)
+                .warmupIterations(200_000)
+                .iterations(2_000_000)
+                .build()
+                .run(task);
+    }
+
+}
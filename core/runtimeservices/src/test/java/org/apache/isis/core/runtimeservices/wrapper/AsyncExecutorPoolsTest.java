@@ -0,0 +1,102 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.wrapper;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.core.config.IsisConfiguration;
+
+import lombok.val;
+
+class AsyncExecutorPoolsTest {
+
+    private AsyncExecutorPools pools;
+
+    @BeforeEach
+    void setUp() {
+        val config = new IsisConfiguration.Core.RuntimeServices.Wrapper.Async();
+        config.getDefaultPool().setMaxThreads(1);
+        config.getDefaultPool().setQueueCapacity(1);
+        val reports = new IsisConfiguration.Core.RuntimeServices.Wrapper.Async.Pool();
+        config.getPools().put("reports", reports);
+        pools = new AsyncExecutorPools(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pools.shutdown();
+    }
+
+    @Test
+    void lookupByName() {
+        assertSame(pools.getDefaultPool(), pools.getPool(null));
+        assertNotSame(pools.getDefaultPool(), pools.getPool("reports"));
+        assertThrows(IllegalArgumentException.class, ()->pools.getPool("unknown"));
+    }
+
+    @Test
+    void rejects_whenQueueIsFull() throws Exception {
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val pool = pools.getDefaultPool();
+
+        val first = pool.submit(()->{
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        val second = pool.submit(()->2); // queued
+        assertThrows(RejectedExecutionException.class, ()->pool.submit(()->3));
+
+        val metrics = pools.getMetrics().getFirstOrFail();
+        assertEquals("default", metrics.getName());
+        assertEquals(1, metrics.getQueued());
+        assertEquals(1, metrics.getActive());
+        assertEquals(1L, metrics.getRejected());
+
+        release.countDown();
+        assertEquals(1, first.get(5, TimeUnit.SECONDS));
+        assertEquals(2, second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void drainsSubmittedJobs_onShutdown() throws Exception {
+        val future = pools.getDefaultPool().submit(()->{
+            Thread.sleep(50);
+            return "done";
+        });
+        pools.shutdown();
+        assertEquals("done", future.get(0, TimeUnit.SECONDS));
+        assertThrows(RejectedExecutionException.class, ()->pools.getDefaultPool().submit(()->"late"));
+    }
+
+}
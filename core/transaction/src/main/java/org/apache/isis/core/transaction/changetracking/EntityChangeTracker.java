@@ -18,6 +18,8 @@
  */
 package org.apache.isis.core.transaction.changetracking;
 
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 
 /**
@@ -59,6 +61,20 @@ public interface EntityChangeTracker {
      */
     void enlistUpdating(ManagedObject entity);
 
+    /**
+     * Publishing support: for object stores that detect the modified (dirty) properties themselves
+     * (eg. at flush), to enlist an object that is about to be updated, along with the pre- and
+     * post-modification values of just those properties that actually changed.
+     * <p>
+     * The default implementation ignores the given change records and falls back to
+     * {@link #enlistUpdating(ManagedObject)}.
+     */
+    default void enlistUpdating(
+            final ManagedObject entity,
+            final Can<PropertyChangeRecord> changeRecords) {
+        enlistUpdating(entity);
+    }
+
     /**
      * Fires the appropriate event and lifecycle callback: {@literal LOADED}
      */
@@ -0,0 +1,37 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.transaction.events;
+
+import lombok.Value;
+
+/**
+ * Posted only if the transaction is about to commit (not on rollback), before
+ * {@link TransactionBeforeCompletionEvent}; the place to flush pending changes,
+ * such that these are seen by any listeners of the latter.
+ */
+@Value
+public class TransactionBeforeCommitEvent {
+
+    private final static TransactionBeforeCommitEvent INSTANCE = new TransactionBeforeCommitEvent();
+
+    public static TransactionBeforeCommitEvent instance() {
+        return INSTANCE;
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.entitychangesoutbox.jdo.dom;
+
+import java.sql.Timestamp;
+
+import javax.jdo.annotations.Column;
+import javax.jdo.annotations.IdentityType;
+import javax.jdo.annotations.Index;
+import javax.jdo.annotations.Indices;
+import javax.jdo.annotations.PersistenceCapable;
+import javax.jdo.annotations.PrimaryKey;
+import javax.jdo.annotations.Queries;
+import javax.jdo.annotations.Query;
+
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.Publishing;
+import org.apache.isis.core.runtimeservices.publish.EntityChangesOutbox;
+import org.apache.isis.extensions.entitychangesoutbox.jdo.IsisModuleExtEntityChangesOutboxJdo;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A row of the transactional {@link EntityChangesOutbox}, holding the (encoded) changes of a single
+ * transaction, until relayed to the subscribers.
+ *
+ * <p>
+ *     Not itself subject to entity change publishing.
+ * </p>
+ */
+@PersistenceCapable(
+        identityType = IdentityType.APPLICATION,
+        schema = "isisExtensionsEntityChangesOutbox",
+        table = "EntityChangesOutboxEntry")
+@Indices({
+    @Index(
+            name = "EntityChangesOutboxEntry_createdAt_IDX", members = { "createdAt" })
+})
+@Queries( {
+    @Query(
+            name = EntityChangesOutboxEntry.NAMED_QUERY_FIND_OLDEST,
+            value = "SELECT "
+                    + "FROM " + EntityChangesOutboxEntry.FQCN
+                    + " ORDER BY createdAt ASC, id ASC"),
+    @Query(
+            name = EntityChangesOutboxEntry.NAMED_QUERY_FIND_BY_IDS,
+            value = "SELECT "
+                    + "FROM " + EntityChangesOutboxEntry.FQCN
+                    + " WHERE :ids.contains(id)"),
+    @Query(
+            name = EntityChangesOutboxEntry.NAMED_QUERY_COUNT,
+            value = "SELECT count(this) "
+                    + "FROM " + EntityChangesOutboxEntry.FQCN)})
+@DomainObject(
+        logicalTypeName = EntityChangesOutboxEntry.LOGICAL_TYPE_NAME,
+        entityChangePublishing = Publishing.DISABLED)
+public class EntityChangesOutboxEntry {
+
+    protected final static String FQCN = "org.apache.isis.extensions.entitychangesoutbox.jdo.dom.EntityChangesOutboxEntry";
+
+    public static final String LOGICAL_TYPE_NAME = IsisModuleExtEntityChangesOutboxJdo.NAMESPACE + ".EntityChangesOutboxEntry";
+
+    public static final String NAMED_QUERY_FIND_OLDEST = "EntityChangesOutboxEntry.findOldest";
+    public static final String NAMED_QUERY_FIND_BY_IDS = "EntityChangesOutboxEntry.findByIds";
+    public static final String NAMED_QUERY_COUNT = "EntityChangesOutboxEntry.count";
+
+    @PrimaryKey
+    @Column(allowsNull = "false", length = 36)
+    @Getter @Setter
+    private String id;
+
+    @Column(allowsNull = "false")
+    @Getter @Setter
+    private Timestamp createdAt;
+
+    @Column(allowsNull = "false", jdbcType = "CLOB")
+    @Getter @Setter
+    private String payload;
+
+    public static EntityChangesOutboxEntry of(final EntityChangesOutbox.Entry entry) {
+        final EntityChangesOutboxEntry entity = new EntityChangesOutboxEntry();
+        entity.setId(entry.getId());
+        entity.setCreatedAt(entry.getCreatedAt());
+        entity.setPayload(entry.getPayload());
+        return entity;
+    }
+
+    public EntityChangesOutbox.Entry toEntry() {
+        return EntityChangesOutbox.Entry.of(getId(), getCreatedAt(), getPayload());
+    }
+
+}
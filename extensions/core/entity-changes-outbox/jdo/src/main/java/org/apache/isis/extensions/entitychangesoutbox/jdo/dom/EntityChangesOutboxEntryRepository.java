@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.entitychangesoutbox.jdo.dom;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.core.runtimeservices.publish.EntityChangesOutbox;
+import org.apache.isis.extensions.entitychangesoutbox.jdo.IsisModuleExtEntityChangesOutboxJdo;
+import org.apache.isis.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * {@link EntityChangesOutbox} implementation, persisting entries as
+ * {@link EntityChangesOutboxEntry} entities.
+ */
+@Service
+@Named(IsisModuleExtEntityChangesOutboxJdo.NAMESPACE + ".EntityChangesOutboxEntryRepository")
+@javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Jdo")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class EntityChangesOutboxEntryRepository implements EntityChangesOutbox {
+
+    private final RepositoryService repositoryService;
+    private final JdoSupportService jdoSupportService;
+
+    @Override
+    public void append(final @NonNull Entry entry) {
+        repositoryService.persist(EntityChangesOutboxEntry.of(entry));
+    }
+
+    @Override
+    public List<Entry> findOldest(final int maxEntries) {
+        return repositoryService.allMatches(
+                Query.named(EntityChangesOutboxEntry.class, EntityChangesOutboxEntry.NAMED_QUERY_FIND_OLDEST)
+                    .withLimit(maxEntries))
+                .stream()
+                .map(EntityChangesOutboxEntry::toEntry)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void remove(final @NonNull Collection<String> ids) {
+        if(ids.isEmpty()) {
+            return;
+        }
+        repositoryService.allMatches(
+                Query.named(EntityChangesOutboxEntry.class, EntityChangesOutboxEntry.NAMED_QUERY_FIND_BY_IDS)
+                    .withParameter("ids", ids))
+                .forEach(repositoryService::remove);
+    }
+
+    @Override
+    public long count() {
+        val query = jdoSupportService.getPersistenceManager()
+                .newNamedQuery(EntityChangesOutboxEntry.class, EntityChangesOutboxEntry.NAMED_QUERY_COUNT);
+        query.setUnique(true);
+        return ((Number) query.execute()).longValue();
+    }
+
+}
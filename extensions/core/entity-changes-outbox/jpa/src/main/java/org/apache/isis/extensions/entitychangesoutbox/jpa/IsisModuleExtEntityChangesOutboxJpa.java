@@ -0,0 +1,53 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.entitychangesoutbox.jpa;
+
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import org.apache.isis.extensions.entitychangesoutbox.jpa.dom.EntityChangesOutboxEntry;
+import org.apache.isis.extensions.entitychangesoutbox.jpa.dom.EntityChangesOutboxEntryRepository;
+import org.apache.isis.persistence.jpa.eclipselink.IsisModulePersistenceJpaEclipselink;
+
+/**
+ * Provides the transactional outbox required for asynchronous publishing of entity changes
+ * ({@code isis.core.runtime-services.publishing.async.enabled}), persisted using JPA.
+ *
+ * @since 2.0 {@index}
+ */
+@Configuration
+@Import({
+        // modules
+        IsisModulePersistenceJpaEclipselink.class,
+
+        // services
+        EntityChangesOutboxEntryRepository.class,
+
+        // entities, eager meta-model inspection
+        EntityChangesOutboxEntry.class,
+})
+@EntityScan(basePackageClasses = {
+        EntityChangesOutboxEntry.class,
+})
+public class IsisModuleExtEntityChangesOutboxJpa {
+
+    public static final String NAMESPACE = "isis.ext.entityChangesOutbox";
+
+}
@@ -0,0 +1,111 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.entitychangesoutbox.jpa.dom;
+
+import java.sql.Timestamp;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.Publishing;
+import org.apache.isis.core.runtimeservices.publish.EntityChangesOutbox;
+import org.apache.isis.extensions.entitychangesoutbox.jpa.IsisModuleExtEntityChangesOutboxJpa;
+import org.apache.isis.persistence.jpa.applib.integration.IsisEntityListener;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A row of the transactional {@link EntityChangesOutbox}, holding the (encoded) changes of a single
+ * transaction, until relayed to the subscribers.
+ *
+ * <p>
+ *     Not itself subject to entity change publishing.
+ * </p>
+ */
+@Entity
+@Table(
+        schema = "isisExtensionsEntityChangesOutbox",
+        name = "EntityChangesOutboxEntry",
+        indexes = {
+            @Index(name = "EntityChangesOutboxEntry_createdAt_IDX", columnList = "createdAt")
+        })
+@NamedQueries({
+    @NamedQuery(
+            name = EntityChangesOutboxEntry.NAMED_QUERY_FIND_OLDEST,
+            query = "SELECT e "
+                  + "  FROM EntityChangesOutboxEntry e "
+                  + " ORDER BY e.createdAt, e.id"),
+    @NamedQuery(
+            name = EntityChangesOutboxEntry.NAMED_QUERY_FIND_BY_IDS,
+            query = "SELECT e "
+                  + "  FROM EntityChangesOutboxEntry e "
+                  + " WHERE e.id IN :ids"),
+    @NamedQuery(
+            name = EntityChangesOutboxEntry.NAMED_QUERY_COUNT,
+            query = "SELECT COUNT(e) "
+                  + "  FROM EntityChangesOutboxEntry e"),
+})
+@EntityListeners(IsisEntityListener.class)
+@DomainObject(
+        logicalTypeName = EntityChangesOutboxEntry.LOGICAL_TYPE_NAME,
+        entityChangePublishing = Publishing.DISABLED)
+public class EntityChangesOutboxEntry {
+
+    public static final String LOGICAL_TYPE_NAME = IsisModuleExtEntityChangesOutboxJpa.NAMESPACE + ".EntityChangesOutboxEntry";
+
+    public static final String NAMED_QUERY_FIND_OLDEST = "EntityChangesOutboxEntry.findOldest";
+    public static final String NAMED_QUERY_FIND_BY_IDS = "EntityChangesOutboxEntry.findByIds";
+    public static final String NAMED_QUERY_COUNT = "EntityChangesOutboxEntry.count";
+
+    @Id
+    @Column(nullable = false, length = 36)
+    @Getter @Setter
+    private String id;
+
+    @Column(nullable = false)
+    @Getter @Setter
+    private Timestamp createdAt;
+
+    @Lob
+    @Column(nullable = false)
+    @Getter @Setter
+    private String payload;
+
+    public static EntityChangesOutboxEntry of(final EntityChangesOutbox.Entry entry) {
+        final EntityChangesOutboxEntry entity = new EntityChangesOutboxEntry();
+        entity.setId(entry.getId());
+        entity.setCreatedAt(entry.getCreatedAt());
+        entity.setPayload(entry.getPayload());
+        return entity;
+    }
+
+    public EntityChangesOutbox.Entry toEntry() {
+        return EntityChangesOutbox.Entry.of(getId(), getCreatedAt(), getPayload());
+    }
+
+}
@@ -18,9 +18,12 @@
  */
 package org.apache.isis.extensions.secman.integration.authorizor;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -36,10 +39,16 @@
 import org.apache.isis.applib.annotation.PriorityPrecedence;
 import org.apache.isis.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.isis.applib.services.iactnlayer.InteractionContext;
+import org.apache.isis.applib.services.queryresultscache.SharedQueryResultsCache;
+import org.apache.isis.applib.services.user.UserMemento;
+import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.core.security.authorization.Authorizor;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermission;
 import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
-import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionRepository;
+import org.apache.isis.extensions.secman.applib.permission.spi.PermissionsEvaluationService;
+import org.apache.isis.extensions.secman.applib.role.dom.ApplicationRole;
 import org.apache.isis.extensions.secman.applib.user.dom.ApplicationUser;
 import org.apache.isis.extensions.secman.applib.user.dom.ApplicationUserRepository;
 
@@ -47,6 +56,15 @@
 import lombok.val;
 
 /**
+ * Authorizes against the permissions of the secman roles of the current user.
+ *
+ * <p>
+ * Permissions are compiled into a {@link CompiledPermissionSet} per (distinct) combination of role names, which is
+ * shared across interactions using the {@link SharedQueryResultsCache}, and evicted whenever any
+ * {@link ApplicationPermission}, {@link ApplicationRole} or {@link ApplicationUser} (including its role links)
+ * changes.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -55,7 +73,15 @@
 @Qualifier("Secman")
 public class AuthorizorSecman implements Authorizor {
 
+    private static final List<Class<?>> ROLE_NAMES_DEPENDENCIES =
+            List.of(ApplicationUser.class, ApplicationRole.class);
+    private static final List<Class<?>> PERMISSION_SET_DEPENDENCIES =
+            List.of(ApplicationPermission.class, ApplicationRole.class);
+
     @Inject ApplicationUserRepository applicationUserRepository;
+    @Inject ApplicationPermissionRepository applicationPermissionRepository;
+    @Inject PermissionsEvaluationService permissionsEvaluationService;
+    @Inject Provider<SharedQueryResultsCache> sharedQueryResultsCache;
     @Inject Provider<PermissionCache> cache;
 
     @Override
@@ -75,12 +101,11 @@ private boolean grants(
             final Identifier identifier,
             final ApplicationPermissionMode permissionMode) {
 
-        val userName = authentication.getUser().getName();
+        val user = authentication.getUser();
         val permissionSetIfAny = cache.get()
-                .computeIfAbsent(userName, ()->
-                applicationUserRepository
-                .findByUsername(userName)
-                .map(ApplicationUser::getPermissionSet));
+                .computeIfAbsent(user.getName(), ()->
+                    roleNamesOf(user)
+                    .map(this::permissionSetFor));
 
         return permissionSetIfAny
         .map(permissionSet->permissionSet.grants(
@@ -89,21 +114,61 @@ private boolean grants(
         .orElse(false);
     }
 
+    /**
+     * The roles of the persisted {@link ApplicationUser}, or empty if there is no such user (no permissions granted).
+     * <p>
+     * When impersonating, the roles are taken from the {@link UserMemento} instead (same as
+     * {@link ApplicationUser#getPermissionSet()}), but still only if the {@link ApplicationUser} exists;
+     * impersonating a user unknown to secman does not grant any permissions.
+     */
+    private Optional<List<String>> roleNamesOf(final UserMemento user) {
+        val userName = user.getName();
+        final Optional<List<String>> persistedRoleNames = sharedQueryResultsCache.get().execute(()->
+                applicationUserRepository
+                .findByUsername(userName)
+                .map(applicationUser->sortedDistinct(
+                        applicationUser.getRoles().stream()
+                        .map(ApplicationRole::getName))),
+                ROLE_NAMES_DEPENDENCIES,
+                AuthorizorSecman.class, "roleNamesOf", userName);
+        return user.isImpersonating()
+                ? persistedRoleNames.map(__->sortedDistinct(user.streamRoleNames()))
+                : persistedRoleNames;
+    }
+
+    private CompiledPermissionSet permissionSetFor(final List<String> roleNames) {
+        return sharedQueryResultsCache.get().execute(()->
+                new CompiledPermissionSet(
+                        _Lists.map(
+                                applicationPermissionRepository.findByRoleNames(roleNames),
+                                ApplicationPermission.Functions.AS_VALUE),
+                        permissionsEvaluationService),
+                PERMISSION_SET_DEPENDENCIES,
+                AuthorizorSecman.class, "permissionSetFor", roleNames);
+    }
+
+    private static List<String> sortedDistinct(final Stream<String> roleNames) {
+        return roleNames
+                .distinct()
+                .sorted()
+                .collect(Collectors.toUnmodifiableList());
+    }
+
     @Component
     @Named("isis.ext.secman.AuthorizorSecman.PermissionCache")
     @InteractionScope
     static class PermissionCache implements DisposableBean {
 
-        private Map<String, Optional<ApplicationPermissionValueSet>> permissionsByUsername;
+        private Map<String, Optional<CompiledPermissionSet>> permissionsByUsername;
 
         @Override
         public void destroy() throws Exception {
             permissionsByUsername = null;
         }
 
-        Optional<ApplicationPermissionValueSet> computeIfAbsent(
+        Optional<CompiledPermissionSet> computeIfAbsent(
                 final @NonNull String userName,
-                final Supplier<Optional<ApplicationPermissionValueSet>> lookup) {
+                final Supplier<Optional<CompiledPermissionSet>> lookup) {
 
             if(permissionsByUsername==null) {
                 permissionsByUsername = _Maps.newHashMap();
@@ -0,0 +1,159 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.secman.integration.authorizor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.apache.isis.applib.services.appfeat.ApplicationFeatureId;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionValue;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet.Evaluation;
+import org.apache.isis.extensions.secman.applib.permission.spi.PermissionsEvaluationService;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Immutable and thread-safe equivalent of {@link ApplicationPermissionValueSet}, intended to be shared
+ * across interactions (for all users having the same combination of roles).
+ *
+ * <p>
+ * The permission values are stored in a trie over the path segments of their {@link ApplicationFeatureId}s
+ * (namespace segments, then type, then member), such that the permissions that apply to a feature are
+ * found by walking down the trie once, rather than looking up each of the feature's path ids in turn.
+ * Also, evaluation results are memoized per feature and mode.
+ * </p>
+ */
+final class CompiledPermissionSet {
+
+    private final Node root = new Node();
+    private final PermissionsEvaluationService permissionsEvaluationService;
+    private final Map<ApplicationPermissionMode, Map<ApplicationFeatureId, Evaluation>> evaluationsByMode =
+            new EnumMap<>(ApplicationPermissionMode.class);
+
+    CompiledPermissionSet(
+            final @NonNull Collection<ApplicationPermissionValue> permissionValues,
+            final @NonNull PermissionsEvaluationService permissionsEvaluationService) {
+
+        this.permissionsEvaluationService = permissionsEvaluationService;
+        for(val mode : ApplicationPermissionMode.values()) {
+            evaluationsByMode.put(mode, new ConcurrentHashMap<>());
+        }
+
+        // build up the trie, then freeze it
+        val valuesByNode = _Maps.<Node, TreeSet<ApplicationPermissionValue>>newHashMap();
+        for(val permissionValue : permissionValues) {
+            val node = root.descendOrCreate(permissionValue.getFeatureId());
+            valuesByNode.computeIfAbsent(node, __->new TreeSet<>()) // natural order, as required by the evaluation SPI
+                .add(permissionValue);
+        }
+        valuesByNode.forEach((node, values)->
+            node.permissionValues = Collections.unmodifiableList(new ArrayList<>(values)));
+    }
+
+    boolean grants(final @NonNull ApplicationFeatureId featureId, final @NonNull ApplicationPermissionMode mode) {
+        return evaluate(featureId, mode).isGranted();
+    }
+
+    Evaluation evaluate(final @NonNull ApplicationFeatureId featureId, final @NonNull ApplicationPermissionMode mode) {
+        return evaluationsByMode.get(mode).computeIfAbsent(featureId, __->doEvaluate(featureId, mode));
+    }
+
+    // -- HELPER
+
+    /**
+     * Same semantics as {@link ApplicationPermissionValueSet#evaluate(ApplicationFeatureId, ApplicationPermissionMode)}:
+     * the most specific path segment having a (non-null) evaluation wins.
+     */
+    private Evaluation doEvaluate(final ApplicationFeatureId featureId, final ApplicationPermissionMode mode) {
+        val nodesOnPath = new ArrayList<Node>();
+        root.visitPath(featureId, nodesOnPath::add);
+
+        for(int i = nodesOnPath.size() - 1; i >= 0; i--) {
+            val permissionValues = nodesOnPath.get(i).permissionValues;
+            if(permissionValues.isEmpty()) {
+                continue;
+            }
+            val evaluation = permissionsEvaluationService.evaluate(featureId, mode, permissionValues);
+            if(evaluation != null) {
+                return evaluation;
+            }
+        }
+        return new Evaluation(null, false);
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = _Maps.newHashMap();
+        private List<ApplicationPermissionValue> permissionValues = Collections.emptyList();
+
+        Node descendOrCreate(final ApplicationFeatureId featureId) {
+            Node node = this;
+            for(val segment : segmentsOf(featureId)) {
+                node = node.children.computeIfAbsent(segment, __->new Node());
+            }
+            return node;
+        }
+
+        /**
+         * Visits the nodes along given feature's path, from the top-level namespace down to the most specific one
+         * (stops early, if the trie does not contain the remaining segments).
+         */
+        void visitPath(final ApplicationFeatureId featureId, final Consumer<Node> onNode) {
+            Node node = this;
+            for(val segment : segmentsOf(featureId)) {
+                node = node.children.get(segment);
+                if(node == null) {
+                    return;
+                }
+                onNode.accept(node);
+            }
+        }
+
+        /**
+         * Corresponds to {@link ApplicationFeatureId#getPathIds()} in reverse order;
+         * type and member segments are prefixed, so these don't clash with namespace segments.
+         */
+        private static List<String> segmentsOf(final ApplicationFeatureId featureId) {
+            val segments = new ArrayList<String>();
+            for(val namespaceSegment : featureId.getNamespace().split("\\.")) {
+                segments.add(namespaceSegment);
+            }
+            if(featureId.getSort().isType()
+                    || featureId.getSort().isMember()) {
+                segments.add("@" + featureId.getTypeSimpleName());
+            }
+            if(featureId.getSort().isMember()) {
+                segments.add("#" + featureId.getLogicalMemberName());
+            }
+            return segments;
+        }
+    }
+
+}
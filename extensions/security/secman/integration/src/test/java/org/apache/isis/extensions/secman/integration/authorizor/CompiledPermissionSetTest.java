@@ -0,0 +1,150 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.secman.integration.authorizor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.isis.applib.services.appfeat.ApplicationFeatureId;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.config.IsisConfiguration.Extensions.Secman.PermissionsEvaluationPolicy;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionRule;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionValue;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.isis.extensions.secman.applib.permission.spi.PermissionsEvaluationService;
+import org.apache.isis.extensions.secman.integration.permissions.PermissionsEvaluationServiceForSecman;
+
+import lombok.val;
+
+/**
+ * Verifies that {@link CompiledPermissionSet} evaluates the same as {@link ApplicationPermissionValueSet},
+ * given the same permission values, for either {@link PermissionsEvaluationPolicy}.
+ */
+class CompiledPermissionSetTest {
+
+    private static final ApplicationFeatureId ROOT_NS = ApplicationFeatureId.newNamespace("com");
+    private static final ApplicationFeatureId NS = ApplicationFeatureId.newNamespace("com.mycompany");
+    private static final ApplicationFeatureId SUB_NS = ApplicationFeatureId.newNamespace("com.mycompany.sub");
+    private static final ApplicationFeatureId OTHER_NS = ApplicationFeatureId.newNamespace("com.othercompany");
+    private static final ApplicationFeatureId TYPE = ApplicationFeatureId.newType("com.mycompany.Customer");
+    private static final ApplicationFeatureId OTHER_TYPE = ApplicationFeatureId.newType("com.mycompany.Order");
+    private static final ApplicationFeatureId SUB_TYPE = ApplicationFeatureId.newType("com.mycompany.sub.Customer");
+    private static final ApplicationFeatureId MEMBER = ApplicationFeatureId.newMember("com.mycompany.Customer", "name");
+    private static final ApplicationFeatureId OTHER_MEMBER = ApplicationFeatureId.newMember("com.mycompany.Customer", "email");
+    private static final ApplicationFeatureId SUB_MEMBER = ApplicationFeatureId.newMember("com.mycompany.sub.Customer", "name");
+    private static final ApplicationFeatureId OTHER_NS_MEMBER = ApplicationFeatureId.newMember("com.othercompany.Customer", "name");
+
+    private static final List<ApplicationFeatureId> TARGETS = Arrays.asList(
+            ROOT_NS, NS, SUB_NS, OTHER_NS,
+            TYPE, OTHER_TYPE, SUB_TYPE,
+            MEMBER, OTHER_MEMBER, SUB_MEMBER, OTHER_NS_MEMBER);
+
+    @Test
+    void noPermissions() {
+        assertSameEvaluations(Collections.emptyList());
+    }
+
+    @Test
+    void namespaceOnly() {
+        assertSameEvaluations(Arrays.asList(
+                allow(NS, ApplicationPermissionMode.VIEWING)));
+        assertSameEvaluations(Arrays.asList(
+                allow(NS, ApplicationPermissionMode.CHANGING)));
+        assertSameEvaluations(Arrays.asList(
+                veto(NS, ApplicationPermissionMode.VIEWING)));
+    }
+
+    @Test
+    void moreSpecificPathSegmentWins() {
+        assertSameEvaluations(Arrays.asList(
+                allow(NS, ApplicationPermissionMode.CHANGING),
+                veto(TYPE, ApplicationPermissionMode.CHANGING),
+                allow(MEMBER, ApplicationPermissionMode.VIEWING)));
+        assertSameEvaluations(Arrays.asList(
+                veto(ROOT_NS, ApplicationPermissionMode.VIEWING),
+                allow(SUB_NS, ApplicationPermissionMode.CHANGING),
+                veto(SUB_MEMBER, ApplicationPermissionMode.CHANGING)));
+    }
+
+    @Test
+    void conflictingRulesOnSameFeature() {
+        assertSameEvaluations(Arrays.asList(
+                allow(TYPE, ApplicationPermissionMode.CHANGING),
+                veto(TYPE, ApplicationPermissionMode.CHANGING)));
+        assertSameEvaluations(Arrays.asList(
+                allow(MEMBER, ApplicationPermissionMode.VIEWING),
+                veto(MEMBER, ApplicationPermissionMode.CHANGING),
+                allow(NS, ApplicationPermissionMode.CHANGING),
+                veto(NS, ApplicationPermissionMode.VIEWING)));
+    }
+
+    @Test
+    void mixedAcrossNamespaces() {
+        assertSameEvaluations(Arrays.asList(
+                allow(ROOT_NS, ApplicationPermissionMode.VIEWING),
+                veto(OTHER_NS, ApplicationPermissionMode.VIEWING),
+                allow(OTHER_NS_MEMBER, ApplicationPermissionMode.CHANGING),
+                veto(SUB_TYPE, ApplicationPermissionMode.CHANGING),
+                allow(OTHER_TYPE, ApplicationPermissionMode.CHANGING),
+                veto(OTHER_MEMBER, ApplicationPermissionMode.VIEWING)));
+    }
+
+    // -- HELPER
+
+    private static void assertSameEvaluations(final List<ApplicationPermissionValue> permissionValues) {
+        for(val policy : PermissionsEvaluationPolicy.values()) {
+            val evaluationService = evaluationService(policy);
+            val expected = new ApplicationPermissionValueSet(permissionValues, evaluationService);
+            val actual = new CompiledPermissionSet(permissionValues, evaluationService);
+
+            for(val target : TARGETS) {
+                for(val mode : ApplicationPermissionMode.values()) {
+                    val expectedEvaluation = expected.evaluate(target, mode);
+                    val actualEvaluation = actual.evaluate(target, mode);
+                    val message = String.format("%s %s %s %s", policy, target, mode, permissionValues);
+                    assertEquals(expectedEvaluation.isGranted(), actualEvaluation.isGranted(), message);
+                    assertEquals(expectedEvaluation.getCause(), actualEvaluation.getCause(), message);
+                }
+            }
+        }
+    }
+
+    private static PermissionsEvaluationService evaluationService(final PermissionsEvaluationPolicy policy) {
+        val isisConfiguration = new IsisConfiguration(null);
+        isisConfiguration.getExtensions().getSecman().setPermissionsEvaluationPolicy(policy);
+        return new PermissionsEvaluationServiceForSecman(isisConfiguration);
+    }
+
+    private static ApplicationPermissionValue allow(
+            final ApplicationFeatureId featureId, final ApplicationPermissionMode mode) {
+        return new ApplicationPermissionValue(featureId, ApplicationPermissionRule.ALLOW, mode);
+    }
+
+    private static ApplicationPermissionValue veto(
+            final ApplicationFeatureId featureId, final ApplicationPermissionMode mode) {
+        return new ApplicationPermissionValue(featureId, ApplicationPermissionRule.VETO, mode);
+    }
+
+}
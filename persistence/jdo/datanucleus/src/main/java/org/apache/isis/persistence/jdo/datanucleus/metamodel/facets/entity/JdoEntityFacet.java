@@ -19,11 +19,21 @@
 package org.apache.isis.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.jdo.FetchGroup;
+import javax.jdo.JDOHelper;
+import javax.jdo.JDOObjectNotFoundException;
+import javax.jdo.JDOQLTypedQuery;
 import javax.jdo.PersistenceManager;
 
 import org.datanucleus.enhancement.Persistable;
@@ -32,6 +42,7 @@
 import org.apache.isis.applib.exceptions.unrecoverable.ObjectNotFoundException;
 import org.apache.isis.applib.query.AllInstancesQuery;
 import org.apache.isis.applib.query.NamedQuery;
+import org.apache.isis.applib.query.PredicateQuery;
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.exceprecog.Category;
@@ -40,10 +51,13 @@
 import org.apache.isis.applib.services.xactn.TransactionService;
 import org.apache.isis.applib.services.xactn.TransactionalProcessor;
 import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.functional.IndexedConsumer;
 import org.apache.isis.commons.internal.assertions._Assert;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.collections._Streams;
 import org.apache.isis.commons.internal.debug._Debug;
 import org.apache.isis.commons.internal.debug.xray.XrayUi;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
@@ -75,6 +89,12 @@
 extends FacetAbstract
 implements EntityFacet {
 
+    /**
+     * DataNucleus query extensions, to not retain (nor load at commit) results already streamed.
+     */
+    private static final String QUERY_RESULT_CACHE_TYPE = "datanucleus.query.resultCacheType";
+    private static final String QUERY_LOAD_RESULTS_AT_COMMIT = "datanucleus.query.loadResultsAtCommit";
+
     @Inject private TransactionAwarePersistenceManagerFactoryProxy pmf;
     @Inject private TransactionService txService;
     @Inject private ObjectManager objectManager;
@@ -151,9 +171,8 @@ public ManagedObject fetchByIdentifier(
             val primaryKey = JdoObjectIdSerializer.toJdoObjectId(entitySpec, bookmark);
             val persistenceManager = getPersistenceManager();
             val entityClass = entitySpec.getCorrespondingClass();
-            val fetchPlan = persistenceManager.getFetchPlan();
-            fetchPlan.addGroup(FetchGroup.DEFAULT);
-            entityPojo = persistenceManager.getObjectById(entityClass, primaryKey);
+            entityPojo = withDefaultFetchGroup(persistenceManager, ()->
+                    persistenceManager.getObjectById(entityClass, primaryKey));
 
         } catch (final RuntimeException e) {
 
@@ -177,6 +196,45 @@ public ManagedObject fetchByIdentifier(
         return ManagedObject.bookmarked(actualEntitySpec, entityPojo, bookmark);
     }
 
+    @Override
+    public Map<Bookmark, ManagedObject> fetchByIdentifiers(
+            final @NonNull ObjectSpecification entitySpec,
+            final @NonNull Can<Bookmark> bookmarks) {
+
+        _Assert.assertTrue(entitySpec.isEntity());
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        final List<Object> entityPojos;
+        try {
+            val primaryKeys = bookmarks
+                    .map(bookmark->JdoObjectIdSerializer.toJdoObjectId(entitySpec, bookmark))
+                    .toList();
+            val persistenceManager = getPersistenceManager();
+            // validating, so DataNucleus fetches all of them (per class) in bulk
+            entityPojos = withDefaultFetchGroup(persistenceManager, ()->
+                    _Lists.newArrayList(persistenceManager.getObjectsById(primaryKeys, true)));
+
+        } catch (final JDOObjectNotFoundException e) {
+            // at least one miss; resolve one at a time, to tell which
+            return EntityFacet.super.fetchByIdentifiers(entitySpec, bookmarks);
+        }
+
+        val entitiesByBookmark = _Maps.<Bookmark, ManagedObject>newHashMap();
+
+        bookmarks.forEach(IndexedConsumer.zeroBased((index, bookmark)->{
+            val entityPojo = entityPojos.get(index);
+            if(entityPojo==null) {
+                return;
+            }
+            val actualEntitySpec = getSpecificationLoader().specForTypeElseFail(entityPojo.getClass());
+            getServiceInjector().injectServicesInto(entityPojo); // might be redundant
+            entitiesByBookmark.put(bookmark, ManagedObject.bookmarked(actualEntitySpec, entityPojo, bookmark));
+        }));
+
+        return entitiesByBookmark;
+    }
+
     @Override
     public Can<ManagedObject> fetchByQuery(final ObjectSpecification spec, final Query<?> query) {
         if(!spec.isEntity()) {
@@ -191,17 +249,7 @@ public Can<ManagedObject> fetchByQuery(final ObjectSpecification spec, final Que
 
         if(query instanceof AllInstancesQuery) {
 
-            val queryFindAllInstances = (AllInstancesQuery<?>) query;
-            val queryEntityType = queryFindAllInstances.getResultType();
-
-            val persistenceManager = getPersistenceManager();
-
-            val typedQuery = persistenceManager.newJDOQLTypedQuery(queryEntityType);
-            typedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
-
-            if(!range.isUnconstrained()) {
-                typedQuery.range(range.getStart(), range.getEnd());
-            }
+            val typedQuery = newAllInstancesQuery((AllInstancesQuery<?>) query);
 
             val resultList = fetchWithinTransaction(typedQuery::executeList);
 
@@ -213,35 +261,21 @@ public Can<ManagedObject> fetchByQuery(final ObjectSpecification spec, final Que
 
         } else if(query instanceof NamedQuery) {
 
-            val applibNamedQuery = (NamedQuery<?>) query;
-            val queryResultType = applibNamedQuery.getResultType();
+            val namedQuery = newNamedQuery((NamedQuery<?>) query);
 
-            val persistenceManager = getPersistenceManager();
-
-            val namedParams = _Maps.<String, Object>newHashMap();
-            val namedQuery = persistenceManager.newNamedQuery(queryResultType, applibNamedQuery.getName())
-                    .setNamedParameters(namedParams);
-            namedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+            val resultList = fetchWithinTransaction(namedQuery::executeList);
 
-            if(!range.isUnconstrained()) {
-                namedQuery.range(range.getStart(), range.getEnd());
+            if(range.hasLimit()) {
+                _Assert.assertTrue(resultList.size()<=range.getLimit());
             }
 
-            // inject services into query params; not sure if required (might be redundant)
-            {
-                val injector = getServiceInjector();
+            return resultList;
 
-                applibNamedQuery
-                .getParametersByName()
-                .values()
-                .forEach(injector::injectServicesInto);
-            }
+        } else if(query instanceof PredicateQuery) {
 
-            applibNamedQuery
-                .getParametersByName()
-                .forEach(namedParams::put);
+            val predicateQuery = newPredicateQuery((PredicateQuery<?>) query);
 
-            val resultList = fetchWithinTransaction(namedQuery::executeList);
+            val resultList = fetchWithinTransaction(predicateQuery::executeList);
 
             if(range.hasLimit()) {
                 _Assert.assertTrue(resultList.size()<=range.getLimit());
@@ -255,6 +289,125 @@ public Can<ManagedObject> fetchByQuery(final ObjectSpecification spec, final Que
                 query.getDescription());
     }
 
+    @Override
+    public Stream<ManagedObject> streamByQuery(final ObjectSpecification spec, final Query<?> query) {
+        if(!spec.isEntity()) {
+            throw _Exceptions.unexpectedCodeReach();
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("about to stream Query: {}", query.getDescription());
+        }
+
+        val repositoryConfig = getConfiguration().getCore().getRuntimeServices().getRepositoryService();
+        val fetchSize = repositoryConfig.getStreamFetchSize();
+        val evictBatchSize = repositoryConfig.getStreamDetachBatchSize();
+
+        if(query instanceof AllInstancesQuery) {
+
+            val typedQuery = newAllInstancesQuery((AllInstancesQuery<?>) query);
+            typedQuery.getFetchPlan().setFetchSize(fetchSize);
+            typedQuery.extension(QUERY_RESULT_CACHE_TYPE, "none");
+            typedQuery.extension(QUERY_LOAD_RESULTS_AT_COMMIT, "false");
+
+            return streamWithinCurrentTransaction(typedQuery::executeList, typedQuery::closeAll, evictBatchSize);
+
+        } else if(query instanceof NamedQuery) {
+
+            val namedQuery = newNamedQuery((NamedQuery<?>) query);
+            namedQuery.getFetchPlan().setFetchSize(fetchSize);
+            namedQuery.extension(QUERY_RESULT_CACHE_TYPE, "none");
+            namedQuery.extension(QUERY_LOAD_RESULTS_AT_COMMIT, "false");
+
+            return streamWithinCurrentTransaction(namedQuery::executeList, namedQuery::closeAll, evictBatchSize);
+
+        } else if(query instanceof PredicateQuery) {
+
+            val predicateQuery = newPredicateQuery((PredicateQuery<?>) query);
+            predicateQuery.getFetchPlan().setFetchSize(fetchSize);
+            predicateQuery.extension(QUERY_RESULT_CACHE_TYPE, "none");
+            predicateQuery.extension(QUERY_LOAD_RESULTS_AT_COMMIT, "false");
+
+            return streamWithinCurrentTransaction(predicateQuery::executeList, predicateQuery::closeAll, evictBatchSize);
+        }
+
+        throw _Exceptions.unsupportedOperation("query type %s (%s) not supported by this persistence implementation",
+                query.getClass(),
+                query.getDescription());
+    }
+
+    private JDOQLTypedQuery<?> newAllInstancesQuery(final AllInstancesQuery<?> queryFindAllInstances) {
+
+        val range = queryFindAllInstances.getRange();
+        val queryEntityType = queryFindAllInstances.getResultType();
+
+        val persistenceManager = getPersistenceManager();
+
+        val typedQuery = persistenceManager.newJDOQLTypedQuery(queryEntityType);
+        typedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+
+        if(!range.isUnconstrained()) {
+            typedQuery.range(range.getStart(), range.getEnd());
+        }
+
+        return typedQuery;
+    }
+
+    private javax.jdo.Query<?> newNamedQuery(final NamedQuery<?> applibNamedQuery) {
+
+        val range = applibNamedQuery.getRange();
+        val queryResultType = applibNamedQuery.getResultType();
+
+        val persistenceManager = getPersistenceManager();
+
+        val namedParams = _Maps.<String, Object>newHashMap();
+        val namedQuery = persistenceManager.newNamedQuery(queryResultType, applibNamedQuery.getName())
+                .setNamedParameters(namedParams);
+        namedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+
+        if(!range.isUnconstrained()) {
+            namedQuery.range(range.getStart(), range.getEnd());
+        }
+
+        // inject services into query params; not sure if required (might be redundant)
+        {
+            val injector = getServiceInjector();
+
+            applibNamedQuery
+            .getParametersByName()
+            .values()
+            .forEach(injector::injectServicesInto);
+        }
+
+        applibNamedQuery
+            .getParametersByName()
+            .forEach(namedParams::put);
+
+        return namedQuery;
+    }
+
+    private javax.jdo.Query<?> newPredicateQuery(final PredicateQuery<?> predicateQuery) {
+
+        val range = predicateQuery.getRange();
+        val queryEntityType = predicateQuery.getResultType();
+
+        val persistenceManager = getPersistenceManager();
+
+        val translator = new JdoQueryPredicateTranslator();
+        val filter = predicateQuery.getPredicate().accept(translator);
+
+        val query = persistenceManager.newQuery(queryEntityType)
+                .filter(filter)
+                .setNamedParameters(translator.getNamedParameters());
+        query.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+
+        if(!range.isUnconstrained()) {
+            query.range(range.getStart(), range.getEnd());
+        }
+
+        return query;
+    }
+
     @Override
     public void persist(final ObjectSpecification spec, final Object pojo) {
 
@@ -322,6 +475,11 @@ public EntityState getEntityState(final Object pojo) {
         return DnEntityStateProvider.entityState(pojo);
     }
 
+    @Override
+    public Optional<Object> versionOf(final Object pojo) {
+        return Optional.ofNullable(JDOHelper.getVersion(pojo));
+    }
+
     @Override
     public <T> T detach(final T pojo) {
         return getPersistenceManager().detachCopy(pojo);
@@ -368,6 +526,24 @@ private TransactionalProcessor getTransactionalProcessor() {
 
     // -- HELPER
 
+    /**
+     * Fetches with the {@link FetchGroup#DEFAULT} fetch group added to the fetch plan of given
+     * {@link PersistenceManager}, which is shared by all subsequent operations of that
+     * {@link PersistenceManager}, hence restores the fetch plan's groups afterwards.
+     */
+    private static <T> T withDefaultFetchGroup(
+            final PersistenceManager persistenceManager,
+            final Supplier<T> fetcher) {
+        val fetchPlan = persistenceManager.getFetchPlan();
+        final Set<?> groupsBefore = new HashSet<>(fetchPlan.getGroups());
+        fetchPlan.addGroup(FetchGroup.DEFAULT);
+        try {
+            return fetcher.get();
+        } finally {
+            fetchPlan.setGroups(groupsBefore);
+        }
+    }
+
     private Can<ManagedObject> fetchWithinTransaction(final Supplier<List<?>> fetcher) {
 
         val entityChangeTracker = getFacetHolder().getServiceRegistry().lookupServiceElseFail(EntityChangeTracker.class);
@@ -379,6 +555,41 @@ private Can<ManagedObject> fetchWithinTransaction(final Supplier<List<?>> fetche
                 .presentElseFail();
     }
 
+    /**
+     * The resulting stream is backed by the (lazily loaded) query result list, hence must be consumed
+     * within the current transaction. The query is only executed once the stream's terminal operation
+     * commences, and is closed (via {@code onClose}) when the stream is closed.
+     */
+    private Stream<ManagedObject> streamWithinCurrentTransaction(
+            final Supplier<List<?>> fetcher,
+            final Runnable onClose,
+            final int evictBatchSize) {
+
+        val entityChangeTracker = getFacetHolder().getServiceRegistry().lookupServiceElseFail(EntityChangeTracker.class);
+        val persistenceManager = getPersistenceManager();
+
+        return _Streams.<Object>peekInBatches(
+                    _Streams.<Object>lazily(()->{
+                        if(!txService.currentTransactionState().isInProgress()) {
+                            throw _Exceptions.illegalState(
+                                    "Query results can only be streamed within a transaction in progress");
+                        }
+                        // iterating rather than streaming the result list, as the latter would ask for its size,
+                        // which makes DataNucleus load the entire result set
+                        final List<?> resultList = fetcher.get();
+                        if(resultList==null) {
+                            return Collections.emptyIterator();
+                        }
+                        return resultList.iterator();
+                    }),
+                    evictBatchSize,
+                    batch->persistenceManager.evictAll(batch.stream()
+                            .filter(Persistable.class::isInstance)
+                            .collect(Collectors.toList())))
+                .map(fetchedObject->adopt(entityChangeTracker, fetchedObject))
+                .onClose(onClose);
+    }
+
     private ManagedObject adopt(final EntityChangeTracker entityChangeTracker, final Object fetchedObject) {
         // handles lifecycle callbacks and injects services
 
@@ -0,0 +1,92 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.datanucleus.metamodel.facets.entity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.isis.applib.query.QueryPredicate;
+import org.apache.isis.commons.internal.collections._Maps;
+
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * Translates a {@link QueryPredicate} into a JDOQL filter, using implicit (named) parameters
+ * for all the literals involved.
+ */
+class JdoQueryPredicateTranslator implements QueryPredicate.Visitor<String> {
+
+    @Getter
+    private final Map<String, Object> namedParameters = _Maps.newLinkedHashMap();
+
+    @Override
+    public String visitEquals(final String propertyId, final Object value) {
+        return value!=null
+                ? String.format("this.%s == %s", propertyId, parameter(value))
+                : String.format("this.%s == null", propertyId);
+    }
+
+    @Override
+    public String visitRange(
+            final String propertyId,
+            final Comparable<?> lowerBound, final boolean lowerInclusive,
+            final Comparable<?> upperBound, final boolean upperInclusive) {
+
+        val lower = lowerBound!=null
+                ? String.format("this.%s %s %s", propertyId, lowerInclusive ? ">=" : ">", parameter(lowerBound))
+                : null;
+        val upper = upperBound!=null
+                ? String.format("this.%s %s %s", propertyId, upperInclusive ? "<=" : "<", parameter(upperBound))
+                : null;
+
+        if(lower!=null
+                && upper!=null) {
+            return "(" + lower + " && " + upper + ")";
+        }
+        return lower!=null
+                ? lower
+                : upper;
+    }
+
+    @Override
+    public String visitStartsWith(final String propertyId, final String prefix) {
+        return String.format("this.%s.startsWith(%s)", propertyId, parameter(prefix));
+    }
+
+    @Override
+    public String visitAnd(final List<String> operands) {
+        return operands.stream().collect(Collectors.joining(" && ", "(", ")"));
+    }
+
+    @Override
+    public String visitOr(final List<String> operands) {
+        return operands.stream().collect(Collectors.joining(" || ", "(", ")"));
+    }
+
+    // -- HELPER
+
+    private String parameter(final Object value) {
+        val paramName = "p" + namedParameters.size();
+        namedParameters.put(paramName, value);
+        return ":" + paramName;
+    }
+
+}
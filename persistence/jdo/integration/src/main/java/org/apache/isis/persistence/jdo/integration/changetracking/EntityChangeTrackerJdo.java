@@ -45,6 +45,7 @@
 import org.apache.isis.applib.services.metrics.MetricsService;
 import org.apache.isis.applib.services.publishing.spi.EntityChanges;
 import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.isis.applib.services.queryresultscache.SharedQueryResultsCache;
 import org.apache.isis.applib.services.xactn.TransactionId;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.base._Lazy;
@@ -78,6 +79,7 @@
 import org.apache.isis.core.transaction.changetracking.EntityPropertyChangePublisher;
 import org.apache.isis.core.transaction.changetracking.HasEnlistedEntityChanges;
 import org.apache.isis.core.transaction.changetracking.PersistenceCallbackHandlerAbstract;
+import org.apache.isis.core.transaction.events.TransactionAfterCompletionEvent;
 import org.apache.isis.core.transaction.events.TransactionBeforeCompletionEvent;
 
 import lombok.AccessLevel;
@@ -118,16 +120,30 @@
     @Getter(AccessLevel.PACKAGE)
     private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newLinkedHashMap();
 
+    /**
+     * Types of all entities created, updated or deleted within the current transaction
+     * (regardless of whether enabled for publishing), to evict dependent
+     * {@link SharedQueryResultsCache} entries on commit.
+     */
+    private final Set<Class<?>> changedEntityTypes = _Sets.newHashSet();
+
+    /**
+     * Types for which the {@link SharedQueryResultsCache} is suspended, until the transaction has completed.
+     */
+    private final Set<Class<?>> suspendedEntityTypes = _Sets.newHashSet();
+
     private final EntityPropertyChangePublisher entityPropertyChangePublisher;
     private final EntityChangesPublisher entityChangesPublisher;
     private final Provider<InteractionProvider> interactionProviderProvider;
+    private final Provider<SharedQueryResultsCache> sharedQueryResultsCacheProvider;
 
     @Inject
-    public EntityChangeTrackerJdo(final EntityPropertyChangePublisher entityPropertyChangePublisher, final EntityChangesPublisher entityChangesPublisher, final EventBusService eventBusService, final Provider<InteractionProvider> interactionProviderProvider) {
+    public EntityChangeTrackerJdo(final EntityPropertyChangePublisher entityPropertyChangePublisher, final EntityChangesPublisher entityChangesPublisher, final EventBusService eventBusService, final Provider<InteractionProvider> interactionProviderProvider, final Provider<SharedQueryResultsCache> sharedQueryResultsCacheProvider) {
         super(eventBusService);
         this.entityPropertyChangePublisher = entityPropertyChangePublisher;
         this.entityChangesPublisher = entityChangesPublisher;
         this.interactionProviderProvider = interactionProviderProvider;
+        this.sharedQueryResultsCacheProvider = sharedQueryResultsCacheProvider;
     }
 
     private boolean isEnlisted(final @NonNull ManagedObject adapter) {
@@ -193,12 +209,49 @@ private boolean isEntityEnabledForChangePublishing(final @NonNull ManagedObject
     @EventListener(value = TransactionBeforeCompletionEvent.class) @Order(PriorityPrecedence.LATE)
     public void onTransactionCompleting(final TransactionBeforeCompletionEvent event) {
         try {
+            suspendSharedQueryResultsCache();
             doPublish();
         } finally {
             postPublishing();
         }
     }
 
+    /**
+     * TRANSACTION END BOUNDARY
+     * @apiNote intended to be called after transaction completion by the framework internally
+     */
+    @EventListener(value = TransactionAfterCompletionEvent.class)
+    public void onTransactionCompleted(final TransactionAfterCompletionEvent event) {
+        try {
+            if(event.isCommitted()
+                    && !changedEntityTypes.isEmpty()) {
+                sharedQueryResultsCacheProvider.get().evictTaggedWith(changedEntityTypes);
+            }
+        } finally {
+            changedEntityTypes.clear();
+            resumeSharedQueryResultsCache();
+        }
+    }
+
+    private void suspendSharedQueryResultsCache() {
+        if(changedEntityTypes.isEmpty()) {
+            return;
+        }
+        suspendedEntityTypes.addAll(changedEntityTypes);
+        sharedQueryResultsCacheProvider.get().suspendTaggedWith(suspendedEntityTypes);
+    }
+
+    private void resumeSharedQueryResultsCache() {
+        if(suspendedEntityTypes.isEmpty()) {
+            return;
+        }
+        try {
+            sharedQueryResultsCacheProvider.get().resumeTaggedWith(suspendedEntityTypes);
+        } finally {
+            suspendedEntityTypes.clear();
+        }
+    }
+
     private void doPublish() {
         _Xray.publish(this, interactionProviderProvider);
 
@@ -332,6 +385,12 @@ private Set<PropertyChangeRecord> capturePostValuesAndDrain() {
 
     }
 
+    private void recognizeChangedEntityType(final ManagedObject entity) {
+        if(!ManagedObjects.isNullOrUnspecifiedOrEmpty(entity)) {
+            changedEntityTypes.add(entity.getSpecification().getCorrespondingClass());
+        }
+    }
+
     // side-effect free, used by XRay
     long countPotentialPropertyChangeRecords() {
         return propertyChangeRecordsById.size();
@@ -349,11 +408,27 @@ public int numberEntitiesDirtied() {
         return changeKindByEnlistedAdapter.size();
     }
 
+    @Override
+    public long numberSharedQueryResultsCacheHits() {
+        return sharedQueryResultsCacheProvider.get().getHitCount();
+    }
+
+    @Override
+    public long numberSharedQueryResultsCacheMisses() {
+        return sharedQueryResultsCacheProvider.get().getMissCount();
+    }
+
+    @Override
+    public long numberSharedQueryResultsCacheEvictions() {
+        return sharedQueryResultsCacheProvider.get().getEvictionCount();
+    }
+
     // -- ENTITY CHANGE TRACKING
 
     @Override
     public void enlistCreated(final ManagedObject entity) {
         _Xray.enlistCreated(entity, interactionProviderProvider);
+        recognizeChangedEntityType(entity);
         val hasAlreadyBeenEnlisted = isEnlisted(entity);
         enlistCreatedInternal(entity);
 
@@ -366,6 +441,7 @@ public void enlistCreated(final ManagedObject entity) {
     @Override
     public void enlistDeleting(final ManagedObject entity) {
         _Xray.enlistDeleting(entity, interactionProviderProvider);
+        recognizeChangedEntityType(entity);
         enlistDeletingInternal(entity);
         CallbackFacet.callCallback(entity, RemovingCallbackFacet.class);
         postLifecycleEventIfRequired(entity, RemovingLifecycleEventFacet.class);
@@ -374,6 +450,7 @@ public void enlistDeleting(final ManagedObject entity) {
     @Override
     public void enlistUpdating(final ManagedObject entity) {
         _Xray.enlistUpdating(entity, interactionProviderProvider);
+        recognizeChangedEntityType(entity);
         val hasAlreadyBeenEnlisted = isEnlisted(entity);
         // we call this come what may;
         // additional properties may now have been changed, and the changeKind for publishing might also be modified
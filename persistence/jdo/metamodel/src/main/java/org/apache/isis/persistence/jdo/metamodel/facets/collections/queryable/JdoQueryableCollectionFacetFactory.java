@@ -0,0 +1,293 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.metamodel.facets.collections.queryable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+import javax.jdo.PersistenceManager;
+import javax.jdo.annotations.Extension;
+import javax.jdo.annotations.NotPersistent;
+import javax.jdo.annotations.Order;
+import javax.jdo.annotations.Persistent;
+import javax.jdo.annotations.PrimaryKey;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.services.registry.ServiceRegistry;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._Casts;
+import org.apache.isis.commons.internal.base._Lazy;
+import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.reflection._Generics;
+import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.facetapi.FacetAbstract;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.facetapi.FeatureType;
+import org.apache.isis.core.metamodel.facets.FacetFactoryAbstract;
+import org.apache.isis.core.metamodel.facets.collections.queryable.QueryableCollectionFacet;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.persistence.jdo.applib.services.JdoSupportService;
+import org.apache.isis.persistence.jdo.provider.entities.JdoFacetContext;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Installs a {@link QueryableCollectionFacet} on entity collections mapped by the element's side of the
+ * association, that is {@code @Persistent(mappedBy = "owner")}, for which the elements can be queried
+ * as {@code SELECT FROM Element WHERE owner == :owner}.
+ * <p>
+ * The default order of the elements, as declared with DataNucleus' {@code list-ordering} extension
+ * of {@link Order @Order}, is honored. Collections ordered otherwise, that is in memory ({@link SortedSet})
+ * or by an index column (any other {@link Order @Order}), do not get the facet, as their order cannot be
+ * reproduced by such a query.
+ */
+public class JdoQueryableCollectionFacetFactory
+extends FacetFactoryAbstract {
+
+    private static final String LIST_ORDERING = "list-ordering";
+
+    private final JdoFacetContext jdoFacetContext;
+
+    @Inject
+    public JdoQueryableCollectionFacetFactory(
+            final MetaModelContext mmc,
+            final JdoFacetContext jdoFacetContext) {
+        super(mmc, FeatureType.COLLECTIONS_ONLY);
+        this.jdoFacetContext = jdoFacetContext;
+    }
+
+    @Override
+    public void process(final ProcessMethodContext processMethodContext) {
+
+        // only applies to JDO entities; ignore any view models
+        if(!jdoFacetContext.isPersistenceEnhanced(processMethodContext.getCls())) {
+            return;
+        }
+
+        val mappedBy = processMethodContext.synthesizeOnMethod(Persistent.class)
+                .map(Persistent::mappedBy)
+                .orElse(null);
+        if(_Strings.isNullOrEmpty(mappedBy)
+                || SortedSet.class.isAssignableFrom(processMethodContext.getMethod().getReturnType())) {
+            return;
+        }
+
+        val order = processMethodContext.synthesizeOnMethod(Order.class).orElse(null);
+        val listOrdering = order != null
+                ? listOrdering(order).orElse(null)
+                : "";
+        if(listOrdering == null) {
+            return; // ordered by index column
+        }
+
+        _Generics.streamGenericTypeArgumentsOfMethodReturnType(processMethodContext.getMethod())
+        .findFirst()
+        .filter(jdoFacetContext::isPersistenceEnhanced)
+        .ifPresent(elementType->
+            addFacet(
+                    new JdoQueryableCollectionFacet(
+                            processMethodContext.getFacetHolder(),
+                            elementType,
+                            mappedBy,
+                            parseListOrdering(listOrdering),
+                            getServiceRegistry())));
+    }
+
+    private static Optional<String> listOrdering(final Order order) {
+        return Stream.of(order.extensions())
+                .filter(extension->extension.key().equals(LIST_ORDERING))
+                .map(Extension::value)
+                .findFirst();
+    }
+
+    /**
+     * Parses the value of DataNucleus' {@code list-ordering} extension, that is a comma separated list of
+     * field paths, each optionally followed by {@code ASC} or {@code DESC}.
+     */
+    static Can<OrderingTerm> parseListOrdering(final String listOrdering) {
+        return _Strings.splitThenStreamTrimmed(listOrdering, ",")
+                .map(term->{
+                    val parts = term.split("\\s+");
+                    val descending = parts.length > 1
+                            && (parts[1].equalsIgnoreCase("DESC")
+                                    || parts[1].equalsIgnoreCase("DESCENDING"));
+                    return new OrderingTerm(parts[0], !descending);
+                })
+                .collect(Can.toCan());
+    }
+
+    @Value
+    static class OrderingTerm {
+        @NonNull String fieldPath;
+        boolean ascending;
+
+        String toJdoql() {
+            return fieldPath + (ascending ? " ascending" : " descending");
+        }
+    }
+
+    // --
+
+    public static class JdoQueryableCollectionFacet
+    extends FacetAbstract
+    implements QueryableCollectionFacet {
+
+        private static final String OWNER_PARAMETER = "collectionOwner";
+
+        private final Class<Object> elementClass;
+        private final String mappedBy;
+        private final Can<OrderingTerm> defaultOrder;
+        private final ServiceRegistry serviceRegistry;
+
+        protected JdoQueryableCollectionFacet(
+                final FacetHolder holder,
+                final Class<?> elementClass,
+                final String mappedBy,
+                final @NonNull Can<OrderingTerm> defaultOrder,
+                final @NonNull ServiceRegistry serviceRegistry) {
+            super(QueryableCollectionFacet.class, holder);
+            this.elementClass = _Casts.uncheckedCast(elementClass);
+            this.mappedBy = mappedBy;
+            this.defaultOrder = defaultOrder;
+            this.serviceRegistry = serviceRegistry;
+        }
+
+        @Override
+        public long countElements(final ManagedObject owner) {
+            val query = getPersistenceManager().newQuery(elementClass)
+                    .filter(filter())
+                    .setNamedParameters(namedParameters(owner))
+                    .result("count(this)");
+            try {
+                return query.executeResultUnique(Long.class);
+            } finally {
+                query.closeAll();
+            }
+        }
+
+        @Override
+        public boolean canSortBy(final OneToOneAssociation property) {
+            // relations are not sortable, and values are persistent, unless excluded
+            return property.getElementType().isValue()
+                    && lookupField(property.getId())
+                        .filter(field->!field.isAnnotationPresent(NotPersistent.class))
+                        .filter(field->!Modifier.isTransient(field.getModifiers()))
+                        .isPresent();
+        }
+
+        @Override
+        public Can<ManagedObject> fetchElements(
+                final ManagedObject owner,
+                final long skip,
+                final long limit,
+                final @Nullable OneToOneAssociation sortBy,
+                final boolean ascending) {
+
+            val ordering = _Lists.<OrderingTerm>newArrayList();
+            if(sortBy != null) {
+                ordering.add(new OrderingTerm(sortBy.getId(), ascending));
+            }
+            // as declared by list-ordering, the collection's order when not sorted otherwise
+            defaultOrder.forEach(ordering::add);
+            // a total order is required for paging to be stable
+            getPrimaryKeyOrdering().forEach(ordering::add);
+
+            val query = getPersistenceManager().newQuery(elementClass)
+                    .filter(filter())
+                    .setNamedParameters(namedParameters(owner))
+                    .range(skip, skip + limit);
+            if(!ordering.isEmpty()) {
+                query.orderBy(ordering.stream()
+                        .map(OrderingTerm::toJdoql)
+                        .collect(Collectors.joining(", ")));
+            }
+
+            val specLoader = getSpecificationLoader();
+            try {
+                return Can.ofStream(query.executeList().stream()
+                        // elements might be instances of sub-types of the element type
+                        .map(entity->ManagedObject.of(specLoader.specForTypeElseFail(entity.getClass()), entity)));
+            } finally {
+                query.closeAll();
+            }
+        }
+
+        private String filter() {
+            return mappedBy + " == :" + OWNER_PARAMETER;
+        }
+
+        private static Map<String, Object> namedParameters(final ManagedObject owner) {
+            return Map.of(OWNER_PARAMETER, owner.getPojo());
+        }
+
+        // -- FIELDS
+
+        private final _Lazy<Can<OrderingTerm>> primaryKeyOrderingRef =
+                _Lazy.threadSafe(this::queryPrimaryKeyOrdering);
+
+        private Can<OrderingTerm> getPrimaryKeyOrdering() {
+            return primaryKeyOrderingRef.get();
+        }
+
+        /**
+         * With application identity, the fields annotated {@link PrimaryKey @PrimaryKey};
+         * with datastore identity, there is no field to order by.
+         */
+        private Can<OrderingTerm> queryPrimaryKeyOrdering() {
+            return streamDeclaredFields()
+                    .filter(field->field.isAnnotationPresent(PrimaryKey.class)
+                            || field.getAnnotation(Persistent.class) != null
+                                && field.getAnnotation(Persistent.class).primaryKey().equals("true"))
+                    .map(field->new OrderingTerm(field.getName(), true))
+                    .collect(Can.toCan());
+        }
+
+        private Optional<Field> lookupField(final String name) {
+            return streamDeclaredFields()
+                    .filter(field->field.getName().equals(name))
+                    .filter(field->!Modifier.isStatic(field.getModifiers()))
+                    .findFirst();
+        }
+
+        private Stream<Field> streamDeclaredFields() {
+            return Stream.<Class<?>>iterate(elementClass, cls->cls != null && cls != Object.class, Class::getSuperclass)
+                    .flatMap(cls->Stream.of(cls.getDeclaredFields()));
+        }
+
+        // -- DEPENDENCIES
+
+        protected PersistenceManager getPersistenceManager() {
+            return serviceRegistry.lookupServiceElseFail(JdoSupportService.class)
+                    .getPersistenceManager();
+        }
+
+    }
+
+}
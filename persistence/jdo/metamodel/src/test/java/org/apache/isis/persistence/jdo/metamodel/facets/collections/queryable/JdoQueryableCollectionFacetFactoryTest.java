@@ -0,0 +1,52 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.metamodel.facets.collections.queryable;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.isis.persistence.jdo.metamodel.facets.collections.queryable.JdoQueryableCollectionFacetFactory.OrderingTerm;
+
+class JdoQueryableCollectionFacetFactoryTest {
+
+    @Test
+    void parseListOrdering_whenEmpty_shouldYieldNoTerms() {
+        assertEquals(List.of(), JdoQueryableCollectionFacetFactory.parseListOrdering("").toList());
+    }
+
+    @Test
+    void parseListOrdering_shouldHonorDirectionAndPaths() {
+        assertEquals(
+                List.of(
+                        new OrderingTerm("lastName", false),
+                        new OrderingTerm("address.zipCode", true),
+                        new OrderingTerm("firstName", true)),
+                JdoQueryableCollectionFacetFactory
+                    .parseListOrdering(" lastName DESC, address.zipCode ascending,firstName ").toList());
+    }
+
+    @Test
+    void orderingTerm_shouldRenderAsJdoql() {
+        assertEquals("lastName descending", new OrderingTerm("lastName", false).toJdoql());
+    }
+
+}
@@ -23,6 +23,7 @@
 import org.springframework.context.annotation.Import;
 
 import org.apache.isis.core.runtime.IsisModuleCoreRuntime;
+import org.apache.isis.persistence.jpa.integration.changetracking.EntityChangeTrackerJpa;
 import org.apache.isis.persistence.jpa.integration.changetracking.PersistenceMetricsServiceJpa;
 import org.apache.isis.persistence.jpa.integration.entity.JpaEntityIntegration;
 import org.apache.isis.persistence.jpa.integration.services.JpaSupportServiceUsingSpring;
@@ -40,6 +41,7 @@
 
         // @Service's
         JpaSupportServiceUsingSpring.class,
+        EntityChangeTrackerJpa.class,
         PersistenceMetricsServiceJpa.class,
 
 })
@@ -0,0 +1,403 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jpa.integration.changetracking;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.EntityChangeKind;
+import org.apache.isis.applib.annotation.InteractionScope;
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.iactn.InteractionProvider;
+import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.isis.applib.services.queryresultscache.SharedQueryResultsCache;
+import org.apache.isis.applib.services.xactn.TransactionId;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.collections._Sets;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
+import org.apache.isis.core.metamodel.facets.properties.property.entitychangepublishing.EntityPropertyChangePublishingPolicyFacet;
+import org.apache.isis.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PreAndPostValue;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.transaction.changetracking.EntityChangeTracker;
+import org.apache.isis.core.transaction.changetracking.EntityPropertyChangePublisher;
+import org.apache.isis.core.transaction.events.TransactionAfterCompletionEvent;
+import org.apache.isis.core.transaction.events.TransactionBeforeCommitEvent;
+import org.apache.isis.core.transaction.events.TransactionBeforeCompletionEvent;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Collects the property changes of all entities within a transaction and publishes them
+ * when the transaction is about to complete.
+ *
+ * <p>
+ * Unlike {@link EntityChangeTracker}s that snapshot every property of an enlisted entity
+ * (to compare the pre- and post-values later on), updates are enlisted with the change records
+ * of just the modified (dirty) attributes, as detected by EclipseLink's
+ * <code>ObjectChangeSet</code> at flush; such that cost scales with the number of changed
+ * properties, rather than with the width of the entity. Only created and deleted entities have
+ * all their properties captured.
+ *
+ * <p>
+ * As EclipseLink would otherwise only flush (and hence enlist) pending changes as part of the
+ * commit itself, that is after publishing, the transaction is flushed just before it commits.
+ * Changes flushed later still (eg. by subscribers while publishing) are not published.
+ *
+ * <p>
+ * Lifecycle callbacks and events are not fired by this tracker, as these are already taken care
+ * of by the {@link org.apache.isis.core.metamodel.services.objectlifecycle.ObjectLifecyclePublisher}.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.transaction.EntityChangeTrackerJpa")
+@Priority(PriorityPrecedence.EARLY)
+@Qualifier("jpa")
+@InteractionScope
+@Log4j2
+public class EntityChangeTrackerJpa
+implements
+    EntityChangeTracker,
+    HasEnlistedEntityPropertyChanges {
+
+    @Value
+    private static class PropertyKey {
+        private final Bookmark bookmark;
+        private final String propertyId;
+    }
+
+    /**
+     * Change records (having both pre- and post-values) of updated and deleted entities.
+     */
+    private final Map<PropertyKey, PropertyChangeRecord> propertyChangeRecordsByKey = _Maps.newLinkedHashMap();
+
+    /**
+     * Created entities, for which the post-values of all properties are captured when publishing.
+     */
+    private final Map<Bookmark, ManagedObject> createdEntities = _Maps.newLinkedHashMap();
+
+    private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedEntity = _Maps.newLinkedHashMap();
+
+    /**
+     * Types of all entities created, updated or deleted within the current transaction
+     * (regardless of whether enabled for publishing), to evict dependent
+     * {@link SharedQueryResultsCache} entries on commit.
+     */
+    private final Set<Class<?>> changedEntityTypes = _Sets.newHashSet();
+
+    /**
+     * Types for which the {@link SharedQueryResultsCache} is suspended, until the transaction has completed.
+     */
+    private final Set<Class<?>> suspendedEntityTypes = _Sets.newHashSet();
+
+    private final AtomicBoolean persistentChangesEncountered = new AtomicBoolean();
+
+    private final EntityPropertyChangePublisher entityPropertyChangePublisher;
+    private final Provider<InteractionProvider> interactionProviderProvider;
+    private final Provider<SharedQueryResultsCache> sharedQueryResultsCacheProvider;
+    private final Provider<TransactionService> transactionServiceProvider;
+
+    @Inject
+    public EntityChangeTrackerJpa(
+            final EntityPropertyChangePublisher entityPropertyChangePublisher,
+            final Provider<InteractionProvider> interactionProviderProvider,
+            final Provider<SharedQueryResultsCache> sharedQueryResultsCacheProvider,
+            final Provider<TransactionService> transactionServiceProvider) {
+        this.entityPropertyChangePublisher = entityPropertyChangePublisher;
+        this.interactionProviderProvider = interactionProviderProvider;
+        this.sharedQueryResultsCacheProvider = sharedQueryResultsCacheProvider;
+        this.transactionServiceProvider = transactionServiceProvider;
+    }
+
+    // -- ENTITY CHANGE TRACKING
+
+    @Override
+    public void enlistCreated(final ManagedObject entity) {
+        if(!recognizeChanged(entity)) {
+            return;
+        }
+        val bookmark = ManagedObjects.bookmarkElseFail(entity);
+        if(enlistForChangeKindPublishing(bookmark, EntityChangeKind.CREATE)) {
+            createdEntities.put(bookmark, entity);
+        }
+    }
+
+    @Override
+    public void enlistUpdating(final ManagedObject entity) {
+        enlistUpdating(entity, Can.empty());
+    }
+
+    @Override
+    public void enlistUpdating(
+            final ManagedObject entity,
+            final Can<PropertyChangeRecord> changeRecords) {
+        if(!recognizeChanged(entity)) {
+            return;
+        }
+        val bookmark = ManagedObjects.bookmarkElseFail(entity);
+        enlistForChangeKindPublishing(bookmark, EntityChangeKind.UPDATE);
+        if(createdEntities.containsKey(bookmark)) {
+            return; // all properties are captured when publishing anyway
+        }
+        changeRecords.forEach(record->
+            propertyChangeRecordsByKey.merge(
+                    new PropertyKey(bookmark, record.getPropertyId()),
+                    record,
+                    // keep the pre-value as it was before the first change within this transaction
+                    (previous, latest)->PropertyChangeRecord.of(
+                            entity,
+                            latest.getProperty(),
+                            PreAndPostValue
+                                .pre(previous.getPreAndPostValue().getPre())
+                                .withPost(latest.getPreAndPostValue().getPost()))));
+    }
+
+    @Override
+    public void enlistDeleting(final ManagedObject entity) {
+        if(!recognizeChanged(entity)) {
+            return;
+        }
+        val bookmark = ManagedObjects.bookmarkElseFail(entity);
+        val wasCreated = createdEntities.remove(bookmark) != null;
+        if(!enlistForChangeKindPublishing(bookmark, EntityChangeKind.DELETE)
+                || wasCreated) {
+            return; // created and deleted within the same transaction, or already deleted
+        }
+        streamPublishedProperties(entity)
+        .forEach(property->
+            propertyChangeRecordsByKey.compute(
+                    new PropertyKey(bookmark, property.getId()),
+                    (key, previous)->PropertyChangeRecord.of(
+                            entity,
+                            property,
+                            PreAndPostValue
+                                .pre(previous!=null
+                                        ? previous.getPreAndPostValue().getPre()
+                                        : valueOf(entity, property))
+                                .withPost(PropertyValuePlaceholder.DELETED))));
+    }
+
+    @Override
+    public void recognizeLoaded(final ManagedObject entity) {
+        // lifecycle callbacks are fired by the ObjectLifecyclePublisher
+    }
+
+    @Override
+    public void recognizePersisting(final ManagedObject entity) {
+        // lifecycle callbacks are fired by the ObjectLifecyclePublisher
+    }
+
+    @Override
+    public void recognizeUpdating(final ManagedObject entity) {
+        // lifecycle callbacks are fired by the ObjectLifecyclePublisher
+    }
+
+    // -- PUBLISHING
+
+    @Override
+    public Can<EntityPropertyChange> getPropertyChanges(
+            final java.sql.Timestamp timestamp,
+            final String userName,
+            final TransactionId txId) {
+
+        // take a copy, as subscribers might create further entities, which would be enlisted
+        val records = _Sets.<PropertyChangeRecord>newLinkedHashSet();
+        createdEntities.values().forEach(entity->
+            streamPublishedProperties(entity)
+            .map(property->PropertyChangeRecord.of(
+                    entity,
+                    property,
+                    PreAndPostValue
+                        .pre(PropertyValuePlaceholder.NEW)
+                        .withPost(valueOf(entity, property))))
+            .forEach(records::add));
+        propertyChangeRecordsByKey.values().stream()
+        .filter(record->record.getPreAndPostValue().shouldPublish())
+        .forEach(records::add);
+
+        return records.stream()
+                .map(record->record.toEntityPropertyChange(timestamp, userName, txId))
+                .collect(Can.toCan());
+    }
+
+    /**
+     * TRANSACTION END BOUNDARY
+     * @apiNote intended to be called just before the transaction commits by the framework internally
+     */
+    @EventListener(value = TransactionBeforeCommitEvent.class)
+    public void onTransactionCommitting(final TransactionBeforeCommitEvent event) {
+        // have EclipseLink detect and enlist all pending changes, before these get published
+        transactionServiceProvider.get().flushTransaction();
+    }
+
+    /**
+     * TRANSACTION END BOUNDARY
+     * @apiNote intended to be called during before transaction completion by the framework internally
+     */
+    @EventListener(value = TransactionBeforeCompletionEvent.class) @Order(PriorityPrecedence.LATE)
+    public void onTransactionCompleting(final TransactionBeforeCompletionEvent event) {
+        try {
+            suspendSharedQueryResultsCache();
+            if(!changeKindByEnlistedEntity.isEmpty()) {
+                log.debug("about to publish entity property changes");
+                entityPropertyChangePublisher.publishChangedProperties(this);
+            }
+        } finally {
+            log.debug("purging entity change records");
+            propertyChangeRecordsByKey.clear();
+            createdEntities.clear();
+            changeKindByEnlistedEntity.clear();
+            persistentChangesEncountered.set(false);
+        }
+    }
+
+    /**
+     * TRANSACTION END BOUNDARY
+     * @apiNote intended to be called after transaction completion by the framework internally
+     */
+    @EventListener(value = TransactionAfterCompletionEvent.class)
+    public void onTransactionCompleted(final TransactionAfterCompletionEvent event) {
+        try {
+            if(event.isCommitted()
+                    && !changedEntityTypes.isEmpty()) {
+                sharedQueryResultsCacheProvider.get().evictTaggedWith(changedEntityTypes);
+            }
+        } finally {
+            changedEntityTypes.clear();
+            resumeSharedQueryResultsCache();
+            // changes enlisted after publishing must not leak into the next transaction
+            propertyChangeRecordsByKey.clear();
+            createdEntities.clear();
+            changeKindByEnlistedEntity.clear();
+        }
+    }
+
+    private void suspendSharedQueryResultsCache() {
+        if(changedEntityTypes.isEmpty()) {
+            return;
+        }
+        suspendedEntityTypes.addAll(changedEntityTypes);
+        sharedQueryResultsCacheProvider.get().suspendTaggedWith(suspendedEntityTypes);
+    }
+
+    private void resumeSharedQueryResultsCache() {
+        if(suspendedEntityTypes.isEmpty()) {
+            return;
+        }
+        try {
+            sharedQueryResultsCacheProvider.get().resumeTaggedWith(suspendedEntityTypes);
+        } finally {
+            suspendedEntityTypes.clear();
+        }
+    }
+
+    // -- METRICS
+
+    int numberEntitiesDirtied() {
+        return changeKindByEnlistedEntity.size();
+    }
+
+    // -- HELPER
+
+    /**
+     * @return whether the entity is enabled for entity change publishing
+     */
+    private boolean recognizeChanged(final ManagedObject entity) {
+        if(ManagedObjects.isNullOrUnspecifiedOrEmpty(entity)) {
+            return false;
+        }
+        changedEntityTypes.add(entity.getSpecification().getCorrespondingClass());
+        enableCommandPublishing();
+        return EntityChangePublishingFacet.isPublishingEnabled(entity.getSpecification());
+    }
+
+    private void enableCommandPublishing() {
+        val alreadySet = persistentChangesEncountered.getAndSet(true);
+        if(!alreadySet) {
+            interactionProviderProvider.get().currentInteraction()
+            .ifPresent(interaction->interaction.getCommand().updater().setSystemStateChanged(true));
+        }
+    }
+
+    /**
+     * @return <code>true</code> if successfully enlisted, <code>false</code> if was already enlisted
+     */
+    private boolean enlistForChangeKindPublishing(
+            final @NonNull Bookmark bookmark,
+            final @NonNull EntityChangeKind changeKind) {
+
+        val previousChangeKind = changeKindByEnlistedEntity.get(bookmark);
+        if(previousChangeKind == null) {
+            changeKindByEnlistedEntity.put(bookmark, changeKind);
+            return true;
+        }
+        switch (previousChangeKind) {
+        case CREATE:
+            if(changeKind == EntityChangeKind.DELETE) {
+                changeKindByEnlistedEntity.remove(bookmark);
+            }
+            return false;
+        case UPDATE:
+            if(changeKind == EntityChangeKind.DELETE) {
+                changeKindByEnlistedEntity.put(bookmark, changeKind);
+                return true;
+            }
+            return false;
+        case DELETE:
+        default:
+            return false;
+        }
+    }
+
+    private static Stream<ObjectAssociation> streamPublishedProperties(final ManagedObject entity) {
+        return entity.getSpecification().streamProperties(MixedIn.EXCLUDED)
+                .filter(property->!EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property))
+                .map(ObjectAssociation.class::cast);
+    }
+
+    private static Object valueOf(final ManagedObject entity, final ObjectAssociation property) {
+        return ManagedObjects.UnwrapUtil.single(property.get(entity, InteractionInitiatedBy.FRAMEWORK));
+    }
+
+}
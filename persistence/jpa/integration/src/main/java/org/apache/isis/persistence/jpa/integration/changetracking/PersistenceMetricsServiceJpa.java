@@ -19,13 +19,16 @@
 package org.apache.isis.persistence.jpa.integration.changetracking;
 
 import javax.annotation.Priority;
+import javax.inject.Inject;
 import javax.inject.Named;
+import javax.inject.Provider;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.isis.applib.annotation.PriorityPrecedence;
 import org.apache.isis.applib.services.metrics.MetricsService;
+import org.apache.isis.applib.services.queryresultscache.SharedQueryResultsCache;
 
 /**
  * @since 2.0 {@index}
@@ -39,6 +42,9 @@
 implements
     MetricsService {
 
+    @Inject private Provider<EntityChangeTrackerJpa> entityChangeTrackerProvider;
+    @Inject private Provider<SharedQueryResultsCache> sharedQueryResultsCacheProvider;
+
     // -- METRICS
 
     @Override
@@ -48,7 +54,22 @@ public int numberEntitiesLoaded() {
 
     @Override
     public int numberEntitiesDirtied() {
-        return -1; // n/a
+        return entityChangeTrackerProvider.get().numberEntitiesDirtied();
+    }
+
+    @Override
+    public long numberSharedQueryResultsCacheHits() {
+        return sharedQueryResultsCacheProvider.get().getHitCount();
+    }
+
+    @Override
+    public long numberSharedQueryResultsCacheMisses() {
+        return sharedQueryResultsCacheProvider.get().getMissCount();
+    }
+
+    @Override
+    public long numberSharedQueryResultsCacheEvictions() {
+        return sharedQueryResultsCacheProvider.get().getEvictionCount();
     }
 
 }
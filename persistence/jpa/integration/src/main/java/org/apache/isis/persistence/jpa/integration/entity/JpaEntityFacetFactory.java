@@ -18,31 +18,47 @@
  */
 package org.apache.isis.persistence.jpa.integration.entity;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.TypedQuery;
 import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.eclipse.persistence.config.HintValues;
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.queries.ScrollableCursor;
 
 import org.springframework.data.jpa.repository.JpaContext;
 
 import org.apache.isis.applib.exceptions.unrecoverable.ObjectNotFoundException;
 import org.apache.isis.applib.query.AllInstancesQuery;
 import org.apache.isis.applib.query.NamedQuery;
+import org.apache.isis.applib.query.PredicateQuery;
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.registry.ServiceRegistry;
 import org.apache.isis.applib.services.repository.EntityState;
 import org.apache.isis.applib.services.urlencoding.UrlEncodingService;
+import org.apache.isis.applib.services.xactn.TransactionService;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.collections.ImmutableEnumSet;
 import org.apache.isis.commons.internal.assertions._Assert;
 import org.apache.isis.commons.internal.base._Casts;
 import org.apache.isis.commons.internal.base._Lazy;
 import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.collections._Streams;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.commons.internal.memento._Mementos;
 import org.apache.isis.commons.internal.memento._Mementos.SerializingAdapter;
@@ -163,8 +179,102 @@ public ManagedObject fetchByIdentifier(
             return ManagedObject.bookmarked(entitySpec, entityPojo, bookmark);
         }
 
+        @Override
+        public Map<Bookmark, ManagedObject> fetchByIdentifiers(
+                final @NonNull ObjectSpecification entitySpec,
+                final @NonNull Can<Bookmark> bookmarks) {
+
+            _Assert.assertTrue(entitySpec.isEntity());
+
+            val jpaEntityType = getJpaEntityType();
+            if(!jpaEntityType.hasSingleIdAttribute()) {
+                // composite primary keys (IdClass) cannot be matched with a simple IN clause
+                return EntityFacet.super.fetchByIdentifiers(entitySpec, bookmarks);
+            }
+
+            log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+            val bookmarksByPrimaryKey = _Maps.<Object, Bookmark>newHashMap();
+            bookmarks.forEach(bookmark->
+                bookmarksByPrimaryKey.put(getObjectIdSerializer().parse(bookmark.getIdentifier()), bookmark));
+
+            val idAttributeName = jpaEntityType.getSingularAttributes().stream()
+                    .filter(SingularAttribute::isId)
+                    .map(SingularAttribute::getName)
+                    .findFirst()
+                    .orElseThrow(_Exceptions::noSuchElement);
+
+            val entityManager = getEntityManager();
+            val persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+
+            val cb = entityManager.getCriteriaBuilder();
+            val cr = cb.createQuery(entityClass);
+            val root = cr.from(entityClass);
+
+            cr.select(_Casts.uncheckedCast(root))
+                .where(root.get(idAttributeName).in(bookmarksByPrimaryKey.keySet()));
+
+            val entitiesByBookmark = _Maps.<Bookmark, ManagedObject>newHashMap();
+
+            entityManager.createQuery(cr)
+                .getResultList()
+                .forEach(entityPojo->{
+                    val bookmark = bookmarksByPrimaryKey.get(persistenceUnitUtil.getIdentifier(entityPojo));
+                    if(bookmark!=null) {
+                        // the actual type might be a sub-type of the queried one (entity inheritance)
+                        val actualEntitySpec = getSpecificationLoader().specForTypeElseFail(entityPojo.getClass());
+                        entitiesByBookmark.put(bookmark, ManagedObject.bookmarked(actualEntitySpec, entityPojo, bookmark));
+                    }
+                });
+
+            return entitiesByBookmark;
+        }
+
         @Override
         public Can<ManagedObject> fetchByQuery(final ObjectSpecification spec, final Query<?> query) {
+            return Can.ofStream(
+                    createTypedQuery(query)
+                    .getResultStream()
+                    .map(entity->ManagedObject.of(spec, entity)));
+        }
+
+        /**
+         * Uses an EclipseLink {@link ScrollableCursor}, which fetches rows from the JDBC result set
+         * as they are requested, as opposed to {@link TypedQuery#getResultStream()}, which with EclipseLink
+         * is backed by the fully loaded result list. The cursor is closed when the stream is closed.
+         */
+        @Override
+        public Stream<ManagedObject> streamByQuery(final ObjectSpecification spec, final Query<?> query) {
+
+            val repositoryConfig = getConfiguration().getCore().getRuntimeServices().getRepositoryService();
+
+            val typedQuery = createTypedQuery(query)
+                    .setHint(QueryHints.JDBC_FETCH_SIZE, repositoryConfig.getStreamFetchSize())
+                    .setHint(QueryHints.SCROLLABLE_CURSOR, HintValues.TRUE);
+
+            val entityManager = getEntityManager();
+            val cursorRef = new AtomicReference<ScrollableCursor>();
+
+            return _Streams.peekInBatches(
+                        _Streams.<Object>lazily(()->{
+                            if(!serviceRegistry.lookupServiceElseFail(TransactionService.class)
+                                    .currentTransactionState().isInProgress()) {
+                                throw _Exceptions.illegalState(
+                                        "Query results can only be streamed within a transaction in progress");
+                            }
+                            // with the scrollable cursor hint, the single result is the cursor
+                            val cursor = (ScrollableCursor) typedQuery.getSingleResult();
+                            cursorRef.set(cursor);
+                            return _Casts.<Iterator<Object>>uncheckedCast(cursor);
+                        }),
+                        repositoryConfig.getStreamDetachBatchSize(),
+                        batch->batch.forEach(entityManager::detach))
+                    .map(entity->ManagedObject.of(spec, entity))
+                    .onClose(()->Optional.ofNullable(cursorRef.getAndSet(null))
+                            .ifPresent(ScrollableCursor::close));
+        }
+
+        private TypedQuery<?> createTypedQuery(final Query<?> query) {
 
             val range = query.getRange();
 
@@ -195,9 +305,7 @@ public Can<ManagedObject> fetchByQuery(final ObjectSpecification spec, final Que
                     typedQuery.setMaxResults(range.getLimitAsInt());
                 }
 
-                return Can.ofStream(
-                    typedQuery.getResultStream()
-                    .map(entity->ManagedObject.of(spec, entity)));
+                return typedQuery;
 
             } else if(query instanceof NamedQuery) {
 
@@ -221,9 +329,39 @@ public Can<ManagedObject> fetchByQuery(final ObjectSpecification spec, final Que
                     .forEach((paramName, paramValue)->
                         namedQuery.setParameter(paramName, paramValue));
 
-                return Can.ofStream(
-                        namedQuery.getResultStream()
-                        .map(entity->ManagedObject.of(spec, entity)));
+                return namedQuery;
+
+            } else if(query instanceof PredicateQuery) {
+
+                val predicateQuery = (PredicateQuery<?>) query;
+                val queryEntityType = predicateQuery.getResultType();
+
+                // guard against misuse
+                if(!entityClass.isAssignableFrom(queryEntityType)) {
+                    throw _Exceptions.unexpectedCodeReach();
+                }
+
+                val entityManager = getEntityManager();
+
+                val cb = entityManager.getCriteriaBuilder();
+                val cr = cb.createQuery(entityClass);
+                val root = cr.from(entityClass);
+
+                cr.select(_Casts.uncheckedCast(root))
+                    .where(predicateQuery.getPredicate()
+                            .accept(new JpaQueryPredicateTranslator(cb, root)));
+
+                val typedQuery = entityManager
+                        .createQuery(cr);
+
+                if(range.hasOffset()) {
+                    typedQuery.setFirstResult(range.getStartAsInt());
+                }
+                if(range.hasLimit()) {
+                    typedQuery.setMaxResults(range.getLimitAsInt());
+                }
+
+                return typedQuery;
 
             }
 
@@ -308,6 +446,16 @@ public EntityState getEntityState(final Object pojo) {
             return EntityState.PERSISTABLE_DETACHED;
         }
 
+        @Override
+        public Optional<Object> versionOf(final Object pojo) {
+            if(pojo==null
+                    || !entityClass.isAssignableFrom(pojo.getClass())) {
+                return Optional.empty();
+            }
+            return versionMemberRef.get()
+                    .map(versionMember->readMember(versionMember, pojo));
+        }
+
         @Override
         public boolean isProxyEnhancement(final Method method) {
             return false;
@@ -336,6 +484,46 @@ private Optional<EntityType<?>> queryJpaMetamodel() {
             .findFirst();
         }
 
+        // -- VERSION
+
+        private final _Lazy<Optional<Member>> versionMemberRef = _Lazy.threadSafe(this::queryVersionMember);
+
+        /** find the (java) member of the version attribute of this entity, if any*/
+        private Optional<Member> queryVersionMember() {
+            val jpaEntityType = getJpaEntityType();
+            if(!jpaEntityType.hasVersionAttribute()) {
+                return Optional.empty();
+            }
+            return jpaEntityType.getSingularAttributes()
+            .stream()
+            .filter(SingularAttribute::isVersion)
+            .<Member>map(SingularAttribute::getJavaMember)
+            .findFirst()
+            .map(member->{
+                if(member instanceof Field) {
+                    ((Field)member).setAccessible(true);
+                } else if(member instanceof Method) {
+                    ((Method)member).setAccessible(true);
+                }
+                return member;
+            });
+        }
+
+        private static Object readMember(final Member member, final Object pojo) {
+            try {
+                if(member instanceof Field) {
+                    return ((Field)member).get(pojo);
+                }
+                if(member instanceof Method) {
+                    return ((Method)member).invoke(pojo);
+                }
+            } catch (Exception e) {
+                throw _Exceptions.unrecoverable(e);
+            }
+            throw _Exceptions.unrecoverableFormatted(
+                    "cannot read version attribute of %s via %s", pojo.getClass(), member);
+        }
+
         // -- OBJECT ID SERIALIZATION
 
         private final _Lazy<JpaObjectIdSerializer<Object>> objectIdSerializerRef = _Lazy.threadSafe(this::createObjectIdSerializer);
@@ -35,6 +35,7 @@ public void refineProgrammingModel(final ProgrammingModel pm) {
         val step1 = ProgrammingModel.FacetProcessingOrder.A2_AFTER_FALLBACK_DEFAULTS;
 
         pm.addFactory(step1, new JpaEntityFacetFactory(pm.getMetaModelContext()), Marker.JPA);
+        pm.addFactory(step1, new JpaQueryableCollectionFacetFactory(pm.getMetaModelContext()), Marker.JPA);
     }
 
 }
@@ -0,0 +1,123 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jpa.integration.entity;
+
+import java.util.List;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.apache.isis.applib.query.QueryPredicate;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Translates a {@link QueryPredicate} into a JPA criteria {@link Predicate} over given {@link Root}.
+ */
+@RequiredArgsConstructor
+class JpaQueryPredicateTranslator implements QueryPredicate.Visitor<Predicate> {
+
+    private static final char LIKE_ESCAPE_CHAR = '\\';
+
+    private final @NonNull CriteriaBuilder cb;
+    private final @NonNull Root<?> root;
+
+    @Override
+    public Predicate visitEquals(final String propertyId, final Object value) {
+        return value!=null
+                ? cb.equal(root.get(propertyId), value)
+                : cb.isNull(root.get(propertyId));
+    }
+
+    @Override
+    public Predicate visitRange(
+            final String propertyId,
+            final Comparable<?> lowerBound, final boolean lowerInclusive,
+            final Comparable<?> upperBound, final boolean upperInclusive) {
+
+        final Expression<Comparable<Object>> path = root.get(propertyId);
+
+        if(lowerBound!=null
+                && upperBound!=null) {
+            return cb.and(
+                    lower(path, lowerBound, lowerInclusive),
+                    upper(path, upperBound, upperInclusive));
+        }
+        return lowerBound!=null
+                ? lower(path, lowerBound, lowerInclusive)
+                : upper(path, upperBound, upperInclusive);
+    }
+
+    @Override
+    public Predicate visitStartsWith(final String propertyId, final String prefix) {
+        return cb.like(root.get(propertyId), escapeLike(prefix) + "%", LIKE_ESCAPE_CHAR);
+    }
+
+    @Override
+    public Predicate visitAnd(final List<Predicate> operands) {
+        return cb.and(operands.toArray(new Predicate[0]));
+    }
+
+    @Override
+    public Predicate visitOr(final List<Predicate> operands) {
+        return cb.or(operands.toArray(new Predicate[0]));
+    }
+
+    // -- HELPER
+
+    @SuppressWarnings("unchecked")
+    private Predicate lower(
+            final Expression<Comparable<Object>> path,
+            final Comparable<?> bound,
+            final boolean inclusive) {
+        val comparable = (Comparable<Object>) bound;
+        return inclusive
+                ? cb.greaterThanOrEqualTo(path, comparable)
+                : cb.greaterThan(path, comparable);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate upper(
+            final Expression<Comparable<Object>> path,
+            final Comparable<?> bound,
+            final boolean inclusive) {
+        val comparable = (Comparable<Object>) bound;
+        return inclusive
+                ? cb.lessThanOrEqualTo(path, comparable)
+                : cb.lessThan(path, comparable);
+    }
+
+    private static String escapeLike(final String literal) {
+        val sb = new StringBuilder(literal.length() + 4);
+        for(val c : literal.toCharArray()) {
+            if(c == LIKE_ESCAPE_CHAR
+                    || c == '%'
+                    || c == '_') {
+                sb.append(LIKE_ESCAPE_CHAR);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+}
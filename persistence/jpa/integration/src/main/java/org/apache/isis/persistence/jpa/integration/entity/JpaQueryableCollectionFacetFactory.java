@@ -0,0 +1,262 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jpa.integration.entity;
+
+import java.util.Optional;
+import java.util.SortedSet;
+
+import javax.inject.Inject;
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.OrderColumn;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.metamodel.Attribute.PersistentAttributeType;
+import javax.persistence.metamodel.EntityType;
+
+import org.springframework.data.jpa.repository.JpaContext;
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.services.registry.ServiceRegistry;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._Casts;
+import org.apache.isis.commons.internal.base._Lazy;
+import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.reflection._Generics;
+import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.facetapi.FacetAbstract;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.facetapi.FeatureType;
+import org.apache.isis.core.metamodel.facets.FacetFactoryAbstract;
+import org.apache.isis.core.metamodel.facets.collections.queryable.QueryableCollectionFacet;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Installs a {@link QueryableCollectionFacet} on entity collections mapped by the element's side of the
+ * association, that is {@code @OneToMany(mappedBy = "owner")}, for which the elements can be queried
+ * as {@code SELECT e FROM Element e WHERE e.owner = :owner}.
+ * <p>
+ * The default order of the elements, as declared with {@link OrderBy @OrderBy}, is honored. Collections
+ * ordered otherwise, that is in memory ({@link SortedSet}) or by an {@link OrderColumn @OrderColumn},
+ * do not get the facet, as their order cannot be reproduced by such a query.
+ */
+public class JpaQueryableCollectionFacetFactory
+extends FacetFactoryAbstract {
+
+    @Inject
+    public JpaQueryableCollectionFacetFactory(final MetaModelContext mmc) {
+        super(mmc, FeatureType.COLLECTIONS_ONLY);
+    }
+
+    @Override
+    public void process(final ProcessMethodContext processMethodContext) {
+
+        val oneToMany = processMethodContext.synthesizeOnMethod(OneToMany.class)
+                .orElse(null);
+        if(oneToMany == null
+                || _Strings.isNullOrEmpty(oneToMany.mappedBy())
+                || isOrderedOtherwise(processMethodContext)) {
+            return;
+        }
+
+        val defaultOrder = processMethodContext.synthesizeOnMethod(OrderBy.class)
+                .map(OrderBy::value)
+                .map(JpaQueryableCollectionFacetFactory::parseOrderBy)
+                .orElseGet(Can::empty);
+
+        val elementType = oneToMany.targetEntity() != void.class
+                ? Optional.<Class<?>>of(oneToMany.targetEntity())
+                : _Generics.streamGenericTypeArgumentsOfMethodReturnType(processMethodContext.getMethod())
+                    .findFirst();
+
+        elementType
+        .filter(type->type.isAnnotationPresent(Entity.class))
+        .ifPresent(type->
+            addFacet(
+                    new JpaQueryableCollectionFacet(
+                            processMethodContext.getFacetHolder(),
+                            type,
+                            oneToMany.mappedBy(),
+                            defaultOrder,
+                            getServiceRegistry())));
+    }
+
+    private static boolean isOrderedOtherwise(final ProcessMethodContext processMethodContext) {
+        return SortedSet.class.isAssignableFrom(processMethodContext.getMethod().getReturnType())
+                || processMethodContext.synthesizeOnMethod(OrderColumn.class).isPresent();
+    }
+
+    /**
+     * Parses the value of an {@link OrderBy @OrderBy} annotation, that is a comma separated list of
+     * property paths, each optionally followed by {@code ASC} or {@code DESC}.
+     * An empty value denotes ordering by primary key, which is always appended anyway.
+     */
+    static Can<OrderByTerm> parseOrderBy(final String orderBy) {
+        return _Strings.splitThenStreamTrimmed(orderBy, ",")
+                .map(term->{
+                    val parts = term.split("\\s+");
+                    val descending = parts.length > 1
+                            && parts[1].equalsIgnoreCase("DESC");
+                    return new OrderByTerm(parts[0], !descending);
+                })
+                .collect(Can.toCan());
+    }
+
+    @Value
+    static class OrderByTerm {
+        @NonNull String propertyPath;
+        boolean ascending;
+    }
+
+    // --
+
+    public static class JpaQueryableCollectionFacet
+    extends FacetAbstract
+    implements QueryableCollectionFacet {
+
+        private final Class<Object> elementClass;
+        private final String mappedBy;
+        private final Can<OrderByTerm> defaultOrder;
+        private final ServiceRegistry serviceRegistry;
+
+        protected JpaQueryableCollectionFacet(
+                final FacetHolder holder,
+                final Class<?> elementClass,
+                final String mappedBy,
+                final @NonNull Can<OrderByTerm> defaultOrder,
+                final @NonNull ServiceRegistry serviceRegistry) {
+            super(QueryableCollectionFacet.class, holder);
+            this.elementClass = _Casts.uncheckedCast(elementClass);
+            this.mappedBy = mappedBy;
+            this.defaultOrder = defaultOrder;
+            this.serviceRegistry = serviceRegistry;
+        }
+
+        @Override
+        public long countElements(final ManagedObject owner) {
+            val entityManager = getEntityManager();
+            val cb = entityManager.getCriteriaBuilder();
+            val cr = cb.createQuery(Long.class);
+            val root = cr.from(elementClass);
+
+            cr.select(cb.count(root))
+            .where(cb.equal(root.get(mappedBy), owner.getPojo()));
+
+            return entityManager.createQuery(cr).getSingleResult();
+        }
+
+        @Override
+        public boolean canSortBy(final OneToOneAssociation property) {
+            return getJpaEntityType().getSingularAttributes().stream()
+                    .anyMatch(attribute->attribute.getName().equals(property.getId())
+                            && attribute.getPersistentAttributeType() == PersistentAttributeType.BASIC);
+        }
+
+        @Override
+        public Can<ManagedObject> fetchElements(
+                final ManagedObject owner,
+                final long skip,
+                final long limit,
+                final @Nullable OneToOneAssociation sortBy,
+                final boolean ascending) {
+
+            val entityManager = getEntityManager();
+            val cb = entityManager.getCriteriaBuilder();
+            val cr = cb.createQuery(elementClass);
+            val root = cr.from(elementClass);
+
+            val orderBy = _Lists.<Order>newArrayList();
+            if(sortBy != null) {
+                orderBy.add(ascending
+                        ? cb.asc(root.get(sortBy.getId()))
+                        : cb.desc(root.get(sortBy.getId())));
+            }
+            // as declared by @OrderBy, the collection's order when not sorted otherwise
+            defaultOrder.forEach(term->{
+                val path = path(root, term.getPropertyPath());
+                orderBy.add(term.isAscending()
+                        ? cb.asc(path)
+                        : cb.desc(path));
+            });
+            // a total order is required for paging to be stable
+            primaryKeyAttributeName()
+            .ifPresent(primaryKey->orderBy.add(cb.asc(root.get(primaryKey))));
+
+            cr.select(root)
+            .where(cb.equal(root.get(mappedBy), owner.getPojo()))
+            .orderBy(orderBy);
+
+            val specLoader = getSpecificationLoader();
+
+            return Can.ofStream(
+                    entityManager.createQuery(cr)
+                    .setFirstResult(Math.toIntExact(skip))
+                    .setMaxResults(Math.toIntExact(limit))
+                    .getResultStream()
+                    // elements might be instances of sub-types of the element type
+                    .map(entity->ManagedObject.of(specLoader.specForTypeElseFail(entity.getClass()), entity)));
+        }
+
+        private static Expression<?> path(final Path<?> root, final String propertyPath) {
+            Path<?> path = root;
+            for(val attributeName : propertyPath.split("\\.")) {
+                path = path.get(attributeName);
+            }
+            return path;
+        }
+
+        // -- JPA METAMODEL
+
+        private final _Lazy<EntityType<?>> jpaEntityTypeRef = _Lazy.threadSafe(this::queryJpaMetamodel);
+
+        private EntityType<?> getJpaEntityType() {
+            return jpaEntityTypeRef.get();
+        }
+
+        private EntityType<?> queryJpaMetamodel() {
+            return getEntityManager().getMetamodel().entity(elementClass);
+        }
+
+        private Optional<String> primaryKeyAttributeName() {
+            val jpaEntityType = getJpaEntityType();
+            if(!jpaEntityType.hasSingleIdAttribute()) {
+                return Optional.empty();
+            }
+            return Optional.of(jpaEntityType.getId(jpaEntityType.getIdType().getJavaType()).getName());
+        }
+
+        // -- DEPENDENCIES
+
+        protected EntityManager getEntityManager() {
+            return serviceRegistry.lookupServiceElseFail(JpaContext.class)
+                    .getEntityManagerByManagedType(elementClass);
+        }
+
+    }
+
+}
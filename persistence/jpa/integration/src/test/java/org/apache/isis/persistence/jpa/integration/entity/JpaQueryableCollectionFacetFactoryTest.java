@@ -0,0 +1,55 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jpa.integration.entity;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.isis.persistence.jpa.integration.entity.JpaQueryableCollectionFacetFactory.OrderByTerm;
+
+class JpaQueryableCollectionFacetFactoryTest {
+
+    @Test
+    void parseOrderBy_whenEmpty_shouldYieldNoTerms() {
+        // ordering by primary key, which is appended anyway
+        assertEquals(List.of(), JpaQueryableCollectionFacetFactory.parseOrderBy("").toList());
+    }
+
+    @Test
+    void parseOrderBy_shouldDefaultToAscending() {
+        assertEquals(
+                List.of(new OrderByTerm("lastName", true)),
+                JpaQueryableCollectionFacetFactory.parseOrderBy("lastName").toList());
+    }
+
+    @Test
+    void parseOrderBy_shouldHonorDirectionAndPaths() {
+        assertEquals(
+                List.of(
+                        new OrderByTerm("lastName", false),
+                        new OrderByTerm("address.zipCode", true),
+                        new OrderByTerm("firstName", false)),
+                JpaQueryableCollectionFacetFactory
+                    .parseOrderBy(" lastName DESC, address.zipCode asc,firstName  desc ").toList());
+    }
+
+}
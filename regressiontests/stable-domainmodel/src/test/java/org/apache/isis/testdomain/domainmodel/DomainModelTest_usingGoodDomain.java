@@ -33,6 +33,7 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -316,6 +317,37 @@ void metamodelContributingProperties_shouldBeUnique_whenOverridden(final Class<?
 
     }
 
+    @ParameterizedTest
+    @MethodSource("provideProperMemberInheritanceTypes")
+    void memberLookup_shouldBeRebuilt_afterSpecReload(final Class<?> type) {
+
+        val specBeforeReload = specificationLoader.specForTypeElseFail(type);
+        val actionBeforeReload = specBeforeReload.getActionElseFail("sampleAction");
+        val propertyBeforeReload = specBeforeReload.getAssociationElseFail("sampleProperty");
+
+        specificationLoader.reloadSpecification(type);
+
+        val specAfterReload = specificationLoader.specForTypeElseFail(type);
+
+        val action = specAfterReload.getActionElseFail("sampleAction");
+        assertEquals(actionBeforeReload.getFeatureIdentifier(), action.getFeatureIdentifier());
+        assertNotSame(actionBeforeReload, action);
+
+        val property = specAfterReload.getAssociationElseFail("sampleProperty");
+        assertEquals(propertyBeforeReload.getFeatureIdentifier(), property.getFeatureIdentifier());
+        assertNotSame(propertyBeforeReload, property);
+    }
+
+    @Test
+    void mixedInMembers_shouldBeLookedUp_onlyWhenIncluded() {
+
+        val holderSpec = specificationLoader.specForTypeElseFail(ProperMemberSupport.class);
+
+        // "action" is contributed by a mixin
+        assertTrue(holderSpec.getAction("action", MixedIn.INCLUDED).isPresent());
+        assertFalse(holderSpec.getAction("action", MixedIn.EXCLUDED).isPresent());
+    }
+
     @Test
     void elementTypes_shouldBeIntrospected_whenDiscoveredViaGenerics_usingNoWildcards() {
 
@@ -26,11 +26,14 @@
 import org.springframework.test.context.TestPropertySource;
 
 import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.core.metamodel.interactions.managed.nonscalar.DataRow;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.testdomain.conf.Configuration_headless;
 import org.apache.isis.testdomain.model.interaction.Configuration_usingInteractionDomain;
 import org.apache.isis.testdomain.model.interaction.InteractionDemo;
+import org.apache.isis.testdomain.model.interaction.InteractionDemoItem;
 import org.apache.isis.testdomain.util.interaction.InteractionTestAbstract;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -105,6 +108,33 @@ void columns() {
 
     }
 
+    @Test
+    void sortedPages_shouldReflectSortOrderAndDataChanges() {
+
+        val collTester =
+                testerFactory.collectionTester(InteractionDemo.class, "items", Where.ANYWHERE);
+        val table = collTester.tableTester().getDataTable();
+        val items = ((InteractionDemo)(collTester.getManagedCollectionIfAny().orElseThrow()
+                .getOwner()
+                .getPojo()))
+                .getItems();
+        val nameProperty = table.getElementType().getProperty("name").orElseThrow();
+
+        assertEquals(List.of("first", "last", "second", "third"),
+                namesOf(table.getDataRowsPage(0, 4, nameProperty, true)));
+        assertEquals(List.of("third", "second"),
+                namesOf(table.getDataRowsPage(0, 2, nameProperty, false)));
+
+        // change the data, then have the table reload its elements
+        items.get(0).setName("zeroth");
+        table.getDataElements().invalidate();
+
+        assertEquals(List.of("last", "second", "third", "zeroth"),
+                namesOf(table.getDataRowsPage(0, 4, nameProperty, true)));
+        assertEquals(List.of("zeroth", "third"),
+                namesOf(table.getDataRowsPage(0, 2, nameProperty, false)));
+    }
+
     @Test
     void choicesFromMultiselect() {
 
@@ -143,4 +173,15 @@ void choicesFromMultiselect() {
 
     }
 
+    // -- HELPER
+
+    private static List<String> namesOf(final Can<DataRow> dataRows) {
+        return dataRows
+                .map(DataRow::getRowElement)
+                .map(ManagedObjects.UnwrapUtil::single)
+                .map(InteractionDemoItem.class::cast)
+                .map(InteractionDemoItem::getName)
+                .toList();
+    }
+
 }
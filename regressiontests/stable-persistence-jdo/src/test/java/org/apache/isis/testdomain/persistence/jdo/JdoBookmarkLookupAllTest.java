@@ -0,0 +1,127 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.persistence.jdo;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.bookmark.BookmarkService;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.testdomain.conf.Configuration_usingJdo;
+import org.apache.isis.testdomain.jdo.JdoTestFixtures;
+import org.apache.isis.testdomain.jdo.entities.JdoBook;
+import org.apache.isis.testdomain.jdo.entities.JdoInventory;
+import org.apache.isis.testing.integtestsupport.applib.IsisIntegrationTestAbstract;
+
+import lombok.val;
+
+@SpringBootTest(
+        classes = {
+                Configuration_usingJdo.class,
+        },
+        properties = {
+                // so the 3 books are fetched in 2 chunks
+                "isis.core.runtime-services.repository-service.bulk-lookup-chunk-size=2",
+        })
+@TestPropertySource(IsisPresets.UseLog4j2Test)
+@Transactional
+class JdoBookmarkLookupAllTest extends IsisIntegrationTestAbstract {
+
+    @Inject private JdoTestFixtures testFixtures;
+    @Inject private BookmarkService bookmarkService;
+
+    private Can<JdoBook> books;
+    private JdoInventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        testFixtures.setUp3Books();
+        books = Can.ofCollection(repositoryService.allInstances(JdoBook.class))
+                .sorted((a, b)->a.getName().compareTo(b.getName()));
+        inventory = repositoryService.allInstances(JdoInventory.class).get(0);
+        assertEquals(3, books.size());
+    }
+
+    @Test
+    void lookupAll_shouldResolveMixedTypes_inRequestOrder() {
+
+        val book1 = bookmarkService.bookmarkForElseFail(books.getElseFail(0));
+        val book2 = bookmarkService.bookmarkForElseFail(books.getElseFail(1));
+        val book3 = bookmarkService.bookmarkForElseFail(books.getElseFail(2));
+        val inventoryBookmark = bookmarkService.bookmarkForElseFail(inventory);
+
+        val resolved = bookmarkService.lookupAll(Arrays.asList(
+                book3, inventoryBookmark, book1, book2, book1));
+
+        assertEquals(5, resolved.size());
+        assertSame(books.getElseFail(2), resolved.get(0).orElseThrow());
+        assertSame(inventory, resolved.get(1).orElseThrow());
+        assertSame(books.getElseFail(0), resolved.get(2).orElseThrow());
+        assertSame(books.getElseFail(1), resolved.get(3).orElseThrow());
+        assertSame(books.getElseFail(0), resolved.get(4).orElseThrow()); // duplicates are resolved each
+    }
+
+    @Test
+    void lookupAll_shouldMarkMissingBookmarks_asEmpty() {
+
+        val book1 = bookmarkService.bookmarkForElseFail(books.getElseFail(0));
+        val book2 = bookmarkService.bookmarkForElseFail(books.getElseFail(1));
+
+        // a bookmark of an entity that no longer exists
+        val deletedBook = books.getElseFail(2);
+        val deleted = bookmarkService.bookmarkForElseFail(deletedBook);
+        inventory.getProducts().remove(deletedBook);
+        repositoryService.removeAndFlush(deletedBook);
+
+        val resolved = bookmarkService.lookupAll(Arrays.asList(
+                book1,
+                deleted,
+                null,
+                Bookmark.forLogicalTypeNameAndIdentifier("NONEXISTENT", "1"),
+                book2));
+
+        assertEquals(5, resolved.size());
+        assertSame(books.getElseFail(0), resolved.get(0).orElseThrow());
+        assertEquals(Optional.empty(), resolved.get(1));
+        assertEquals(Optional.empty(), resolved.get(2));
+        assertEquals(Optional.empty(), resolved.get(3));
+        assertSame(books.getElseFail(1), resolved.get(4).orElseThrow());
+    }
+
+    @Test
+    void lookupAll_shouldHandleEmptyAndNull() {
+        assertTrue(bookmarkService.lookupAll(null).isEmpty());
+        assertTrue(bookmarkService.lookupAll(Arrays.asList()).isEmpty());
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.publishing.jpa;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.testdomain.conf.Configuration_usingJpa;
+import org.apache.isis.testdomain.jpa.JpaTestDomainPersona;
+import org.apache.isis.testdomain.jpa.entities.JpaBook;
+import org.apache.isis.testdomain.publishing.conf.Configuration_usingEntityPropertyChangePublishing;
+import org.apache.isis.testdomain.publishing.subscriber.EntityPropertyChangeSubscriberForTesting;
+import org.apache.isis.testdomain.util.dto.BookDto;
+import org.apache.isis.testdomain.util.kv.KVStoreForTesting;
+import org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScripts;
+import org.apache.isis.testing.integtestsupport.applib.IsisInteractionHandler;
+
+import lombok.val;
+
+/**
+ * Property changes that are not explicitly flushed, are flushed by EclipseLink only as part of the
+ * commit; these must be published nevertheless (within the transaction they belong to).
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+                Configuration_usingEntityPropertyChangePublishing.class,
+        })
+@TestPropertySource({
+    IsisPresets.UseLog4j2Test
+})
+@ExtendWith({IsisInteractionHandler.class})
+@DirtiesContext
+class JpaPropertyPublishingOnCommitTest {
+
+    @Inject private FixtureScripts fixtureScripts;
+    @Inject private TransactionService transactionService;
+    @Inject private RepositoryService repository;
+    @Inject private KVStoreForTesting kvStore;
+
+    @BeforeEach
+    void setUp() {
+        transactionService.runWithinCurrentTransactionElseCreateNew(()->{
+            fixtureScripts.runPersona(JpaTestDomainPersona.PurgeAll);
+            fixtureScripts.runPersona(JpaTestDomainPersona.InventoryWith1Book);
+        })
+        .optionalElseFail();
+        EntityPropertyChangeSubscriberForTesting.clearPropertyChangeEntries(kvStore);
+    }
+
+    @Test
+    void propertyChange_flushedOnlyOnCommit_shouldBePublished() {
+
+        val defaultBook = BookDto.sample();
+
+        transactionService.runWithinCurrentTransactionElseCreateNew(()->{
+            val book = repository.allInstances(JpaBook.class).get(0);
+            book.setName("Book #2"); // no explicit flush
+        })
+        .optionalElseFail();
+
+        assertEquals(
+                Can.of("Jpa Book/name: '" + defaultBook.getName() + "' -> 'Book #2'"),
+                EntityPropertyChangeSubscriberForTesting.getPropertyChangeEntries(kvStore));
+
+        // nothing must leak into the next transaction
+        EntityPropertyChangeSubscriberForTesting.clearPropertyChangeEntries(kvStore);
+        transactionService.runWithinCurrentTransactionElseCreateNew(()->{
+            repository.allInstances(JpaBook.class);
+        })
+        .optionalElseFail();
+
+        assertEquals(
+                Can.empty(),
+                EntityPropertyChangeSubscriberForTesting.getPropertyChangeEntries(kvStore));
+    }
+
+}
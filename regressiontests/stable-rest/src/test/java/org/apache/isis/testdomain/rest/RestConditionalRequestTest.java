@@ -0,0 +1,166 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.rest;
+
+import javax.inject.Inject;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import org.apache.isis.applib.services.bookmark.BookmarkService;
+import org.apache.isis.applib.services.iactnlayer.InteractionService;
+import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.testdomain.conf.Configuration_usingJdo;
+import org.apache.isis.testdomain.jdo.JdoTestDomainPersona;
+import org.apache.isis.testdomain.jdo.entities.JdoBook;
+import org.apache.isis.testdomain.util.rest.RestEndpointService;
+import org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScripts;
+import org.apache.isis.viewer.restfulobjects.jaxrsresteasy4.IsisModuleViewerRestfulObjectsJaxrsResteasy4;
+
+import lombok.val;
+
+@SpringBootTest(
+        classes = {RestEndpointService.class},
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "isis.applib.annotation.domain-object.editing=TRUE",
+        })
+@TestPropertySource(IsisPresets.UseLog4j2Test)
+@Import({
+    Configuration_usingJdo.class,
+    IsisModuleViewerRestfulObjectsJaxrsResteasy4.class
+})
+class RestConditionalRequestTest {
+
+    @Inject RestEndpointService restService;
+    @Inject FixtureScripts fixtureScripts;
+    @Inject InteractionService interactionService;
+    @Inject RepositoryService repository;
+    @Inject BookmarkService bookmarkService;
+
+    private String bookPath;
+
+    @BeforeEach
+    void setUp() {
+        bookPath = interactionService.callAnonymous(()->{
+            fixtureScripts.runPersona(JdoTestDomainPersona.PurgeAll);
+            fixtureScripts.runPersona(JdoTestDomainPersona.InventoryWith1Book);
+            val book = repository.allInstances(JdoBook.class).get(0);
+            val bookmark = bookmarkService.bookmarkForElseFail(book);
+            return String.format("objects/%s/%s", bookmark.getLogicalTypeName(), bookmark.getIdentifier());
+        });
+    }
+
+    @Test
+    void get_withMatchingIfNoneMatch_shouldRespondNotModified() {
+
+        val restfulClient = restService.newClient(false);
+
+        val response = restService.newInvocationBuilder(restfulClient, bookPath).get();
+        assertEquals(200, response.getStatus());
+        assertEquals(HttpHeaders.ACCEPT, response.getHeaderString(HttpHeaders.VARY));
+        val eTag = response.getEntityTag();
+        assertNotNull(eTag);
+
+        val notModified = restService.newInvocationBuilder(restfulClient, bookPath)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag.toString())
+                .get();
+        assertEquals(304, notModified.getStatus());
+        assertEquals(HttpHeaders.ACCEPT, notModified.getHeaderString(HttpHeaders.VARY));
+    }
+
+    @Test
+    void put_withStaleIfMatch_shouldFailPrecondition() {
+
+        val restfulClient = restService.newClient(false);
+
+        val response = restService.newInvocationBuilder(restfulClient, bookPath)
+                .header(HttpHeaders.IF_MATCH, new EntityTag("stale").toString())
+                .put(descriptionUpdate("stale update"));
+
+        assertEquals(412, response.getStatus());
+    }
+
+    @Test
+    void put_withWildcardIfMatch_shouldSucceed() {
+
+        val restfulClient = restService.newClient(false);
+
+        val response = restService.newInvocationBuilder(restfulClient, bookPath)
+                .header(HttpHeaders.IF_MATCH, "*")
+                .put(descriptionUpdate("wildcard update"));
+
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void put_roundTrip_usingETagOfPreviousResponse() {
+
+        val restfulClient = restService.newClient(false);
+
+        val initialTag = restService.newInvocationBuilder(restfulClient, bookPath).get()
+                .getEntityTag();
+        assertNotNull(initialTag);
+
+        val firstUpdate = restService.newInvocationBuilder(restfulClient, bookPath)
+                .header(HttpHeaders.IF_MATCH, initialTag.toString())
+                .put(descriptionUpdate("first update"));
+        assertEquals(200, firstUpdate.getStatus());
+        val updatedTag = firstUpdate.getEntityTag();
+        assertNotNull(updatedTag);
+        assertNotEquals(initialTag, updatedTag);
+
+        // the tag of the PUT response must match the one of a subsequent GET ...
+        assertEquals(updatedTag,
+                restService.newInvocationBuilder(restfulClient, bookPath).get().getEntityTag());
+
+        // ... hence can be used for the next update
+        val secondUpdate = restService.newInvocationBuilder(restfulClient, bookPath)
+                .header(HttpHeaders.IF_MATCH, updatedTag.toString())
+                .put(descriptionUpdate("second update"));
+        assertEquals(200, secondUpdate.getStatus());
+
+        // whereas the outdated tag must no longer match
+        val staleUpdate = restService.newInvocationBuilder(restfulClient, bookPath)
+                .header(HttpHeaders.IF_MATCH, initialTag.toString())
+                .put(descriptionUpdate("stale update"));
+        assertEquals(412, staleUpdate.getStatus());
+    }
+
+    // -- HELPER
+
+    private static Entity<String> descriptionUpdate(final String description) {
+        return Entity.entity(
+                String.format("{\"description\":{\"value\":\"%s\"},\"price\":{\"value\":99.0}}", description),
+                MediaType.APPLICATION_JSON);
+    }
+
+}
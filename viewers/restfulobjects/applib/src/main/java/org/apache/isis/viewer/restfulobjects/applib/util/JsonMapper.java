@@ -18,11 +18,15 @@
  */
 package org.apache.isis.viewer.restfulobjects.applib.util;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -59,6 +63,16 @@ public static String getEntityAsStringFrom(Response response) {
             return (String) result;
         }
 
+        if(result instanceof StreamingOutput) {
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try {
+                ((StreamingOutput) result).write(buffer);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+        }
+
         // TODO [andi-huber] just a wild guess
         return response.readEntity(String.class);
 
@@ -150,4 +164,14 @@ public String write(final Object object) throws JsonGenerationException, JsonMap
         return objectMapper.writeValueAsString(object);
     }
 
+    /**
+     * Serializes given {@code object} as UTF-8 encoded JSON directly onto given {@link OutputStream},
+     * without closing it; the bytes written are the same as those of {@link #write(Object)}.
+     */
+    public void write(final Object object, final OutputStream outputStream) throws JsonGenerationException, JsonMappingException, IOException {
+        objectMapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .writeValue(outputStream, object);
+    }
+
 }
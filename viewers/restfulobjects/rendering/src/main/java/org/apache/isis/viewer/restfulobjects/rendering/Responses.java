@@ -81,7 +81,9 @@ public static Response.ResponseBuilder ofOk(
                 .header("Date", dateFormat.format(now))
                 .type(mediaType)
                 .cacheControl(caching.getCacheControl())
-                .entity(JsonWriterUtil.jsonFor(entityRepresentation, inferPrettyPrinting(renderer)));
+                .entity(inferStreamingRendering(renderer)
+                        ? JsonWriterUtil.streamingJsonFor(entityRepresentation, inferPrettyPrinting(renderer))
+                        : JsonWriterUtil.jsonFor(entityRepresentation, inferPrettyPrinting(renderer)));
 
         return response;
     }
@@ -119,4 +121,16 @@ public static JsonMapper.PrettyPrinting inferPrettyPrinting(final ReprRenderer<?
 
     }
 
+    public static boolean inferStreamingRendering(final ReprRenderer<?> renderer) {
+
+        if(renderer instanceof ReprRendererAbstract) {
+            return ((ReprRendererAbstract<?>) renderer).getResourceContext()
+                    .getMetaModelContext().getConfiguration()
+                    .getViewer().getRestfulobjects().isStreamingRendering();
+        }
+
+        return false;
+
+    }
+
 }
@@ -30,6 +30,8 @@
 import org.apache.isis.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkFollowSpecs;
 import org.apache.isis.viewer.restfulobjects.rendering.ReprRendererAbstract;
+import org.apache.isis.viewer.restfulobjects.rendering.Responses;
+import org.apache.isis.viewer.restfulobjects.rendering.util.JsonArrayRenderedOnWrite;
 
 public class ListReprRenderer
 extends ReprRendererAbstract<Stream<ManagedObject>> {
@@ -100,28 +102,33 @@ private void addValue() {
             return;
         }
 
-        final JsonRepresentation values = JsonRepresentation.newArray();
-
-        objectAdapters
-        .forEach(adapter->{
-            final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
-            values.arrayAdd(linkToObject);
-
-            final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
-            if (linkFollower.matches(linkToObject)) {
-                final DomainObjectReprRenderer renderer =
-                        new DomainObjectReprRenderer(
-                                getResourceContext(),
-                                linkFollower,
-                                JsonRepresentation.newMap());
-                final JsonRepresentation domainObject = renderer.with(adapter).render();
-                linkToObject.mapPut("value", domainObject);
-            }
-        });
+        if(Responses.inferStreamingRendering(this)) {
+            // elements are rendered one at a time, while the response is written
+            representation.mapPut("value", JsonArrayRenderedOnWrite.of(objectAdapters, this::renderElement));
+            return;
+        }
 
+        final JsonRepresentation values = JsonRepresentation.newArray();
+        objectAdapters.forEach(adapter->values.arrayAdd(renderElement(adapter)));
         representation.mapPut("value", values);
     }
 
+    private JsonRepresentation renderElement(final ManagedObject adapter) {
+        final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
+
+        final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
+        if (linkFollower.matches(linkToObject)) {
+            final DomainObjectReprRenderer renderer =
+                    new DomainObjectReprRenderer(
+                            getResourceContext(),
+                            linkFollower,
+                            JsonRepresentation.newMap());
+            final JsonRepresentation domainObject = renderer.with(adapter).render();
+            linkToObject.mapPut("value", domainObject);
+        }
+        return linkToObject;
+    }
+
 
     protected void addLinkToReturnType() {
         addLink(Rel.RETURN_TYPE, returnType);
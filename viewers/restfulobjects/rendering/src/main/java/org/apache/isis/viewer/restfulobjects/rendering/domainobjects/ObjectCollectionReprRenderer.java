@@ -20,6 +20,7 @@
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 import org.apache.isis.applib.annotation.Where;
 import org.apache.isis.commons.internal.collections._Lists;
@@ -35,7 +36,9 @@
 import org.apache.isis.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkBuilder;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.isis.viewer.restfulobjects.rendering.Responses;
 import org.apache.isis.viewer.restfulobjects.rendering.domaintypes.CollectionDescriptionReprRenderer;
+import org.apache.isis.viewer.restfulobjects.rendering.util.JsonArrayRenderedOnWrite;
 
 import lombok.val;
 
@@ -102,10 +105,7 @@ private void addValue(final LinkFollowSpecs linkFollower) {
                 && renderEagerly(valueAdapter)
                 || !followHref.isTerminated();
 
-        final List<JsonRepresentation> list = _Lists.newArrayList();
-
-        CollectionFacet.streamAdapters(valueAdapter)
-        .forEach(elementAdapter->{
+        final Function<ManagedObject, JsonRepresentation> elementRenderer = elementAdapter->{
             final LinkBuilder valueLinkBuilder = DomainObjectReprRenderer
                     .newLinkToBuilder(resourceContext, Rel.VALUE, elementAdapter);
             if(eagerlyRender) {
@@ -118,9 +118,21 @@ && renderEagerly(valueAdapter)
 
                 valueLinkBuilder.withValue(domainObjectReprRenderer.render());
             }
+            return valueLinkBuilder.build();
+        };
+
+        if(Responses.inferStreamingRendering(this)
+                && !mode.isEventSerialization()) {
+            // elements are rendered one at a time, while the response is written
+            final Iterable<ManagedObject> elements = ()->CollectionFacet.streamAdapters(valueAdapter).iterator();
+            representation.mapPut("value", JsonArrayRenderedOnWrite.of(elements, elementRenderer));
+            return;
+        }
 
-            list.add(valueLinkBuilder.build());
-        });
+        final List<JsonRepresentation> list = _Lists.newArrayList();
+        CollectionFacet.streamAdapters(valueAdapter)
+        .map(elementRenderer)
+        .forEach(list::add);
 
         representation.mapPut("value", list);
     }
@@ -18,39 +18,83 @@
  */
 package org.apache.isis.viewer.restfulobjects.rendering.service.swagger;
 
-import lombok.val;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
 
 import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.iactnlayer.InteractionService;
 import org.apache.isis.applib.services.swagger.Format;
 import org.apache.isis.applib.services.swagger.SwaggerService;
 import org.apache.isis.applib.services.swagger.Visibility;
 import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.hash._Hashes;
+import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.config.RestEasyConfiguration;
 import org.apache.isis.core.config.viewer.web.WebAppContextPath;
+import org.apache.isis.core.metamodel.events.MetamodelEvent;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
 import org.apache.isis.viewer.restfulobjects.rendering.service.swagger.internal.SwaggerSpecGenerator;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.stereotype.Service;
 
-import javax.annotation.Priority;
-import javax.inject.Inject;
-import javax.inject.Named;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
+/**
+ * Generates Swagger specs, which are cached per visibility and format (the base path being fixed),
+ * as the metamodel does not change after bootstrapping; unless a specification gets reloaded,
+ * in which case the specs are regenerated on next request.
+ */
 @Service
 @Named("isis.metamodel.swaggerServiceDefault")
 @Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Default")
+@Log4j2
 public class SwaggerServiceDefault implements SwaggerService {
 
+    @Value
+    private static class Key {
+        private final Visibility visibility;
+        private final Format format;
+    }
+
+    @Value
+    private static class CachedSpec {
+        private final long metaModelVersion;
+        private final String spec;
+        private final String eTag;
+    }
+
     private final SwaggerSpecGenerator swaggerSpecGenerator;
+    private final SpecificationLoader specificationLoader;
+    private final InteractionService interactionService;
+    private final boolean eagerlyGenerate;
     private final String basePath;
 
+    private final Map<Key, CachedSpec> specsByKey = _Maps.newConcurrentHashMap();
+
     @Inject
     public SwaggerServiceDefault(
             final SwaggerSpecGenerator swaggerSpecGenerator,
+            final SpecificationLoader specificationLoader,
+            final InteractionService interactionService,
+            final IsisConfiguration isisConfiguration,
             final RestEasyConfiguration restEasyConfiguration,
             final WebAppContextPath webAppContextPath) {
 
         this.swaggerSpecGenerator = swaggerSpecGenerator;
+        this.specificationLoader = specificationLoader;
+        this.interactionService = interactionService;
+        this.eagerlyGenerate = isisConfiguration.getViewer().getRestfulobjects().getSwagger().isEagerlyGenerate();
 
         val restfulPath = restEasyConfiguration.getJaxrs().getDefaultPath();
         val restfulBase = webAppContextPath.prependContextPath(restfulPath);
@@ -62,7 +106,64 @@ public SwaggerServiceDefault(
     public String generateSwaggerSpec(
             final Visibility visibility,
             final Format format) {
-        return swaggerSpecGenerator.generate(basePath, visibility, format);
+        return cachedSpec(visibility, format).getSpec();
+    }
+
+    @Override
+    public TaggedSpec generateSwaggerSpecWithETag(
+            final Visibility visibility,
+            final Format format) {
+        val cached = cachedSpec(visibility, format);
+        return TaggedSpec.of(cached.getSpec(), cached.getETag());
+    }
+
+    @EventListener(MetamodelEvent.class)
+    public void onMetamodelEvent(final MetamodelEvent event) {
+        if(!eagerlyGenerate
+                || !event.isPostMetamodel()) {
+            return;
+        }
+        val thread = new Thread(this::generateAll, "isis-swagger-spec-generator");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // -- HELPER
+
+    private CachedSpec cachedSpec(
+            final Visibility visibility,
+            final Format format) {
+        val key = new Key(visibility, format);
+        val metaModelVersion = specificationLoader.getMetaModelVersion();
+        val cached = specsByKey.get(key);
+        if(cached != null
+                && cached.getMetaModelVersion() == metaModelVersion) {
+            return cached;
+        }
+        // concurrent requests might generate the same spec more than once, which is harmless
+        val spec = swaggerSpecGenerator.generate(basePath, visibility, format);
+        val generated = new CachedSpec(metaModelVersion, spec, eTagOf(metaModelVersion, spec));
+        specsByKey.put(key, generated);
+        return generated;
+    }
+
+    private void generateAll() {
+        interactionService.runAnonymousAndCatch(()->{
+            for (val visibility : Visibility.values()) {
+                for (val format : Format.values()) {
+                    cachedSpec(visibility, format);
+                }
+            }
+        })
+        .ifSuccess(__->log.info("eagerly generated swagger specs"))
+        .ifFailure(failure->log.warn("failed to eagerly generate swagger specs", failure));
+    }
+
+    private static String eTagOf(final long metaModelVersion, final String spec) {
+        return _Hashes.digest(_Hashes.Algorithm.SHA256, spec.getBytes(StandardCharsets.UTF_8))
+                .map(Base64.getUrlEncoder().withoutPadding()::encodeToString)
+                .orElseGet(()->Integer.toHexString(spec.hashCode()))
+                + "-" + metaModelVersion;
     }
 
 }
@@ -0,0 +1,69 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering.util;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * A JSON array, whose elements are rendered only once it gets serialized, one at a time, each written
+ * through the {@link JsonGenerator} and then discarded; to be put as a (POJO) value into a
+ * {@link JsonRepresentation}.
+ * <p>
+ * Hence the heap held on to while writing the response no longer grows with the number of elements
+ * (other than for the elements themselves), as opposed to the tree of an eagerly rendered array.
+ * As with {@link JsonWriterUtil#streamingJsonFor}, rendering happens
+ * when the JAX-RS runtime writes the response (still within the request's interaction and transaction),
+ * and again each time the representation is serialized.
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class JsonArrayRenderedOnWrite<T> implements JsonSerializable {
+
+    private final @NonNull Iterable<T> elements;
+    private final @NonNull Function<T, JsonRepresentation> elementRenderer;
+
+    @Override
+    public void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+        gen.writeStartArray();
+        for (val element : elements) {
+            gen.writeTree(elementRenderer.apply(element).asJsonNode());
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(
+            final JsonGenerator gen,
+            final SerializerProvider serializers,
+            final TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+}
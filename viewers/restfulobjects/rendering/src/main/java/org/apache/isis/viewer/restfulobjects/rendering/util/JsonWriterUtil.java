@@ -20,13 +20,19 @@
 
 import java.io.IOException;
 
+import javax.ws.rs.core.StreamingOutput;
+
 import org.springframework.lang.Nullable;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+
 import org.apache.isis.core.config.environment.IsisSystemEnvironment;
 import org.apache.isis.viewer.restfulobjects.applib.util.JsonMapper;
 
 import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
+@Log4j2
 public final class JsonWriterUtil {
 
     private JsonWriterUtil(){}
@@ -46,5 +52,27 @@ public static String jsonFor(Object object, @Nullable IsisSystemEnvironment syst
         return jsonFor(object, prettyPrinting);
     }
 
+    /**
+     * As per {@link #jsonFor(Object, JsonMapper.PrettyPrinting)}, however deferring serialization until the
+     * JAX-RS runtime writes the response, then writing directly to the response's output stream.
+     *
+     * <p>
+     *     By then the status and headers are already committed, so a serialization failure can no longer
+     *     be turned into an error response; the client receives a truncated body instead (which is logged).
+     * </p>
+     */
+    public static StreamingOutput streamingJsonFor(Object object, JsonMapper.PrettyPrinting prettyPrinting) {
+        val jsonMapper = JsonMapper.instance(prettyPrinting);
+        return outputStream->{
+            try {
+                jsonMapper.write(object, outputStream);
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.error("failed to serialize representation after the response was committed; "
+                        + "the client receives a truncated body", e);
+                throw e;
+            }
+        };
+    }
+
 
 }
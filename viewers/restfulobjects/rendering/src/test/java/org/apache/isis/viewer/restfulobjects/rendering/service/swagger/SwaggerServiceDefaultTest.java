@@ -0,0 +1,135 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering.service.swagger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.isis.applib.services.swagger.Format;
+import org.apache.isis.applib.services.swagger.Visibility;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.config.RestEasyConfiguration;
+import org.apache.isis.core.config.viewer.web.WebAppContextPath;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.viewer.restfulobjects.rendering.service.swagger.internal.SwaggerSpecGenerator;
+
+import lombok.val;
+
+public class SwaggerServiceDefaultTest {
+
+    @Rule public JUnitRuleMockery2 context =
+            JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    @Mock private SpecificationLoader mockSpecificationLoader;
+
+    private final AtomicLong metaModelVersion = new AtomicLong();
+    private final AtomicInteger generationCount = new AtomicInteger();
+
+    private SwaggerServiceDefault swaggerService;
+
+    @Before
+    public void setUp() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockSpecificationLoader).getMetaModelVersion();
+            will(new CustomAction("current metamodel version") {
+                @Override
+                public Object invoke(final Invocation invocation) {
+                    return metaModelVersion.get();
+                }
+            });
+        }});
+
+        // generates a spec, that depends on the metamodel version, as would be the case after a reload
+        val swaggerSpecGenerator = new SwaggerSpecGenerator(null, null, null, null) {
+            @Override
+            public String generate(final String basePath, final Visibility visibility, final Format format) {
+                generationCount.incrementAndGet();
+                return String.format("%s %s %s v%d", basePath, visibility, format, metaModelVersion.get());
+            }
+        };
+
+        swaggerService = new SwaggerServiceDefault(
+                swaggerSpecGenerator,
+                mockSpecificationLoader,
+                null,
+                new IsisConfiguration(null),
+                new RestEasyConfiguration(),
+                new WebAppContextPath());
+    }
+
+    @Test
+    public void spec_isGeneratedOnce_perVisibilityAndFormat() throws Exception {
+        assertThat(swaggerService.generateSwaggerSpec(Visibility.PUBLIC, Format.JSON),
+                is("/restful/ PUBLIC JSON v0"));
+        swaggerService.generateSwaggerSpec(Visibility.PUBLIC, Format.JSON);
+        swaggerService.generateSwaggerSpecWithETag(Visibility.PUBLIC, Format.JSON).getETag();
+        assertThat(generationCount.get(), is(1));
+
+        swaggerService.generateSwaggerSpec(Visibility.PUBLIC, Format.YAML);
+        swaggerService.generateSwaggerSpec(Visibility.PRIVATE, Format.JSON);
+        assertThat(generationCount.get(), is(3));
+    }
+
+    @Test
+    public void eTag_isStable_andDiffersPerSpec() throws Exception {
+        final String eTag = swaggerService.generateSwaggerSpecWithETag(Visibility.PUBLIC, Format.JSON).getETag();
+
+        assertThat(swaggerService.generateSwaggerSpecWithETag(Visibility.PUBLIC, Format.JSON).getETag(), is(eTag));
+        assertThat(swaggerService.generateSwaggerSpecWithETag(Visibility.PUBLIC, Format.YAML).getETag(), is(not(eTag)));
+        assertThat(swaggerService.generateSwaggerSpecWithETag(Visibility.PRIVATE, Format.JSON).getETag(), is(not(eTag)));
+    }
+
+    @Test
+    public void specAndETag_areReturnedTogether() throws Exception {
+        val taggedSpec = swaggerService.generateSwaggerSpecWithETag(Visibility.PUBLIC, Format.JSON);
+
+        metaModelVersion.incrementAndGet();
+        val regenerated = swaggerService.generateSwaggerSpecWithETag(Visibility.PUBLIC, Format.JSON);
+
+        assertThat(taggedSpec.getSpec(), is("/restful/ PUBLIC JSON v0"));
+        assertThat(regenerated.getSpec(), is("/restful/ PUBLIC JSON v1"));
+        assertThat(regenerated.getETag(), is(not(taggedSpec.getETag())));
+    }
+
+    @Test
+    public void cache_isInvalidated_whenMetaModelVersionChanges() throws Exception {
+        final String eTag = swaggerService.generateSwaggerSpecWithETag(Visibility.PUBLIC, Format.JSON).getETag();
+
+        metaModelVersion.incrementAndGet();
+
+        assertThat(swaggerService.generateSwaggerSpec(Visibility.PUBLIC, Format.JSON),
+                is("/restful/ PUBLIC JSON v1"));
+        assertThat(swaggerService.generateSwaggerSpecWithETag(Visibility.PUBLIC, Format.JSON).getETag(), is(not(eTag)));
+        assertThat(generationCount.get(), is(2));
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.core.internaltestsupport.benchmark.MicroBenchmark;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.util.JsonMapper;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import lombok.val;
+
+public class JsonWriterUtilTest {
+
+    private static final int COLLECTION_SIZE = 10_000;
+
+    private JsonRepresentation representation;
+
+    @Before
+    public void setUp() throws Exception {
+        representation = collectionOf(COLLECTION_SIZE);
+    }
+
+    @Test
+    public void streaming_is_byte_identical_when_pretty_printing() throws Exception {
+        assertByteIdentical(JsonMapper.PrettyPrinting.ENABLE);
+    }
+
+    @Test
+    public void streaming_is_byte_identical_when_not_pretty_printing() throws Exception {
+        assertByteIdentical(JsonMapper.PrettyPrinting.DISABLE);
+    }
+
+    @Test
+    public void arrayRenderedOnWrite_is_byte_identical_to_eagerly_rendered_array() throws Exception {
+        for (val prettyPrinting : JsonMapper.PrettyPrinting.values()) {
+            val expected = JsonWriterUtil.jsonFor(representation, prettyPrinting).getBytes(StandardCharsets.UTF_8);
+
+            val buffer = new ByteArrayOutputStream();
+            JsonWriterUtil.streamingJsonFor(collectionRenderedOnWrite(COLLECTION_SIZE), prettyPrinting).write(buffer);
+
+            assertThat(buffer.toByteArray(), is(expected));
+        }
+    }
+
+    /**
+     * Compares the peak heap held on to while streaming an eagerly rendered collection, as opposed to one
+     * whose elements are rendered on write, for growing collection sizes;
+     * run with <code>-Disis.benchmark=true -Xmn16m</code>.
+     */
+    @Test
+    public void benchmark_peakHeap_againstCollectionSize() throws Exception {
+        assumeTrue(MicroBenchmark.isEnabled());
+
+        val prettyPrinting = JsonMapper.PrettyPrinting.DISABLE;
+        val sink = new CountingOutputStream();
+
+        for (val size : new int[] {1_000, 10_000, 100_000}) {
+            val eager = MicroBenchmark.peakHeapUsage(()->
+                JsonWriterUtil.streamingJsonFor(collectionOf(size), prettyPrinting).write(sink));
+            val onWrite = MicroBenchmark.peakHeapUsage(()->
+                JsonWriterUtil.streamingJsonFor(collectionRenderedOnWrite(size), prettyPrinting).write(sink));
+            System.out.printf("%,9d elements: peak heap eager %,14d bytes, rendered on write %,14d bytes%n",
+                    size, eager, onWrite);
+        }
+    }
+
+    /**
+     * Compares both rendering modes on a 10k-element collection, each op building the representation
+     * and writing it out (as Responses#ofOk does); run with <code>-Disis.benchmark=true</code>.
+     */
+    @Test
+    public void benchmark() throws Exception {
+        assumeTrue(MicroBenchmark.isEnabled());
+
+        val prettyPrinting = JsonMapper.PrettyPrinting.DISABLE;
+        val sink = new CountingOutputStream();
+
+        final MicroBenchmark.Task stringMode = ()->
+            sink.write(JsonWriterUtil.jsonFor(collectionOf(COLLECTION_SIZE), prettyPrinting)
+                    .getBytes(StandardCharsets.UTF_8));
+        final MicroBenchmark.Task streamingMode = ()->
+            JsonWriterUtil.streamingJsonFor(collectionOf(COLLECTION_SIZE), prettyPrinting).write(sink);
+        final MicroBenchmark.Task buildOnly = ()->
+            collectionOf(COLLECTION_SIZE);
+
+        benchmark("string").run(stringMode);
+        benchmark("streaming").run(streamingMode);
+        benchmark("build").run(buildOnly);
+    }
+
+    // -- HELPER
+
+    private void assertByteIdentical(final JsonMapper.PrettyPrinting prettyPrinting) throws Exception {
+        val expected = JsonWriterUtil.jsonFor(representation, prettyPrinting).getBytes(StandardCharsets.UTF_8);
+
+        val buffer = new ByteArrayOutputStream();
+        JsonWriterUtil.streamingJsonFor(representation, prettyPrinting).write(buffer);
+
+        assertThat(buffer.toByteArray(), is(expected));
+    }
+
+    private static JsonRepresentation collectionOf(final int size) {
+        val value = JsonRepresentation.newArray();
+        for (int i = 0; i < size; i++) {
+            value.arrayAdd(linkTo(i));
+        }
+        return collectionWithValue(value);
+    }
+
+    private static JsonRepresentation collectionRenderedOnWrite(final int size) {
+        final Iterable<Integer> indices = ()->IntStream.range(0, size).iterator();
+        return collectionWithValue(JsonArrayRenderedOnWrite.of(indices, JsonWriterUtilTest::linkTo));
+    }
+
+    private static JsonRepresentation collectionWithValue(final Object value) {
+        val collection = JsonRepresentation.newMap();
+        collection.mapPut("id", "customers");
+        collection.mapPut("memberType", "collection");
+        if(value instanceof JsonRepresentation) {
+            collection.mapPut("value", (JsonRepresentation) value);
+        } else {
+            collection.mapPut("value", value);
+        }
+        return collection;
+    }
+
+    private static JsonRepresentation linkTo(final int i) {
+        val link = JsonRepresentation.newMap();
+        link.mapPut("rel", "urn:org.restfulobjects:rels/element");
+        link.mapPut("href", "http://localhost:8080/restful/objects/customer/" + i);
+        link.mapPut("method", "GET");
+        link.mapPut("type", "application/json;profile=\"urn:org.restfulobjects:repr-types/object\"");
+        link.mapPut("title", "Customer äöü #" + i);
+        return link;
+    }
+
+    private static MicroBenchmark benchmark(final String label) {
+        return MicroBenchmark.builder()
+                .label(label)
+                .warmupIterations(50)
+                .iterations(200)
+                .build();
+    }
+
+    private static class CountingOutputStream extends java.io.OutputStream {
+        long count;
+        @Override public void write(final int b) { count++; }
+        @Override public void write(final byte[] b, final int off, final int len) { count += len; }
+    }
+
+}
@@ -20,6 +20,7 @@
 
 import java.io.InputStream;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
@@ -183,7 +184,7 @@ public Response object(
         val domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "GET /objects/{}/{}", domainType, instanceId,
-                domainResourceHelper.objectRepresentation());
+                entityTags().conditionally(objectAdapter, domainResourceHelper::objectRepresentation));
     }
 
 
@@ -214,6 +215,9 @@ public Response object(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}", domainType, instanceId, roEx));
+        verifyIfMatch(objectAdapter,
+                roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}", domainType, instanceId, roEx));
+
         final ObjectAdapterUpdateHelper updateHelper = new ObjectAdapterUpdateHelper(resourceContext, objectAdapter);
 
         if (!updateHelper.copyOverProperties(argRepr, ObjectAdapterUpdateHelper.Intent.UPDATE_EXISTING)) {
@@ -231,10 +235,13 @@ public Response object(
                             HttpStatusCode.BAD_REQUEST, argRepr, validity.getReason()));
         }
 
+        // the version attribute is only bumped once the changes are flushed, so flush before tagging
+        metaModelContext.getTransactionService().flushTransaction();
+
         val domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "PUT /objects/{}/{}", domainType, instanceId,
-                domainResourceHelper.objectRepresentation());
+                entityTags().tagged(objectAdapter, domainResourceHelper.objectRepresentation()));
     }
 
     @DELETE
@@ -456,6 +463,8 @@ public Response modifyProperty(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
+        verifyIfMatch(objectAdapter,
+                roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
 
         PropertyInteraction.start(objectAdapter, propertyId, resourceContext.getWhere())
         .checkVisibility()
@@ -493,6 +502,8 @@ public Response clearProperty(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "DELETE /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
+        verifyIfMatch(objectAdapter,
+                roEx->_EndpointLogging.error(log, "DELETE /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
 
         PropertyInteraction.start(objectAdapter, propertyId, resourceContext.getWhere())
         .checkVisibility()
@@ -791,4 +802,28 @@ public Response deleteInvokeActionNotAllowed(
                         "Deleting an action invocation resource is not allowed."));
     }
 
+    // -- HELPER
+
+    private void verifyIfMatch(
+            final ManagedObject objectAdapter,
+            final UnaryOperator<RestfulObjectsApplicationException> onRoException) {
+        entityTags().verifyIfMatch(objectAdapter,
+                ()->_DomainResourceHelper
+                    .ofObjectResource(
+                            createResourceContext(
+                                    RepresentationType.DOMAIN_OBJECT,
+                                    Where.OBJECT_FORMS,
+                                    RepresentationService.Intent.ALREADY_PERSISTENT),
+                            objectAdapter)
+                    .objectRepresentation(),
+                onRoException);
+    }
+
+    private _EntityTags entityTags() {
+        return _EntityTags.of(httpHeaders, request,
+                iInteractionLayerTracker.currentInteractionContext()
+                    .map(interactionContext->interactionContext.getUser().getName())
+                    .orElse(""));
+    }
+
 }
@@ -28,14 +28,18 @@
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 
 import org.springframework.stereotype.Component;
 
 import org.apache.isis.applib.services.iactnlayer.InteractionService;
 import org.apache.isis.applib.services.swagger.Format;
 import org.apache.isis.applib.services.swagger.SwaggerService;
+import org.apache.isis.applib.services.swagger.SwaggerService.TaggedSpec;
 import org.apache.isis.applib.services.swagger.Visibility;
 
 import lombok.RequiredArgsConstructor;
@@ -52,6 +56,7 @@ public class SwaggerSpecResource {
 
     @Context HttpHeaders httpHeaders;
     @Context HttpServletRequest httpServletRequest;
+    @Context Request request;
 
     @Inject
     public SwaggerSpecResource(
@@ -68,8 +73,8 @@ public SwaggerSpecResource(
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrivate() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/private",
+    public Response swaggerPrivate() {
+        return _EndpointLogging.response(log, "GET /swagger/private",
                 swagger(Visibility.PRIVATE));
     }
 
@@ -79,8 +84,8 @@ public String swaggerPrivate() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrototyping() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/prototyping",
+    public Response swaggerPrototyping() {
+        return _EndpointLogging.response(log, "GET /swagger/prototyping",
                 swagger(Visibility.PRIVATE_WITH_PROTOTYPING));
     }
 
@@ -90,20 +95,39 @@ public String swaggerPrototyping() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPublic() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/public",
+    public Response swaggerPublic() {
+        return _EndpointLogging.response(log, "GET /swagger/public",
                 swagger(Visibility.PUBLIC));
     }
 
     // -- HELPER
 
-    private String swagger(final Visibility visibility) {
+    /**
+     * Responds with {@code 304 Not Modified}, if the client already holds the current version of the spec
+     * (as identified by its entity tag), otherwise with the spec itself.
+     * <p>
+     * As the format of the spec is negotiated via the {@code Accept} header, both responses
+     * carry {@code Vary: Accept}, so that caches don't serve the JSON spec for a YAML request or vice versa.
+     */
+    private Response swagger(final Visibility visibility) {
 
         val format = deriveFrom(httpHeaders);
         val callable = new MyCallable(swaggerService, visibility, format);
 
-        val spec = interactionService.callAnonymous(callable);
-        return spec;
+        // spec and tag from a single call, so these always match, even if the spec is concurrently regenerated
+        val taggedSpec = interactionService.callAnonymous(callable);
+        val eTag = new EntityTag(taggedSpec.getETag());
+
+        val notModified = request.evaluatePreconditions(eTag);
+        if(notModified != null) {
+            return notModified
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .build();
+        }
+        return Response.ok(taggedSpec.getSpec())
+                .tag(eTag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .build();
     }
 
     private Format deriveFrom(final HttpHeaders httpHeaders) {
@@ -125,15 +149,15 @@ private Format deriveFrom(final HttpHeaders httpHeaders) {
     }
 
     @RequiredArgsConstructor
-    static class MyCallable implements Callable<String> {
+    static class MyCallable implements Callable<TaggedSpec> {
 
         private final SwaggerService swaggerService;
         private final Visibility visibility;
         private final Format format;
 
         @Override
-        public String call() throws Exception {
-            return swaggerService.generateSwaggerSpec(visibility, format);
+        public TaggedSpec call() throws Exception {
+            return swaggerService.generateSwaggerSpecWithETag(visibility, format);
         }
 
     }
@@ -0,0 +1,245 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.viewer.resources;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
+import org.apache.isis.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Computes entity tags for domain object representations, to support conditional requests:
+ * <code>If-None-Match</code> (responding with <i>304 Not Modified</i>) and
+ * <code>If-Match</code> (optimistic concurrency, responding with <i>412 Precondition Failed</i>).
+ * <p>
+ * Entities declaring a version attribute (JPA {@code @Version}, JDO {@code @Version}), whose representation
+ * is fully determined by their own persistent state, are tagged by that version, which is cheap, as no rendering
+ * is involved. As the rendered representation
+ * also depends on the negotiated media type and on what the current user is allowed to see, the version tag
+ * is computed from the version, the acceptable media types and the user name; responses carry
+ * <code>Vary: Accept</code> accordingly.
+ * <p>
+ * Any other object is tagged by a hash of its rendered representation. This includes entities with
+ * <ul>
+ * <li>collections, because adding to or removing from a collection does not necessarily bump the owner's version,</li>
+ * <li>mixed-in or non-persisted (derived) properties, which are computed rather than stored,</li>
+ * <li>reference properties, because these are rendered with the referenced object's title, which may change
+ * without bumping the owner's version.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor(staticName = "of")
+class _EntityTags {
+
+    private final @NonNull HttpHeaders httpHeaders;
+    private final @NonNull Request request;
+    private final @NonNull String userName;
+
+    /**
+     * Renders given object using given {@code renderer}, unless the request's preconditions evaluate against
+     * the object's current entity tag, in which case responds with either <i>304 Not Modified</i>
+     * or <i>412 Precondition Failed</i>.
+     */
+    Response conditionally(
+            final ManagedObject objectAdapter,
+            final Supplier<Response> renderer) {
+
+        val versionTag = versionTagOf(objectAdapter).orElse(null);
+        if(versionTag != null) {
+            val preconditionsFailed = request.evaluatePreconditions(versionTag);
+            if(preconditionsFailed != null) {
+                return varyingByAccept(preconditionsFailed).build();
+            }
+            return tagged(renderer.get(), versionTag);
+        }
+
+        val response = renderer.get();
+        val contentTag = contentTagOf(response).orElse(null);
+        if(contentTag == null) {
+            return response;
+        }
+        val preconditionsFailed = request.evaluatePreconditions(contentTag);
+        if(preconditionsFailed != null) {
+            return varyingByAccept(preconditionsFailed).build();
+        }
+        return tagged(response, contentTag);
+    }
+
+    /**
+     * If the request has an <code>If-Match</code> header, verifies that it matches the object's current entity tag,
+     * otherwise throws, resulting in a <i>412 Precondition Failed</i> response.
+     * <p>
+     * <code>If-Match: *</code> matches any existing object.
+     *
+     * @param currentRepresentation - renders the object as per <code>GET</code>; only called
+     *      if the object is not tagged by its version
+     */
+    void verifyIfMatch(
+            final ManagedObject objectAdapter,
+            final Supplier<Response> currentRepresentation,
+            final UnaryOperator<RestfulObjectsApplicationException> onRoException) {
+
+        val ifMatch = httpHeaders.getHeaderString(HttpHeaders.IF_MATCH);
+        if(ifMatch == null
+                || ifMatch.trim().equals("*")) {
+            return;
+        }
+
+        val currentTag = versionTagOf(objectAdapter)
+                .or(()->contentTagOf(currentRepresentation.get()))
+                .orElse(null);
+
+        if(currentTag == null
+                || request.evaluatePreconditions(currentTag) != null) {
+            throw onRoException.apply(
+                    RestfulObjectsApplicationException
+                    .createWithMessage(HttpStatusCode.PRECONDITION_FAILED,
+                            "Object has been modified since (If-Match: %s)",
+                            ifMatch));
+        }
+    }
+
+    /**
+     * Tags given response with the object's current entity tag, if it can be determined.
+     * <p>
+     * Any pending changes must have been flushed already, so that the version attribute is up to date.
+     */
+    Response tagged(
+            final ManagedObject objectAdapter,
+            final Response response) {
+        return versionTagOf(objectAdapter)
+                .or(()->contentTagOf(response))
+                .map(eTag->tagged(response, eTag))
+                .orElse(response);
+    }
+
+    // -- HELPER
+
+    private Optional<EntityTag> versionTagOf(final ManagedObject objectAdapter) {
+        val spec = objectAdapter.getSpecification();
+        if(!isRepresentationDeterminedByVersion(spec)) {
+            return Optional.empty();
+        }
+        return spec.lookupFacet(EntityFacet.class)
+                .flatMap(entityFacet->entityFacet.versionOf(objectAdapter.getPojo()))
+                .map(version->String.format("%s:%s:%s:%s:%s",
+                        spec.getLogicalTypeName(),
+                        objectAdapter.getBookmark().map(Bookmark::getIdentifier).orElse(""),
+                        version,
+                        userName,
+                        httpHeaders.getAcceptableMediaTypes().stream()
+                            .map(MediaType::toString)
+                            .collect(Collectors.joining(","))))
+                .map(versionLiteral->entityTag(versionLiteral.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Whether the rendered representation of instances of given type changes only if their version changes,
+     * that is, there are no collections, no mixed-in or non-persisted properties
+     * and no properties referencing other objects.
+     */
+    private static boolean isRepresentationDeterminedByVersion(final ObjectSpecification spec) {
+        if(spec.streamCollections(MixedIn.INCLUDED).findAny().isPresent()) {
+            return false;
+        }
+        return spec.streamProperties(MixedIn.INCLUDED)
+                .noneMatch(property->property.isMixedIn()
+                        || property.isNotPersisted()
+                        || !property.getElementType().isValue());
+    }
+
+    private static Optional<EntityTag> contentTagOf(final Response response) {
+        if(response.getStatus() != HttpStatusCode.OK.getStatusCode()) {
+            return Optional.empty();
+        }
+        val entity = response.getEntity();
+        if(entity instanceof String) {
+            return Optional.of(entityTag(((String) entity).getBytes(StandardCharsets.UTF_8)));
+        }
+        if(entity instanceof StreamingOutput) {
+            val digest = sha256();
+            try(final OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                ((StreamingOutput) entity).write(out);
+            } catch (IOException e) {
+                throw _Exceptions.unrecoverable(e);
+            }
+            return Optional.of(entityTag(digest));
+        }
+        // eg. XML representations (DTOs), which we don't hash
+        return Optional.empty();
+    }
+
+    private static Response tagged(final Response response, final EntityTag eTag) {
+        if(response.getStatus() != HttpStatusCode.OK.getStatusCode()) {
+            return response;
+        }
+        return varyingByAccept(Response.fromResponse(response))
+                .tag(eTag)
+                .build();
+    }
+
+    private static Response.ResponseBuilder varyingByAccept(final Response.ResponseBuilder responseBuilder) {
+        return responseBuilder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+
+    private static EntityTag entityTag(final byte[] bytes) {
+        val digest = sha256();
+        digest.update(bytes);
+        return entityTag(digest);
+    }
+
+    private static EntityTag entityTag(final MessageDigest digest) {
+        return new EntityTag(Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw _Exceptions.unrecoverable(e);
+        }
+    }
+
+}
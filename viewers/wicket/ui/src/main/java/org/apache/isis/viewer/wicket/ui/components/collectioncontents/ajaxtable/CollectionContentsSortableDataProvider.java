@@ -26,10 +26,8 @@
 import org.apache.wicket.extensions.markup.html.repeater.util.SortableDataProvider;
 import org.apache.wicket.model.IModel;
 
-import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.metamodel.interactions.managed.nonscalar.DataRow;
 import org.apache.isis.core.metamodel.interactions.managed.nonscalar.DataTableModel;
-import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.isis.viewer.wicket.model.models.EntityCollectionModelAbstract;
 import org.apache.isis.viewer.wicket.model.models.interaction.coll.DataRowWkt;
@@ -68,23 +66,20 @@ public long size() {
 
     @Override
     public Iterator<DataRow> iterator(final long skip, final long limit) {
-        val visibleRows = getDataTableModel().getDataRowsFiltered()
-                .getValue();
-        return sorted(visibleRows).iterator(Math.toIntExact(skip), Math.toIntExact(limit));
-    }
-
-    // -- HELPER
-
-    private Can<DataRow> sorted(final Can<DataRow> dataRows) {
         val sort = getSort();
         val sortProperty = lookupPropertyFor(sort).orElse(null);
-        if(sortProperty != null) {
-            val objComparator = ManagedObjects.orderingBy(sortProperty, sort.isAscending());
-            return dataRows.sorted((a, b)->objComparator.compare(a.getRowElement(), b.getRowElement()));
-        }
-        return dataRows;
+        return getDataTableModel()
+                .getDataRowsPage(
+                        Math.toIntExact(skip),
+                        Math.toIntExact(limit),
+                        sortProperty,
+                        sortProperty != null
+                            && sort.isAscending())
+                .iterator();
     }
 
+    // -- HELPER
+
     private Optional<OneToOneAssociation> lookupPropertyFor(final SortParam<String> sort) {
         return Optional.ofNullable(sort)
         .map(SortParam::getProperty)
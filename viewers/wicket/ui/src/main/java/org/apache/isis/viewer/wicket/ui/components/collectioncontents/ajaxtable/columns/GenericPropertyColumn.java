@@ -112,8 +112,12 @@ public void populateItem(
 
     private Component createComponent(final String id, final IModel<DataRow> rowModel) {
 
-        val domainObject = rowModel.getObject().getRowElement();
+        val dataRow = rowModel.getObject();
+        val domainObject = dataRow.getRowElement();
         val property = domainObject.getSpecification().getPropertyElseFail(propertyId);
+        if(!dataRow.isCellVisible(property)) {
+            return new Label(id);
+        }
         val entityModel = EntityModel.ofAdapter(super.getCommonContext(), domainObject);
 
         final ScalarModel scalarModel = entityModel
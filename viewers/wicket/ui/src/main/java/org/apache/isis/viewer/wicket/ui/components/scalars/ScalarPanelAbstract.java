@@ -445,13 +445,21 @@ protected void onConfigure() {
 
         final ScalarModel scalarModel = getModel();
 
-        final boolean hidden = scalarModel.whetherHidden();
+        // table cells are only rendered if visible, as determined for all rows at once by the table
+        final boolean hidden = !isTableCell(scalarModel)
+                && scalarModel.whetherHidden();
         setVisibilityAllowed(!hidden);
 
         super.onConfigure();
     }
 
 
+    private static boolean isTableCell(final ScalarModel scalarModel) {
+        val renderingHint = scalarModel.getRenderingHint();
+        return renderingHint.isInParentedTable()
+                || renderingHint.isInStandaloneTable();
+    }
+
     // //////////////////////////////////////
 
 